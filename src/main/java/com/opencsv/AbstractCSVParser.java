@@ -4,8 +4,6 @@ import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * The purpose of the AbstractCSVParser is to consolidate the duplicate code amongst the
@@ -29,7 +27,13 @@ public abstract class AbstractCSVParser implements ICSVParser {
 
     /**
      * Value to be appended to string to process.
+     *
+     * @deprecated No longer used by {@link CSVParser} or
+     *   {@link RFC4180Parser}, which keep the text of an open quoted field in
+     *   a buffer of their own. Only {@link #isPending()} and
+     *   {@link #getPendingText()} of this class still read it.
      */
+    @Deprecated
     protected String pending;
 
     /**
@@ -73,9 +77,27 @@ public abstract class AbstractCSVParser implements ICSVParser {
 
     @Override
     public String parseToLine(String[] values, boolean applyQuotesToAll) {
-        return Stream.of(values)
-                .map(v -> convertToCsvValue(v, applyQuotesToAll))
-                .collect(Collectors.joining(Character.toString(getSeparator())));
+        StringBuilder builder = new StringBuilder(INITIAL_READ_SIZE);
+        appendLine(values, applyQuotesToAll, builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void parseToLine(String[] values, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            appendLine(values, applyQuotesToAll, (StringBuilder) appendable);
+        } else {
+            appendable.append(parseToLine(values, applyQuotesToAll));
+        }
+    }
+
+    private void appendLine(String[] values, boolean applyQuotesToAll, StringBuilder builder) {
+        for (int i = 0; i < values.length; i++) {
+            if (i != 0) {
+                builder.append(getSeparator());
+            }
+            builder.append(convertToCsvValue(values[i], applyQuotesToAll));
+        }
     }
 
     /**
@@ -0,0 +1,295 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A CSV writer that encodes its output as UTF-8 itself and writes the bytes
+ * to an {@link OutputStream} or a {@link WritableByteChannel}.
+ * <p>The output is the same as that of a {@link CSVWriter} wrapped around an
+ * {@link java.io.OutputStreamWriter} for UTF-8, but there is neither a
+ * {@link java.io.Writer} nor a {@link java.nio.charset.CharsetEncoder} in
+ * between. Rows are formatted as in {@link CSVWriter}, and the characters
+ * are turned into bytes in a simple loop that copies ASCII characters
+ * straight across. The bytes are collected in a buffer and written out
+ * whenever it is full, on {@link #flush()} and on {@link #close()}.</p>
+ * <p>Characters that are not part of a valid surrogate pair are written as
+ * '?', which is what the JDK encoder does.</p>
+ * <p>A CSVByteWriter is not safe for use by several threads at once.</p>
+ *
+ * @since 5.7.1
+ */
+public class CSVByteWriter implements ICSVWriter {
+
+    /**
+     * The default number of bytes collected before they are written out.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    // The most bytes one char or one surrogate pair can be encoded to
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private final OutputStream out;
+    private final WritableByteChannel channel;
+    private final String lineEnd;
+    private final RowFormatter formatter;
+    private final FormattingRowWriter rowWriter;
+    private final byte[] bytes;
+    private int length = 0;
+    private ResultSetHelper resultService;
+    private volatile IOException exception;
+
+    /**
+     * Constructs a writer with the default separator, quote character,
+     * escape character and line end.
+     *
+     * @param out The stream to write the encoded CSV data to
+     */
+    public CSVByteWriter(OutputStream out) {
+        this(out, DEFAULT_SEPARATOR, DEFAULT_QUOTE_CHARACTER, DEFAULT_ESCAPE_CHARACTER, DEFAULT_LINE_END);
+    }
+
+    /**
+     * Constructs a writer to a stream.
+     *
+     * @param out        The stream to write the encoded CSV data to
+     * @param separator  The delimiter to use for separating entries
+     * @param quotechar  The character to use for quoted elements
+     * @param escapechar The character to use for escaping quotechars or
+     *                   escapechars
+     * @param lineEnd    The line feed terminator to use
+     */
+    public CSVByteWriter(OutputStream out, char separator, char quotechar, char escapechar, String lineEnd) {
+        this(out, null, separator, quotechar, escapechar, lineEnd);
+    }
+
+    /**
+     * Constructs a writer with the default separator, quote character,
+     * escape character and line end.
+     *
+     * @param channel The channel to write the encoded CSV data to
+     */
+    public CSVByteWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_SEPARATOR, DEFAULT_QUOTE_CHARACTER, DEFAULT_ESCAPE_CHARACTER, DEFAULT_LINE_END);
+    }
+
+    /**
+     * Constructs a writer to a channel.
+     *
+     * @param channel    The channel to write the encoded CSV data to
+     * @param separator  The delimiter to use for separating entries
+     * @param quotechar  The character to use for quoted elements
+     * @param escapechar The character to use for escaping quotechars or
+     *                   escapechars
+     * @param lineEnd    The line feed terminator to use
+     */
+    public CSVByteWriter(WritableByteChannel channel, char separator, char quotechar, char escapechar, String lineEnd) {
+        this(null, channel, separator, quotechar, escapechar, lineEnd);
+    }
+
+    private CSVByteWriter(OutputStream out, WritableByteChannel channel, char separator, char quotechar, char escapechar, String lineEnd) {
+        this.out = out;
+        this.channel = channel;
+        this.lineEnd = lineEnd;
+        this.formatter = new RowFormatter(separator, quotechar, escapechar);
+        this.bytes = new byte[DEFAULT_BUFFER_SIZE];
+        this.rowWriter = new FormattingRowWriter(formatter, lineEnd) {
+            @Override
+            void writeRow() {
+                try {
+                    encode(formatter.getBuffer(), formatter.length());
+                } catch (IOException e) {
+                    exception = e;
+                } finally {
+                    formatter.reset();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+        if (nextLine == null) {
+            return;
+        }
+        // Drops a row that was begun but never ended
+        formatter.reset();
+        try {
+            formatter.appendRow(nextLine, applyQuotesToAll, lineEnd);
+            encode(formatter.getBuffer(), formatter.length());
+        } catch (IOException e) {
+            exception = e;
+        } finally {
+            formatter.reset();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The values are formatted straight into the buffer of this writer,
+     * and the same row writer is returned for every row.</p>
+     */
+    @Override
+    public RowWriter beginRow(boolean applyQuotesToAll) {
+        return rowWriter.begin(applyQuotesToAll);
+    }
+
+    @Override
+    public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+        for (String[] line : allLines) {
+            writeNext(line, applyQuotesToAll);
+        }
+    }
+
+    @Override
+    public int writeAll(ResultSet rs, boolean includeColumnNames, boolean trim, boolean applyQuotesToAll) throws SQLException, IOException {
+        int linesWritten = 0;
+
+        if (includeColumnNames) {
+            writeNext(resultService().getColumnNames(rs), applyQuotesToAll);
+            linesWritten++;
+        }
+
+        while (rs.next()) {
+            writeNext(resultService().getColumnValues(rs, trim), applyQuotesToAll);
+            linesWritten++;
+        }
+
+        return linesWritten;
+    }
+
+    /**
+     * Encodes characters as UTF-8 into the byte buffer, writing the buffer
+     * out whenever it fills up.
+     *
+     * @param chars The characters to encode
+     * @param count The number of characters to encode
+     * @throws IOException If writing out the buffer fails
+     */
+    private void encode(char[] chars, int count) throws IOException {
+        int i = 0;
+        while (i < count) {
+            if (bytes.length - length <= MAX_BYTES_PER_CHAR) {
+                drain();
+            }
+
+            // ASCII is copied across for as long as there is room, leaving
+            // enough for one more character of any kind.
+            int end = Math.min(count, i + bytes.length - length - MAX_BYTES_PER_CHAR);
+            while (i < end && chars[i] < 0x80) {
+                bytes[length++] = (byte) chars[i++];
+            }
+
+            // Then one character of anything else, since it needs the room
+            // checked again
+            if (i < end) {
+                char c = chars[i++];
+                if (c < 0x800) {
+                    bytes[length++] = (byte) (0xc0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                } else if (!Character.isSurrogate(c)) {
+                    bytes[length++] = (byte) (0xe0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && i < count && Character.isLowSurrogate(chars[i])) {
+                    int codePoint = Character.toCodePoint(c, chars[i++]);
+                    bytes[length++] = (byte) (0xf0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else {
+                    bytes[length++] = '?';
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes out everything in the byte buffer.
+     *
+     * @throws IOException If the stream or channel fails
+     */
+    private void drain() throws IOException {
+        if (length == 0) {
+            return;
+        }
+        try {
+            if (out != null) {
+                out.write(bytes, 0, length);
+            } else {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } finally {
+            length = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (out != null) {
+                out.close();
+            } else {
+                channel.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean checkError() {
+        if (exception != null) {  // we don't want to lose the original exception
+            flushQuietly();
+        } else {
+            try {
+                flush();
+            } catch (IOException ioe) {
+                exception = ioe;
+            }
+        }
+        return exception != null;
+    }
+
+    @Override
+    public IOException getException() {
+        return exception;
+    }
+
+    @Override
+    public void resetError() {
+        exception = null;
+    }
+
+    @Override
+    public void setResultService(ResultSetHelper resultService) {
+        this.resultService = resultService;
+    }
+
+    /**
+     * Lazy resultSetHelper creation.
+     *
+     * @return Instance of resultSetHelper
+     */
+    protected ResultSetHelper resultService() {
+        if (resultService == null) {
+            resultService = new ResultSetHelperService();
+        }
+        return resultService;
+    }
+}
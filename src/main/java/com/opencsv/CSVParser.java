@@ -44,6 +44,24 @@ import java.util.ResourceBundle;
  */
 public class CSVParser extends AbstractCSVParser {
 
+    /**
+     * The loops {@link #parseLine(String, boolean)} can try before it falls
+     * back to the general one that knows every setting of the parser.
+     * A fast loop gives up on any line it cannot handle exactly as the
+     * general loop would, so the choice only affects speed.
+     */
+    enum FastPath {
+        /** Every line is parsed by the general loop. */
+        NONE,
+        /** Lines without quote and escape characters are split at separators. */
+        UNQUOTED,
+        /**
+         * Lines without escape characters, in which quotes only enclose whole
+         * fields, are parsed as in RFC 4180.
+         */
+        QUOTED
+    }
+
     private static final int BEGINNING_OF_LINE = 3;
     /**
      * This is the character that the CSVParser will treat as the escape character.
@@ -61,8 +79,17 @@ public class CSVParser extends AbstractCSVParser {
      * Skip over quotation characters when parsing.
      */
     private final boolean ignoreQuotations;
+    private final FastPath fastPath;
     private int tokensOnLastCompleteLine = -1;
     private boolean inField = false;
+
+    /**
+     * The text of a quoted field that is still open at the end of the last
+     * line, or {@code null} if there is none.
+     * This takes the place of {@link #pending}, so the text of a field that
+     * spans many lines is not copied again for every line.
+     */
+    private StringBuilder pendingField = null;
     
     /** Locale for all translations. */
     private Locale errorLocale;
@@ -95,6 +122,30 @@ public class CSVParser extends AbstractCSVParser {
      */
     CSVParser(char separator, char quotechar, char escape, boolean strictQuotes, boolean ignoreLeadingWhiteSpace,
               boolean ignoreQuotations, CSVReaderNullFieldIndicator nullFieldIndicator, Locale errorLocale) {
+        this(separator, quotechar, escape, strictQuotes, ignoreLeadingWhiteSpace, ignoreQuotations,
+                nullFieldIndicator, errorLocale,
+                chooseFastPath(quotechar, escape, strictQuotes, ignoreQuotations, null));
+    }
+
+    /**
+     * Constructs CSVParser with a given way of parsing lines quickly.
+     * <p>Intentionally has package access so only the builder can use it.</p>
+     *
+     * @param separator               The delimiter to use for separating entries
+     * @param quotechar               The character to use for quoted elements
+     * @param escape                  The character to use for escaping a separator or quote
+     * @param strictQuotes            If true, characters outside the quotes are ignored
+     * @param ignoreLeadingWhiteSpace If true, white space in front of a quote in a field is ignored
+     * @param ignoreQuotations        If true, treat quotations like any other character.
+     * @param nullFieldIndicator      Which field content will be returned as null: EMPTY_SEPARATORS, EMPTY_QUOTES,
+     *                                BOTH, NEITHER (default)
+     * @param errorLocale             Locale for error messages.
+     * @param fastPath                The loop to try before the general one
+     * @since 5.7.1
+     */
+    CSVParser(char separator, char quotechar, char escape, boolean strictQuotes, boolean ignoreLeadingWhiteSpace,
+              boolean ignoreQuotations, CSVReaderNullFieldIndicator nullFieldIndicator, Locale errorLocale,
+              FastPath fastPath) {
         super(separator, quotechar, nullFieldIndicator);
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
         if (anyCharactersAreTheSame(separator, quotechar, escape)) {
@@ -107,6 +158,46 @@ public class CSVParser extends AbstractCSVParser {
         this.strictQuotes = strictQuotes;
         this.ignoreLeadingWhiteSpace = ignoreLeadingWhiteSpace;
         this.ignoreQuotations = ignoreQuotations;
+        this.fastPath = strictQuotes || (fastPath == FastPath.QUOTED && ignoreQuotations) ? FastPath.NONE : fastPath;
+    }
+
+    /**
+     * Picks the fast loop that suits a dialect and, if known, the input.
+     * <p>Without strict quotes, a line in which no quote or escape character
+     * occurs is simply split at the separators. If quotes are honored, lines
+     * in which quotes enclose whole fields can be handled quickly as well.
+     * Only a sample that shows the escape character in use, or quotes that
+     * would be ignored anyway, makes the general loop the better choice.</p>
+     *
+     * @param quotechar        The quote character of the dialect
+     * @param escape           The escape character of the dialect
+     * @param strictQuotes     Whether characters outside of quotes are ignored
+     * @param ignoreQuotations Whether quotes are treated like any other character
+     * @param sample           The beginning of the input, or {@code null}
+     * @return The loop to try before the general one
+     */
+    static FastPath chooseFastPath(char quotechar, char escape, boolean strictQuotes, boolean ignoreQuotations,
+                                   String sample) {
+        if (strictQuotes) {
+            return FastPath.NONE;
+        }
+        if (sample == null) {
+            return ignoreQuotations || quotechar == NULL_CHARACTER ? FastPath.UNQUOTED : FastPath.QUOTED;
+        }
+        if (sample.indexOf(escape) >= 0) {
+            return FastPath.NONE;
+        }
+        if (sample.indexOf(quotechar) < 0) {
+            return FastPath.UNQUOTED;
+        }
+        return ignoreQuotations ? FastPath.NONE : FastPath.QUOTED;
+    }
+
+    /**
+     * @return The loop tried before the general one
+     */
+    FastPath getFastPath() {
+        return fastPath;
     }
 
     /**
@@ -161,53 +252,89 @@ public class CSVParser extends AbstractCSVParser {
         return c1 != NULL_CHARACTER && c1 == c2;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>A value without special characters is returned as it is. Otherwise
+     * quote and escape characters are doubled while the value is copied in
+     * a single pass. Whether the value is surrounded by quotes is only known
+     * at the end of that pass, so a value that has quote or escape
+     * characters but needs no quotes loses its opening quote again.</p>
+     */
     @Override
-    protected String convertToCsvValue(String value, boolean applyQuotestoAll) {
-        String testValue = (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value;
-        StringBuilder builder = new StringBuilder(testValue == null ? MAX_SIZE_FOR_EMPTY_FIELD : (testValue.length() * 2));
-        boolean containsQuoteChar = StringUtils.contains(testValue, getQuotechar());
-        boolean containsEscapeChar = StringUtils.contains(testValue, getEscape());
-        boolean containsSeparatorChar = StringUtils.contains(testValue, getSeparator());
-        boolean surroundWithQuotes = applyQuotestoAll || isSurroundWithQuotes(value, containsSeparatorChar);
-
-        String convertedString = !containsQuoteChar ? testValue : testValue.replaceAll(Character.toString(getQuotechar()), Character.toString(getQuotechar()) + getQuotechar());
-        convertedString = !containsEscapeChar ? convertedString : convertedString.replace(Character.toString(getEscape()), Character.toString(getEscape()) + getEscape());
-
-        if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+    protected String convertToCsvValue(String value, boolean applyQuotesToAll) {
+        if (value == null && nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) {
+            return applyQuotesToAll ? quotechar + "null" + quotechar : "null";
+        }
+        String testValue = value == null ? "" : value;
+        int length = testValue.length();
+        int firstSpecial = 0;
+        while (firstSpecial < length && !isSpecialWhenWriting(testValue.charAt(firstSpecial))) {
+            firstSpecial++;
         }
 
-        builder.append(convertedString);
+        if (firstSpecial == length) {
+            // isSurroundWithQuotes() can only be true for an empty value here.
+            boolean surroundWithQuotes = applyQuotesToAll || (length == 0 && isSurroundWithQuotes(value, false));
+            return surroundWithQuotes ? quotechar + testValue + quotechar : testValue;
+        }
 
-        if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+        StringBuilder builder = new StringBuilder(length * 2);
+        builder.append(quotechar).append(testValue, 0, firstSpecial);
+        boolean containsSeparatorOrNewline = false;
+        int start = firstSpecial;
+        for (int i = firstSpecial; i < length; i++) {
+            char c = testValue.charAt(i);
+            if (c == quotechar || c == escape) {
+                // The character is appended once here and once more with the
+                // rest of the value.
+                builder.append(testValue, start, i + 1);
+                start = i;
+            } else if (c == separator || c == '\n') {
+                containsSeparatorOrNewline = true;
+            }
         }
+        builder.append(testValue, start, length);
 
+        if (applyQuotesToAll || containsSeparatorOrNewline) {
+            builder.append(quotechar);
+        } else {
+            builder.deleteCharAt(0);
+        }
         return builder.toString();
     }
 
+    private boolean isSpecialWhenWriting(char c) {
+        return c == quotechar || c == escape || c == separator || c == '\n';
+    }
+
     @Override
     protected String[] parseLine(String nextLine, boolean multi) throws IOException {
 
-        if (!multi && pending != null) {
-            pending = null;
+        if (!multi && pendingField != null) {
+            pendingField = null;
         }
 
         if (nextLine == null) {
-            if (pending != null) {
-                String s = pending;
-                pending = null;
+            if (pendingField != null) {
+                String s = pendingField.toString();
+                pendingField = null;
                 return new String[]{s};
             }
             return null;
         }
+        if (pendingField == null && !inField && fastPath != FastPath.NONE) {
+            final String[] fields = fastPath == FastPath.UNQUOTED
+                    ? splitUnquoted(nextLine) : splitQuoted(nextLine);
+            if (fields != null) {
+                return fields;
+            }
+        }
         final List<String> tokensOnThisLine = tokensOnLastCompleteLine <= 0 ? new ArrayList<>() : new ArrayList<>((tokensOnLastCompleteLine + 1) * 2);
-        final StringFragmentCopier sfc = new StringFragmentCopier(nextLine);
+        final StringFragmentCopier sfc = new StringFragmentCopier(nextLine, pendingField);
         boolean inQuotes = false;
         boolean fromQuotedField = false;
-        if (pending != null) {
-            sfc.append(pending);
-            pending = null;
+        if (pendingField != null) {
+            pendingField = null;
             inQuotes = !this.ignoreQuotations;
         }
 
@@ -252,7 +379,7 @@ public class CSVParser extends AbstractCSVParser {
                 if (multi) {
                     // continuing a quoted section, re-append newline
                     sfc.append('\n');
-                    pending = sfc.peekOutput();
+                    pendingField = sfc.materializeBuilder();
                     break line_done; // this partial content is not to be added to field list yet
                 } else {
                     throw new IOException(String.format(
@@ -271,6 +398,104 @@ public class CSVParser extends AbstractCSVParser {
 
     }
 
+    /**
+     * Splits a line at the separators.
+     *
+     * @param nextLine The line to be parsed
+     * @return The fields of the line, or {@code null} if it contains a quote
+     *   or escape character and must be parsed by the general loop
+     */
+    private String[] splitUnquoted(String nextLine) {
+        final List<String> fields = newFieldList();
+        final int length = nextLine.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = nextLine.charAt(i);
+            if (c == separator) {
+                fields.add(convertEmptyToNullIfNeeded(nextLine.substring(start, i), false));
+                start = i + 1;
+            } else if (c == quotechar || c == escape) {
+                return null;
+            }
+        }
+        fields.add(convertEmptyToNullIfNeeded(nextLine.substring(start), false));
+        return toFieldArray(fields);
+    }
+
+    /**
+     * Parses a line in which quotes only enclose whole fields and a quote
+     * in a quoted field is doubled.
+     *
+     * @param nextLine The line to be parsed
+     * @return The fields of the line, or {@code null} if it contains an
+     *   escape character, a quote anywhere else, or a quoted field that is not
+     *   closed, and must be parsed by the general loop
+     */
+    private String[] splitQuoted(String nextLine) {
+        final List<String> fields = newFieldList();
+        final int length = nextLine.length();
+        int i = 0;
+        while (true) {
+            if (i < length && nextLine.charAt(i) == quotechar) {
+                int start = ++i;
+                StringBuilder sb = null;
+                while (true) {
+                    if (i >= length) {
+                        return null;
+                    }
+                    final char c = nextLine.charAt(i);
+                    if (c == quotechar) {
+                        if (i + 1 < length && nextLine.charAt(i + 1) == quotechar) {
+                            if (sb == null) {
+                                sb = new StringBuilder(length - start);
+                            }
+                            sb.append(nextLine, start, i + 1);
+                            i += 2;
+                            start = i;
+                            continue;
+                        }
+                        break;
+                    } else if (c == escape) {
+                        return null;
+                    }
+                    i++;
+                }
+                final String field = sb == null
+                        ? nextLine.substring(start, i) : sb.append(nextLine, start, i).toString();
+                fields.add(convertEmptyToNullIfNeeded(field, true));
+                i++;
+                if (i < length && nextLine.charAt(i) != separator) {
+                    return null;
+                }
+            } else {
+                final int start = i;
+                while (i < length) {
+                    final char c = nextLine.charAt(i);
+                    if (c == separator) {
+                        break;
+                    } else if (c == quotechar || c == escape) {
+                        return null;
+                    }
+                    i++;
+                }
+                fields.add(convertEmptyToNullIfNeeded(nextLine.substring(start, i), false));
+            }
+            if (i >= length) {
+                return toFieldArray(fields);
+            }
+            i++;
+        }
+    }
+
+    private List<String> newFieldList() {
+        return tokensOnLastCompleteLine <= 0 ? new ArrayList<>() : new ArrayList<>(tokensOnLastCompleteLine + 1);
+    }
+
+    private String[] toFieldArray(List<String> fields) {
+        tokensOnLastCompleteLine = fields.size();
+        return fields.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+    }
+
     private void handleQuoteCharButNotStrictQuotes(String nextLine, StringFragmentCopier sfc) {
         if (!strictQuotes) {
             final int i = sfc.i;
@@ -410,6 +635,16 @@ public class CSVParser extends AbstractCSVParser {
     public void setErrorLocale(Locale errorLocale) {
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
     }
+
+    @Override
+    public boolean isPending() {
+        return pendingField != null;
+    }
+
+    @Override
+    public String getPendingText() {
+        return pendingField == null ? StringUtils.EMPTY : pendingField.toString();
+    }
     
     /**
      * This class serves to optimize {@link CSVParser#parseLine(java.lang.String)},
@@ -428,8 +663,14 @@ public class CSVParser extends AbstractCSVParser {
         private int pendingSubstrFrom = 0;
         private int pendingSubstrTo = 0;
 
-        StringFragmentCopier(String input) {
+        /**
+         * @param input The line to be copied from
+         * @param output The text collected for the current field on earlier
+         *               lines, or {@code null}. It is appended to in place.
+         */
+        StringFragmentCopier(String input, StringBuilder output) {
             this.input = input;
+            this.sb = output;
         }
 
         public boolean isEmptyInput() {
@@ -453,10 +694,6 @@ public class CSVParser extends AbstractCSVParser {
             return sb;
         }
 
-        public void append(String pending) {
-            materializeBuilder().append(pending);
-        }
-
         public void append(char pending) {
             materializeBuilder().append(pending);
         }
@@ -44,7 +44,7 @@ public class CSVParserBuilder {
     private boolean ignoreQuotations = ICSVParser.DEFAULT_IGNORE_QUOTATIONS;
     private CSVReaderNullFieldIndicator nullFieldIndicator = CSVReaderNullFieldIndicator.NEITHER;
     private Locale errorLocale = Locale.getDefault();
-
+    private String sample = null;
 
     /**
      * Default constructor.
@@ -129,6 +129,27 @@ public class CSVParserBuilder {
         return this;
     }
 
+    /**
+     * Shows the builder what the input looks like.
+     * <p>For the common cases, the parser has loops that only know about
+     * separators, or about separators and quotes around whole fields, and
+     * tries them before the loop that handles every setting. A line the
+     * quick loops cannot handle exactly like the general one is left to the
+     * general loop, so the choice only affects speed, never the result. A
+     * sample lets the builder pick the quick loop that fits the input, or
+     * none at all if the escape character is in use, in which case trying
+     * a quick loop first would only cost time.</p>
+     * <p>Without a sample, the choice is made from the settings alone.</p>
+     *
+     * @param sample The first few lines of the input, or {@code null}
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVParserBuilder withSample(final String sample) {
+        this.sample = sample;
+        return this;
+    }
+
     /**
      * Constructs CSVParser.
      *
@@ -144,7 +165,8 @@ public class CSVParserBuilder {
                 ignoreLeadingWhiteSpace,
                 ignoreQuotations,
                 nullFieldIndicator,
-                errorLocale);
+                errorLocale,
+                CSVParser.chooseFastPath(quoteChar, escapeChar, strictQuotes, ignoreQuotations, sample));
     }
 
     /**
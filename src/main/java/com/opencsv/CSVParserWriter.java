@@ -29,6 +29,7 @@ import java.io.Writer;
  */
 public class CSVParserWriter extends AbstractCSVWriter {
     protected final ICSVParser parser;
+    private char[] lineChars = new char[INITIAL_STRING_SIZE];
 
     /**
      * Constructor for the CSVParserWriter.
@@ -42,10 +43,28 @@ public class CSVParserWriter extends AbstractCSVWriter {
         this.parser = parser;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The parser appends the values straight to {@code appendable}. When
+     * that is a {@link StringBuilder}, as it is for
+     * {@link #writeNext(String[], boolean)} and
+     * {@link #writeAll(Iterable, boolean)}, the line reaches the writer
+     * through a character buffer that is reused for every line.</p>
+     */
     @Override
     protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
-        appendable.append(parser.parseToLine(nextLine, applyQuotesToAll));
+        parser.parseToLine(nextLine, applyQuotesToAll, appendable);
         appendable.append(lineEnd);
-        writer.write(appendable.toString());
+        if (appendable instanceof StringBuilder) {
+            StringBuilder builder = (StringBuilder) appendable;
+            int length = builder.length();
+            if (length > lineChars.length) {
+                lineChars = new char[Math.max(length, lineChars.length * 2)];
+            }
+            builder.getChars(0, length, lineChars, 0);
+            writer.write(lineChars, 0, length);
+        } else {
+            writer.write(appendable.toString());
+        }
     }
 }
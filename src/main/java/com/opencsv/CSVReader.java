@@ -20,8 +20,12 @@ import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.*;
 import com.opencsv.processor.RowProcessor;
 import com.opencsv.stream.reader.LineReader;
+import com.opencsv.stream.reader.AbstractRecordTokenizer;
+import com.opencsv.stream.reader.FieldDeduplicator;
+import com.opencsv.stream.reader.RecordTokenizer;
 import com.opencsv.validators.LineValidatorAggregator;
 import com.opencsv.validators.RowValidatorAggregator;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -40,6 +44,7 @@ public class CSVReader implements Closeable, Iterable<String[]> {
 
     public static final boolean DEFAULT_KEEP_CR = false;
     public static final boolean DEFAULT_VERIFY_READER = true;
+    public static final boolean DEFAULT_USE_RECORD_TOKENIZER = false;
     // context size in the exception message
     static final int CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE = 100;
 
@@ -66,6 +71,7 @@ public class CSVReader implements Closeable, Iterable<String[]> {
     protected int skipLines;
     protected BufferedReader br;
     protected LineReader lineReader;
+    protected AbstractRecordTokenizer recordTokenizer;
     protected boolean hasNext = true;
     protected boolean linesSkipped;
     protected boolean keepCR;
@@ -78,6 +84,24 @@ public class CSVReader implements Closeable, Iterable<String[]> {
     protected String[] peekedLine = null;
     final protected Queue<OrderedObject<String>> peekedLines = new LinkedList<>();
 
+    // A record read through the record tokenizer stays in the tokenizer
+    // until someone asks for it as strings.
+    private boolean tokenizedRecordPeeked = false;
+    private boolean tokenizedRecordAvailable = false;
+    private char[] visitorBuffer = null;
+    private FieldDeduplicator fieldDeduplicator = null;
+    private int[] columns = null;
+    private String[] selectedLine = null;
+    private int recordLength = 0;
+    private RecordFilter recordFilter = null;
+    private CsvRecord filteredRecord = null;
+    private CsvIndex index = null;
+    // Where the record read last through the record tokenizer began
+    private long recordStartPosition = -1;
+    private long recordStartLines = 0;
+    // Whether the input is known to be open, so isClosed() need not probe it
+    private boolean inputKnownOpen = false;
+
     private final LineValidatorAggregator lineValidatorAggregator;
     private final RowValidatorAggregator rowValidatorAggregator;
     private final RowProcessor rowProcessor;
@@ -125,22 +149,187 @@ public class CSVReader implements Closeable, Iterable<String[]> {
     CSVReader(Reader reader, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader, int multilineLimit,
               Locale errorLocale, LineValidatorAggregator lineValidatorAggregator, RowValidatorAggregator rowValidatorAggregator,
               RowProcessor rowProcessor) {
-        this.br =
-                (reader instanceof BufferedReader ?
-                        (BufferedReader) reader :
-                        new BufferedReader(reader));
-        this.lineReader = new LineReader(br, keepCR);
+        this(reader, line, icsvParser, keepCR, verifyReader, multilineLimit, errorLocale, lineValidatorAggregator,
+                rowValidatorAggregator, rowProcessor, DEFAULT_USE_RECORD_TOKENIZER);
+    }
+
+    /**
+     * Constructs CSVReader with supplied CSVParser, optionally reading through
+     * a {@link RecordTokenizer}.
+     * <p>This constructor sets all necessary parameters for CSVReader, and
+     * intentionally has package access so only the builder can use it.</p>
+     *
+     * @param reader                  The reader to an underlying CSV source
+     * @param line                    The number of lines to skip before reading
+     * @param icsvParser              The parser to use to parse input
+     * @param keepCR                  True to keep carriage returns in data read, false otherwise
+     * @param verifyReader            True to verify reader before each read, false otherwise
+     * @param multilineLimit          Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale             Set the locale for error messages. If null, the default locale is used.
+     * @param lineValidatorAggregator contains all the custom defined line validators.
+     * @param rowValidatorAggregator  contains all the custom defined row validators.
+     * @param rowProcessor            Custom row processor to run on all columns on a csv record.
+     * @param useRecordTokenizer      True to tokenize the input directly from
+     *                                a character buffer if the parser
+     *                                allows it, false to read line by line
+     * @since 5.7.1
+     */
+    CSVReader(Reader reader, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader, int multilineLimit,
+              Locale errorLocale, LineValidatorAggregator lineValidatorAggregator, RowValidatorAggregator rowValidatorAggregator,
+              RowProcessor rowProcessor, boolean useRecordTokenizer) {
+        this(reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader),
+                null, line, icsvParser, keepCR, verifyReader, multilineLimit, errorLocale,
+                lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
+        if (useRecordTokenizer && RecordTokenizer.supports(icsvParser)) {
+            this.recordTokenizer = new RecordTokenizer(br, (CSVParser) icsvParser, keepCR);
+            this.recordTokenizer.setLineCapture(!lineValidatorAggregator.isEmpty());
+        }
+    }
+
+    /**
+     * Constructs CSVReader that reads all input through the given tokenizer.
+     * <p>This constructor sets all necessary parameters for CSVReader, and
+     * intentionally has package access so only the builder can use it.</p>
+     *
+     * @param recordTokenizer         The tokenizer of the underlying CSV source. It must have been created with
+     *                                the configuration of {@code icsvParser} and {@code keepCR}.
+     * @param line                    The number of lines to skip before reading
+     * @param icsvParser              The parser to use to parse input
+     * @param keepCR                  True to keep carriage returns in data read, false otherwise
+     * @param verifyReader            True to verify reader before each read, false otherwise
+     * @param multilineLimit          Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale             Set the locale for error messages. If null, the default locale is used.
+     * @param lineValidatorAggregator contains all the custom defined line validators.
+     * @param rowValidatorAggregator  contains all the custom defined row validators.
+     * @param rowProcessor            Custom row processor to run on all columns on a csv record.
+     * @since 5.7.1
+     */
+    CSVReader(AbstractRecordTokenizer recordTokenizer, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader,
+              int multilineLimit, Locale errorLocale, LineValidatorAggregator lineValidatorAggregator,
+              RowValidatorAggregator rowValidatorAggregator, RowProcessor rowProcessor) {
+        this(null, recordTokenizer, line, icsvParser, keepCR, verifyReader, multilineLimit, errorLocale,
+                lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
+        recordTokenizer.setLineCapture(!lineValidatorAggregator.isEmpty());
+    }
+
+    private CSVReader(BufferedReader br, AbstractRecordTokenizer recordTokenizer, int line, ICSVParser icsvParser,
+                      boolean keepCR, boolean verifyReader, int multilineLimit, Locale errorLocale,
+                      LineValidatorAggregator lineValidatorAggregator, RowValidatorAggregator rowValidatorAggregator,
+                      RowProcessor rowProcessor) {
+        this.br = br;
+        this.lineReader = br == null ? null : new LineReader(br, keepCR);
+        this.recordTokenizer = recordTokenizer;
         this.skipLines = line;
         this.parser = icsvParser;
         this.keepCR = keepCR;
         this.verifyReader = verifyReader;
         this.multilineLimit = multilineLimit;
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        if (recordTokenizer != null) {
+            recordTokenizer.setErrorLocale(this.errorLocale);
+        }
         this.lineValidatorAggregator = lineValidatorAggregator;
         this.rowValidatorAggregator = rowValidatorAggregator;
         this.rowProcessor = rowProcessor;
     }
 
+    /**
+     * Lets equal values in a column share one string.
+     * <p>Intentionally has package access so only the builder can use it.
+     * A {@link RecordTokenizer} looks values up before it creates a string
+     * for them; values produced by the parser are replaced afterwards.</p>
+     *
+     * @param fieldDeduplicator The pool of field values, or {@code null} to
+     *                          keep every string
+     * @since 5.7.1
+     */
+    void setFieldDeduplicator(FieldDeduplicator fieldDeduplicator) {
+        this.fieldDeduplicator = fieldDeduplicator;
+        if (recordTokenizer != null) {
+            recordTokenizer.setFieldDeduplicator(fieldDeduplicator);
+        }
+    }
+
+    /**
+     * Restricts every record returned to some of its fields.
+     * <p>Intentionally has package access so only the builder can use it.
+     * A {@link RecordTokenizer} creates no strings for the other fields;
+     * records produced by the parser are cut down afterwards.</p>
+     *
+     * @param columns The positions of the fields to return, in the order they
+     *                are to be returned, or {@code null} for all fields
+     * @since 5.7.1
+     */
+    void setColumns(int[] columns) {
+        this.columns = columns;
+        configureTokenizerColumns();
+    }
+
+    /**
+     * Skips records before strings are created for them.
+     * <p>Intentionally has package access so only the builder can use it.</p>
+     *
+     * @param recordFilter The filter every record has to pass, or
+     *                     {@code null} to return all records
+     * @since 5.7.1
+     */
+    void setRecordFilter(RecordFilter recordFilter) {
+        this.recordFilter = recordFilter;
+        filteredRecord = recordFilter == null ? null : new CsvRecord();
+        if (filteredRecord != null) {
+            filteredRecord.setErrorLocale(errorLocale);
+        }
+        configureTokenizerColumns();
+    }
+
+    /**
+     * Notes where records begin, and uses what is noted to move to records.
+     * <p>Intentionally has package access so only the builder can use it.</p>
+     *
+     * @param index The index to fill and to use for
+     *              {@link #seekToRecord(long)}, or {@code null}
+     * @since 5.7.1
+     */
+    void setIndex(CsvIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * @return The index this reader fills and moves through, or {@code null}
+     * @since 5.7.1
+     */
+    public CsvIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Lets the {@link RecordTokenizer} select the columns, unless a
+     * {@link RecordFilter} needs to see all of them. In that case the columns
+     * are selected once the record has passed the filter.
+     */
+    private void configureTokenizerColumns() {
+        if (recordTokenizer != null) {
+            recordTokenizer.setColumns(recordFilter == null ? columns : null);
+        }
+    }
+
+    /**
+     * @return The positions of the fields every record is restricted to, or
+     *   {@code null} if records are returned in full
+     * @since 5.7.1
+     */
+    public int[] getColumns() {
+        return columns == null ? null : columns.clone();
+    }
+
+    /**
+     * @return The number of fields the last record read from the input had,
+     *   including those not returned because columns were selected
+     */
+    int getRecordLength() {
+        return recordLength;
+    }
+
     /**
      * @return The CSVParser used by the reader.
      */
@@ -158,6 +347,19 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         return skipLines;
     }
 
+    /**
+     * Returns whether input is tokenized directly from a buffer by a
+     * {@link RecordTokenizer} or a
+     * {@link com.opencsv.stream.reader.ByteRecordTokenizer} instead of line by
+     * line.
+     *
+     * @return True if the reader uses a tokenizer
+     * @since 5.7.1
+     */
+    public boolean usesRecordTokenizer() {
+        return recordTokenizer != null;
+    }
+
     /**
      * Returns if the reader will keep carriage returns found in data or remove them.
      *
@@ -228,56 +430,57 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      * @throws IOException If bad things happen during the read
      */
     private void primeNextRecord() throws IOException {
+        if (recordTokenizer != null) {
+            primeNextRecordFromTokenizer();
+            return;
+        }
 
         int linesInThisRecord = 0;
         long lastSuccessfulLineRead = linesRead+1;
-        do {
-            String nextLine = getNextLine();
-            peekedLines.add(new OrderedObject<>(lastSuccessfulLineRead, nextLine));
-            linesInThisRecord++;
+        // The fields of a record spanning multiple lines are collected here,
+        // so they are not copied to a new array for every line.
+        List<String> fieldsOfMultipleLines = null;
+        try {
+            do {
+                String nextLine = getNextLine();
+                peekedLines.add(new OrderedObject<>(lastSuccessfulLineRead, nextLine));
+                linesInThisRecord++;
 
-            // If no more input is available, check if the record is finished
-            // or simply incomplete.
-            if (!hasNext) {
-                if (parser.isPending()) {
-                    throw new CsvMalformedLineException(String.format(
-                            ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("unterminated.quote"),
-                            StringUtils.abbreviate(parser.getPendingText(), MAX_WIDTH)), lastSuccessfulLineRead, parser.getPendingText());
+                // If no more input is available, check if the record is finished
+                // or simply incomplete.
+                if (!hasNext) {
+                    if (parser.isPending()) {
+                        throw unterminatedQuote(lastSuccessfulLineRead, parser.getPendingText());
+                    }
+                    return;
                 }
-                return;
-            }
-
-
-            // If we've crossed the multiline limit, signal an error.
-            if (multilineLimit > 0 && linesInThisRecord > multilineLimit) {
 
-                // get current row records Read +1
-                long row = this.recordsRead + 1L;
 
-                String context = parser.getPendingText();
-
-                // just to avoid out of index
-                // to get the whole context use CsvMultilineLimitBrokenException::getContext()
-                if (context.length() > CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE) {
-                    context = context.substring(0, CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE);
+                // If we've crossed the multiline limit, signal an error.
+                if (multilineLimit > 0 && linesInThisRecord > multilineLimit) {
+                    throw multilineLimitBroken(parser.getPendingText());
                 }
 
-                String messageFormat = ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("multiline.limit.broken");
-                String message = String.format(errorLocale, messageFormat, multilineLimit, row, context);
-                throw new CsvMultilineLimitBrokenException(message, row, parser.getPendingText(), multilineLimit);
-            }
-
-            // Combine multiple lines into one result
-            String[] r = parser.parseLineMulti(nextLine);
-            if (r.length > 0) {
-                if (peekedLine == null) {
-                    peekedLine = r;
-                } else {
-                    peekedLine = combineResultsFromMultipleReads(peekedLine, r);
+                // Combine multiple lines into one result
+                String[] r = parser.parseLineMulti(nextLine);
+                if (r.length > 0) {
+                    if (peekedLine == null) {
+                        peekedLine = r;
+                    } else {
+                        if (fieldsOfMultipleLines == null) {
+                            fieldsOfMultipleLines = new ArrayList<>(peekedLine.length + r.length);
+                            Collections.addAll(fieldsOfMultipleLines, peekedLine);
+                        }
+                        Collections.addAll(fieldsOfMultipleLines, r);
+                    }
                 }
-            }
 
-        } while (parser.isPending());
+            } while (parser.isPending());
+        } finally {
+            if (fieldsOfMultipleLines != null) {
+                peekedLine = fieldsOfMultipleLines.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+            }
+        }
 
         /*
          for bug #233 (https://sourceforge.net/p/opencsv/bugs/233/) if we want to keep carriage returns we ONLY
@@ -290,6 +493,167 @@ public class CSVReader implements Closeable, Iterable<String[]> {
                 peekedLine[lastItemIndex] = peekedLine[lastItemIndex].substring(0, peekedLine[lastItemIndex].length() - 1);
             }
         }
+
+        recordLength = peekedLine.length;
+        if (fieldDeduplicator != null) {
+            fieldDeduplicator.deduplicate(peekedLine);
+        }
+    }
+
+    /**
+     * Picks some of the fields of a record.
+     *
+     * @param record    All fields of the record
+     * @param selection The positions of the fields to return, in the order
+     *                  they are to be returned
+     * @return The selected fields. A position the record has no field for
+     *   yields {@code null}.
+     */
+    private static String[] selectColumns(String[] record, int[] selection) {
+        String[] fields = new String[selection.length];
+        for (int i = 0; i < selection.length; i++) {
+            int index = selection[i];
+            fields[i] = index >= 0 && index < record.length ? record[index] : null;
+        }
+        return fields;
+    }
+
+    /**
+     * Reads the next record through the {@link RecordTokenizer}.
+     * This follows the structure of {@link #primeNextRecord()} line for line,
+     * but the fields are collected by the tokenizer instead of by the parser.
+     *
+     * @throws IOException If bad things happen during the read
+     */
+    private void primeNextRecordFromTokenizer() throws IOException {
+        tokenizedRecordPeeked = true;
+        if (readRecordFromTokenizer(false)) {
+            if (keepCR) {
+                recordTokenizer.removeTrailingCarriageReturn();
+            }
+            tokenizedRecordAvailable = true;
+        }
+    }
+
+    /**
+     * Reads all lines of the next record through the {@link RecordTokenizer}.
+     *
+     * @param framingOnly Whether the lines are only to be framed, so that
+     *                    the fields of the record are not collected and the
+     *                    line validators do not see the lines
+     * @return {@code false} if there is no more input
+     * @throws IOException If bad things happen during the read
+     */
+    private boolean readRecordFromTokenizer(boolean framingOnly) throws IOException {
+        int linesInThisRecord = 0;
+        long lastSuccessfulLineRead = linesRead + 1;
+        boolean captureLines = !framingOnly && !lineValidatorAggregator.isEmpty();
+        recordTokenizer.startRecord();
+        do {
+            if (!hasNextLineForTokenizer()) {
+                if (captureLines) {
+                    peekedLines.add(new OrderedObject<>(lastSuccessfulLineRead, null));
+                }
+                if (recordTokenizer.isPending()) {
+                    throw unterminatedQuote(lastSuccessfulLineRead, recordTokenizer.getPendingText());
+                }
+                if (index != null && recordTokenizer.getPosition() >= 0) {
+                    index.end(recordsRead, recordTokenizer.getPosition());
+                }
+                return false;
+            }
+            if (linesInThisRecord == 0) {
+                recordStartPosition = recordTokenizer.getPosition();
+                recordStartLines = linesRead;
+                if (index != null && recordStartPosition >= 0) {
+                    index.recordStart(recordsRead, recordStartPosition, linesRead);
+                }
+            }
+            linesInThisRecord++;
+
+            // If we've crossed the multiline limit, signal an error.
+            if (multilineLimit > 0 && linesInThisRecord > multilineLimit) {
+                recordTokenizer.skipLine();
+                linesRead++;
+                throw multilineLimitBroken(recordTokenizer.getPendingText());
+            }
+
+            if (framingOnly) {
+                recordTokenizer.frameLine();
+            } else {
+                recordTokenizer.tokenizeLine();
+            }
+            linesRead++;
+            if (captureLines) {
+                peekedLines.add(new OrderedObject<>(lastSuccessfulLineRead, recordTokenizer.getLastLine()));
+            }
+        } while (recordTokenizer.isPending());
+        return true;
+    }
+
+    /**
+     * Skips the initial lines if that has not yet happened and checks whether
+     * the {@link RecordTokenizer} has another line to offer.
+     * This is the counterpart to {@link #getNextLine()}.
+     *
+     * @return {@code true} if there is another line
+     * @throws IOException If bad things happen during the read
+     */
+    private boolean hasNextLineForTokenizer() throws IOException {
+        if (!inputKnownOpen && isClosed()) {
+            hasNext = false;
+            return false;
+        }
+
+        if (!this.linesSkipped) {
+            for (int i = 0; i < skipLines; i++) {
+                recordTokenizer.skipLine();
+                linesRead++;
+            }
+            this.linesSkipped = true;
+        }
+        if (!recordTokenizer.hasMoreInput()) {
+            hasNext = false;
+        }
+        return hasNext;
+    }
+
+    /**
+     * Creates the exception for input that ends in the middle of a quoted
+     * field.
+     *
+     * @param lastSuccessfulLineRead The line the record started on
+     * @param pendingText            The text of the incomplete field
+     * @return The exception to throw
+     */
+    private CsvMalformedLineException unterminatedQuote(long lastSuccessfulLineRead, String pendingText) {
+        return new CsvMalformedLineException(String.format(
+                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("unterminated.quote"),
+                StringUtils.abbreviate(pendingText, MAX_WIDTH)), lastSuccessfulLineRead, pendingText);
+    }
+
+    /**
+     * Creates the exception for a record spanning more lines than allowed.
+     *
+     * @param pendingText The text of the incomplete field
+     * @return The exception to throw
+     */
+    private CsvMultilineLimitBrokenException multilineLimitBroken(String pendingText) {
+
+        // get current row records Read +1
+        long row = this.recordsRead + 1L;
+
+        String context = pendingText;
+
+        // just to avoid out of index
+        // to get the whole context use CsvMultilineLimitBrokenException::getContext()
+        if (context.length() > CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE) {
+            context = context.substring(0, CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE);
+        }
+
+        String messageFormat = ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("multiline.limit.broken");
+        String message = String.format(errorLocale, messageFormat, multilineLimit, row, context);
+        return new CsvMultilineLimitBrokenException(message, row, pendingText, multilineLimit);
     }
 
     /**
@@ -336,7 +700,11 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      * @param buffer   Previous data read for this record
      * @param lastRead Latest data read for this record.
      * @return String array with union of the buffer and lastRead arrays.
+     * @deprecated The reader does not call this method. It collects the
+     *   fields of all lines of a record before creating the array, and
+     *   overriding this method does not change the record returned.
      */
+    @Deprecated
     protected String[] combineResultsFromMultipleReads(String[] buffer, String[] lastRead) {
         String[] t = new String[buffer.length + lastRead.length];
         System.arraycopy(buffer, 0, t, 0, buffer.length);
@@ -352,7 +720,7 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      * @throws IOException If bad things happen during the read
      */
     protected String getNextLine() throws IOException {
-        if (isClosed()) {
+        if (!inputKnownOpen && isClosed()) {
             hasNext = false;
             return null;
         }
@@ -407,6 +775,14 @@ public class CSVReader implements Closeable, Iterable<String[]> {
             return false;
         }
         try {
+            if (recordTokenizer != null) {
+                // The tokenizer has already taken part of the input into its own buffer.
+                return !recordTokenizer.hasMoreInput();
+            }
+            if (lineReader != null && lineReader.hasBufferedInput()) {
+                // So has the line reader, if it keeps carriage returns.
+                return false;
+            }
             br.mark(READ_AHEAD_LIMIT);
             int nextByte = br.read();
             br.reset(); // resets stream position, possible because its buffered
@@ -427,7 +803,12 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      */
     @Override
     public void close() throws IOException {
-        br.close();
+        if (br != null) {
+            br.close();
+        }
+        if (recordTokenizer != null) {
+            recordTokenizer.close();
+        }
     }
 
     /**
@@ -552,6 +933,214 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         }
     }
 
+    /**
+     * Moves to a record, so that it is the next one read.
+     * <p>Records are counted from 0 the way {@link #getRecordsRead()} counts
+     * them, so after this call {@link #getRecordsRead()} returns
+     * {@code recordNumber}, unless the input has fewer records. Lines skipped
+     * at the beginning of the input are not records, but a header read as a
+     * record is.</p>
+     * <p>If the reader has a {@link CsvIndex} and reads a file as bytes, it
+     * jumps to the closest record noted in the index before the one
+     * requested, in either direction. From there, or from the current
+     * position if there is no such record, records are skipped with
+     * {@link #skipRecords(long)}. If the reader has an index, reading on
+     * fills it in.</p>
+     *
+     * @param recordNumber The number of the record to be read next. If the
+     *                     input has fewer records, the reader moves to the
+     *                     end of the input.
+     * @throws IOException If bad things happen during the read
+     * @throws UnsupportedOperationException If the record has already been
+     *   read and the reader cannot jump back to it
+     * @since 5.7.1
+     */
+    public void seekToRecord(long recordNumber) throws IOException {
+        int entry = index == null || recordTokenizer == null ? -1 : index.entryBefore(recordNumber);
+        if (entry >= 0) {
+            long entryRecord = index.getRecordNumber(entry);
+            if (entryRecord > recordsRead || recordNumber < recordsRead) {
+                jump(index.getPosition(entry), entryRecord, index.getLinesRead(entry));
+            }
+        }
+        if (recordNumber < recordsRead) {
+            throw new UnsupportedOperationException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("seek.backwards.impossible"),
+                    recordNumber));
+        }
+        skipRecords(recordNumber - recordsRead);
+    }
+
+    /**
+     * Notes where the reader stands, so that reading can continue there
+     * later with {@link #resume(Checkpoint)}.
+     * <p>If a record has been peeked at, the checkpoint is at the beginning
+     * of that record, since it has not been read yet. The position in bytes
+     * is only known if the reader reads bytes directly (see
+     * {@link CSVReaderBuilder#CSVReaderBuilder(java.io.InputStream, java.nio.charset.Charset)}),
+     * and not if it reads in parallel.</p>
+     * <p>A checkpoint taken at the end of the input marks where records
+     * appended to the input later will begin, as long as the input ended
+     * with a line end.</p>
+     *
+     * @return The checkpoint, without a header
+     * @throws IOException If bad things happen while looking ahead in the
+     *   input
+     * @since 5.7.1
+     */
+    public Checkpoint checkpoint() throws IOException {
+        if (isPeekedRecordAvailable()) {
+            if (recordTokenizer != null) {
+                return new Checkpoint(recordStartPosition, recordStartLines, recordsRead, null);
+            }
+            return new Checkpoint(-1, linesRead - peekedLines.size(), recordsRead, null);
+        }
+        long position = -1;
+        if (recordTokenizer != null) {
+            if (linesSkipped && hasNext && !isClosed()) {
+                // Consumes the line feed after a carriage return that ended the last record.
+                recordTokenizer.hasMoreInput();
+            }
+            position = recordTokenizer.getPosition();
+        }
+        return new Checkpoint(position, linesRead, recordsRead, null);
+    }
+
+    /**
+     * Continues reading at a checkpoint taken by a reader with the same
+     * configuration over the same input.
+     * <p>If the checkpoint knows the byte offset of the next record and the
+     * reader can move in its input (see {@link #seekToRecord(long)}), it
+     * jumps there, in either direction, and carries on counting lines and
+     * records where the checkpoint left off. Otherwise records are skipped
+     * with {@link #skipRecords(long)} until as many records have been read
+     * as when the checkpoint was taken.</p>
+     *
+     * @param checkpoint The checkpoint to continue at
+     * @throws IOException If bad things happen during the read
+     * @throws UnsupportedOperationException If the reader is already past
+     *   the checkpoint and cannot jump back to it
+     * @since 5.7.1
+     */
+    public void resume(Checkpoint checkpoint) throws IOException {
+        if (checkpoint.getPosition() >= 0
+                && jump(checkpoint.getPosition(), checkpoint.getRecordsRead(), checkpoint.getLinesRead())) {
+            return;
+        }
+        if (checkpoint.getRecordsRead() < recordsRead) {
+            throw new UnsupportedOperationException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("seek.backwards.impossible"),
+                    checkpoint.getRecordsRead()));
+        }
+        skipRecords(checkpoint.getRecordsRead() - recordsRead);
+    }
+
+    /**
+     * Moves the record tokenizer to the beginning of a record, if it can.
+     *
+     * @param position    The byte offset of the record
+     * @param recordsRead The number of records before it
+     * @param linesRead   The number of lines before it
+     * @return {@code true} if the reader moved
+     * @throws IOException If the input cannot be repositioned
+     */
+    private boolean jump(long position, long recordsRead, long linesRead) throws IOException {
+        if (recordTokenizer == null || !recordTokenizer.seek(position)) {
+            return false;
+        }
+        clearPeekedRecord();
+        this.recordsRead = recordsRead;
+        this.linesRead = linesRead;
+        // Nothing has been read before the first line, not even the lines to skip.
+        linesSkipped = linesRead > 0;
+        hasNext = true;
+        return true;
+    }
+
+    /**
+     * Skips records without creating their fields.
+     * <p>The records are framed exactly as they would be read, with quoted
+     * fields spanning several lines and the multiline limit, and they count
+     * towards {@link #getRecordsRead()} and {@link #getLinesRead()}. But no
+     * validator, row processor or record filter sees them, and if the reader
+     * tokenizes records itself (see
+     * {@link CSVReaderBuilder#withRecordTokenizer(boolean)}), their fields
+     * are never collected, let alone turned into strings. A reader that
+     * hands lines to its parser has the parser split them as usual.</p>
+     * <p>If the reader has a {@link CsvIndex}, skipping fills it in.</p>
+     *
+     * @param count The number of records to skip
+     * @return The number of records skipped, which is less than
+     *   {@code count} only if the input ended
+     * @throws IOException If bad things happen during the read, in
+     *   particular {@link CsvMalformedLineException} if the input ends in a
+     *   quoted field. The exception only carries the pending text of the
+     *   field if the fields were collected.
+     * @since 5.7.1
+     */
+    public long skipRecords(long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && (recordTokenizer == null || isRecordPeeked() ? skipRecord() : frameRecord())) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Counts the records between the current position and the end of the
+     * input by skipping all of them with {@link #skipRecords(long)}.
+     * <p>Afterwards there is nothing left to read. A reader that tokenizes a
+     * file on several threads (see
+     * {@link CSVReaderBuilder#withParallelism(int)}) frames the parts of the
+     * file it has not yet begun with on all threads.</p>
+     *
+     * @return The number of records that were left in the input
+     * @throws IOException If bad things happen during the read
+     * @since 5.7.1
+     */
+    public long countRecords() throws IOException {
+        if (recordTokenizer != null) {
+            recordTokenizer.frameOnly();
+        }
+        return skipRecords(Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads the next record and throws it away without running any
+     * validators.
+     *
+     * @return {@code true} if there was a record, {@code false} if there is
+     *   no more input
+     * @throws IOException If bad things happen during the read
+     */
+    private boolean skipRecord() throws IOException {
+        if (!isRecordPeeked()) {
+            primeNextRecord();
+        }
+        boolean available = isPeekedRecordAvailable();
+        clearPeekedRecord();
+        if (available) {
+            recordsRead++;
+        }
+        return available;
+    }
+
+    /**
+     * Finds the end of the next record through the {@link RecordTokenizer}
+     * without collecting its fields.
+     *
+     * @return {@code true} if there was a record, {@code false} if there is
+     *   no more input
+     * @throws IOException If bad things happen during the read
+     */
+    private boolean frameRecord() throws IOException {
+        if (!readRecordFromTokenizer(true)) {
+            return false;
+        }
+        recordsRead++;
+        return true;
+    }
+
     /**
      * Sets the locale for all error messages.
      *
@@ -564,6 +1153,12 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         if (parser != null) {
             parser.setErrorLocale(this.errorLocale);
         }
+        if (recordTokenizer != null) {
+            recordTokenizer.setErrorLocale(this.errorLocale);
+        }
+        if (filteredRecord != null) {
+            filteredRecord.setErrorLocale(this.errorLocale);
+        }
     }
 
     /**
@@ -606,22 +1201,20 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      */
     private String[] flexibleRead(boolean popLine, boolean validate) throws IOException, CsvValidationException {
 
-        if(peekedLines.isEmpty()) {
+        if(!isRecordPeeked()) {
             primeNextRecord();
         }
 
         if(validate) {
-            for(OrderedObject<String> orderedObject : peekedLines) {
-                validateLine(orderedObject.getOrdinal(), orderedObject.getElement());
-            }
-            validateResult(peekedLine, linesRead);
+            validatePeekedLines();
+            skipRejectedRecords();
+            validateResult(getPeekedRecord(), linesRead);
         }
 
-        String[] result = peekedLine;
+        String[] result = getPeekedRecord();
 
         if(popLine) {
-            peekedLines.clear();
-            peekedLine = null;
+            clearPeekedRecord();
             if(result != null) {
                 recordsRead++;
             }
@@ -629,4 +1222,348 @@ public class CSVReader implements Closeable, Iterable<String[]> {
 
         return result;
     }
+
+    /**
+     * Reads the next record and hands its fields to a visitor.
+     * <p>If the reader uses a {@link RecordTokenizer} and there is no
+     * {@link RowProcessor} or {@link com.opencsv.validators.RowValidator},
+     * the fields go straight from the buffer of the tokenizer to the visitor.
+     * No strings or arrays are created for the record. Otherwise this is
+     * equivalent to calling {@link #readNext()} and visiting the result.</p>
+     * <p>Line validators are run as with {@link #readNext()}.</p>
+     *
+     * @param visitor The recipient of the fields of the record
+     * @return {@code true} if a record was read, {@code false} if there is no
+     *   more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @since 5.7.1
+     */
+    public boolean readNext(FieldVisitor visitor) throws IOException, CsvValidationException {
+        if (!canReadWithoutStrings()) {
+            String[] record = readNext();
+            if (record == null) {
+                return false;
+            }
+            visitFields(record, visitor);
+            return true;
+        }
+
+        boolean available = peekTokenizedRecord();
+        if (available) {
+            recordTokenizer.visitFields(visitor);
+        }
+        popTokenizedRecord(available);
+        return available;
+    }
+
+    /**
+     * Reads the next record without converting its fields to strings.
+     * <p>The fields are copied into a new {@link CsvRecord}, which only
+     * creates a string for a field when it is asked to. If the reader uses a
+     * {@link RecordTokenizer} and there is no {@link RowProcessor} or
+     * {@link com.opencsv.validators.RowValidator}, no string is created at
+     * all while reading.</p>
+     *
+     * @return The next record, or {@code null} if there is no more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @since 5.7.1
+     */
+    public CsvRecord readRecord() throws IOException, CsvValidationException {
+        CsvRecord record = new CsvRecord();
+        return readRecord(record) ? record : null;
+    }
+
+    /**
+     * Reads the next record into an existing {@link CsvRecord}.
+     * <p>This works like {@link #readRecord()}, but reuses the record passed
+     * in, so that reading a whole file needs no more than this one object.</p>
+     *
+     * @param record The record to be filled with the next record of the input.
+     *               If there is no more input, it is left unchanged.
+     * @return {@code true} if a record was read, {@code false} if there is no
+     *   more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @since 5.7.1
+     */
+    public boolean readRecord(CsvRecord record) throws IOException, CsvValidationException {
+        record.setErrorLocale(errorLocale);
+        if (!canReadWithoutStrings()) {
+            String[] fields = readNext();
+            if (fields == null) {
+                return false;
+            }
+            record.setFields(fields);
+            return true;
+        }
+
+        boolean available = peekTokenizedRecord();
+        if (available) {
+            recordLength = recordTokenizer.getFieldCount();
+            recordTokenizer.copyTo(record);
+        }
+        popTokenizedRecord(available);
+        return available;
+    }
+
+    /**
+     * Reads up to a given number of records into a new {@link RecordBatch}.
+     *
+     * @param maxRecords The maximum number of records to read
+     * @return A batch of at least one record, or {@code null} if there is no
+     *   more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @throws IllegalArgumentException If {@code maxRecords} is less than one
+     * @see #readBatch(RecordBatch, int)
+     * @since 5.7.1
+     */
+    public RecordBatch readBatch(int maxRecords) throws IOException, CsvValidationException {
+        RecordBatch batch = new RecordBatch();
+        return readBatch(batch, maxRecords) > 0 ? batch : null;
+    }
+
+    /**
+     * Reads up to a given number of records into an existing
+     * {@link RecordBatch}, replacing its content.
+     * <p>The records are the ones {@link #readNext()} would have returned,
+     * validated and processed the same way. Reading many records in one call
+     * spares the reader the check for a closed input before every record,
+     * and if the reader uses a {@link RecordTokenizer} and there is no
+     * {@link RowProcessor}, {@link com.opencsv.validators.RowValidator} or
+     * column selection, the fields are copied from the buffer of the
+     * tokenizer into the batch without creating any strings.</p>
+     * <p>If a validator fails, the records read before the one that failed
+     * remain in the batch.</p>
+     *
+     * @param batch      The batch to be filled
+     * @param maxRecords The maximum number of records to read
+     * @return The number of records read, which is less than
+     *   {@code maxRecords} only at the end of the input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     * @throws IllegalArgumentException If {@code maxRecords} is less than one
+     * @since 5.7.1
+     */
+    public int readBatch(RecordBatch batch, int maxRecords) throws IOException, CsvValidationException {
+        if (maxRecords < 1) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("batch.size.invalid"),
+                    maxRecords));
+        }
+        batch.clear();
+        batch.setErrorLocale(errorLocale);
+        boolean withoutStrings = canReadWithoutStrings();
+        try {
+            while (batch.size() < maxRecords) {
+                if (withoutStrings) {
+                    boolean available = peekTokenizedRecord();
+                    if (available) {
+                        recordTokenizer.copyTo(batch);
+                    }
+                    popTokenizedRecord(available);
+                    if (!available) {
+                        break;
+                    }
+                } else {
+                    String[] fields = readNext();
+                    if (fields == null) {
+                        break;
+                    }
+                    batch.addRecord(fields);
+                }
+                // A record has just been read, so the end of the input
+                // will show when the next one is read.
+                inputKnownOpen = true;
+            }
+        } finally {
+            inputKnownOpen = false;
+        }
+        return batch.size();
+    }
+
+    /**
+     * @return Whether records can be read without first converting them to
+     *   an array of strings, which is the case if the reader uses a
+     *   {@link RecordTokenizer} and nothing needs the array
+     */
+    private boolean canReadWithoutStrings() {
+        return recordTokenizer != null && rowProcessor == null && rowValidatorAggregator.isEmpty() && columns == null;
+    }
+
+    /**
+     * Reads the next record, but only returns some of its fields.
+     * <p>Where {@link #readNext(FieldVisitor)} would not need to create
+     * strings, strings are only created for the selected fields. Otherwise
+     * this is equivalent to picking the fields from the result of
+     * {@link #readNext()}. {@link #getRecordLength()} tells how many fields
+     * the record had.</p>
+     *
+     * @param selection The positions of the fields to return, in the order
+     *                  they are to be returned. These refer to the fields
+     *                  returned by {@link #readNext()}.
+     * @return The selected fields, with {@code null} for a position the
+     *   record has no field for, or {@code null} if there is no more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     */
+    String[] readColumns(int[] selection) throws IOException, CsvValidationException {
+        if (!canReadWithoutStrings()) {
+            String[] record = readNext();
+            return record == null ? null : selectColumns(record, selection);
+        }
+
+        boolean available = peekTokenizedRecord();
+        String[] result = null;
+        if (available) {
+            recordLength = recordTokenizer.getFieldCount();
+            result = recordTokenizer.toArray(selection);
+        }
+        popTokenizedRecord(available);
+        return result;
+    }
+
+    /**
+     * Makes sure the next record has been read by the {@link RecordTokenizer}
+     * and its lines have been validated.
+     *
+     * @return {@code true} if there is a record, {@code false} if there is no
+     *   more input
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     */
+    private boolean peekTokenizedRecord() throws IOException, CsvValidationException {
+        if (!isRecordPeeked()) {
+            primeNextRecord();
+        }
+        validatePeekedLines();
+        skipRejectedRecords();
+        return tokenizedRecordAvailable;
+    }
+
+    /**
+     * Replaces the record that has been read from the input by the next one
+     * until the {@link RecordFilter} allows it. The lines of every record
+     * read are validated.
+     *
+     * @throws IOException            If bad things happen during the read
+     * @throws CsvValidationException If a user-defined validator fails
+     */
+    private void skipRejectedRecords() throws IOException, CsvValidationException {
+        if (recordFilter == null) {
+            return;
+        }
+        while (isPeekedRecordAvailable()) {
+            if (recordTokenizer == null) {
+                filteredRecord.setFields(peekedLine);
+            } else {
+                recordTokenizer.copyTo(filteredRecord);
+            }
+            if (recordFilter.allowRecord(filteredRecord)) {
+                return;
+            }
+            clearPeekedRecord();
+            recordsRead++;
+            primeNextRecord();
+            validatePeekedLines();
+        }
+    }
+
+    /**
+     * Consumes the record read by {@link #peekTokenizedRecord()}.
+     *
+     * @param available Whether there was a record
+     */
+    private void popTokenizedRecord(boolean available) {
+        clearPeekedRecord();
+        if (available) {
+            recordsRead++;
+        }
+    }
+
+    /**
+     * Hands the fields of a record that has already been converted to strings
+     * to a visitor.
+     *
+     * @param record  The fields to visit
+     * @param visitor The recipient of the fields
+     */
+    private void visitFields(String[] record, FieldVisitor visitor) {
+        for (int i = 0; i < record.length; i++) {
+            String field = record[i];
+            if (field == null) {
+                visitor.visitNullField(i);
+            } else {
+                if (visitorBuffer == null || visitorBuffer.length < field.length()) {
+                    visitorBuffer = new char[Math.max(field.length(), ICSVParser.INITIAL_READ_SIZE)];
+                }
+                field.getChars(0, field.length(), visitorBuffer, 0);
+                visitor.visitField(i, visitorBuffer, 0, field.length(), false);
+            }
+        }
+        visitor.endRecord(record.length);
+    }
+
+    /**
+     * @return Whether the next record has already been read from the input
+     */
+    private boolean isRecordPeeked() {
+        return recordTokenizer == null ? !peekedLines.isEmpty() : tokenizedRecordPeeked;
+    }
+
+    /**
+     * @return Whether a record has been read from the input, as opposed to
+     *   the input having ended
+     */
+    private boolean isPeekedRecordAvailable() {
+        return recordTokenizer == null ? peekedLine != null : tokenizedRecordAvailable;
+    }
+
+    /**
+     * @return The next record, which must already have been read from the
+     *   input, or {@code null} if there is no more input
+     */
+    private String[] getPeekedRecord() {
+        if (peekedLine == null && tokenizedRecordAvailable) {
+            recordLength = recordTokenizer.getFieldCount();
+            peekedLine = columns != null && recordFilter != null
+                    ? recordTokenizer.toArray(columns) : recordTokenizer.toArray();
+        } else if (recordTokenizer == null && columns != null) {
+            // The parser always delivers the whole record, which the
+            // filter may need to see
+            if (selectedLine == null && peekedLine != null) {
+                selectedLine = selectColumns(peekedLine, columns);
+            }
+            return selectedLine;
+        }
+        return peekedLine;
+    }
+
+    /**
+     * Forgets the record that has been read from the input so the next one
+     * can be read.
+     */
+    private void clearPeekedRecord() {
+        peekedLines.clear();
+        peekedLine = null;
+        selectedLine = null;
+        tokenizedRecordPeeked = false;
+        tokenizedRecordAvailable = false;
+    }
+
+    /**
+     * Runs the line validators on all lines of the record that has been read
+     * from the input.
+     *
+     * @throws CsvValidationException If a user-defined validator fails
+     */
+    private void validatePeekedLines() throws CsvValidationException {
+        if (!peekedLines.isEmpty()) {
+            for (OrderedObject<String> orderedObject : peekedLines) {
+                validateLine(orderedObject.getOrdinal(), orderedObject.getElement());
+            }
+        }
+    }
 }
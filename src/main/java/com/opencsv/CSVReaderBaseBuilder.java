@@ -2,12 +2,28 @@ package com.opencsv;
 
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import com.opencsv.processor.RowProcessor;
+import com.opencsv.stream.reader.AbstractRecordTokenizer;
+import com.opencsv.stream.reader.AsyncFileInputStream;
+import com.opencsv.stream.reader.ByteRecordTokenizer;
+import com.opencsv.stream.reader.FieldDeduplicator;
+import com.opencsv.stream.reader.MappedFileInputStream;
+import com.opencsv.stream.reader.ParallelGzipInputStream;
+import com.opencsv.stream.reader.ParallelRecordTokenizer;
+import com.opencsv.stream.reader.ReadAheadInputStream;
 import com.opencsv.validators.LineValidatorAggregator;
 import com.opencsv.validators.RowValidatorAggregator;
 import org.apache.commons.lang3.ObjectUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Base class for the builders of various incarnations of CSVReaders.
@@ -17,7 +33,12 @@ import java.util.Locale;
  * @since 5.5.2
  */
 abstract public class CSVReaderBaseBuilder<T> {
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
     protected final Reader reader;
+    protected final InputStream inputStream;
+    protected final Path path;
+    protected final Charset charset;
     protected final LineValidatorAggregator lineValidatorAggregator = new LineValidatorAggregator();
     protected final RowValidatorAggregator rowValidatorAggregator = new RowValidatorAggregator();
     private final CSVParserBuilder parserBuilder = new CSVParserBuilder();
@@ -29,6 +50,12 @@ abstract public class CSVReaderBaseBuilder<T> {
     protected int multilineLimit = CSVReader.DEFAULT_MULTILINE_LIMIT;
     protected Locale errorLocale = Locale.getDefault();
     protected RowProcessor rowProcessor = null;
+    protected boolean useRecordTokenizer = CSVReader.DEFAULT_USE_RECORD_TOKENIZER;
+    protected int parallelism = 1;
+    protected boolean gzip = false;
+    protected int readAhead = 0;
+    protected boolean fieldDeduplication = false;
+    protected RecordFilter recordFilter = null;
 
     /**
      * Base Constructor
@@ -37,6 +64,39 @@ abstract public class CSVReaderBaseBuilder<T> {
      */
     protected CSVReaderBaseBuilder(final Reader reader) {
         this.reader = reader;
+        this.inputStream = null;
+        this.path = null;
+        this.charset = null;
+    }
+
+    /**
+     * Constructor for reading bytes.
+     *
+     * @param inputStream The stream of bytes of an underlying CSV source
+     * @param charset     The character set the bytes are encoded in. If
+     *                    {@code null}, UTF-8 is assumed.
+     * @since 5.7.1
+     */
+    protected CSVReaderBaseBuilder(final InputStream inputStream, final Charset charset) {
+        this.reader = null;
+        this.inputStream = inputStream;
+        this.path = null;
+        this.charset = ObjectUtils.defaultIfNull(charset, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructor for reading a file.
+     *
+     * @param path    The file containing the CSV source
+     * @param charset The character set the file is encoded in. If
+     *                {@code null}, UTF-8 is assumed.
+     * @since 5.7.1
+     */
+    protected CSVReaderBaseBuilder(final Path path, final Charset charset) {
+        this.reader = null;
+        this.inputStream = null;
+        this.path = path;
+        this.charset = ObjectUtils.defaultIfNull(charset, StandardCharsets.UTF_8);
     }
 
     /**
@@ -48,6 +108,88 @@ abstract public class CSVReaderBaseBuilder<T> {
         return reader;
     }
 
+    /**
+     * Returns the reader to read from. For a source of bytes or a file, a
+     * reader is created that decodes them.
+     *
+     * @return The reader given to the builder, or a new reader for the
+     *   stream of bytes or the file given to the builder
+     * @throws UncheckedIOException If the file cannot be opened, or is not
+     *   in gzip format although it should be
+     * @since 5.7.1
+     */
+    protected Reader getOrCreateReader() {
+        if (reader != null) {
+            return reader;
+        }
+        return new InputStreamReader(openInput(), charset);
+    }
+
+    /**
+     * Creates a tokenizer that reads bytes directly, if the builder was given
+     * a source of bytes or a file and the parser and character set allow it.
+     * <p>A file is tokenized by several threads if a parallelism above one
+     * was requested and there is no limit on the lines in a record. The
+     * limit can only be enforced while reading sequentially. This also works
+     * for an {@link RFC4180Parser}. A compressed file is always tokenized
+     * sequentially, but decompressed on several threads.</p>
+     *
+     * @param parser The parser to be used by the reader
+     * @return A new tokenizer, or {@code null} if the input must be read as
+     *   characters
+     * @throws UncheckedIOException If the file cannot be opened, or is not
+     *   in gzip format although it should be
+     * @see ByteRecordTokenizer#supports(ICSVParser, Charset)
+     * @see ParallelRecordTokenizer#supports(ICSVParser, Charset, boolean)
+     * @since 5.7.1
+     */
+    protected AbstractRecordTokenizer createByteRecordTokenizer(ICSVParser parser) {
+        if (path != null && !gzip && parallelism > 1 && multilineLimit <= 0
+                && ParallelRecordTokenizer.supports(parser, charset, keepCR)) {
+            try {
+                return new ParallelRecordTokenizer(path, charset, parser, keepCR, parallelism);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (reader != null || !ByteRecordTokenizer.supports(parser, charset)) {
+            return null;
+        }
+        return new ByteRecordTokenizer(openInput(), charset, (CSVParser) parser, keepCR);
+    }
+
+    /**
+     * Creates the pool equal field values are shared through, if requested.
+     *
+     * @return A new {@link FieldDeduplicator}, or {@code null} if values are
+     *   not to be deduplicated
+     * @since 5.7.1
+     */
+    protected FieldDeduplicator createFieldDeduplicator() {
+        return fieldDeduplication ? new FieldDeduplicator() : null;
+    }
+
+    private InputStream openInput() {
+        try {
+            InputStream input;
+            if (gzip) {
+                input = path != null
+                        ? new ParallelGzipInputStream(path, parallelism,
+                                ParallelGzipInputStream.DEFAULT_SEGMENT_SIZE, errorLocale)
+                        : new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE);
+            } else if (inputStream != null) {
+                input = inputStream;
+            } else if (readAhead > 0) {
+                return new AsyncFileInputStream(path, readAhead, AsyncFileInputStream.DEFAULT_BUFFER_SIZE);
+            } else {
+                return new MappedFileInputStream(path);
+            }
+            return readAhead > 0 ? new ReadAheadInputStream(input, readAhead, ReadAheadInputStream.DEFAULT_BUFFER_SIZE) : input;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Used by unit tests.
      *
@@ -105,6 +247,40 @@ abstract public class CSVReaderBaseBuilder<T> {
         return verifyReader;
     }
 
+    /**
+     * @return Whether the reader should tokenize input directly from a
+     *   character buffer
+     * @since 5.7.1
+     */
+    public boolean isUseRecordTokenizer() {
+        return useRecordTokenizer;
+    }
+
+    /**
+     * @return The number of threads a file is tokenized with
+     * @since 5.7.1
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return Whether equal values in a column share one string
+     * @since 5.7.1
+     */
+    public boolean isFieldDeduplication() {
+        return fieldDeduplication;
+    }
+
+    /**
+     * @return The filter records have to pass, or {@code null} if all
+     *   records are returned
+     * @since 5.7.1
+     */
+    public RecordFilter getRecordFilter() {
+        return recordFilter;
+    }
+
     /**
      * @return The locale for error messages
      */
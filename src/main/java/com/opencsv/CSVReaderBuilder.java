@@ -18,11 +18,19 @@ package com.opencsv;
 
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import com.opencsv.processor.RowProcessor;
+import com.opencsv.stream.reader.AbstractRecordTokenizer;
+import com.opencsv.stream.reader.ByteBufferInputStream;
 import com.opencsv.validators.LineValidator;
 import com.opencsv.validators.RowValidator;
 import org.apache.commons.lang3.ObjectUtils;
 
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -49,6 +57,9 @@ import java.util.ResourceBundle;
  */
 public class CSVReaderBuilder extends CSVReaderBaseBuilder<CSVReader> {
 
+    private int[] columns = null;
+    private CsvIndex index = null;
+
     /**
      * Sets the reader to an underlying CSV source.
      *
@@ -62,6 +73,73 @@ public class CSVReaderBuilder extends CSVReaderBaseBuilder<CSVReader> {
         }
     }
 
+    /**
+     * Sets a stream of bytes as the underlying CSV source.
+     * <p>If the parser is a {@link CSVParser} and the character set is
+     * UTF-8, US-ASCII or ISO-8859-1, records are tokenized directly from the
+     * bytes, and only the fields that are needed are decoded. Otherwise the
+     * bytes are decoded by an {@link java.io.InputStreamReader}.</p>
+     *
+     * @param inputStream The stream of bytes of an underlying CSV source
+     * @param charset     The character set the bytes are encoded in. If
+     *                    {@code null}, UTF-8 is assumed.
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder(final InputStream inputStream, final Charset charset) {
+        super(inputStream, charset);
+        if (inputStream == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("reader.null"));
+        }
+    }
+
+    /**
+     * Sets a channel as the underlying CSV source.
+     *
+     * @param channel The channel delivering the bytes of an underlying CSV
+     *                source
+     * @param charset The character set the bytes are encoded in. If
+     *                {@code null}, UTF-8 is assumed.
+     * @see #CSVReaderBuilder(InputStream, Charset)
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder(final ReadableByteChannel channel, final Charset charset) {
+        this(channel == null ? null : Channels.newInputStream(channel), charset);
+    }
+
+    /**
+     * Sets the remaining content of a buffer, for example a memory-mapped
+     * file, as the underlying CSV source.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer  The bytes of an underlying CSV source
+     * @param charset The character set the bytes are encoded in. If
+     *                {@code null}, UTF-8 is assumed.
+     * @see #CSVReaderBuilder(InputStream, Charset)
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder(final ByteBuffer buffer, final Charset charset) {
+        this(buffer == null ? null : new ByteBufferInputStream(buffer), charset);
+    }
+
+    /**
+     * Sets a file as the underlying CSV source.
+     * <p>The file is read through memory mappings. Everything said about
+     * {@link #CSVReaderBuilder(InputStream, Charset)} applies here as well.
+     * In addition, a file can be tokenized by several threads at once, see
+     * {@link #withParallelism(int)}.</p>
+     *
+     * @param path    The file containing the CSV source
+     * @param charset The character set the file is encoded in. If
+     *                {@code null}, UTF-8 is assumed.
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder(final Path path, final Charset charset) {
+        super(path, charset);
+        if (path == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("reader.null"));
+        }
+    }
+
     /**
      * Sets the number of lines to skip before reading.
      *
@@ -93,8 +171,21 @@ public class CSVReaderBuilder extends CSVReaderBaseBuilder<CSVReader> {
     @Override
     public CSVReader build() {
         final ICSVParser parser = getOrCreateCsvParser();
-        return new CSVReader(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale,
-                lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
+        final AbstractRecordTokenizer byteTokenizer = createByteRecordTokenizer(parser);
+        final CSVReader csvReader;
+        if (byteTokenizer != null) {
+            csvReader = new CSVReader(byteTokenizer, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale,
+                    lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
+        } else {
+            csvReader = new CSVReader(getOrCreateReader(), skipLines, parser, keepCR, verifyReader, multilineLimit,
+                    errorLocale, lineValidatorAggregator, rowValidatorAggregator, rowProcessor,
+                    useRecordTokenizer || columns != null || recordFilter != null);
+        }
+        csvReader.setFieldDeduplicator(createFieldDeduplicator());
+        csvReader.setRecordFilter(recordFilter);
+        csvReader.setIndex(index);
+        csvReader.setColumns(columns);
+        return csvReader;
     }
 
     /**
@@ -125,6 +216,223 @@ public class CSVReaderBuilder extends CSVReaderBaseBuilder<CSVReader> {
         return this;
     }
 
+    /**
+     * Sets whether the reader tokenizes input directly from a character buffer.
+     *
+     * <p>Normally input is read one line at a time, and every line is then
+     * handed to the parser to be split into fields. With this option the
+     * separation into lines and into fields happens in one pass over the
+     * input by way of a {@link com.opencsv.stream.reader.RecordTokenizer},
+     * which saves creating and scanning a string for every line.</p>
+     *
+     * <p>This only takes effect with a {@link CSVParser}, which is also the
+     * default parser. With any other parser, the input is read line by line
+     * as usual.</p>
+     *
+     * <p>A source of bytes handed to the constructor is always tokenized
+     * directly when the parser and character set allow it, regardless of
+     * this setting.</p>
+     *
+     * <p>The default value is false.</p>
+     *
+     * @param useRecordTokenizer True to tokenize directly from a character
+     *                           buffer, false to read line by line
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withRecordTokenizer(boolean useRecordTokenizer) {
+        this.useRecordTokenizer = useRecordTokenizer;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads a file is tokenized with.
+     *
+     * <p>This only takes effect if the builder was given a file, the file can
+     * be tokenized directly from bytes and no multiline limit is set. An
+     * {@link RFC4180Parser} is supported as well, as long as carriage returns
+     * are not kept. The file is then cut into chunks that are tokenized at
+     * the same time by a pool of threads, while the reader still returns
+     * records in their original order and with the same results as reading
+     * the file sequentially, even if quoted fields span several lines.
+     * Line validators, skipped lines and line numbers behave as usual.</p>
+     *
+     * <p>The default value is 1, meaning the file is read sequentially.</p>
+     *
+     * @param parallelism The number of threads to use
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withParallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+        return this;
+    }
+
+    /**
+     * Sets whether the source of bytes given to the builder is compressed
+     * with gzip.
+     *
+     * <p>A file is then decompressed by a
+     * {@link com.opencsv.stream.reader.ParallelGzipInputStream} with as many
+     * threads as set by {@link #withParallelism(int)}. Files that consist of
+     * many gzip members, such as those written by bgzip or by concatenating
+     * gzip files, are decompressed on all of them ahead of the reader, while
+     * the records are tokenized sequentially. Any other source of bytes is
+     * decompressed by a {@link java.util.zip.GZIPInputStream}. A
+     * {@link Reader} is never decompressed.</p>
+     *
+     * <p>The default value is false.</p>
+     *
+     * @param gzip True if the bytes are compressed with gzip
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withGzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    /**
+     * Sets how many buffers of input are read ahead in the background.
+     *
+     * <p>A file is then read through a
+     * {@link com.opencsv.stream.reader.AsyncFileInputStream}, which keeps
+     * reads of the next buffers in flight while the current one is being
+     * tokenized. Any other source of bytes, and the output of gzip
+     * decompression, is read ahead by a
+     * {@link com.opencsv.stream.reader.ReadAheadInputStream} on a thread of
+     * its own. Either way, tokenizing only waits for the input if it is
+     * faster than the input can be read. A {@link Reader} is never read
+     * ahead, and neither is a file that is tokenized on several threads.</p>
+     *
+     * <p>The default value is 0, meaning the input is read when it is
+     * needed.</p>
+     *
+     * @param buffers The number of buffers to read ahead
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withReadAhead(int buffers) {
+        this.readAhead = Math.max(buffers, 0);
+        return this;
+    }
+
+    /**
+     * Restricts the records read to some of their columns.
+     *
+     * <p>Every record returned then holds exactly the fields at the given
+     * positions, in the order given. A record too short to have a field at
+     * one of the positions has {@code null} there. The other fields are still
+     * read, so quotes and separators in them are treated as usual, but when
+     * input is tokenized directly, no strings are created for them. For this
+     * reason, a {@link Reader} is tokenized directly with a {@link CSVParser}
+     * as if {@link #withRecordTokenizer(boolean)} had been set.</p>
+     *
+     * <p>Row processors and row validators only see the selected fields.</p>
+     *
+     * @param columns The zero-based positions of the fields to keep, or
+     *                {@code null} to keep all of them
+     * @return {@code this}
+     * @throws IllegalArgumentException If a position is negative
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withColumns(int... columns) {
+        if (columns != null) {
+            for (int column : columns) {
+                if (column < 0) {
+                    throw new IllegalArgumentException(String.format(
+                            ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                    .getString("column.index.negative"), column));
+                }
+            }
+        }
+        this.columns = columns == null ? null : columns.clone();
+        return this;
+    }
+
+    /**
+     * @return The positions of the columns records are restricted to, or
+     *   {@code null} for all columns
+     * @since 5.7.1
+     */
+    public int[] getColumns() {
+        return columns == null ? null : columns.clone();
+    }
+
+    /**
+     * Sets whether equal values in a column share one string.
+     *
+     * <p>Reading a large file into memory, for example with
+     * {@link CSVReader#readAll()}, creates a string for every field of every
+     * record. In columns with few distinct values, such as country codes,
+     * status flags or currencies, nearly all of these are copies of each
+     * other. With this option, short values are looked up per column in a
+     * {@link com.opencsv.stream.reader.FieldDeduplicator} of bounded size,
+     * and a value that was seen recently in the same column is returned
+     * instead of a new copy. If the input is tokenized directly, the lookup
+     * happens before a string is created.</p>
+     *
+     * <p>The default value is false.</p>
+     *
+     * @param fieldDeduplication True to share equal values, false to create
+     *                           a new string for every field
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withFieldDeduplication(boolean fieldDeduplication) {
+        this.fieldDeduplication = fieldDeduplication;
+        return this;
+    }
+
+    /**
+     * Skips records that do not pass a filter before they are turned into
+     * strings.
+     *
+     * <p>The filter sees each record as a {@link CsvRecord}, a copy of the
+     * characters of the record that the reader reuses for every record, so
+     * it can look at single fields without creating a string for them.
+     * Records it rejects are never returned, and the reader tokenizes the
+     * input directly so that no strings are created for them. See
+     * {@link RecordFilter} for when the filter is consulted.</p>
+     *
+     * @param recordFilter The filter every record has to pass, or
+     *                     {@code null} to return all records
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withRecordFilter(RecordFilter recordFilter) {
+        this.recordFilter = recordFilter;
+        return this;
+    }
+
+    /**
+     * Gives the reader an index of where records begin in the input.
+     *
+     * <p>The reader notes in the index where every so many records begin as
+     * it reads, and {@link CSVReader#seekToRecord(long)} uses the index to
+     * jump close to the record requested instead of reading every record
+     * before it. An index that was built earlier and saved can be given to a
+     * new reader of the same file, built with the same settings. Jumping is
+     * only possible if the reader reads a file as bytes; see
+     * {@link CsvIndex}.</p>
+     *
+     * @param index The index to fill and use, or {@code null} for none
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CSVReaderBuilder withIndex(CsvIndex index) {
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * @return The index the reader is to fill and use, or {@code null}
+     * @since 5.7.1
+     */
+    public CsvIndex getIndex() {
+        return index;
+    }
+
     /**
      * Checks to see if it should treat a field with two separators, two quotes, or both as a null field.
      *
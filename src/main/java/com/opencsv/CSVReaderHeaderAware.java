@@ -2,11 +2,13 @@ package com.opencsv;
 
 import com.opencsv.exceptions.CsvValidationException;
 import com.opencsv.processor.RowProcessor;
+import com.opencsv.stream.reader.AbstractRecordTokenizer;
 import com.opencsv.validators.LineValidatorAggregator;
 import com.opencsv.validators.RowValidatorAggregator;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -22,6 +24,10 @@ import java.util.ResourceBundle;
 public class CSVReaderHeaderAware extends CSVReader {
 
     private final Map<String, Integer> headerIndex = new HashMap<>();
+    private int headerLength = 0;
+    // The columns of the last call to readNext(String...), resolved
+    private String[] lastHeaderNames = null;
+    private int[] lastSelection = null;
 
     /**
      * Constructor with supplied reader.
@@ -53,7 +59,62 @@ public class CSVReaderHeaderAware extends CSVReader {
     CSVReaderHeaderAware(Reader reader, int skipLines, ICSVParser parser, boolean keepCR, boolean verifyReader,
                          int multilineLimit, Locale errorLocale, LineValidatorAggregator lineValidatorAggregator,
                          RowValidatorAggregator rowValidatorAggregator, RowProcessor rowProcessor) throws IOException {
-        super(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale, lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
+        this(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale, lineValidatorAggregator,
+                rowValidatorAggregator, rowProcessor, DEFAULT_USE_RECORD_TOKENIZER);
+    }
+
+    /**
+     * Supports the constructor from the parent class that optionally reads
+     * through a {@link com.opencsv.stream.reader.RecordTokenizer}.
+     * Like the CSVReader this constructor is package scope so only the builder can use it.
+     *
+     * @param reader         The reader to an underlying CSV source
+     * @param skipLines      The number of lines to skip before reading
+     * @param parser         The parser to use to parse input
+     * @param keepCR         True to keep carriage returns in data read, false otherwise
+     * @param verifyReader   True to verify reader before each read, false otherwise
+     * @param multilineLimit Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale    Set the locale for error messages. If null, the default locale is used.
+     * @param lineValidatorAggregator contains all the custom defined line validators.
+     * @param rowValidatorAggregator  contains all the custom defined row validators.
+     * @param rowProcessor            Custom row processor to run on all columns on a csv record.
+     * @param useRecordTokenizer      True to tokenize the input directly from a character buffer if the parser allows it
+     * @throws IOException   If bad things happen while initializing the header
+     * @since 5.7.1
+     */
+    CSVReaderHeaderAware(Reader reader, int skipLines, ICSVParser parser, boolean keepCR, boolean verifyReader,
+                         int multilineLimit, Locale errorLocale, LineValidatorAggregator lineValidatorAggregator,
+                         RowValidatorAggregator rowValidatorAggregator, RowProcessor rowProcessor,
+                         boolean useRecordTokenizer) throws IOException {
+        super(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale, lineValidatorAggregator,
+                rowValidatorAggregator, rowProcessor, useRecordTokenizer);
+        initializeHeader();
+    }
+
+    /**
+     * Supports the constructor from the parent class that reads all input
+     * through a given tokenizer.
+     * Like the CSVReader this constructor is package scope so only the builder can use it.
+     *
+     * @param recordTokenizer The tokenizer of the underlying CSV source
+     * @param skipLines      The number of lines to skip before reading
+     * @param parser         The parser to use to parse input
+     * @param keepCR         True to keep carriage returns in data read, false otherwise
+     * @param verifyReader   True to verify reader before each read, false otherwise
+     * @param multilineLimit Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale    Set the locale for error messages. If null, the default locale is used.
+     * @param lineValidatorAggregator contains all the custom defined line validators.
+     * @param rowValidatorAggregator  contains all the custom defined row validators.
+     * @param rowProcessor            Custom row processor to run on all columns on a csv record.
+     * @throws IOException   If bad things happen while initializing the header
+     * @since 5.7.1
+     */
+    CSVReaderHeaderAware(AbstractRecordTokenizer recordTokenizer, int skipLines, ICSVParser parser, boolean keepCR,
+                         boolean verifyReader, int multilineLimit, Locale errorLocale,
+                         LineValidatorAggregator lineValidatorAggregator, RowValidatorAggregator rowValidatorAggregator,
+                         RowProcessor rowProcessor) throws IOException {
+        super(recordTokenizer, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale,
+                lineValidatorAggregator, rowValidatorAggregator, rowProcessor);
         initializeHeader();
     }
 
@@ -72,32 +133,34 @@ public class CSVReaderHeaderAware extends CSVReader {
             return super.readNextSilently();
         }
 
-        String[] strings = readNext();
-        if (strings == null) {
-            return null;
+        // Only the requested fields are turned into strings. Callers tend to
+        // ask for the same columns every time, so they are only looked up
+        // when they change.
+        int[] selection;
+        if (Arrays.equals(headerNames, lastHeaderNames)) {
+            selection = lastSelection;
+        } else {
+            selection = new int[headerNames.length];
+            for (int i = 0; i < headerNames.length; i++) {
+                selection[i] = headerIndex.getOrDefault(headerNames[i], -1);
+            }
+            lastHeaderNames = headerNames.clone();
+            lastSelection = selection;
         }
-
-        if (strings.length != headerIndex.size()) {
-            throw new IOException(String.format(
-                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                            .getString("header.data.mismatch.with.line.number"),
-                    getRecordsRead(), headerIndex.size(), strings.length));
+        String[] response = readColumns(selection);
+        if (response == null) {
+            return null;
         }
 
-        String[] response = new String[headerNames.length];
+        checkRecordLength();
 
         for (int i = 0; i < headerNames.length; i++) {
-            String headerName = headerNames[i];
-
-            Integer index = headerIndex.get(headerName);
-            if (index == null) {
+            if (selection[i] < 0) {
                 throw new IllegalArgumentException(String.format(
                         ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
                                 .getString("header.nonexistant"),
-                        headerName));
+                        headerNames[i]));
             }
-
-            response[i] = strings[index];
         }
         return response;
     }
@@ -115,12 +178,7 @@ public class CSVReaderHeaderAware extends CSVReader {
         if (strings == null) {
             return null;
         }
-        if (strings.length != headerIndex.size()) {
-            throw new IOException(String.format(
-                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                            .getString("header.data.mismatch.with.line.number"),
-                    getRecordsRead(), headerIndex.size(), strings.length));
-        }
+        checkRecordLength();
 
         // This code cannot be done with a stream and Collectors.toMap()
         // because Map.merge() does not play well with null values. Some
@@ -135,11 +193,116 @@ public class CSVReaderHeaderAware extends CSVReader {
         return resultMap;
     }
 
+    /**
+     * Looks up the column with the given header, so that its fields can be
+     * accessed by position in every record read.
+     *
+     * @param headerName The header of the column
+     * @return A handle for the column, for use with the records of this
+     *   reader
+     * @throws IllegalArgumentException If there is no such header
+     * @see HeaderAwareRecord#get(ColumnHandle)
+     * @since 5.7.1
+     */
+    public ColumnHandle column(String headerName) {
+        Integer index = headerIndex.get(headerName);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("header.nonexistant"),
+                    headerName));
+        }
+        return new ColumnHandle(headerName, index);
+    }
+
+    /**
+     * Creates an empty record to be filled by
+     * {@link #readRecord(HeaderAwareRecord)}.
+     *
+     * @return A record whose fields can be accessed by the headers of this
+     *   reader
+     * @since 5.7.1
+     */
+    public HeaderAwareRecord createRecord() {
+        return new HeaderAwareRecord(headerIndex, errorLocale);
+    }
+
+    /**
+     * Reads the next record into an existing {@link HeaderAwareRecord}.
+     * <p>This works like {@link #readRecord(CsvRecord)}, but like
+     * {@link #readMap()} makes sure the record has as many fields as the
+     * header. Reading all records into the same object creates neither
+     * maps nor, if the reader uses a
+     * {@link com.opencsv.stream.reader.RecordTokenizer}, strings.</p>
+     *
+     * @param record The record to be filled with the next record of the
+     *               input, created by {@link #createRecord()}. If there is no
+     *               more input, it is left unchanged.
+     * @return {@code true} if a record was read, {@code false} if there is no
+     *   more input
+     * @throws IOException An error occurred during the read or there is a
+     *   mismatch in the number of data items in a row and the number of
+     *   header items
+     * @throws CsvValidationException If a custom defined validator fails
+     * @since 5.7.1
+     */
+    public boolean readRecord(HeaderAwareRecord record) throws IOException, CsvValidationException {
+        if (!super.readRecord(record)) {
+            return false;
+        }
+        checkRecordLength();
+        return true;
+    }
+
+    /**
+     * Restricts every record to the columns with the given headers.
+     * <p>Intentionally has package access so only the builder can use it.
+     * Afterwards {@link #readMap()} only contains these columns, and
+     * {@link #readNext()} returns them in the order given.</p>
+     *
+     * @param headerNames The headers of the columns to return
+     * @throws IllegalArgumentException If one of the headers does not exist
+     * @since 5.7.1
+     */
+    void setColumns(String[] headerNames) {
+        int[] selection = new int[headerNames.length];
+        for (int i = 0; i < headerNames.length; i++) {
+            Integer index = headerIndex.get(headerNames[i]);
+            if (index == null) {
+                throw new IllegalArgumentException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("header.nonexistant"),
+                        headerNames[i]));
+            }
+            selection[i] = index;
+        }
+        setColumns(selection);
+        headerIndex.clear();
+        for (int i = 0; i < headerNames.length; i++) {
+            headerIndex.put(headerNames[i], i);
+        }
+    }
+
+    /**
+     * Makes sure the record just read has as many fields as the header.
+     *
+     * @throws IOException If it does not
+     */
+    private void checkRecordLength() throws IOException {
+        if (getRecordLength() != headerLength) {
+            throw new IOException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("header.data.mismatch.with.line.number"),
+                    getRecordsRead(), headerLength, getRecordLength()));
+        }
+    }
+
     private void initializeHeader() throws IOException {
         String[] headers = super.readNextSilently();
         for (int i = 0; i < headers.length; i++) {
             headerIndex.put(headers[i], i);
         }
+        headerLength = headerIndex.size();
     }
 
 }
@@ -21,15 +21,31 @@ import java.io.Writer;
 
 /**
  * A very simple CSV writer released under a commercial-friendly license.
+ * <p>Rows are formatted into a character buffer that belongs to the writer
+ * and handed to the underlying {@link Writer} in one piece. Threads that
+ * write rows with {@link #writeNext(String[], boolean)} or
+ * {@link #writeAll(Iterable, boolean)} at the same time take turns with
+ * the buffer, so every row still reaches the {@link Writer} whole. The
+ * {@link RowWriter} returned by {@link #beginRow(boolean)} has a buffer of
+ * its own and is only to be used by one thread at a time.</p>
  *
  * @author Glen Smith
  */
 public class CSVWriter extends AbstractCSVWriter {
 
+   // The number of characters writeAll() collects before writing them
+   private static final int WRITE_ALL_THRESHOLD = 1 << 16;
+
    protected final char separator;
    protected final char quotechar;
    protected final char escapechar;
 
+   // Shared by writeNext() and writeAll(); all access is synchronized on it.
+   private final RowFormatter formatter;
+   private final FormattingRowWriter rowWriter;
+   // Only there if writeAll() formats on several threads
+   private final ParallelRowFormatter parallelFormatter;
+
    /**
     * Constructs CSVWriter using a comma for the separator.
     *
@@ -49,51 +65,124 @@ public class CSVWriter extends AbstractCSVWriter {
     * @param lineEnd    The line feed terminator to use
     */
    public CSVWriter(Writer writer, char separator, char quotechar, char escapechar, String lineEnd) {
+      this(writer, separator, quotechar, escapechar, lineEnd, 1);
+   }
+
+   /**
+    * Constructs CSVWriter with supplied separator, quote char, escape char
+    * and line ending, which formats the rows given to
+    * {@link #writeAll(Iterable, boolean)} on several threads.
+    * <p>The rows are formatted in blocks on the other threads, and the
+    * blocks are written to {@code writer} in order by the thread calling
+    * {@link #writeAll(Iterable, boolean)}. Rows written one at a time are
+    * formatted on the calling thread. The threads are stopped by
+    * {@link #close()}.</p>
+    *
+    * @param writer      The writer to an underlying CSV source.
+    * @param separator   The delimiter to use for separating entries
+    * @param quotechar   The character to use for quoted elements
+    * @param escapechar  The character to use for escaping quotechars or escapechars
+    * @param lineEnd     The line feed terminator to use
+    * @param parallelism The number of threads to format on. With one, all
+    *                    rows are formatted on the calling thread.
+    * @since 5.7.1
+    */
+   public CSVWriter(Writer writer, char separator, char quotechar, char escapechar, String lineEnd, int parallelism) {
       super(writer, lineEnd);
       this.escapechar = escapechar;
       this.quotechar = quotechar;
       this.separator = separator;
+      this.formatter = new RowFormatter(separator, quotechar, escapechar);
+      this.parallelFormatter = parallelism > 1
+            ? new ParallelRowFormatter(separator, quotechar, escapechar, lineEnd, parallelism)
+            : null;
+      RowFormatter rowFormatter = new RowFormatter(separator, quotechar, escapechar);
+      this.rowWriter = new FormattingRowWriter(rowFormatter, lineEnd) {
+         @Override
+         void writeRow() {
+            try {
+               rowFormatter.writeTo(writer);
+            } catch (IOException e) {
+               exception = e;
+            }
+         }
+      };
    }
 
-
+   /**
+    * {@inheritDoc}
+    * <p>The values are formatted straight into the buffer of this writer,
+    * and the same row writer is returned for every row.</p>
+    */
    @Override
-   protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
-      if (nextLine == null) {
-         return;
-      }
-
-      for (int i = 0; i < nextLine.length; i++) {
+   public RowWriter beginRow(boolean applyQuotesToAll) {
+      return rowWriter.begin(applyQuotesToAll);
+   }
 
-         if (i != 0) {
-            appendable.append(separator);
+   /**
+    * {@inheritDoc}
+    * <p>Rows are collected and written to the underlying {@link Writer} in
+    * blocks of many rows. If this writer was constructed with a parallelism
+    * above one, the blocks are formatted on several threads. The rows do
+    * not pass through {@link #writeNext(String[], boolean, Appendable)}.</p>
+    */
+   @Override
+   public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+      synchronized (formatter) {
+         if (parallelFormatter != null) {
+            try {
+               parallelFormatter.writeAll(allLines, applyQuotesToAll, writer);
+            } catch (IOException e) {
+               exception = e;
+            }
+            return;
          }
-
-         String nextElement = nextLine[i];
-
-         if (nextElement == null) {
-            continue;
+         formatter.reset();
+         try {
+            for (String[] line : allLines) {
+               if (line != null) {
+                  formatter.appendRow(line, applyQuotesToAll, lineEnd);
+                  if (formatter.length() >= WRITE_ALL_THRESHOLD) {
+                     formatter.writeTo(writer);
+                  }
+               }
+            }
+            formatter.writeTo(writer);
+         } catch (IOException e) {
+            exception = e;
+         } finally {
+            formatter.reset();
          }
+      }
+   }
 
-         Boolean stringContainsSpecialCharacters = stringContainsSpecialCharacters(nextElement);
-
-         appendQuoteCharacterIfNeeded(applyQuotesToAll, appendable, stringContainsSpecialCharacters);
-
-         if (stringContainsSpecialCharacters) {
-            processLine(nextElement, appendable);
-         } else {
-            appendable.append(nextElement);
-         }
 
-         appendQuoteCharacterIfNeeded(applyQuotesToAll, appendable, stringContainsSpecialCharacters);
+   /**
+    * {@inheritDoc}
+    * <p>Each value is scanned only once, and the row goes to the underlying
+    * {@link Writer} with a single call without passing through
+    * {@code appendable}.</p>
+    */
+   @Override
+   protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+      if (nextLine == null) {
+         return;
+      }
+      synchronized (formatter) {
+         formatter.reset();
+         formatter.appendRow(nextLine, applyQuotesToAll, lineEnd);
+         formatter.writeTo(writer);
       }
-
-      appendable.append(lineEnd);
-      writer.write(appendable.toString());
    }
 
-   private void appendQuoteCharacterIfNeeded(boolean applyQuotesToAll, Appendable appendable, Boolean stringContainsSpecialCharacters) throws IOException {
-      if ((applyQuotesToAll || stringContainsSpecialCharacters) && quotechar != NO_QUOTE_CHARACTER) {
-         appendable.append(quotechar);
+   @Override
+   public void close() throws IOException {
+      try {
+         super.close();
+      } finally {
+         if (parallelFormatter != null) {
+            parallelFormatter.close();
+         }
       }
    }
 
@@ -101,7 +190,10 @@ public class CSVWriter extends AbstractCSVWriter {
     * Checks to see if the line contains special characters.
     * @param line Element of data to check for special characters.
     * @return True if the line contains the quote, escape, separator, newline, or return.
+    * @deprecated Rows are formatted in a single scan and no longer call
+    *   this method, so overriding it has no effect.
     */
+   @Deprecated
    protected boolean stringContainsSpecialCharacters(String line) {
       return line.indexOf(quotechar) != -1
               || line.indexOf(escapechar) != -1
@@ -115,7 +207,10 @@ public class CSVWriter extends AbstractCSVWriter {
     * @param nextElement Element to process.
     * @param appendable - Appendable holding the processed data.
     * @throws IOException - IOException thrown by the writer supplied to the CSVWriter
+    * @deprecated No longer called when a row is written. Overriding it does
+    *   not change the output.
     */
+   @Deprecated
    protected void processLine(String nextElement, Appendable appendable) throws IOException {
       for (int j = 0; j < nextElement.length(); j++) {
          char nextChar = nextElement.charAt(j);
@@ -128,7 +223,10 @@ public class CSVWriter extends AbstractCSVWriter {
     * @param appendable - Appendable holding the processed data.
     * @param nextChar Character to process
     * @throws IOException - IOException thrown by the writer supplied to the CSVWriter.
+    * @deprecated No longer called when a row is written. Overriding it does
+    *   not change the output.
     */
+   @Deprecated
    protected void processCharacter(Appendable appendable, char nextChar) throws IOException {
       if (escapechar != NO_ESCAPE_CHARACTER && checkCharactersToEscape(nextChar)) {
          appendable.append(escapechar);
@@ -143,7 +241,10 @@ public class CSVWriter extends AbstractCSVWriter {
     *
     * @param nextChar The next character to be written
     * @return Whether the character needs to be quoted or not
+    * @deprecated Rows are formatted in a single scan and no longer call
+    *   this method, so overriding it has no effect.
     */
+   @Deprecated
    protected boolean checkCharactersToEscape(char nextChar) {
       return quotechar == NO_QUOTE_CHARACTER
               ? (nextChar == quotechar || nextChar == escapechar || nextChar == separator || nextChar == '\n')
@@ -42,6 +42,7 @@ public class CSVWriterBuilder {
     private Character escapechar;
     private ResultSetHelper resultSetHelper;
     private String lineEnd = ICSVWriter.DEFAULT_LINE_END;
+    private int parallelism = 1;
 
     /**
      * Constructor taking a writer for the resulting CSV output.  This is because the Writer is required and
@@ -126,6 +127,27 @@ public class CSVWriterBuilder {
         return this;
     }
 
+    /**
+     * Sets the number of threads the rows given to
+     * {@link ICSVWriter#writeAll(Iterable, boolean)} are formatted on.
+     *
+     * <p>The rows are formatted in blocks on the other threads and written
+     * in order by the calling thread, so the writer is only ever used by
+     * one thread. This only applies to a {@link CSVWriter}, not to a writer
+     * with a parser. Close the writer to stop the threads.</p>
+     *
+     * <p>The default value is 1, meaning all rows are formatted on the
+     * calling thread.</p>
+     *
+     * @param parallelism The number of threads to use
+     * @return The CSVWriterBuilder with the parallelism set
+     * @since 5.7.1
+     */
+    public CSVWriterBuilder withParallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+        return this;
+    }
+
     /**
      * Creates the CSVWriter.
      *
@@ -152,7 +174,7 @@ public class CSVWriterBuilder {
         if (escapechar == null) {
             escapechar = ICSVWriter.DEFAULT_ESCAPE_CHARACTER;
         }
-        ICSVWriter icsvWriter = new CSVWriter(writer, separator, quotechar, escapechar, lineEnd);
+        ICSVWriter icsvWriter = new CSVWriter(writer, separator, quotechar, escapechar, lineEnd, parallelism);
 
         if (resultSetHelper != null) {
             icsvWriter.setResultService(resultSetHelper);
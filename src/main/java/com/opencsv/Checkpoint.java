@@ -0,0 +1,192 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Where a {@link CSVReader} stood between two records, so that reading can
+ * continue there later, for example after a crash, or when more records have
+ * been appended to a file since it was last read.
+ * <p>A checkpoint is taken with {@link CSVReader#checkpoint()} and handed to
+ * {@link CSVReader#resume(Checkpoint)} of a reader with the same
+ * configuration over the same input. It holds the byte offset of the next
+ * record if the reader knew it, the number of lines and records read before
+ * it, and optionally the header of the input, which
+ * {@link com.opencsv.bean.CsvToBean} needs to map records read after
+ * resuming.</p>
+ * <p>Checkpoints are immutable. {@link #write(OutputStream)} and
+ * {@link #read(InputStream)} convert them to and from bytes for a
+ * {@link CheckpointStore}.</p>
+ *
+ * @since 5.7.1
+ */
+public final class Checkpoint {
+
+    // "CSVC" in ASCII
+    private static final int MAGIC = 0x43535643;
+    private static final int FORMAT_VERSION = 1;
+
+    private final long position;
+    private final long linesRead;
+    private final long recordsRead;
+    private final String[] header;
+
+    /**
+     * Creates a checkpoint.
+     *
+     * @param position    The byte offset at which the next record begins, or
+     *                    -1 if it is not known
+     * @param linesRead   The number of lines read before the next record
+     * @param recordsRead The number of records read before the next record
+     * @param header      The header of the input, or {@code null}
+     */
+    public Checkpoint(long position, long linesRead, long recordsRead, String[] header) {
+        this.position = position;
+        this.linesRead = linesRead;
+        this.recordsRead = recordsRead;
+        this.header = header == null ? null : header.clone();
+    }
+
+    /**
+     * @return The byte offset at which the next record begins, or -1 if the
+     *   reader did not know it
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * @return The number of lines read before the next record, as counted by
+     *   {@link CSVReader#getLinesRead()}
+     */
+    public long getLinesRead() {
+        return linesRead;
+    }
+
+    /**
+     * @return The number of records read before the next record, as counted
+     *   by {@link CSVReader#getRecordsRead()}
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    /**
+     * @return A copy of the header of the input, or {@code null} if the
+     *   checkpoint has none
+     */
+    public String[] getHeader() {
+        return header == null ? null : header.clone();
+    }
+
+    /**
+     * @param header The header of the input, or {@code null}
+     * @return A checkpoint at the same position with the given header
+     */
+    public Checkpoint withHeader(String[] header) {
+        return new Checkpoint(position, linesRead, recordsRead, header);
+    }
+
+    /**
+     * Writes the checkpoint to a stream, which is left open.
+     *
+     * @param stream The stream to write to
+     * @throws IOException If writing fails
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(position);
+        out.writeLong(linesRead);
+        out.writeLong(recordsRead);
+        out.writeInt(header == null ? -1 : header.length);
+        if (header != null) {
+            for (String field : header) {
+                if (field == null) {
+                    out.writeInt(-1);
+                } else {
+                    byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a checkpoint written by {@link #write(OutputStream)}.
+     *
+     * @param stream The stream to read from. It is left open.
+     * @return The checkpoint
+     * @throws IOException If reading fails or the stream does not hold a
+     *   checkpoint
+     */
+    public static Checkpoint read(InputStream stream) throws IOException {
+        return read(stream, null);
+    }
+
+    /**
+     * Reads a checkpoint written by {@link #write(OutputStream)}.
+     *
+     * @param stream      The stream to read from. It is left open.
+     * @param errorLocale Locale for error messages. If null, the default
+     *                    locale is used.
+     * @return The checkpoint
+     * @throws IOException If reading fails or the stream does not hold a
+     *   checkpoint
+     */
+    public static Checkpoint read(InputStream stream, Locale errorLocale) throws IOException {
+        Locale locale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw invalidFormat(locale);
+        }
+        long position = in.readLong();
+        long linesRead = in.readLong();
+        long recordsRead = in.readLong();
+        int headerLength = in.readInt();
+        if (headerLength < -1) {
+            throw invalidFormat(locale);
+        }
+        String[] header = null;
+        if (headerLength >= 0) {
+            header = new String[headerLength];
+            for (int i = 0; i < headerLength; i++) {
+                int length = in.readInt();
+                if (length < -1) {
+                    throw invalidFormat(locale);
+                }
+                if (length >= 0) {
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    header[i] = new String(bytes, StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return new Checkpoint(position, linesRead, recordsRead, header);
+    }
+
+    private static IOException invalidFormat(Locale errorLocale) {
+        return new IOException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                .getString("checkpoint.format.invalid"));
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint{position=" + position + ", linesRead=" + linesRead + ", recordsRead=" + recordsRead
+                + ", header=" + Arrays.toString(header) + '}';
+    }
+}
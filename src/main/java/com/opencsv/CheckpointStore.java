@@ -0,0 +1,33 @@
+package com.opencsv;
+
+import java.io.IOException;
+
+/**
+ * Keeps the latest {@link Checkpoint} of an import somewhere it survives
+ * the process, so that the import can be resumed.
+ * <p>{@link com.opencsv.bean.CsvToBean} loads the checkpoint before it
+ * begins to read and saves a new one every so many records, each time
+ * replacing the last. A store should therefore replace its checkpoint
+ * atomically, so that a crash while saving leaves the previous one intact.
+ * {@link FileCheckpointStore} keeps it in a file.</p>
+ *
+ * @since 5.7.1
+ */
+public interface CheckpointStore {
+
+    /**
+     * Replaces the stored checkpoint.
+     *
+     * @param checkpoint The new checkpoint
+     * @throws IOException If the checkpoint cannot be stored
+     */
+    void save(Checkpoint checkpoint) throws IOException;
+
+    /**
+     * Returns the stored checkpoint.
+     *
+     * @return The checkpoint saved last, or {@code null} if there is none
+     * @throws IOException If the checkpoint cannot be read
+     */
+    Checkpoint load() throws IOException;
+}
@@ -0,0 +1,47 @@
+package com.opencsv;
+
+/**
+ * A column of the input of a {@link CSVReaderHeaderAware}, looked up by its
+ * header once so that it can be accessed by position afterwards.
+ * <p>Get a handle with {@link CSVReaderHeaderAware#column(String)} before
+ * reading, and use it with {@link HeaderAwareRecord#get(ColumnHandle)} for
+ * every record. A handle is only valid for the reader that created it.</p>
+ *
+ * @since 5.7.1
+ */
+public final class ColumnHandle {
+
+    private final String name;
+    private final int index;
+
+    /**
+     * Creates a handle. Only the reader knows where a column is.
+     *
+     * @param name  The header of the column
+     * @param index The position of the column in the records of the reader
+     */
+    ColumnHandle(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * @return The header of the column
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The position of the column in the records of the reader that
+     *   created this handle
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[" + index + "]";
+    }
+}
@@ -0,0 +1,343 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Remembers where in a file every so many records begin, so that a
+ * {@link CSVReader} can jump to any record without reading all records
+ * before it.
+ * <p>An index is filled by a reader that was given it with
+ * {@link CSVReaderBuilder#withIndex(CsvIndex)}: whenever the reader comes
+ * to a record whose number is a multiple of the interval for the first time,
+ * it notes the byte offset of the record and the number of lines read before
+ * it. {@link CSVReader#seekToRecord(long)} then moves to the closest record
+ * noted before the one requested and reads on from there, so no more than
+ * one interval of records is ever read to find a record.</p>
+ * <p>An index can be built while reading normally, or in a pass of its own
+ * and then saved next to the file:</p>
+ * <pre>
+ * CsvIndex index = new CsvIndex();
+ * try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withIndex(index).build()) {
+ *     reader.seekToRecord(Long.MAX_VALUE);
+ * }
+ * index.save(CsvIndex.sidecarOf(file));
+ * </pre>
+ * <p>Positions are byte offsets, so a reader can only jump if it reads a
+ * file as bytes, which is the case if it was built from a {@link Path} or
+ * a {@link java.io.FileInputStream} and its parser can tokenize bytes (see
+ * {@link com.opencsv.stream.reader.ByteRecordTokenizer#supports(ICSVParser, java.nio.charset.Charset)}).
+ * The index is only valid for readers with the same configuration as the
+ * one that built it, in particular the same number of lines to skip, and
+ * only as long as the file does not change before the last position noted.</p>
+ * <p>An index is not thread-safe.</p>
+ *
+ * @since 5.7.1
+ */
+public class CsvIndex {
+
+    /**
+     * The default number of records between two positions noted.
+     */
+    public static final int DEFAULT_INTERVAL = 10000;
+
+    /**
+     * The file name extension of {@link #sidecarOf(Path)}.
+     */
+    public static final String SIDECAR_EXTENSION = ".idx";
+
+    // "CSVI" in ASCII
+    private static final int MAGIC = 0x43535649;
+    private static final int FORMAT_VERSION = 1;
+
+    private final int interval;
+    private long[] positions = new long[16];
+    private long[] lines = new long[16];
+    private int size = 0;
+    private long recordCount = 0;
+    private long length = -1;
+
+    /**
+     * Creates an empty index that notes every {@link #DEFAULT_INTERVAL}th
+     * record.
+     */
+    public CsvIndex() {
+        this(DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @param interval The number of records between two positions noted.
+     *                 Smaller intervals make jumps more precise, larger
+     *                 ones keep the index small.
+     * @throws IllegalArgumentException If the interval is less than one
+     */
+    public CsvIndex(int interval) {
+        this(interval, null);
+    }
+
+    /**
+     * Creates an empty index.
+     *
+     * @param interval    The number of records between two positions noted
+     * @param errorLocale Locale for error messages. If null, the default
+     *                    locale is used.
+     * @throws IllegalArgumentException If the interval is less than one
+     */
+    public CsvIndex(int interval, Locale errorLocale) {
+        if (interval < 1) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME,
+                            ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault()))
+                            .getString("index.interval.invalid"), interval));
+        }
+        this.interval = interval;
+    }
+
+    /**
+     * @return The number of records between two positions noted
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return The number of positions noted
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of records known to exist. If the index is
+     *   {@link #isComplete() complete}, this is the number of records in the
+     *   file, counted as by {@link CSVReader#getRecordsRead()}.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return Whether a reader has come to the end of the input while filling
+     *   the index
+     */
+    public boolean isComplete() {
+        return length >= 0;
+    }
+
+    /**
+     * @return The length of the input in bytes if the index is
+     *   {@link #isComplete() complete}, or -1
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @param entry The number of a position noted, starting with 0
+     * @return The number of the record that begins at the position
+     */
+    long getRecordNumber(int entry) {
+        return (long) entry * interval;
+    }
+
+    /**
+     * @param entry The number of a position noted, starting with 0
+     * @return The byte offset at which the record begins
+     */
+    long getPosition(int entry) {
+        return positions[entry];
+    }
+
+    /**
+     * @param entry The number of a position noted, starting with 0
+     * @return The number of lines read before the record
+     */
+    long getLinesRead(int entry) {
+        return lines[entry];
+    }
+
+    /**
+     * Finds the last position noted at or before a record.
+     *
+     * @param recordNumber The number of the record, counted from 0
+     * @return The number of the entry, or -1 if no record at or before the
+     *   given one has been noted
+     */
+    int entryBefore(long recordNumber) {
+        if (size == 0 || recordNumber < 0) {
+            return -1;
+        }
+        return (int) Math.min(recordNumber / interval, size - 1);
+    }
+
+    /**
+     * Notes where a record begins, if it is the next one to be noted.
+     *
+     * @param recordNumber The number of the record, counted from 0
+     * @param position     The byte offset at which the record begins
+     * @param linesRead    The number of lines read before the record
+     */
+    void recordStart(long recordNumber, long position, long linesRead) {
+        recordCount = Math.max(recordCount, recordNumber + 1);
+        if (recordNumber != (long) size * interval) {
+            return;
+        }
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            lines = Arrays.copyOf(lines, size * 2);
+        }
+        positions[size] = position;
+        lines[size] = linesRead;
+        size++;
+    }
+
+    /**
+     * Notes that the input ends.
+     *
+     * @param recordCount The number of records in the input
+     * @param length      The length of the input in bytes
+     */
+    void end(long recordCount, long length) {
+        this.recordCount = recordCount;
+        this.length = length;
+    }
+
+    /**
+     * Writes the index to a file.
+     *
+     * @param file The file to write to. It is replaced if it exists.
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes the index to a stream, which is left open.
+     *
+     * @param stream The stream to write to
+     * @throws IOException If writing fails
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(interval);
+        out.writeLong(recordCount);
+        out.writeLong(length);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(positions[i]);
+            out.writeLong(lines[i]);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads an index from a file written by {@link #save(Path)}.
+     *
+     * @param file The file to read
+     * @return The index
+     * @throws IOException If the file cannot be read or does not hold an
+     *   index
+     */
+    public static CsvIndex load(Path file) throws IOException {
+        return load(file, null);
+    }
+
+    /**
+     * Reads an index from a file written by {@link #save(Path)}.
+     *
+     * @param file        The file to read
+     * @param errorLocale Locale for error messages. If null, the default
+     *                    locale is used.
+     * @return The index
+     * @throws IOException If the file cannot be read or does not hold an
+     *   index
+     */
+    public static CsvIndex load(Path file, Locale errorLocale) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in, errorLocale);
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #write(OutputStream)}.
+     *
+     * <p>No more is read from the stream than the index, so the stream is
+     * left open where the index ends. It is read a few bytes at a time, so
+     * a stream that is not buffered should be wrapped in a
+     * {@link BufferedInputStream} first.</p>
+     *
+     * @param stream The stream to read from. It is left open.
+     * @return The index
+     * @throws IOException If reading fails or the stream does not hold an
+     *   index
+     */
+    public static CsvIndex read(InputStream stream) throws IOException {
+        return read(stream, null);
+    }
+
+    /**
+     * Reads an index written by {@link #write(OutputStream)}, like
+     * {@link #read(InputStream)}.
+     *
+     * @param stream      The stream to read from. It is left open.
+     * @param errorLocale Locale for error messages. If null, the default
+     *                    locale is used.
+     * @return The index
+     * @throws IOException If reading fails or the stream does not hold an
+     *   index
+     */
+    public static CsvIndex read(InputStream stream, Locale errorLocale) throws IOException {
+        Locale locale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        DataInputStream in = new DataInputStream(stream);
+        boolean valid = in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION;
+        int interval = valid ? in.readInt() : 0;
+        if (interval < 1) {
+            throw new IOException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, locale)
+                    .getString("index.format.invalid"));
+        }
+        CsvIndex index = new CsvIndex(interval, locale);
+        index.recordCount = in.readLong();
+        index.length = in.readLong();
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, locale)
+                    .getString("index.format.invalid"));
+        }
+        index.positions = new long[Math.max(size, 1)];
+        index.lines = new long[Math.max(size, 1)];
+        for (int i = 0; i < size; i++) {
+            index.positions[i] = in.readLong();
+            index.lines[i] = in.readLong();
+        }
+        index.size = size;
+        return index;
+    }
+
+    /**
+     * @param file A CSV file
+     * @return Where the index of the file is kept by convention: next to it,
+     *   with {@link #SIDECAR_EXTENSION} appended to its name
+     */
+    public static Path sidecarOf(Path file) {
+        return file.resolveSibling(file.getFileName() + SIDECAR_EXTENSION);
+    }
+}
@@ -0,0 +1,416 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * One record read by a {@link CSVReader}, kept as characters until a field is
+ * actually needed as a {@link String}.
+ * <p>All fields share one character buffer. An array of field boundaries says
+ * where each field starts and ends. {@link #field(int)} returns a
+ * {@link CharSequence} that is merely a view of one field in the buffer, and
+ * {@link #get(int)} creates a string for one field only when it is called.
+ * For wide records where only a few columns are of interest, this avoids
+ * creating strings for all of the others.</p>
+ * <p>A record can be reused for reading with
+ * {@link CSVReader#readRecord(CsvRecord)}. Reuse replaces the content of the
+ * record, so views returned by {@link #field(int)} must not be kept past the
+ * next read.</p>
+ *
+ * @since 5.7.1
+ */
+public class CsvRecord {
+
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    private char[] buffer = ArrayUtils.EMPTY_CHAR_ARRAY;
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private boolean[] nullFields = new boolean[INITIAL_FIELD_CAPACITY];
+    private boolean[] quotedFields = new boolean[INITIAL_FIELD_CAPACITY];
+    private int fieldCount = 0;
+    private Locale errorLocale = Locale.getDefault();
+
+    /**
+     * Creates an empty record, ready to be filled by a reader.
+     */
+    public CsvRecord() {
+    }
+
+    /**
+     * Sets the locale for the messages of the exceptions thrown by the typed
+     * accessors. A reader sets its own locale whenever it fills the record.
+     *
+     * @param errorLocale Locale for error messages. If null, the default locale
+     *                    is used.
+     */
+    public void setErrorLocale(Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+    }
+
+    /**
+     * @return The locale for error messages
+     */
+    Locale getErrorLocale() {
+        return errorLocale;
+    }
+
+    /**
+     * Replaces the content of this record with a copy of the given fields.
+     * <p>This is how a {@link com.opencsv.stream.reader.RecordTokenizer}
+     * hands over a record. The content of field {@code i} is expected in
+     * {@code data} between {@code fieldEnds[i - 1]} (or 0 for the first
+     * field) and {@code fieldEnds[i]}.</p>
+     *
+     * @param data         The content of all fields, one after the other
+     * @param fieldEnds    The end of each field in {@code data}
+     * @param nullFields   Which fields are {@code null}
+     * @param quotedFields Which fields were enclosed in quotes
+     * @param fieldCount   The number of fields
+     */
+    public void setFields(char[] data, int[] fieldEnds, boolean[] nullFields, boolean[] quotedFields, int fieldCount) {
+        ensureFieldCapacity(fieldCount);
+        int length = fieldCount == 0 ? 0 : fieldEnds[fieldCount - 1];
+        ensureBufferCapacity(length);
+        System.arraycopy(data, 0, buffer, 0, length);
+        System.arraycopy(fieldEnds, 0, this.fieldEnds, 0, fieldCount);
+        System.arraycopy(nullFields, 0, this.nullFields, 0, fieldCount);
+        System.arraycopy(quotedFields, 0, this.quotedFields, 0, fieldCount);
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Replaces the content of this record with the given fields.
+     * Since it is not known whether the fields were quoted in the input,
+     * {@link #isQuoted(int)} returns {@code false} for all of them.
+     *
+     * @param fields The fields of the record, any of which may be
+     *               {@code null}
+     */
+    public void setFields(String[] fields) {
+        ensureFieldCapacity(fields.length);
+        int length = 0;
+        for (String field : fields) {
+            length += field == null ? 0 : field.length();
+        }
+        ensureBufferCapacity(length);
+        int end = 0;
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            if (field != null) {
+                field.getChars(0, field.length(), buffer, end);
+                end += field.length();
+            }
+            fieldEnds[i] = end;
+            nullFields[i] = field == null;
+            quotedFields[i] = false;
+        }
+        fieldCount = fields.length;
+    }
+
+    /**
+     * @return The number of fields in the record
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * Returns a view of one field without copying it.
+     * The view is only valid until the record is read into again.
+     *
+     * @param index The position of the field, starting with 0
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public CharSequence field(int index) {
+        checkIndex(index);
+        if (nullFields[index]) {
+            return null;
+        }
+        int start = getFieldOffset(index);
+        return new FieldSequence(start, fieldEnds[index] - start);
+    }
+
+    /**
+     * Creates a string for one field.
+     *
+     * @param index The position of the field, starting with 0
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public String get(int index) {
+        checkIndex(index);
+        if (nullFields[index]) {
+            return null;
+        }
+        int start = getFieldOffset(index);
+        return new String(buffer, start, fieldEnds[index] - start);
+    }
+
+    /**
+     * Tests the beginning of one field without creating a string for it.
+     *
+     * @param index  The position of the field, starting with 0
+     * @param prefix The characters the field is expected to start with
+     * @return Whether the field starts with {@code prefix}. A {@code null}
+     *   field starts with nothing.
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public boolean startsWith(int index, String prefix) {
+        checkIndex(index);
+        int start = getFieldOffset(index);
+        if (nullFields[index] || fieldEnds[index] - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param index The position of the field, starting with 0
+     * @return Whether the field is {@code null} according to the
+     *   {@link com.opencsv.enums.CSVReaderNullFieldIndicator} of the parser
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public boolean isNull(int index) {
+        checkIndex(index);
+        return nullFields[index];
+    }
+
+    /**
+     * @param index The position of the field, starting with 0
+     * @return Whether the field was enclosed in quotes in the input. This is
+     *   only known if the reader uses a
+     *   {@link com.opencsv.stream.reader.RecordTokenizer}.
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public boolean isQuoted(int index) {
+        checkIndex(index);
+        return quotedFields[index];
+    }
+
+    /**
+     * Parses one field as an {@code int} without creating a string for it,
+     * unless it has an unusual form.
+     *
+     * @param index The position of the field, starting with 0
+     * @return The value of the field, as {@link Integer#parseInt(String)}
+     *   would return it
+     * @throws NumberFormatException If the field is {@code null} or not an
+     *   integer
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public int getInt(int index) {
+        checkNumber(index);
+        return FieldParsing.parseInt(buffer, getFieldOffset(index), getFieldLength(index));
+    }
+
+    /**
+     * Parses one field as a {@code long} without creating a string for it,
+     * unless it has an unusual form.
+     *
+     * @param index The position of the field, starting with 0
+     * @return The value of the field, as {@link Long#parseLong(String)}
+     *   would return it
+     * @throws NumberFormatException If the field is {@code null} or not an
+     *   integer
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public long getLong(int index) {
+        checkNumber(index);
+        return FieldParsing.parseLong(buffer, getFieldOffset(index), getFieldLength(index));
+    }
+
+    /**
+     * Parses one field as a {@code double} without creating a string for
+     * it, unless it has an unusual form, such as an exponent.
+     *
+     * @param index The position of the field, starting with 0
+     * @return The value of the field, as {@link Double#parseDouble(String)}
+     *   would return it
+     * @throws NumberFormatException If the field is {@code null} or not a
+     *   number
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public double getDouble(int index) {
+        checkNumber(index);
+        return FieldParsing.parseDouble(buffer, getFieldOffset(index), getFieldLength(index));
+    }
+
+    /**
+     * Parses one field as a {@code boolean} without creating a string for it.
+     *
+     * @param index The position of the field, starting with 0
+     * @return {@code true} if the field is "true", ignoring case, as with
+     *   {@link Boolean#parseBoolean(String)}. A {@code null} field is
+     *   {@code false}.
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public boolean getBoolean(int index) {
+        return !isNull(index) && FieldParsing.parseBoolean(buffer, getFieldOffset(index), getFieldLength(index));
+    }
+
+    /**
+     * Parses one field as an ISO-8601 date, such as 2022-12-03, without
+     * creating a string for it.
+     *
+     * @param index The position of the field, starting with 0
+     * @return The date, or {@code null} if the field is {@code null}
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public LocalDate getLocalDate(int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        return FieldParsing.parseLocalDate(buffer, getFieldOffset(index), getFieldLength(index));
+    }
+
+    /**
+     * Parses one field as a date in the given format without creating a
+     * string for it.
+     *
+     * @param index     The position of the field, starting with 0
+     * @param formatter The format of the date
+     * @return The date, or {@code null} if the field is {@code null}
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date in this format
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public LocalDate getLocalDate(int index, DateTimeFormatter formatter) {
+        CharSequence field = field(index);
+        return field == null ? null : LocalDate.parse(field, formatter);
+    }
+
+    /**
+     * Gives direct access to the characters of all fields.
+     * Use {@link #getFieldOffset(int)} and {@link #getFieldLength(int)} to
+     * find a field in it. The buffer must not be changed.
+     *
+     * @return The buffer backing this record
+     */
+    public char[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @param index The position of the field, starting with 0
+     * @return The position of the first character of the field in
+     *   {@link #getBuffer()}
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public int getFieldOffset(int index) {
+        checkIndex(index);
+        return index == 0 ? 0 : fieldEnds[index - 1];
+    }
+
+    /**
+     * @param index The position of the field, starting with 0
+     * @return The number of characters in the field
+     * @throws IndexOutOfBoundsException If there is no such field
+     */
+    public int getFieldLength(int index) {
+        int start = getFieldOffset(index);
+        return fieldEnds[index] - start;
+    }
+
+    /**
+     * Creates strings for all fields.
+     *
+     * @return The record as {@link CSVReader#readNext()} would have returned
+     *   it
+     */
+    public String[] toArray() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = get(i);
+        }
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void checkNumber(int index) {
+        if (isNull(index)) {
+            throw new NumberFormatException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("field.null"), index));
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+    }
+
+    private void ensureFieldCapacity(int capacity) {
+        if (capacity > fieldEnds.length) {
+            int newCapacity = Math.max(capacity, fieldEnds.length * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, newCapacity);
+            nullFields = Arrays.copyOf(nullFields, newCapacity);
+            quotedFields = Arrays.copyOf(quotedFields, newCapacity);
+        }
+    }
+
+    private void ensureBufferCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = new char[Math.max(capacity, buffer.length * 2)];
+        }
+    }
+
+    /**
+     * A view of part of the buffer of the record.
+     */
+    private class FieldSequence implements CharSequence {
+        private final int offset;
+        private final int length;
+
+        FieldSequence(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return buffer[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException(start + ", " + end);
+            }
+            return new FieldSequence(offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, offset, length);
+        }
+    }
+}
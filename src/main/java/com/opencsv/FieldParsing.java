@@ -0,0 +1,191 @@
+package com.opencsv;
+
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Converts fields to primitive values straight from a character buffer.
+ * <p>The common forms of numbers, booleans and dates are parsed without
+ * creating a string. Anything else is handed to the parsing methods of the
+ * JDK, so the results and the exceptions are always the same as theirs.</p>
+ *
+ * @since 5.7.1
+ */
+final class FieldParsing {
+
+    // The most digits that cannot overflow
+    private static final int MAX_INT_DIGITS = 9;
+    private static final int MAX_LONG_DIGITS = 18;
+    // The most digits whose value a double holds exactly
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private FieldParsing() {
+    }
+
+    /**
+     * Parses an integer as {@link Integer#parseInt(String)} does.
+     *
+     * @param buffer The characters
+     * @param offset The first character of the field
+     * @param length The number of characters in the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field is not an integer
+     */
+    static int parseInt(char[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (length > 0 && (buffer[start] == '-' || buffer[start] == '+')) {
+            negative = buffer[start++] == '-';
+        }
+        if (start == end || end - start > MAX_INT_DIGITS) {
+            return Integer.parseInt(new String(buffer, offset, length));
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(new String(buffer, offset, length));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses an integer as {@link Long#parseLong(String)} does.
+     *
+     * @param buffer The characters
+     * @param offset The first character of the field
+     * @param length The number of characters in the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field is not an integer
+     */
+    static long parseLong(char[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (length > 0 && (buffer[start] == '-' || buffer[start] == '+')) {
+            negative = buffer[start++] == '-';
+        }
+        if (start == end || end - start > MAX_LONG_DIGITS) {
+            return Long.parseLong(new String(buffer, offset, length));
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(new String(buffer, offset, length));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a floating point number as {@link Double#parseDouble(String)}
+     * does.
+     * <p>Plain decimals with no more than 15 digits are exactly a whole
+     * number divided by a power of ten, and a single division rounds that
+     * correctly. Everything else, such as exponents, more digits or
+     * "NaN", is left to the JDK.</p>
+     *
+     * @param buffer The characters
+     * @param offset The first character of the field
+     * @param length The number of characters in the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field is not a number
+     */
+    static double parseDouble(char[] buffer, int offset, int length) {
+        int start = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (length > 0 && (buffer[start] == '-' || buffer[start] == '+')) {
+            negative = buffer[start++] == '-';
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (int i = start; i < end; i++) {
+            char c = buffer[i];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                digits = Integer.MAX_VALUE;
+                break;
+            }
+        }
+        if (digits == 0 || digits > MAX_EXACT_DOUBLE_DIGITS) {
+            return Double.parseDouble(new String(buffer, offset, length));
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a boolean as {@link Boolean#parseBoolean(String)} does.
+     *
+     * @param buffer The characters
+     * @param offset The first character of the field
+     * @param length The number of characters in the field
+     * @return {@code true} if the field is "true", ignoring case
+     */
+    static boolean parseBoolean(char[] buffer, int offset, int length) {
+        // Setting the bit that distinguishes lower from upper case in ASCII
+        return length == 4
+                && (buffer[offset] | 0x20) == 't'
+                && (buffer[offset + 1] | 0x20) == 'r'
+                && (buffer[offset + 2] | 0x20) == 'u'
+                && (buffer[offset + 3] | 0x20) == 'e';
+    }
+
+    /**
+     * Parses a date as {@link LocalDate#parse(CharSequence)} does, taking a
+     * shortcut for dates of the form yyyy-MM-dd. Only other dates are
+     * handed to the parser, through a view of the buffer.
+     *
+     * @param buffer The characters
+     * @param offset The first character of the field
+     * @param length The number of characters in the field
+     * @return The date
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date
+     */
+    static LocalDate parseLocalDate(char[] buffer, int offset, int length) {
+        if (length == ISO_DATE_LENGTH && buffer[offset + 4] == '-' && buffer[offset + 7] == '-') {
+            int year = digits(buffer, offset, 4);
+            int month = digits(buffer, offset + 5, 2);
+            int day = digits(buffer, offset + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    // The parser explains what is wrong.
+                }
+            }
+        }
+        return LocalDate.parse(CharBuffer.wrap(buffer, offset, length));
+    }
+
+    private static int digits(char[] buffer, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * A callback for reading the fields of a record without creating a
+ * {@link String} for each of them.
+ * <p>This is the counterpart to {@link CSVReader#readNext()} for code that
+ * only looks at some of the fields or converts them to something else right
+ * away. {@link CSVReader#readNext(FieldVisitor)} calls
+ * {@link #visitField(int, char[], int, int, boolean)} once for every field
+ * of the next record, in order.</p>
+ * <p>The character array handed to the visitor belongs to the reader and is
+ * reused for the next record. It is only valid during the call and must not
+ * be changed. Copy what you need to keep.</p>
+ * <p>Example:</p>
+ * <pre>
+ * long[] sum = new long[1];
+ * while (reader.readNext((index, buffer, offset, length, quoted) -&gt; {
+ *     if (index == 3) {
+ *         sum[0] += Long.parseLong(new String(buffer, offset, length));
+ *     }
+ * })) {}
+ * </pre>
+ *
+ * @since 5.7.1
+ */
+@FunctionalInterface
+public interface FieldVisitor {
+
+    /**
+     * Receives one field of the record being read.
+     *
+     * @param index  The position of the field in the record, starting with 0
+     * @param buffer The characters holding the field
+     * @param offset The position of the first character of the field in
+     *               {@code buffer}
+     * @param length The number of characters in the field
+     * @param quoted Whether the field was enclosed in quotes in the input.
+     *               This is only known if the reader uses a
+     *               {@link com.opencsv.stream.reader.RecordTokenizer}; it is
+     *               always {@code false} otherwise.
+     */
+    void visitField(int index, char[] buffer, int offset, int length, boolean quoted);
+
+    /**
+     * Receives a field that is {@code null} according to the
+     * {@link com.opencsv.enums.CSVReaderNullFieldIndicator} of the parser.
+     * <p>By default this is treated as an empty field.</p>
+     *
+     * @param index The position of the field in the record, starting with 0
+     */
+    default void visitNullField(int index) {
+        visitField(index, ArrayUtils.EMPTY_CHAR_ARRAY, 0, 0, false);
+    }
+
+    /**
+     * Called after the last field of a record has been visited.
+     * <p>The default implementation does nothing.</p>
+     *
+     * @param fieldCount The number of fields in the record
+     */
+    default void endRecord(int fieldCount) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * Keeps a {@link Checkpoint} in a file.
+ * <p>A new checkpoint is written to a temporary file next to the target,
+ * forced to the disk and then moved over the target, atomically if the file
+ * system allows it. The target therefore always holds a complete
+ * checkpoint.</p>
+ *
+ * @since 5.7.1
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    /**
+     * The file name extension of {@link #sidecarOf(Path)}.
+     */
+    public static final String SIDECAR_EXTENSION = ".checkpoint";
+
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path file;
+    private Locale errorLocale = Locale.getDefault();
+
+    /**
+     * @param file The file to keep the checkpoint in. It need not exist yet.
+     */
+    public FileCheckpointStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Sets the locale for error messages.
+     *
+     * @param errorLocale Locale for error messages. If null, the default locale
+     *                    is used.
+     */
+    public void setErrorLocale(Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+    }
+
+    /**
+     * @return The file the checkpoint is kept in
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void save(Checkpoint checkpoint) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_EXTENSION);
+        try (FileOutputStream out = new FileOutputStream(temporary.toFile())) {
+            checkpoint.write(out);
+            out.getFD().sync();
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The checkpoint in the file, or {@code null} if the file does
+     *   not exist
+     */
+    @Override
+    public Checkpoint load() throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return Checkpoint.read(in, errorLocale);
+        }
+    }
+
+    /**
+     * Deletes the checkpoint, so that the next import begins at the
+     * beginning of the input.
+     *
+     * @throws IOException If the file cannot be deleted
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * @param file A CSV file
+     * @return Where the checkpoint of an import of the file is kept by
+     *   convention: next to it, with {@link #SIDECAR_EXTENSION} appended to
+     *   its name
+     */
+    public static Path sidecarOf(Path file) {
+        return file.resolveSibling(file.getFileName() + SIDECAR_EXTENSION);
+    }
+}
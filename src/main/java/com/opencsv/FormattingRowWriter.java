@@ -0,0 +1,147 @@
+package com.opencsv;
+
+import java.math.BigDecimal;
+
+/**
+ * A {@link RowWriter} that formats the values straight into the
+ * {@link RowFormatter} of a writer.
+ * <p>Numbers are turned into digits in a buffer of this row writer and
+ * copied to the formatter without being checked for characters that need
+ * quotes, since a number has none of them unless the writer uses a digit,
+ * a sign or a letter as separator, quote or escape character. Only doubles
+ * that are not whole numbers are formatted through
+ * {@link Double#toString(double)}, which is the only way to get exactly
+ * its digits.</p>
+ *
+ * @since 5.7.1
+ */
+abstract class FormattingRowWriter implements RowWriter {
+
+    // The digits of Long.MIN_VALUE, which has no positive counterpart
+    private static final char[] MIN_LONG_DIGITS = Long.toString(Long.MIN_VALUE).toCharArray();
+    // Double.toString() switches to scientific notation from here on.
+    private static final double SCIENTIFIC_NOTATION_THRESHOLD = 1e7;
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    private final RowFormatter formatter;
+    private final String lineEnd;
+    // Enough for a long with its sign, or a whole double with ".0"
+    private final char[] digits = new char[MIN_LONG_DIGITS.length + 2];
+    private boolean applyQuotesToAll;
+    private boolean firstValue;
+
+    /**
+     * Creates a row writer for a writer.
+     *
+     * @param formatter The formatter of the writer
+     * @param lineEnd   The line end of the writer
+     */
+    FormattingRowWriter(RowFormatter formatter, String lineEnd) {
+        this.formatter = formatter;
+        this.lineEnd = lineEnd;
+    }
+
+    /**
+     * Begins a row, dropping anything written since the last row ended.
+     *
+     * @param applyQuotesToAll Whether all values are to be quoted
+     * @return This row writer
+     */
+    RowWriter begin(boolean applyQuotesToAll) {
+        this.applyQuotesToAll = applyQuotesToAll;
+        firstValue = true;
+        formatter.reset();
+        return this;
+    }
+
+    /**
+     * Writes the row held by the formatter, including its line end, and
+     * resets the formatter.
+     */
+    abstract void writeRow();
+
+    private void separate() {
+        if (firstValue) {
+            firstValue = false;
+        } else {
+            formatter.appendSeparator();
+        }
+    }
+
+    @Override
+    public RowWriter writeInt(int value) {
+        return writeLong(value);
+    }
+
+    @Override
+    public RowWriter writeLong(long value) {
+        separate();
+        if (value == Long.MIN_VALUE) {
+            formatter.appendNumber(MIN_LONG_DIGITS, 0, MIN_LONG_DIGITS.length, applyQuotesToAll);
+        } else {
+            int start = formatDigits(value, digits.length);
+            formatter.appendNumber(digits, start, digits.length - start, applyQuotesToAll);
+        }
+        return this;
+    }
+
+    @Override
+    public RowWriter writeDouble(double value) {
+        separate();
+        if (value == (long) value
+                && Math.abs(value) < SCIENTIFIC_NOTATION_THRESHOLD
+                && Double.doubleToRawLongBits(value) != NEGATIVE_ZERO_BITS) {
+            digits[digits.length - 2] = '.';
+            digits[digits.length - 1] = '0';
+            int start = formatDigits((long) value, digits.length - 2);
+            formatter.appendNumber(digits, start, digits.length - start, applyQuotesToAll);
+        } else {
+            formatter.appendNumber(Double.toString(value), applyQuotesToAll);
+        }
+        return this;
+    }
+
+    @Override
+    public RowWriter writeDecimal(BigDecimal value) {
+        separate();
+        if (value != null) {
+            formatter.appendNumber(value.toPlainString(), applyQuotesToAll);
+        }
+        return this;
+    }
+
+    @Override
+    public RowWriter writeChars(CharSequence value) {
+        separate();
+        if (value != null) {
+            formatter.appendValue(value, applyQuotesToAll);
+        }
+        return this;
+    }
+
+    @Override
+    public void endRow() {
+        formatter.appendLineEnd(lineEnd);
+        writeRow();
+    }
+
+    /**
+     * Writes the digits of a number backwards into the digit buffer.
+     *
+     * @param value The number, which must not be {@link Long#MIN_VALUE}
+     * @param end   Where the last digit goes, exclusive
+     * @return Where the first digit or the sign is
+     */
+    private int formatDigits(long value, int end) {
+        int position = end;
+        long remaining = Math.abs(value);
+        do {
+            digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+        return position;
+    }
+}
@@ -0,0 +1,175 @@
+package com.opencsv;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * A {@link CsvRecord} read by a {@link CSVReaderHeaderAware}, whose fields
+ * can also be accessed by their headers.
+ * <p>This is the flyweight alternative to
+ * {@link CSVReaderHeaderAware#readMap()}. Create one record with
+ * {@link CSVReaderHeaderAware#createRecord()}, resolve the columns of
+ * interest to {@link ColumnHandle}s with
+ * {@link CSVReaderHeaderAware#column(String)}, and then read every record
+ * of the input into the same object with
+ * {@link CSVReaderHeaderAware#readRecord(HeaderAwareRecord)}. Access through
+ * a handle is no more than an array access, and no map is created for any
+ * record.</p>
+ *
+ * @since 5.7.1
+ */
+public class HeaderAwareRecord extends CsvRecord {
+
+    private final Map<String, Integer> headerIndex;
+
+    /**
+     * Creates an empty record for a reader.
+     *
+     * @param headerIndex The position of each column by its header
+     * @param errorLocale The locale for error messages
+     */
+    HeaderAwareRecord(Map<String, Integer> headerIndex, Locale errorLocale) {
+        this.headerIndex = headerIndex;
+        setErrorLocale(errorLocale);
+    }
+
+    /**
+     * Creates a string for one field.
+     *
+     * @param column The column of the field
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IndexOutOfBoundsException If the record has no such field
+     */
+    public String get(ColumnHandle column) {
+        return get(column.getIndex());
+    }
+
+    /**
+     * Creates a string for one field, looking up its column first.
+     * Prefer {@link #get(ColumnHandle)} when reading many records.
+     *
+     * @param headerName The header of the column
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IllegalArgumentException If there is no such header
+     */
+    public String get(String headerName) {
+        Integer index = headerIndex.get(headerName);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, getErrorLocale())
+                            .getString("header.nonexistant"),
+                    headerName));
+        }
+        return get(index);
+    }
+
+    /**
+     * Returns a view of one field without copying it.
+     * The view is only valid until the record is read into again.
+     *
+     * @param column The column of the field
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IndexOutOfBoundsException If the record has no such field
+     */
+    public CharSequence field(ColumnHandle column) {
+        return field(column.getIndex());
+    }
+
+    /**
+     * @param column The column of the field
+     * @return Whether the field is {@code null} according to the
+     *   {@link com.opencsv.enums.CSVReaderNullFieldIndicator} of the parser
+     * @throws IndexOutOfBoundsException If the record has no such field
+     */
+    public boolean isNull(ColumnHandle column) {
+        return isNull(column.getIndex());
+    }
+
+    /**
+     * @param column The column of the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field is {@code null} or not an
+     *   integer
+     * @see #getInt(int)
+     */
+    public int getInt(ColumnHandle column) {
+        return getInt(column.getIndex());
+    }
+
+    /**
+     * @param column The column of the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field is {@code null} or not an
+     *   integer
+     * @see #getLong(int)
+     */
+    public long getLong(ColumnHandle column) {
+        return getLong(column.getIndex());
+    }
+
+    /**
+     * @param column The column of the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field is {@code null} or not a
+     *   number
+     * @see #getDouble(int)
+     */
+    public double getDouble(ColumnHandle column) {
+        return getDouble(column.getIndex());
+    }
+
+    /**
+     * @param column The column of the field
+     * @return {@code true} if the field is "true", ignoring case
+     * @see #getBoolean(int)
+     */
+    public boolean getBoolean(ColumnHandle column) {
+        return getBoolean(column.getIndex());
+    }
+
+    /**
+     * @param column The column of the field
+     * @return The date, or {@code null} if the field is {@code null}
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date
+     * @see #getLocalDate(int)
+     */
+    public LocalDate getLocalDate(ColumnHandle column) {
+        return getLocalDate(column.getIndex());
+    }
+
+    /**
+     * @param column    The column of the field
+     * @param formatter The format of the date
+     * @return The date, or {@code null} if the field is {@code null}
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date in this format
+     * @see #getLocalDate(int, DateTimeFormatter)
+     */
+    public LocalDate getLocalDate(ColumnHandle column, DateTimeFormatter formatter) {
+        return getLocalDate(column.getIndex(), formatter);
+    }
+
+    /**
+     * Creates a map of headers and fields, as
+     * {@link CSVReaderHeaderAware#readMap()} would have returned it.
+     *
+     * @return A new map of all fields by their headers
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> map = new HashMap<>(headerIndex.size() * 2);
+        for (Map.Entry<String, Integer> entry : headerIndex.entrySet()) {
+            if (entry.getValue() < size()) {
+                map.put(entry.getKey(), get(entry.getValue()));
+            }
+        }
+        return map;
+    }
+}
@@ -137,6 +137,22 @@ public interface ICSVParser {
      */
     String parseToLine(String[] values, boolean applyQuotesToAll);
 
+    /**
+     * The same "reverse parse" as {@link #parseToLine(String[], boolean)},
+     * appending the line to the given {@link Appendable} instead of creating
+     * a string for it.
+     *
+     * @param values           List of elements to parse.
+     * @param applyQuotesToAll If true all strings in the array will have quotes if it needs it or not.
+     *                         If false then it will only have quotes if it needs it.
+     * @param appendable       Where the CSV formatted line goes
+     * @throws IOException If appending fails
+     * @since 5.7.1
+     */
+    default void parseToLine(String[] values, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+        appendable.append(parseToLine(values, applyQuotesToAll));
+    }
+
     /**
      * @return The null field indicator.
      */
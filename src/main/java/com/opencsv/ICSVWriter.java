@@ -162,6 +162,34 @@ public interface ICSVWriter extends Closeable, Flushable {
         writeNext(nextLine, true);
     }
 
+    /**
+     * Begins the next line, whose values are then written one by one.
+     * <p>The default implementation converts the values to strings and
+     * writes them with {@link #writeNext(String[], boolean)} when the row
+     * ends. Writers that format rows themselves write numbers without
+     * converting them to strings first.</p>
+     *
+     * @param applyQuotesToAll True if all values are to be quoted. False applies quotes only
+     *                         to values which contain the separator, escape, quote, or new line characters.
+     * @return A writer for the values of the line
+     * @since 5.7.1
+     */
+    default RowWriter beginRow(boolean applyQuotesToAll) {
+        return new StringRowWriter(this, applyQuotesToAll);
+    }
+
+    /**
+     * Begins the next line, whose values are then written one by one and
+     * all quoted.
+     *
+     * @return A writer for the values of the line
+     * @see #beginRow(boolean)
+     * @since 5.7.1
+     */
+    default RowWriter beginRow() {
+        return beginRow(true);
+    }
+
     /**
      * Flushes the buffer and checks to see if the there has been an error in the printstream.
      *
@@ -0,0 +1,170 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Formats blocks of rows for a {@link CSVWriter} on several threads.
+ * <p>The thread calling {@link #writeAll(Iterable, boolean, Writer)} takes
+ * the rows from the iterable, hands blocks of them to the other threads,
+ * and writes the formatted blocks to the {@link Writer} in the order of the
+ * rows. So neither the iterable nor the writer is ever used by more than
+ * one thread. Every block is formatted into a {@link RowFormatter} of its
+ * own, and those are reused once they have been written.</p>
+ *
+ * @since 5.7.1
+ */
+final class ParallelRowFormatter {
+
+    /**
+     * The number of rows formatted together.
+     */
+    static final int ROWS_PER_BLOCK = 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final char separator;
+    private final char quotechar;
+    private final char escapechar;
+    private final String lineEnd;
+    private final int parallelism;
+    private final Queue<RowFormatter> idleFormatters = new ConcurrentLinkedQueue<>();
+    private ExecutorService executor = null;
+
+    /**
+     * Creates a formatter for the rows of one writer.
+     *
+     * @param separator   The delimiter to use for separating entries
+     * @param quotechar   The character to use for quoted elements
+     * @param escapechar  The character to use for escaping quotechars or
+     *                    escapechars
+     * @param lineEnd     The line feed terminator to use
+     * @param parallelism The number of threads to format on
+     */
+    ParallelRowFormatter(char separator, char quotechar, char escapechar, String lineEnd, int parallelism) {
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escapechar = escapechar;
+        this.lineEnd = lineEnd;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Formats rows on several threads and writes them in order.
+     * <p>The rows are copied as they are taken from the iterable, so the
+     * iterable may hand out the same array every time. No more blocks are
+     * held than twice the number of threads. If there are no more rows than
+     * fit in one block, they are formatted on the calling thread.</p>
+     *
+     * @param allLines         The rows, {@code null} rows being skipped
+     * @param applyQuotesToAll Whether all values are to be quoted
+     * @param writer           The writer the rows go to
+     * @throws IOException If the writer fails or the calling thread is
+     *   interrupted
+     */
+    void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll, Writer writer) throws IOException {
+        Deque<Future<RowFormatter>> blocksInProgress = new ArrayDeque<>();
+        try {
+            List<String[]> block = new ArrayList<>(ROWS_PER_BLOCK);
+            for (String[] line : allLines) {
+                if (line == null) {
+                    continue;
+                }
+                block.add(line.clone());
+                if (block.size() == ROWS_PER_BLOCK) {
+                    blocksInProgress.add(submit(block, applyQuotesToAll));
+                    block = new ArrayList<>(ROWS_PER_BLOCK);
+                    if (blocksInProgress.size() > 2 * parallelism) {
+                        write(await(blocksInProgress.poll()), writer);
+                    }
+                }
+            }
+            if (!block.isEmpty()) {
+                if (blocksInProgress.isEmpty()) {
+                    write(format(block, applyQuotesToAll), writer);
+                } else {
+                    blocksInProgress.add(submit(block, applyQuotesToAll));
+                }
+            }
+            while (!blocksInProgress.isEmpty()) {
+                write(await(blocksInProgress.poll()), writer);
+            }
+        } finally {
+            // Only left over if writing failed
+            for (Future<RowFormatter> future : blocksInProgress) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Stops the threads.
+     */
+    void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private Future<RowFormatter> submit(List<String[]> block, boolean applyQuotesToAll) {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "opencsv-writer-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor.submit(() -> format(block, applyQuotesToAll));
+    }
+
+    private RowFormatter format(List<String[]> block, boolean applyQuotesToAll) {
+        RowFormatter formatter = idleFormatters.poll();
+        if (formatter == null) {
+            formatter = new RowFormatter(separator, quotechar, escapechar);
+        }
+        for (String[] row : block) {
+            formatter.appendRow(row, applyQuotesToAll, lineEnd);
+        }
+        return formatter;
+    }
+
+    private void write(RowFormatter formatter, Writer writer) throws IOException {
+        try {
+            formatter.writeTo(writer);
+        } finally {
+            idleFormatters.add(formatter);
+        }
+    }
+
+    private static RowFormatter await(Future<RowFormatter> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException(e.getLocalizedMessage());
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
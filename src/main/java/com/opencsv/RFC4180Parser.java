@@ -50,6 +50,25 @@ public class RFC4180Parser extends AbstractCSVParser {
      */
     private final String quoteCharString;
 
+    /**
+     * The text of the field that is still open at the end of the last line,
+     * including the line end, or {@code null} if there is none.
+     * <p>This takes the place of {@link #pending}. The field keeps growing as
+     * lines are added, and the search for its end resumes where it stopped,
+     * so a record is scanned in time proportional to its length, no matter
+     * how many lines it spans.</p>
+     */
+    private StringBuilder pendingField = null;
+    private int pendingFieldQuotes;
+
+    // Progress of the search for the end of the pending field, mirroring the
+    // variables of findEndOfFieldFromPosition(). A negative position means
+    // the next quote is to be searched for beginning at scanFrom.
+    private int scanPosition;
+    private int scanFrom;
+    private boolean scanInQuote;
+    private boolean scanInQuotePair;
+
     /**
      * Default constructor for the RFC4180Parser.  Uses values from the ICSVParser.
      */
@@ -70,26 +89,47 @@ public class RFC4180Parser extends AbstractCSVParser {
         this.quoteCharString = Character.toString(quoteChar);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>A quote character, separator or newline anywhere in the value means
+     * it has to be quoted, so once the first of them is found the rest of
+     * the value is copied with its quote characters doubled in the same
+     * pass. A value without any of them is returned as it is.</p>
+     */
     @Override
     protected String convertToCsvValue(String value, boolean applyQuotesToAll) {
-        String testValue = (value == null && !nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) ? "" : value;
-        StringBuilder builder = new StringBuilder(testValue == null ? MAX_SIZE_FOR_EMPTY_FIELD : (testValue.length() * 2));
-        boolean containsQuoteChar = testValue != null && testValue.contains(Character.toString(getQuotechar()));
-        boolean surroundWithQuotes = applyQuotesToAll || isSurroundWithQuotes(value, containsQuoteChar);
-
-        String convertedString = !containsQuoteChar ? testValue : testValue.replaceAll(Character.toString(getQuotechar()), Character.toString(getQuotechar()) + Character.toString(getQuotechar()));
-
-        if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+        if (value == null && nullFieldIndicator.equals(CSVReaderNullFieldIndicator.NEITHER)) {
+            return applyQuotesToAll ? quotechar + "null" + quotechar : "null";
+        }
+        String testValue = value == null ? "" : value;
+        int length = testValue.length();
+        int firstSpecial = 0;
+        while (firstSpecial < length && !isSpecialWhenWriting(testValue.charAt(firstSpecial))) {
+            firstSpecial++;
         }
 
-        builder.append(convertedString);
+        if (firstSpecial == length) {
+            // isSurroundWithQuotes() can only be true for an empty value here.
+            boolean surroundWithQuotes = applyQuotesToAll || (length == 0 && isSurroundWithQuotes(value, false));
+            return surroundWithQuotes ? quotechar + testValue + quotechar : testValue;
+        }
 
-        if (surroundWithQuotes) {
-            builder.append(getQuotechar());
+        StringBuilder builder = new StringBuilder(length * 2);
+        builder.append(quotechar).append(testValue, 0, firstSpecial);
+        int start = firstSpecial;
+        for (int i = firstSpecial; i < length; i++) {
+            if (testValue.charAt(i) == quotechar) {
+                // The quote is appended once here and once more with the
+                // rest of the value.
+                builder.append(testValue, start, i + 1);
+                start = i;
+            }
         }
+        return builder.append(testValue, start, length).append(quotechar).toString();
+    }
 
-        return builder.toString();
+    private boolean isSpecialWhenWriting(char c) {
+        return c == quotechar || c == separator || c == '\n';
     }
 
     /**
@@ -102,21 +142,27 @@ public class RFC4180Parser extends AbstractCSVParser {
     protected String[] parseLine(String nextLine, boolean multi) {
         String[] elements;
 
-        if (!multi && pending != null) {
-            pending = null;
+        if (!multi && pendingField != null) {
+            pendingField = null;
         }
 
         if (nextLine == null) {
-            if (pending != null) {
-                String s = pending;
-                pending = null;
+            if (pendingField != null) {
+                String s = pendingField.toString();
+                pendingField = null;
                 return new String[]{s};
             }
             return null;
         }
 
-        String lineToProcess = multi && pending != null ? pending + nextLine : nextLine;
-        pending = null;
+        String lineToProcess = nextLine;
+        if (multi && pendingField != null) {
+            if (continuePendingField(nextLine)) {
+                return ArrayUtils.EMPTY_STRING_ARRAY;
+            }
+            lineToProcess = pendingField.toString();
+            pendingField = null;
+        }
 
         if (!StringUtils.contains(lineToProcess, quotechar)) {
             elements = handleEmptySeparators(tokenizeStringIntoArray(lineToProcess));
@@ -174,14 +220,122 @@ public class RFC4180Parser extends AbstractCSVParser {
         }
 
         if (multi && lastElementStartedWithQuoteButDidNotEndInOne(elements)) {
-            pending = elements.get(elements.size() - 1) + NEWLINE;
-            elements.remove(elements.size() - 1);
+            startPendingField(elements.remove(elements.size() - 1));
         } else if (nextLine.lastIndexOf(separator) == nextLine.length() - 1) {
             elements.add("");
         }
         return elements.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
     }
 
+    /**
+     * Keeps the last field of a line open for the lines to come.
+     *
+     * @param field The text of the field so far
+     */
+    private void startPendingField(String field) {
+        pendingField = new StringBuilder(field.length() + READ_BUFFER_SIZE).append(field);
+        pendingFieldQuotes = StringUtils.countMatches(field, quotechar);
+        scanPosition = -1;
+        scanFrom = 1;
+        scanInQuote = false;
+        scanInQuotePair = false;
+        if (pendingField.charAt(0) == quotechar) {
+            findEndOfPendingField();
+        }
+        pendingField.append(NEWLINE);
+    }
+
+    /**
+     * Adds the next line to the pending field.
+     * <p>The pending field is the first element of the combined text, and
+     * everything that is decided about it here is exactly what
+     * {@link #splitWhileNotInQuotes(String, boolean)} and
+     * {@link #lastElementStartedWithQuoteButDidNotEndInOne(List)} would
+     * decide about the combined text. Only the new line is looked at,
+     * though. A field that does not begin with a quote never contains a
+     * separator, so it ends at the first separator of the new line.</p>
+     *
+     * @param nextLine The line to be added
+     * @return {@code true} if the field is still open at the end of the line,
+     *   {@code false} if the combined text must now be split into fields
+     */
+    private boolean continuePendingField(String nextLine) {
+        int lineStart = pendingField.length();
+        pendingField.append(nextLine);
+        pendingFieldQuotes += StringUtils.countMatches(nextLine, quotechar);
+
+        int length = pendingField.length();
+        boolean startsWithQuote = pendingField.charAt(0) == quotechar;
+        int fieldEnd;
+        if (startsWithQuote) {
+            fieldEnd = findEndOfPendingField();
+        } else {
+            int nextSeparator = nextLine.indexOf(separator);
+            fieldEnd = nextSeparator == -1 ? length : lineStart + nextSeparator;
+        }
+        if (fieldEnd < length) {
+            return false;
+        }
+
+        boolean stillOpen = (startsWithQuote && pendingField.charAt(length - 1) != quotechar)
+                || pendingFieldQuotes % 2 != 0;
+        if (stillOpen) {
+            pendingField.append(NEWLINE);
+        }
+        return stillOpen;
+    }
+
+    /**
+     * Resumes the search of {@link #findEndOfFieldFromPosition(String, int)}
+     * for the end of the pending field, which begins with a quote.
+     * The search only stops early at the end of the text if it needs to know
+     * what comes after, so it can be continued once more text is appended.
+     *
+     * @return The end of the field, or the length of the text if the field
+     *   reaches to the end
+     */
+    private int findEndOfPendingField() {
+        int length = pendingField.length();
+        while (true) {
+            if (scanPosition < 0) {
+                scanPosition = pendingField.indexOf(quoteCharString, scanFrom);
+                if (scanPosition < 0) {
+                    scanFrom = length;
+                    return length;
+                }
+            }
+            if (scanPosition >= length - 1) {
+                return length;
+            }
+            if (scanInQuotePair && pendingField.charAt(scanPosition + 1) == quotechar) {
+                nextPendingQuote();
+                continue;
+            }
+            scanInQuotePair = false;
+            if (!scanInQuote && pendingField.charAt(scanPosition + 1) == separator) {
+                return scanPosition + 1;
+            }
+            nextPendingQuote();
+            scanInQuotePair = true;
+        }
+    }
+
+    private void nextPendingQuote() {
+        scanFrom = scanPosition + 1;
+        scanPosition = -1;
+        scanInQuote = !scanInQuote;
+    }
+
+    @Override
+    public boolean isPending() {
+        return pendingField != null;
+    }
+
+    @Override
+    public String getPendingText() {
+        return pendingField == null ? StringUtils.EMPTY : pendingField.toString();
+    }
+
     private boolean lastElementStartedWithQuoteButDidNotEndInOne(List<String> elements) {
         String lastElement = elements.get(elements.size() - 1);
         return startsButDoesNotEndWithQuote(lastElement) || hasOnlyOneQuote(lastElement) || hasOddQuotes(lastElement);
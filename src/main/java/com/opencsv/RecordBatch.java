@@ -0,0 +1,465 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * A block of records read by {@link CSVReader#readBatch(RecordBatch, int)},
+ * kept as characters in storage that is reused from one batch to the next.
+ * <p>The fields of all records share one character buffer, and one array of
+ * field boundaries says where each field starts and ends. Reading a batch
+ * into an existing one therefore creates no objects at all once the buffers
+ * have grown to the size of a typical batch. Like {@link CsvRecord}, a batch
+ * only creates a string for a field when {@link #get(int, int)} is called.</p>
+ * <p>Records are numbered from 0 within the batch. Reuse replaces the content
+ * of the batch, so views returned by {@link #field(int, int)} must not be kept
+ * past the next read.</p>
+ *
+ * @since 5.7.1
+ */
+public class RecordBatch {
+
+    private static final int INITIAL_RECORD_CAPACITY = 64;
+    private static final int INITIAL_FIELD_CAPACITY = 1024;
+
+    private char[] buffer = ArrayUtils.EMPTY_CHAR_ARRAY;
+    private int length = 0;
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private boolean[] nullFields = new boolean[INITIAL_FIELD_CAPACITY];
+    private boolean[] quotedFields = new boolean[INITIAL_FIELD_CAPACITY];
+    private int totalFieldCount = 0;
+    private int[] recordEnds = new int[INITIAL_RECORD_CAPACITY];
+    private int recordCount = 0;
+    private Locale errorLocale = Locale.getDefault();
+
+    /**
+     * Creates an empty batch, ready to be filled by a reader.
+     */
+    public RecordBatch() {
+    }
+
+    /**
+     * Sets the locale for the messages of the exceptions thrown by the typed
+     * accessors. A reader sets its own locale whenever it fills the batch.
+     *
+     * @param errorLocale Locale for error messages. If null, the default locale
+     *                    is used.
+     */
+    public void setErrorLocale(Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+    }
+
+    /**
+     * Removes all records, keeping the storage for the next ones.
+     */
+    public void clear() {
+        length = 0;
+        totalFieldCount = 0;
+        recordCount = 0;
+    }
+
+    /**
+     * Appends a copy of the given fields as a new record.
+     * <p>This is how a {@link com.opencsv.stream.reader.RecordTokenizer}
+     * hands over a record. The content of field {@code i} is expected in
+     * {@code data} between {@code fieldEnds[i - 1]} (or 0 for the first
+     * field) and {@code fieldEnds[i]}.</p>
+     *
+     * @param data         The content of all fields, one after the other
+     * @param fieldEnds    The end of each field in {@code data}
+     * @param nullFields   Which fields are {@code null}
+     * @param quotedFields Which fields were enclosed in quotes
+     * @param fieldCount   The number of fields
+     */
+    public void addRecord(char[] data, int[] fieldEnds, boolean[] nullFields, boolean[] quotedFields, int fieldCount) {
+        ensureFieldCapacity(totalFieldCount + fieldCount);
+        int dataLength = fieldCount == 0 ? 0 : fieldEnds[fieldCount - 1];
+        ensureBufferCapacity(length + dataLength);
+        System.arraycopy(data, 0, buffer, length, dataLength);
+        for (int i = 0; i < fieldCount; i++) {
+            this.fieldEnds[totalFieldCount + i] = length + fieldEnds[i];
+        }
+        System.arraycopy(nullFields, 0, this.nullFields, totalFieldCount, fieldCount);
+        System.arraycopy(quotedFields, 0, this.quotedFields, totalFieldCount, fieldCount);
+        length += dataLength;
+        totalFieldCount += fieldCount;
+        endRecord();
+    }
+
+    /**
+     * Appends the given fields as a new record.
+     * Since it is not known whether the fields were quoted in the input,
+     * {@link #isQuoted(int, int)} returns {@code false} for all of them.
+     *
+     * @param fields The fields of the record, any of which may be
+     *               {@code null}
+     */
+    public void addRecord(String[] fields) {
+        ensureFieldCapacity(totalFieldCount + fields.length);
+        int dataLength = 0;
+        for (String field : fields) {
+            dataLength += field == null ? 0 : field.length();
+        }
+        ensureBufferCapacity(length + dataLength);
+        for (String field : fields) {
+            if (field != null) {
+                field.getChars(0, field.length(), buffer, length);
+                length += field.length();
+            }
+            fieldEnds[totalFieldCount] = length;
+            nullFields[totalFieldCount] = field == null;
+            quotedFields[totalFieldCount] = false;
+            totalFieldCount++;
+        }
+        endRecord();
+    }
+
+    /**
+     * @return The number of records in the batch
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * @return Whether the batch holds no records
+     */
+    public boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    /**
+     * @param record The position of the record in the batch, starting with 0
+     * @return The number of fields in the record
+     * @throws IndexOutOfBoundsException If there is no such record
+     */
+    public int getFieldCount(int record) {
+        checkRecord(record);
+        return recordEnds[record] - firstField(record);
+    }
+
+    /**
+     * Returns a view of one field without copying it.
+     * The view is only valid until the batch is read into again.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public CharSequence field(int record, int field) {
+        int index = fieldIndex(record, field);
+        if (nullFields[index]) {
+            return null;
+        }
+        int start = fieldStart(index);
+        return new FieldSequence(start, fieldEnds[index] - start);
+    }
+
+    /**
+     * Creates a string for one field.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The content of the field, or {@code null} if the field is
+     *   {@code null}
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public String get(int record, int field) {
+        int index = fieldIndex(record, field);
+        if (nullFields[index]) {
+            return null;
+        }
+        int start = fieldStart(index);
+        return new String(buffer, start, fieldEnds[index] - start);
+    }
+
+    /**
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return Whether the field is {@code null} according to the
+     *   {@link com.opencsv.enums.CSVReaderNullFieldIndicator} of the parser
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public boolean isNull(int record, int field) {
+        return nullFields[fieldIndex(record, field)];
+    }
+
+    /**
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return Whether the field was enclosed in quotes in the input. This is
+     *   only known if the reader uses a
+     *   {@link com.opencsv.stream.reader.RecordTokenizer}.
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public boolean isQuoted(int record, int field) {
+        return quotedFields[fieldIndex(record, field)];
+    }
+
+    /**
+     * Parses one field as an {@code int} without creating a string for it,
+     * unless it has an unusual form.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The value of the field, as {@link Integer#parseInt(String)}
+     *   would return it
+     * @throws NumberFormatException If the field is {@code null} or not an
+     *   integer
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public int getInt(int record, int field) {
+        int index = numberIndex(record, field);
+        return FieldParsing.parseInt(buffer, fieldStart(index), fieldEnds[index] - fieldStart(index));
+    }
+
+    /**
+     * Parses one field as a {@code long} without creating a string for it,
+     * unless it has an unusual form.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The value of the field, as {@link Long#parseLong(String)}
+     *   would return it
+     * @throws NumberFormatException If the field is {@code null} or not an
+     *   integer
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public long getLong(int record, int field) {
+        int index = numberIndex(record, field);
+        return FieldParsing.parseLong(buffer, fieldStart(index), fieldEnds[index] - fieldStart(index));
+    }
+
+    /**
+     * Parses one field as a {@code double} without creating a string for
+     * it, unless it has an unusual form, such as an exponent.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The value of the field, as {@link Double#parseDouble(String)}
+     *   would return it
+     * @throws NumberFormatException If the field is {@code null} or not a
+     *   number
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public double getDouble(int record, int field) {
+        int index = numberIndex(record, field);
+        return FieldParsing.parseDouble(buffer, fieldStart(index), fieldEnds[index] - fieldStart(index));
+    }
+
+    /**
+     * Parses one field as a {@code boolean} without creating a string for it.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return {@code true} if the field is "true", ignoring case, as with
+     *   {@link Boolean#parseBoolean(String)}. A {@code null} field is
+     *   {@code false}.
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public boolean getBoolean(int record, int field) {
+        int index = fieldIndex(record, field);
+        return !nullFields[index]
+                && FieldParsing.parseBoolean(buffer, fieldStart(index), fieldEnds[index] - fieldStart(index));
+    }
+
+    /**
+     * Parses one field as an ISO-8601 date, such as 2022-12-03, without
+     * creating a string for it.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The date, or {@code null} if the field is {@code null}
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public LocalDate getLocalDate(int record, int field) {
+        int index = fieldIndex(record, field);
+        if (nullFields[index]) {
+            return null;
+        }
+        return FieldParsing.parseLocalDate(buffer, fieldStart(index), fieldEnds[index] - fieldStart(index));
+    }
+
+    /**
+     * Parses one field as a date in the given format without creating a
+     * string for it.
+     *
+     * @param record    The position of the record in the batch, starting
+     *                  with 0
+     * @param field     The position of the field in the record, starting
+     *                  with 0
+     * @param formatter The format of the date
+     * @return The date, or {@code null} if the field is {@code null}
+     * @throws java.time.format.DateTimeParseException If the field is not a
+     *   date in this format
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public LocalDate getLocalDate(int record, int field, DateTimeFormatter formatter) {
+        CharSequence sequence = field(record, field);
+        return sequence == null ? null : LocalDate.parse(sequence, formatter);
+    }
+
+    /**
+     * Gives direct access to the characters of all fields of all records.
+     * Use {@link #getFieldOffset(int, int)} and
+     * {@link #getFieldLength(int, int)} to find a field in it. The buffer must
+     * not be changed.
+     *
+     * @return The buffer backing this batch
+     */
+    public char[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The position of the first character of the field in
+     *   {@link #getBuffer()}
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public int getFieldOffset(int record, int field) {
+        return fieldStart(fieldIndex(record, field));
+    }
+
+    /**
+     * @param record The position of the record in the batch, starting with 0
+     * @param field  The position of the field in the record, starting with 0
+     * @return The number of characters in the field
+     * @throws IndexOutOfBoundsException If there is no such record or field
+     */
+    public int getFieldLength(int record, int field) {
+        int index = fieldIndex(record, field);
+        return fieldEnds[index] - fieldStart(index);
+    }
+
+    /**
+     * Creates strings for all fields of one record.
+     *
+     * @param record The position of the record in the batch, starting with 0
+     * @return The record as {@link CSVReader#readNext()} would have returned
+     *   it
+     * @throws IndexOutOfBoundsException If there is no such record
+     */
+    public String[] toArray(int record) {
+        String[] fields = new String[getFieldCount(record)];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = get(record, i);
+        }
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < recordCount; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(Arrays.toString(toArray(i)));
+        }
+        return sb.append(']').toString();
+    }
+
+    private void endRecord() {
+        if (recordCount == recordEnds.length) {
+            recordEnds = Arrays.copyOf(recordEnds, recordCount * 2);
+        }
+        recordEnds[recordCount++] = totalFieldCount;
+    }
+
+    private void checkRecord(int record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException(Integer.toString(record));
+        }
+    }
+
+    private int firstField(int record) {
+        return record == 0 ? 0 : recordEnds[record - 1];
+    }
+
+    private int fieldIndex(int record, int field) {
+        if (field < 0 || field >= getFieldCount(record)) {
+            throw new IndexOutOfBoundsException(Integer.toString(field));
+        }
+        return firstField(record) + field;
+    }
+
+    private int numberIndex(int record, int field) {
+        int index = fieldIndex(record, field);
+        if (nullFields[index]) {
+            throw new NumberFormatException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                            .getString("field.null"), field));
+        }
+        return index;
+    }
+
+    private int fieldStart(int index) {
+        return index == 0 ? 0 : fieldEnds[index - 1];
+    }
+
+    private void ensureFieldCapacity(int capacity) {
+        if (capacity > fieldEnds.length) {
+            int newCapacity = Math.max(capacity, fieldEnds.length * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, newCapacity);
+            nullFields = Arrays.copyOf(nullFields, newCapacity);
+            quotedFields = Arrays.copyOf(quotedFields, newCapacity);
+        }
+    }
+
+    private void ensureBufferCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+
+    /**
+     * A view of part of the buffer of the batch.
+     */
+    private class FieldSequence implements CharSequence {
+        private final int offset;
+        private final int length;
+
+        FieldSequence(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(Integer.toString(index));
+            }
+            return buffer[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException(start + ", " + end);
+            }
+            return new FieldSequence(offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, offset, length);
+        }
+    }
+}
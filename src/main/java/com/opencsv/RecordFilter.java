@@ -0,0 +1,42 @@
+package com.opencsv;
+
+/**
+ * Decides whether a record of the input is returned by a {@link CSVReader}
+ * at all.
+ * <p>Unlike {@link com.opencsv.bean.CsvToBeanFilter}, which is handed the
+ * finished array of strings, a record filter sees the characters of the
+ * record before any strings are created for it. If the reader uses a
+ * {@link com.opencsv.stream.reader.RecordTokenizer}, no strings are created
+ * for a record the filter rejects, and when reading beans the record is
+ * never handed to the thread pool that creates them.</p>
+ * <p>The filter always sees all fields of a record at their positions in
+ * the input, even if the reader only returns some columns. It runs after
+ * the {@link com.opencsv.validators.LineValidator}s and before the
+ * {@link com.opencsv.processor.RowProcessor} and the
+ * {@link com.opencsv.validators.RowValidator}s. Like the validators, it is
+ * not consulted by {@link CSVReader#peek()},
+ * {@link CSVReader#readNextSilently()} or {@link CSVReader#skip(int)}, so
+ * header lines are never filtered out.</p>
+ * <p>The {@link CsvRecord} handed to the filter belongs to the reader and is
+ * reused for the next record. It is only valid during the call.</p>
+ * <p>Example:</p>
+ * <pre>
+ * CSVReader reader = new CSVReaderBuilder(new FileReader("orders.csv"))
+ *     .withRecordFilter(r -&gt; r.size() &gt; 3 &amp;&amp; r.startsWith(3, "EU"))
+ *     .build();
+ * </pre>
+ *
+ * @since 5.7.1
+ */
+@FunctionalInterface
+public interface RecordFilter {
+
+    /**
+     * Looks at a record before it is returned.
+     *
+     * @param record The fields of the record
+     * @return {@code true} if the record is to be returned, {@code false} if
+     *   it is to be skipped
+     */
+    boolean allowRecord(CsvRecord record);
+}
@@ -0,0 +1,274 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Formats rows the way {@link CSVWriter} does into a character buffer of its
+ * own.
+ * <p>Every value is scanned once. A value without special characters is
+ * copied into the buffer in one piece. In a value that must be quoted, the
+ * runs between characters that must be escaped are copied in one piece.
+ * The buffer then goes to the {@link Writer} in a single call, so a row is
+ * copied only once before it reaches the writer.</p>
+ *
+ * @since 5.7.1
+ */
+final class RowFormatter {
+
+    // Special characters below this are looked up in a table.
+    private static final int TABLE_SIZE = 128;
+    // Every character Long.toString(), Double.toString() and
+    // BigDecimal.toPlainString() can produce
+    private static final String NUMBER_CHARACTERS = "0123456789-.EInfinityNaN";
+
+    private final char separator;
+    private final char quotechar;
+    private final char escapechar;
+    private final boolean[] special = new boolean[TABLE_SIZE];
+    private final boolean[] toEscape = new boolean[TABLE_SIZE];
+    private final boolean highSpecial;
+    private final boolean numbersArePlain;
+
+    private char[] buffer = new char[ICSVWriter.INITIAL_STRING_SIZE];
+    private int length = 0;
+
+    /**
+     * Creates a formatter.
+     *
+     * @param separator  The delimiter to use for separating entries
+     * @param quotechar  The character to use for quoted elements
+     * @param escapechar The character to use for escaping quotechars or
+     *                   escapechars
+     */
+    RowFormatter(char separator, char quotechar, char escapechar) {
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escapechar = escapechar;
+
+        // The same characters CSVWriter.stringContainsSpecialCharacters()
+        // and CSVWriter.checkCharactersToEscape() look for
+        char[] specialCharacters = {quotechar, escapechar, separator, '\n', '\r'};
+        char[] escapedCharacters = quotechar == ICSVWriter.NO_QUOTE_CHARACTER
+                ? new char[]{quotechar, escapechar, separator, '\n'}
+                : new char[]{quotechar, escapechar};
+        boolean high = false;
+        for (char c : specialCharacters) {
+            if (c < TABLE_SIZE) {
+                special[c] = true;
+            } else {
+                high = true;
+            }
+        }
+        if (escapechar != ICSVWriter.NO_ESCAPE_CHARACTER) {
+            for (char c : escapedCharacters) {
+                if (c < TABLE_SIZE) {
+                    toEscape[c] = true;
+                }
+            }
+        }
+        highSpecial = high;
+        numbersArePlain = NUMBER_CHARACTERS.indexOf(separator) < 0
+                && NUMBER_CHARACTERS.indexOf(quotechar) < 0
+                && NUMBER_CHARACTERS.indexOf(escapechar) < 0;
+    }
+
+    /**
+     * Appends a whole row, including the line end.
+     *
+     * @param row              The values of the row, any of which may be
+     *                         {@code null}
+     * @param applyQuotesToAll Whether all values are to be quoted
+     * @param lineEnd          The line end to append
+     */
+    void appendRow(String[] row, boolean applyQuotesToAll, String lineEnd) {
+        for (int i = 0; i < row.length; i++) {
+            if (i != 0) {
+                appendSeparator();
+            }
+            if (row[i] != null) {
+                appendValue(row[i], applyQuotesToAll);
+            }
+        }
+        appendLineEnd(lineEnd);
+    }
+
+    /**
+     * Appends the separator between two values.
+     */
+    void appendSeparator() {
+        ensureCapacity(1);
+        buffer[length++] = separator;
+    }
+
+    /**
+     * Appends the end of a row.
+     *
+     * @param lineEnd The line end to append
+     */
+    void appendLineEnd(String lineEnd) {
+        ensureCapacity(lineEnd.length());
+        lineEnd.getChars(0, lineEnd.length(), buffer, length);
+        length += lineEnd.length();
+    }
+
+    /**
+     * Appends one value, quoting and escaping it as necessary.
+     *
+     * @param value            The value
+     * @param applyQuotesToAll Whether the value is to be quoted even if it
+     *                         has no special characters
+     */
+    void appendValue(CharSequence value, boolean applyQuotesToAll) {
+        int valueLength = value.length();
+        int firstSpecial = 0;
+        while (firstSpecial < valueLength && !isSpecial(value.charAt(firstSpecial))) {
+            firstSpecial++;
+        }
+        boolean quoted = (applyQuotesToAll || firstSpecial < valueLength) && quotechar != ICSVWriter.NO_QUOTE_CHARACTER;
+
+        // Room for the value, its quotes and, if need be, some escapes
+        ensureCapacity(valueLength + 2);
+        if (quoted) {
+            buffer[length++] = quotechar;
+        }
+        copy(value, 0, firstSpecial);
+        if (firstSpecial < valueLength && escapechar != ICSVWriter.NO_ESCAPE_CHARACTER) {
+            int start = firstSpecial;
+            for (int i = firstSpecial; i < valueLength; i++) {
+                char c = value.charAt(i);
+                if (needsEscape(c)) {
+                    copy(value, start, i);
+                    ensureCapacity(valueLength - i + 2);
+                    buffer[length++] = escapechar;
+                    start = i;
+                }
+            }
+            copy(value, start, valueLength);
+        } else {
+            copy(value, firstSpecial, valueLength);
+        }
+        if (quoted) {
+            ensureCapacity(1);
+            buffer[length++] = quotechar;
+        }
+    }
+
+    /**
+     * Appends a number, which needs no escaping and only needs quotes if all
+     * values are quoted.
+     *
+     * @param chars            The characters of the number
+     * @param offset           The first character of the number
+     * @param count            The number of characters of the number
+     * @param applyQuotesToAll Whether the number is to be quoted
+     */
+    void appendNumber(char[] chars, int offset, int count, boolean applyQuotesToAll) {
+        if (!numbersArePlain) {
+            appendValue(new String(chars, offset, count), applyQuotesToAll);
+            return;
+        }
+        boolean quoted = applyQuotesToAll && quotechar != ICSVWriter.NO_QUOTE_CHARACTER;
+        ensureCapacity(count + 2);
+        if (quoted) {
+            buffer[length++] = quotechar;
+        }
+        System.arraycopy(chars, offset, buffer, length, count);
+        length += count;
+        if (quoted) {
+            buffer[length++] = quotechar;
+        }
+    }
+
+    /**
+     * Appends a number, which needs no escaping and only needs quotes if all
+     * values are quoted.
+     *
+     * @param number           The number
+     * @param applyQuotesToAll Whether the number is to be quoted
+     */
+    void appendNumber(String number, boolean applyQuotesToAll) {
+        if (!numbersArePlain) {
+            appendValue(number, applyQuotesToAll);
+            return;
+        }
+        boolean quoted = applyQuotesToAll && quotechar != ICSVWriter.NO_QUOTE_CHARACTER;
+        ensureCapacity(number.length() + 2);
+        if (quoted) {
+            buffer[length++] = quotechar;
+        }
+        copy(number, 0, number.length());
+        if (quoted) {
+            buffer[length++] = quotechar;
+        }
+    }
+
+    /**
+     * @return The number of characters formatted since the last
+     *   {@link #reset()}
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * @return The buffer holding the characters formatted
+     */
+    char[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Forgets everything formatted.
+     */
+    void reset() {
+        length = 0;
+    }
+
+    /**
+     * Hands everything formatted to a writer and forgets it.
+     *
+     * @param writer The writer to write to
+     * @throws IOException If the writer fails
+     */
+    void writeTo(Writer writer) throws IOException {
+        try {
+            writer.write(buffer, 0, length);
+        } finally {
+            length = 0;
+        }
+    }
+
+    private boolean isSpecial(char c) {
+        if (c < TABLE_SIZE) {
+            return special[c];
+        }
+        return highSpecial && (c == separator || c == quotechar || c == escapechar);
+    }
+
+    private boolean needsEscape(char c) {
+        if (c < TABLE_SIZE) {
+            return toEscape[c];
+        }
+        return c == quotechar || c == escapechar
+                || (quotechar == ICSVWriter.NO_QUOTE_CHARACTER && c == separator);
+    }
+
+    private void copy(CharSequence value, int start, int end) {
+        if (value instanceof String) {
+            ((String) value).getChars(start, end, buffer, length);
+            length += end - start;
+        } else {
+            for (int i = start; i < end; i++) {
+                buffer[length++] = value.charAt(i);
+            }
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(length + additional, buffer.length * 2));
+        }
+    }
+}
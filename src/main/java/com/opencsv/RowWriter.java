@@ -0,0 +1,72 @@
+package com.opencsv;
+
+import java.math.BigDecimal;
+
+/**
+ * Writes one row value by value, so that numbers need not be turned into
+ * strings and collected in an array first.
+ * <p>Get a row writer with {@link ICSVWriter#beginRow(boolean)}, write the
+ * values in order and finish the row with {@link #endRow()}:</p>
+ * <pre>
+ * writer.beginRow(false)
+ *       .writeChars(name)
+ *       .writeLong(count)
+ *       .writeDouble(mean)
+ *       .endRow();
+ * </pre>
+ * <p>The row is written exactly as {@link ICSVWriter#writeNext(String[], boolean)}
+ * would write the string form of the same values. Errors are reported in the
+ * same way, through {@link ICSVWriter#checkError()}. A row writer belongs to
+ * the {@link ICSVWriter} that created it and is only valid until
+ * {@link #endRow()} is called or the next row is begun.</p>
+ *
+ * @since 5.7.1
+ */
+public interface RowWriter {
+
+    /**
+     * Writes an integer, as {@link Integer#toString(int)} formats it.
+     *
+     * @param value The value
+     * @return This row writer
+     */
+    RowWriter writeInt(int value);
+
+    /**
+     * Writes an integer, as {@link Long#toString(long)} formats it.
+     *
+     * @param value The value
+     * @return This row writer
+     */
+    RowWriter writeLong(long value);
+
+    /**
+     * Writes a floating point number, as {@link Double#toString(double)}
+     * formats it.
+     *
+     * @param value The value
+     * @return This row writer
+     */
+    RowWriter writeDouble(double value);
+
+    /**
+     * Writes a decimal, as {@link BigDecimal#toPlainString()} formats it.
+     *
+     * @param value The value, or {@code null} for an empty field
+     * @return This row writer
+     */
+    RowWriter writeDecimal(BigDecimal value);
+
+    /**
+     * Writes text, quoted and escaped as necessary.
+     *
+     * @param value The value, or {@code null} for an empty field
+     * @return This row writer
+     */
+    RowWriter writeChars(CharSequence value);
+
+    /**
+     * Ends the row and writes it.
+     */
+    void endRow();
+}
@@ -0,0 +1,68 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link RowWriter} for any {@link ICSVWriter}, which collects the values
+ * as strings and hands them to
+ * {@link ICSVWriter#writeNext(String[], boolean)} at the end of the row.
+ *
+ * @since 5.7.1
+ */
+class StringRowWriter implements RowWriter {
+
+    private final ICSVWriter writer;
+    private final boolean applyQuotesToAll;
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Begins a row.
+     *
+     * @param writer           The writer the row goes to
+     * @param applyQuotesToAll Whether all values are to be quoted
+     */
+    StringRowWriter(ICSVWriter writer, boolean applyQuotesToAll) {
+        this.writer = writer;
+        this.applyQuotesToAll = applyQuotesToAll;
+    }
+
+    @Override
+    public RowWriter writeInt(int value) {
+        values.add(Integer.toString(value));
+        return this;
+    }
+
+    @Override
+    public RowWriter writeLong(long value) {
+        values.add(Long.toString(value));
+        return this;
+    }
+
+    @Override
+    public RowWriter writeDouble(double value) {
+        values.add(Double.toString(value));
+        return this;
+    }
+
+    @Override
+    public RowWriter writeDecimal(BigDecimal value) {
+        values.add(value == null ? null : value.toPlainString());
+        return this;
+    }
+
+    @Override
+    public RowWriter writeChars(CharSequence value) {
+        values.add(value == null ? null : value.toString());
+        return this;
+    }
+
+    @Override
+    public void endRow() {
+        writer.writeNext(values.toArray(ArrayUtils.EMPTY_STRING_ARRAY), applyQuotesToAll);
+        values.clear();
+    }
+}
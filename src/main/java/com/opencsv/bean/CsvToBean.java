@@ -17,6 +17,8 @@ package com.opencsv.bean;
  */
 
 import com.opencsv.CSVReader;
+import com.opencsv.Checkpoint;
+import com.opencsv.CheckpointStore;
 import com.opencsv.ICSVParser;
 import com.opencsv.bean.concurrent.CompleteFileReader;
 import com.opencsv.bean.concurrent.LineExecutor;
@@ -25,12 +27,15 @@ import com.opencsv.bean.concurrent.SingleLineReader;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerQueue;
 import com.opencsv.bean.exceptionhandler.ExceptionHandlerThrow;
+import com.opencsv.bean.util.OpencsvUtils;
 import com.opencsv.bean.util.OrderedObject;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvValidationException;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -107,6 +112,38 @@ public class CsvToBean<T> implements Iterable<T> {
      */
     private boolean ignoreEmptyLines = false;
 
+    /**
+     * The number of records after the header to skip before beans are
+     * created.
+     */
+    private long firstRecord = 0;
+
+    /**
+     * The maximum number of records after {@link #firstRecord} to read.
+     */
+    private long recordCount = Long.MAX_VALUE;
+
+    /**
+     * The value of {@link CSVReader#getRecordsRead()} at which reading stops.
+     */
+    private long recordLimit = Long.MAX_VALUE;
+
+    /**
+     * Where checkpoints are loaded from and saved to, if anywhere.
+     */
+    private CheckpointStore checkpointStore = null;
+
+    /**
+     * The number of records between two checkpoints.
+     */
+    private long checkpointInterval = Long.MAX_VALUE;
+
+    /**
+     * The header read from the input or restored from a checkpoint, if the
+     * mapping strategy consumed one.
+     */
+    private String[] header = null;
+
     /**
      * Default constructor.
      */
@@ -123,7 +160,9 @@ public class CsvToBean<T> implements Iterable<T> {
      * @see #iterator()
      */
     public List<T> parse() throws IllegalStateException {
-        return stream().collect(Collectors.toList());
+        // The beans are only handed over once all of them have been read, so
+        // no checkpoint would ever be safe to save.
+        return stream(false).collect(Collectors.toList());
     }
 
     /**
@@ -140,11 +179,22 @@ public class CsvToBean<T> implements Iterable<T> {
      * @see #iterator()
      */
     public Stream<T> stream() throws IllegalStateException {
+        return stream(true);
+    }
+
+    private Stream<T> stream(boolean saveCheckpoints) {
         prepareToReadInput();
         CompleteFileReader<T> completeFileReader = new CompleteFileReader<>(
                 csvReader, filter, ignoreEmptyLines,
                 mappingStrategy, exceptionHandler, verifiers);
+        completeFileReader.setRecordLimit(recordLimit);
         executor = new LineExecutor<T>(orderedResults, errorLocale, completeFileReader);
+        if (checkpointStore != null && saveCheckpoints) {
+            // Without ordered results, only the end of the input is a safe
+            // place for a checkpoint.
+            completeFileReader.setCheckpoints(orderedResults ? checkpointInterval : Long.MAX_VALUE, header);
+            executor.setCheckpointStore(checkpointStore);
+        }
         executor.prepare();
         return StreamSupport.stream(executor, false);
     }
@@ -297,12 +347,115 @@ public class CsvToBean<T> implements Iterable<T> {
             throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("specify.strategy.reader"));
         }
 
+        // Continue where the last import stopped
+        Checkpoint checkpoint = null;
+        if (checkpointStore != null) {
+            try {
+                checkpoint = checkpointStore.load();
+                if (checkpoint != null) {
+                    csvReader.resume(checkpoint);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
         // Get the header information
         try {
-            mappingStrategy.captureHeader(csvReader);
+            header = checkpoint == null ? null : checkpoint.getHeader();
+            if (header != null) {
+                mappingStrategy.captureHeader(new HeaderReader(header));
+            } else {
+                long recordsRead = csvReader.getRecordsRead();
+                String[] nextRecord = checkpointStore == null ? null : csvReader.peek();
+                mappingStrategy.captureHeader(csvReader);
+                if (csvReader.getRecordsRead() > recordsRead) {
+                    header = nextRecord;
+                }
+            }
         } catch (Exception e) {
             throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("header.error"), e);
         }
+
+        // Move to the first record requested
+        long start = (checkpoint == null ? csvReader.getRecordsRead() : header == null ? 0 : 1) + firstRecord;
+        recordLimit = recordCount > Long.MAX_VALUE - start ? Long.MAX_VALUE : start + recordCount;
+        if (start > csvReader.getRecordsRead()) {
+            try {
+                csvReader.seekToRecord(start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Restricts reading to a range of records, for example to show one page
+     * of a large file.
+     * <p>Records are counted from the first one after the header, and every
+     * record counts, including those that are filtered out or are empty. If
+     * the {@link CSVReader} has a {@link com.opencsv.CsvIndex}, it jumps to
+     * the first record of the range instead of reading all records before
+     * it; see {@link CSVReader#seekToRecord(long)}.</p>
+     *
+     * @param firstRecord The number of records to skip, counted from the first
+     *                    record after the header
+     * @param recordCount The maximum number of records to read
+     * @throws IllegalArgumentException If either number is negative
+     * @since 5.7.1
+     */
+    public void setRange(long firstRecord, long recordCount) {
+        if (firstRecord < 0 || recordCount < 0) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                    .getString("record.range.negative"));
+        }
+        this.firstRecord = firstRecord;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Saves checkpoints while reading, so that an import that was interrupted
+     * can be resumed, or an import can be repeated over only the records
+     * appended to the input since it last ran.
+     * <p>Before reading, the checkpoint in the store, if any, is handed to
+     * {@link CSVReader#resume(Checkpoint)}. The header is restored from the
+     * checkpoint, so the mapping strategy does not read it again. Reading
+     * with a byte-oriented {@link CSVReader} jumps directly to the
+     * checkpoint; otherwise the records before it are skipped.</p>
+     * <p>While reading, a new checkpoint is saved about every
+     * {@code interval} records, and once more when the input (or the
+     * {@link #setRange(long, long) range}) has been read completely. A
+     * checkpoint is only saved once every bean before it has been handed
+     * over: by {@link Iterator#next()} of the {@link #iterator()} when the
+     * next bean is requested, or by the {@link #stream()} before it hands
+     * over the next bean. A bean is therefore handed over once more after
+     * resuming if the import stopped before the following checkpoint was
+     * saved. With unordered results, the stream only saves the final
+     * checkpoint. {@link #parse()} resumes from a checkpoint, but saves none,
+     * since it hands over all beans at once at the end.</p>
+     * <p>Errors saving a checkpoint are thrown as
+     * {@link UncheckedIOException}.</p>
+     *
+     * @param store    Where checkpoints are kept
+     * @param interval The number of records between two checkpoints
+     * @throws IllegalArgumentException If the interval is not positive
+     * @since 5.7.1
+     */
+    public void setCheckpoints(CheckpointStore store, long interval) {
+        if (interval <= 0) {
+            throw new IllegalArgumentException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                    .getString("checkpoint.interval.invalid"), interval));
+        }
+        this.checkpointStore = store;
+        this.checkpointInterval = interval;
+    }
+
+    private void saveCheckpoint(Checkpoint checkpoint) {
+        try {
+            checkpointStore.save(checkpoint.withHeader(header));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -342,10 +495,17 @@ public class CsvToBean<T> implements Iterable<T> {
         private String[] line = null;
         private long lineProcessed = 0;
         private T bean;
+        private final boolean saveCheckpoints = checkpointStore != null;
+        private long nextCheckpointAt;
+        private Checkpoint beforeBean = null;
+        private boolean failed = false;
+        private boolean finished = false;
 
         CsvToBeanIterator() {
             resultantBeansQueue = new ArrayBlockingQueue<>(1);
             thrownExceptionsQueue = new LinkedBlockingQueue<>();
+            lineReader.setRecordLimit(recordLimit);
+            nextCheckpointAt = OpencsvUtils.saturatedAdd(csvReader.getRecordsRead(), checkpointInterval);
             readSingleLine();
         }
 
@@ -388,7 +548,14 @@ public class CsvToBean<T> implements Iterable<T> {
 
         private void readSingleLine() {
             try {
+                failed = true;
+                if (saveCheckpoints && csvReader.getRecordsRead() >= nextCheckpointAt) {
+                    // Saved when the bean about to be read is handed over
+                    beforeBean = csvReader.checkpoint();
+                    nextCheckpointAt = OpencsvUtils.saturatedAdd(csvReader.getRecordsRead(), checkpointInterval);
+                }
                 readLineWithPossibleError();
+                failed = false;
             } catch (IOException | CsvValidationException e) {
                 line = null;
                 throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"),
@@ -398,6 +565,14 @@ public class CsvToBean<T> implements Iterable<T> {
 
         @Override
         public boolean hasNext() {
+            if (bean == null && saveCheckpoints && !failed && !finished) {
+                finished = true;
+                try {
+                    saveCheckpoint(csvReader.checkpoint());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
             return bean != null;
         }
 
@@ -407,6 +582,10 @@ public class CsvToBean<T> implements Iterable<T> {
                 throw new NoSuchElementException();
             }
             T intermediateBean = bean;
+            if (beforeBean != null) {
+                saveCheckpoint(beforeBean);
+                beforeBean = null;
+            }
             readSingleLine();
             return intermediateBean;
         }
@@ -418,4 +597,34 @@ public class CsvToBean<T> implements Iterable<T> {
                     .getString("read.only.iterator"));
         }
     }
+
+    /**
+     * Hands a header restored from a checkpoint to the mapping strategy as
+     * though it had been read from the input.
+     */
+    private static class HeaderReader extends CSVReader {
+        private String[] header;
+
+        HeaderReader(String[] header) {
+            super(new StringReader(""));
+            this.header = header;
+        }
+
+        @Override
+        public String[] peek() {
+            return header;
+        }
+
+        @Override
+        public String[] readNext() {
+            return readNextSilently();
+        }
+
+        @Override
+        public String[] readNextSilently() {
+            String[] result = header;
+            header = null;
+            return result;
+        }
+    }
 }
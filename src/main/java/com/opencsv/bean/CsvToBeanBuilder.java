@@ -131,6 +131,16 @@ public class CsvToBeanBuilder<T> {
      */
     private Integer multilineLimit = null;
 
+    /**
+     * @see com.opencsv.CSVReaderBuilder#withFieldDeduplication(boolean)
+     */
+    private boolean fieldDeduplication = false;
+
+    /**
+     * @see com.opencsv.CSVReaderBuilder#withRecordFilter(RecordFilter)
+     */
+    private RecordFilter recordFilter = null;
+
     /**
      * @see com.opencsv.bean.CsvToBean#orderedResults
      */
@@ -141,6 +151,26 @@ public class CsvToBeanBuilder<T> {
      */
     private boolean ignoreEmptyLines = false;
 
+    /**
+     * @see com.opencsv.bean.CsvToBean#setRange(long, long)
+     */
+    private long firstRecord = 0;
+
+    /**
+     * @see com.opencsv.bean.CsvToBean#setRange(long, long)
+     */
+    private long recordCount = Long.MAX_VALUE;
+
+    /**
+     * @see com.opencsv.bean.CsvToBean#setCheckpoints(CheckpointStore, long)
+     */
+    private CheckpointStore checkpointStore = null;
+
+    /**
+     * @see com.opencsv.bean.CsvToBean#setCheckpoints(CheckpointStore, long)
+     */
+    private long checkpointInterval = Long.MAX_VALUE;
+
     /**
      * @see com.opencsv.bean.CsvToBean#errorLocale
      */
@@ -242,6 +272,10 @@ public class CsvToBeanBuilder<T> {
         // of the components of CsvToBean, rendering the error locale homogeneous.
         bean.setErrorLocale(errorLocale);
         bean.setIgnoreEmptyLines(ignoreEmptyLines);
+        bean.setRange(firstRecord, recordCount);
+        if (checkpointStore != null) {
+            bean.setCheckpoints(checkpointStore, checkpointInterval);
+        }
 
         return bean;
     }
@@ -299,6 +333,8 @@ public class CsvToBeanBuilder<T> {
             csvrb.withMultilineLimit(multilineLimit);
         }
         csvrb.withErrorLocale(errorLocale);
+        csvrb.withFieldDeduplication(fieldDeduplication);
+        csvrb.withRecordFilter(recordFilter);
         return csvrb.build();
     }
     
@@ -378,6 +414,38 @@ public class CsvToBeanBuilder<T> {
         return this;
     }
     
+    /**
+     * Sets whether equal values in a column share one string, so beans read
+     * from columns with few distinct values do not each hold a copy.
+     * Ignored if a {@link CSVReader} was passed to the constructor.
+     *
+     * @see CSVReaderBuilder#withFieldDeduplication(boolean)
+     * @param fieldDeduplication Please see the "See Also" section
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CsvToBeanBuilder<T> withFieldDeduplication(boolean fieldDeduplication) {
+        this.fieldDeduplication = fieldDeduplication;
+        return this;
+    }
+
+    /**
+     * Skips records that do not pass a filter while they are read, before
+     * strings are created for them and before they are handed to the threads
+     * that create beans. The filter sees the fields at their positions in the
+     * input.
+     * Ignored if a {@link CSVReader} was passed to the constructor.
+     *
+     * @see CSVReaderBuilder#withRecordFilter(RecordFilter)
+     * @param recordFilter Please see the "See Also" section
+     * @return {@code this}
+     * @since 5.7.1
+     */
+    public CsvToBeanBuilder<T> withRecordFilter(RecordFilter recordFilter) {
+        this.recordFilter = recordFilter;
+        return this;
+    }
+
     /**
      * @see CSVReaderBuilder#withVerifyReader(boolean) 
      * @param verifyReader Please see the "See Also" section
@@ -566,6 +634,45 @@ public class CsvToBeanBuilder<T> {
         return this;
     }
 
+    /**
+     * Restricts reading to a range of records after the header.
+     * If the {@link CSVReader} passed to the constructor was built with a
+     * {@link com.opencsv.CsvIndex}, it jumps straight to the first record.
+     *
+     * @param firstRecord Please see the "See Also" section
+     * @param recordCount Please see the "See Also" section
+     * @return {@code this}
+     * @see CsvToBean#setRange(long, long)
+     * @since 5.7.1
+     */
+    public CsvToBeanBuilder<T> withRange(long firstRecord, long recordCount) {
+        this.firstRecord = firstRecord;
+        this.recordCount = recordCount;
+        return this;
+    }
+
+    /**
+     * Resumes the import from the checkpoint in a store and saves new
+     * checkpoints there while reading.
+     * For a file read by a {@link CSVReader} built with
+     * {@link CSVReaderBuilder#CSVReaderBuilder(java.io.InputStream, java.nio.charset.Charset)},
+     * resuming jumps straight to the byte offset of the checkpoint, so an
+     * import repeated after more records have been appended to the file only
+     * reads the new records.
+     *
+     * @param store    Please see the "See Also" section
+     * @param interval Please see the "See Also" section
+     * @return {@code this}
+     * @see CsvToBean#setCheckpoints(CheckpointStore, long)
+     * @see FileCheckpointStore
+     * @since 5.7.1
+     */
+    public CsvToBeanBuilder<T> withCheckpoints(CheckpointStore store, long interval) {
+        this.checkpointStore = store;
+        this.checkpointInterval = interval;
+        return this;
+    }
+
     /**
      * Selects a profile for deciding which configurations to use for the bean
      * fields.
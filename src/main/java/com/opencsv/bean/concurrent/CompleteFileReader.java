@@ -1,14 +1,18 @@
 package com.opencsv.bean.concurrent;
 
 import com.opencsv.CSVReader;
+import com.opencsv.Checkpoint;
 import com.opencsv.bean.BeanVerifier;
 import com.opencsv.bean.CsvToBeanFilter;
 import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
+import com.opencsv.bean.util.OpencsvUtils;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Implements a separate thread for reading input and siphoning it to a
@@ -40,6 +44,15 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
     /** The executor that takes lines of input and converts them to beans. */
     private LineExecutor<T> executor;
 
+    /** The number of records between two checkpoints, or 0 for none. */
+    private long checkpointInterval = 0;
+
+    /** The header to store in checkpoints. */
+    private String[] header = null;
+
+    /** Checkpoints taken while reading, oldest first. */
+    private final Queue<Checkpoint> checkpoints = new ConcurrentLinkedQueue<>();
+
     /**
      *
      * @param csvReader The {@link CSVReader} from which input is read
@@ -81,6 +94,28 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
         }
     }
 
+    /**
+     * Takes checkpoints while reading, and one more at the end of the input.
+     *
+     * @param interval The number of records between two checkpoints
+     * @param header   The header to store in the checkpoints
+     * @since 5.7.1
+     */
+    public void setCheckpoints(long interval, String[] header) {
+        this.checkpointInterval = interval;
+        this.header = header;
+    }
+
+    /**
+     * @return The checkpoints taken while reading that have not been removed
+     *   yet, oldest first. Each one is taken before the record it precedes
+     *   is submitted.
+     * @since 5.7.1
+     */
+    public Queue<Checkpoint> getCheckpoints() {
+        return checkpoints;
+    }
+
     /**
      * Runs a nice, tight loop to simply read input and submit for conversion.
      */
@@ -88,11 +123,22 @@ public class CompleteFileReader<T> extends SingleLineReader implements Runnable
     public void run() {
         // Parse through each line of the file
         try {
-            while (null != readNextLine()) {
+            long nextCheckpointAt = OpencsvUtils.saturatedAdd(csvReader.getRecordsRead(), checkpointInterval);
+            while (true) {
+                if (checkpointInterval > 0 && csvReader.getRecordsRead() >= nextCheckpointAt) {
+                    checkpoints.add(csvReader.checkpoint().withHeader(header));
+                    nextCheckpointAt = OpencsvUtils.saturatedAdd(csvReader.getRecordsRead(), checkpointInterval);
+                }
+                if (null == readNextLine()) {
+                    break;
+                }
                 lineProcessed = csvReader.getLinesRead();
                 executor.submitLine(lineProcessed, mappingStrategy, filter,
                         verifiers, line, exceptionHandler);
             }
+            if (checkpointInterval > 0) {
+                checkpoints.add(csvReader.checkpoint().withHeader(header));
+            }
 
             // Since only this thread knows when reading is over, it is responsible
             // for telling the executor it's finished.
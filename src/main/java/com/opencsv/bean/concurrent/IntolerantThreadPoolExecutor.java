@@ -306,6 +306,22 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
         return accumulateThread == null ? !resultQueue.isEmpty() : !resultantBeansMap.isEmpty();
     }
 
+    /**
+     * Called with ordered results before the result with the given ordinal is
+     * handed over. All results with lower ordinals have been handed over.
+     *
+     * @param ordinal The ordinal of the next result
+     */
+    protected void beforeResult(long ordinal) {
+    }
+
+    /**
+     * Called when {@link #tryAdvance(Consumer)} finds that no more results
+     * will come.
+     */
+    protected void afterLastResult() {
+    }
+
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
         T bean = null;
@@ -324,12 +340,16 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor implements Spli
                 Map.Entry<Long, T> mapEntry = resultantBeansMap.pollFirstEntry();
                 if(mapEntry != null) {
                     bean = mapEntry.getValue();
+                    beforeResult(mapEntry.getKey());
                 }
             }
             if(bean != null) {
                 action.accept(bean);
             }
         }
+        else {
+            afterLastResult();
+        }
 
         return bean != null;
     }
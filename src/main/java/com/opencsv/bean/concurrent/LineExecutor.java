@@ -1,5 +1,7 @@
 package com.opencsv.bean.concurrent;
 
+import com.opencsv.Checkpoint;
+import com.opencsv.CheckpointStore;
 import com.opencsv.ICSVParser;
 import com.opencsv.bean.BeanVerifier;
 import com.opencsv.bean.CsvToBeanFilter;
@@ -7,6 +9,8 @@ import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.exceptions.CsvMalformedLineException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -25,6 +29,8 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
 
     private final CompleteFileReader<T> completeFileReader;
 
+    private CheckpointStore checkpointStore = null;
+
     /**
      * The only constructor available for this class.
      * @param orderedResults Whether order should be preserved in the results
@@ -37,6 +43,52 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
         this.completeFileReader = completeFileReader;
     }
 
+    /**
+     * Saves the checkpoints taken by the {@link CompleteFileReader} once all
+     * beans before them have been handed over.
+     *
+     * @param checkpointStore Where to save the checkpoints
+     * @since 5.7.1
+     */
+    public void setCheckpointStore(CheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+    }
+
+    @Override
+    protected void beforeResult(long ordinal) {
+        if (checkpointStore != null) {
+            Checkpoint latest = null;
+            Checkpoint next = completeFileReader.getCheckpoints().peek();
+            while (next != null && next.getLinesRead() < ordinal) {
+                latest = completeFileReader.getCheckpoints().poll();
+                next = completeFileReader.getCheckpoints().peek();
+            }
+            save(latest);
+        }
+    }
+
+    @Override
+    protected void afterLastResult() {
+        if (checkpointStore != null) {
+            Checkpoint latest = null;
+            Checkpoint next;
+            while ((next = completeFileReader.getCheckpoints().poll()) != null) {
+                latest = next;
+            }
+            save(latest);
+        }
+    }
+
+    private void save(Checkpoint checkpoint) {
+        if (checkpoint != null) {
+            try {
+                checkpointStore.save(checkpoint);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     @Override
     public void prepare() {
         Thread readerThread = new Thread(completeFileReader);
@@ -21,6 +21,12 @@ public class SingleLineReader {
     /** Stores the result of parsing a line of input. */
     protected String[] line;
 
+    /**
+     * The number of records, as counted by {@link CSVReader#getRecordsRead()},
+     * after which no more lines are returned.
+     */
+    protected long recordLimit = Long.MAX_VALUE;
+
     /**
      * The only constructor.
      * @param csvReader The {@link CSVReader} for reading the input
@@ -46,11 +52,26 @@ public class SingleLineReader {
      */
     public String[] readNextLine() throws IOException, CsvValidationException {
         do {
-            line = csvReader.readNext();
+            line = csvReader.getRecordsRead() < recordLimit ? csvReader.readNext() : null;
+            if (csvReader.getRecordsRead() > recordLimit) {
+                // Records filtered out by the reader took it past the limit.
+                line = null;
+            }
         } while (line != null && isCurrentLineEmpty() && ignoreEmptyLines);
         return getLine();
     }
 
+    /**
+     * Stops reading once a number of records have been read.
+     *
+     * @param recordLimit The value of {@link CSVReader#getRecordsRead()} after
+     *                    which {@link #readNextLine()} returns {@code null}
+     * @since 5.7.1
+     */
+    public void setRecordLimit(long recordLimit) {
+        this.recordLimit = recordLimit;
+    }
+
     /**
      * @return The number of lines read from the input this far
      */
@@ -248,4 +248,18 @@ public final class OpencsvUtils {
             throw csve;
         }
     }
+
+    /**
+     * Adds two numbers that are not negative, giving
+     * {@link Long#MAX_VALUE} instead of overflowing. An interval of
+     * {@link Long#MAX_VALUE} thus stands for "never".
+     *
+     * @param a The first number
+     * @param b The second number
+     * @return The sum, or {@link Long#MAX_VALUE} if it is larger
+     * @since 5.7.1
+     */
+    public static long saturatedAdd(long a, long b) {
+        return b > Long.MAX_VALUE - a ? Long.MAX_VALUE : a + b;
+    }
 }
@@ -0,0 +1,506 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CsvRecord;
+import com.opencsv.FieldVisitor;
+import com.opencsv.ICSVParser;
+import com.opencsv.RecordBatch;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The common part of all tokenizers that frame and split records straight
+ * from a refillable buffer instead of going through one {@link String} per
+ * line.
+ * <p>This class holds the configuration taken from the {@link CSVParser}, the
+ * boundaries of the fields of the current record and the bookkeeping that is
+ * independent of whether the input consists of characters or bytes.
+ * Derived classes run the state machine of {@link CSVParser} over their
+ * particular kind of buffer.</p>
+ * <p>Just as with {@link ICSVParser#parseLineMulti(String)}, the unit of work
+ * is one physical line: {@link #tokenizeLine()} consumes one line and adds its
+ * fields to the current record. If the line ends inside of a quoted field,
+ * {@link #isPending()} returns {@code true} and the next call continues the
+ * open field. This leaves line counting, multiline limits and error
+ * reporting where they have always been, in {@link com.opencsv.CSVReader}.</p>
+ *
+ * @see RecordTokenizer
+ * @see ByteRecordTokenizer
+ * @since 5.7.1
+ */
+public abstract class AbstractRecordTokenizer implements Closeable {
+
+    /**
+     * The default size of the buffer input is read into.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Quotes are not considered to be in the middle of a field while the
+     * number of characters read from the line is not above this.
+     */
+    protected static final int BEGINNING_OF_LINE = 3;
+
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    protected final char separator;
+    protected final char quotechar;
+    protected final char escape;
+    protected final boolean strictQuotes;
+    protected final boolean ignoreLeadingWhiteSpace;
+    protected final boolean ignoreQuotations;
+    protected final CSVReaderNullFieldIndicator nullFieldIndicator;
+    protected final boolean keepCarriageReturns;
+
+    /**
+     * The number of positions used in the data of the current record.
+     * The content of all fields is stored one after the other.
+     */
+    protected int dataLength = 0;
+    protected int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    protected boolean[] nullFields = new boolean[INITIAL_FIELD_CAPACITY];
+    protected boolean[] quotedFields = new boolean[INITIAL_FIELD_CAPACITY];
+    protected int fieldCount = 0;
+
+    // State of the field currently being collected.
+    protected int fieldStart = 0;
+    protected boolean fieldQuoted = false;
+    protected boolean pending = false;
+    protected boolean inField = false;
+
+    protected String lastLine = null;
+
+    protected FieldDeduplicator deduplicator = null;
+
+    /**
+     * The columns {@link #toArray()} creates strings for, or {@code null} for
+     * all of them.
+     */
+    protected int[] columns = null;
+
+    /** The locale for error messages. */
+    protected Locale errorLocale = Locale.getDefault();
+
+    /**
+     * Takes over the configuration of a parser.
+     * <p>Only a {@link CSVParser} has an escape character and options for
+     * the treatment of quotes and white space. For any other parser, there is
+     * no escape character and these options are off.</p>
+     *
+     * @param parser              The parser whose configuration is to be used
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     */
+    protected AbstractRecordTokenizer(ICSVParser parser, boolean keepCarriageReturns) {
+        this.separator = parser.getSeparator();
+        this.quotechar = parser.getQuotechar();
+        this.nullFieldIndicator = parser.nullFieldIndicator();
+        this.keepCarriageReturns = keepCarriageReturns;
+        if (parser instanceof CSVParser) {
+            CSVParser csvParser = (CSVParser) parser;
+            this.escape = csvParser.getEscape();
+            this.strictQuotes = csvParser.isStrictQuotes();
+            this.ignoreLeadingWhiteSpace = csvParser.isIgnoreLeadingWhiteSpace();
+            this.ignoreQuotations = csvParser.isIgnoreQuotations();
+        } else {
+            this.escape = ICSVParser.NULL_CHARACTER;
+            this.strictQuotes = false;
+            this.ignoreLeadingWhiteSpace = false;
+            this.ignoreQuotations = false;
+        }
+    }
+
+    /**
+     * Determines whether a parser can be replaced by a tokenizer.
+     * <p>This is only the case for {@link CSVParser} itself. Derived classes
+     * might have changed the way a line is parsed.</p>
+     *
+     * @param parser The parser configured for reading
+     * @return {@code true} if the tokenizer produces the same results as the
+     *   parser
+     */
+    public static boolean supports(ICSVParser parser) {
+        return parser != null && parser.getClass() == CSVParser.class;
+    }
+
+    /**
+     * Sets the locale for error messages.
+     *
+     * @param errorLocale Locale for error messages. If null, the default locale
+     *                    is used.
+     */
+    public void setErrorLocale(Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+    }
+
+    /**
+     * Determines whether the text of every line should be kept for
+     * {@link #getLastLine()}.
+     * This is only necessary if someone wants to see the lines, for example
+     * to validate them, and costs one {@link String} per line.
+     *
+     * @param captureLines Whether lines should be retained
+     */
+    public abstract void setLineCapture(boolean captureLines);
+
+    /**
+     * Sets where the strings of fields are looked up before they are created,
+     * so equal values in a column share one string.
+     *
+     * @param deduplicator The pool of field values, or {@code null} to create
+     *                     a new string for every field
+     */
+    public void setFieldDeduplicator(FieldDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * Restricts {@link #toArray()} to some of the fields of every record.
+     * The other fields are still tokenized, but no strings are created for
+     * them. {@link #getFieldCount()} continues to count all fields.
+     *
+     * @param columns The positions of the fields to return, in the order they
+     *                are to be returned, or {@code null} for all fields
+     */
+    public void setColumns(int[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * @return The text of the last line read by {@link #tokenizeLine()}
+     *   without its line end, or {@code null} if lines are not captured
+     * @see #setLineCapture(boolean)
+     */
+    public String getLastLine() {
+        return lastLine;
+    }
+
+    /**
+     * Checks whether there is any input left.
+     *
+     * @return {@code true} if at least one more character can be read
+     * @throws IOException If bad things happen while reading
+     */
+    public abstract boolean hasMoreInput() throws IOException;
+
+    /**
+     * Discards everything collected so far and prepares for a new record.
+     */
+    public void startRecord() {
+        dataLength = 0;
+        fieldCount = 0;
+        fieldStart = 0;
+        fieldQuoted = false;
+        pending = false;
+        inField = false;
+    }
+
+    /**
+     * Tells where in the input the tokenizer is.
+     * <p>Between two records, this is where the next record begins, so it
+     * can be handed to {@link #seek(long)} later.</p>
+     *
+     * @return The position in the input of the next byte to be tokenized, or
+     *   -1 if the tokenizer does not know it
+     * @since 5.7.1
+     */
+    public long getPosition() {
+        return -1;
+    }
+
+    /**
+     * Continues tokenizing at another position of the input.
+     * <p>The position must be the beginning of a record, as returned by
+     * {@link #getPosition()} between two records. Any record in progress is
+     * discarded. The default implementation cannot move.</p>
+     *
+     * @param position The position in the input of the next byte to be
+     *                 tokenized
+     * @return {@code true} if the tokenizer moved, {@code false} if its input
+     *   does not allow that
+     * @throws IOException If the input cannot be repositioned
+     * @since 5.7.1
+     */
+    public boolean seek(long position) throws IOException {
+        return false;
+    }
+
+    /**
+     * Skips the next physical line without tokenizing it.
+     *
+     * @return {@code false} if there was no more input
+     * @throws IOException If bad things happen while reading
+     */
+    public abstract boolean skipLine() throws IOException;
+
+    /**
+     * Tokenizes the next physical line and appends its fields to the current
+     * record.
+     * <p>The logic mirrors {@link CSVParser#parseLineMulti(String)} character
+     * for character, including its treatment of quotes in the middle of a
+     * field.</p>
+     *
+     * @return {@code false} if there was no more input
+     * @throws IOException If bad things happen while reading
+     */
+    public abstract boolean tokenizeLine() throws IOException;
+
+    /**
+     * Reads the next physical line only to find out whether the record
+     * continues on the next line.
+     * <p>Quotes, escape characters and separators are treated exactly as by
+     * {@link #tokenizeLine()}, so {@link #isPending()} is the same
+     * afterwards, but the fields of the line need not be collected. Once a
+     * line of a record has been framed, the fields of the record and its
+     * pending text must not be asked for. The default implementation
+     * tokenizes the line.</p>
+     *
+     * @return {@code false} if there was no more input
+     * @throws IOException If bad things happen while reading
+     * @since 5.7.1
+     */
+    public boolean frameLine() throws IOException {
+        return tokenizeLine();
+    }
+
+    /**
+     * Promises that the rest of the input will only be read with
+     * {@link #frameLine()} and {@link #skipLine()}.
+     * A tokenizer that prepares records ahead of time can use this to stop
+     * collecting fields. The default implementation does nothing.
+     *
+     * @since 5.7.1
+     */
+    public void frameOnly() {
+    }
+
+    /**
+     * @return {@code true} if the last line read ended inside of a quoted
+     *   field and the record continues on the next line
+     */
+    public boolean isPending() {
+        return pending;
+    }
+
+    /**
+     * @return The text collected so far for a field that spans multiple
+     *   lines, or an empty string if there is none
+     */
+    public String getPendingText() {
+        return pending ? createString(fieldStart, dataLength - fieldStart) : "";
+    }
+
+    /**
+     * Removes a carriage return at the end of the last field of the record.
+     * This is what the traditional reading path does when carriage returns are
+     * kept, since the carriage return there was part of the line end and not
+     * of the data.
+     */
+    public void removeTrailingCarriageReturn() {
+        int last = fieldCount - 1;
+        if (last >= 0 && !nullFields[last] && fieldEnds[last] > fieldStart(last)
+                && isCarriageReturnAt(fieldEnds[last] - 1)) {
+            fieldEnds[last]--;
+            dataLength--;
+            fieldStart = dataLength;
+        }
+    }
+
+    /**
+     * @return The number of fields in the current record
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * @param index The position of the field in the record
+     * @return Whether the field was enclosed in quotes in the input
+     */
+    public boolean isQuoted(int index) {
+        return quotedFields[index];
+    }
+
+    /**
+     * Hands every field of the current record to a visitor without creating
+     * any strings.
+     *
+     * @param visitor The recipient of the fields
+     */
+    public abstract void visitFields(FieldVisitor visitor);
+
+    /**
+     * Copies the current record into a {@link CsvRecord}.
+     *
+     * @param record The record to be filled
+     */
+    public abstract void copyTo(CsvRecord record);
+
+    /**
+     * Appends the current record to a {@link RecordBatch}.
+     *
+     * @param batch The batch to be added to
+     */
+    public abstract void copyTo(RecordBatch batch);
+
+    /**
+     * @param index The position of the field in the record
+     * @return The field as a string, or {@code null} if the field is to be
+     *   treated as null according to the {@link CSVReaderNullFieldIndicator}
+     */
+    public String getField(int index) {
+        if (nullFields[index]) {
+            return null;
+        }
+        int start = fieldStart(index);
+        int length = fieldEnds[index] - start;
+        return deduplicator == null ? createString(start, length) : createField(index, start, length);
+    }
+
+    /**
+     * @return All fields of the current record, or the fields in the columns
+     *   set by {@link #setColumns(int[])}
+     */
+    public String[] toArray() {
+        if (columns != null) {
+            return toArray(columns);
+        }
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = getField(i);
+        }
+        return fields;
+    }
+
+    /**
+     * Creates strings for some of the fields of the current record.
+     *
+     * @param selection The positions of the fields to return, in the order
+     *                  they are to be returned
+     * @return The selected fields. A position the record has no field for
+     *   yields {@code null}.
+     */
+    public String[] toArray(int[] selection) {
+        String[] fields = new String[selection.length];
+        for (int i = 0; i < selection.length; i++) {
+            int index = selection[i];
+            fields[i] = index >= 0 && index < fieldCount ? getField(index) : null;
+        }
+        return fields;
+    }
+
+    /**
+     * Creates a string from part of the data of the current record.
+     *
+     * @param start  The first position in the data
+     * @param length The number of positions
+     * @return The text at those positions
+     */
+    protected abstract String createString(int start, int length);
+
+    /**
+     * Creates the string of a field through the {@link FieldDeduplicator}.
+     * Derived classes can look the field up before a string is created.
+     *
+     * @param index  The position of the field in the record
+     * @param start  The first position of the field in the data
+     * @param length The number of positions
+     * @return The text at those positions
+     */
+    protected String createField(int index, int start, int length) {
+        return deduplicator.deduplicate(index, createString(start, length));
+    }
+
+    /**
+     * @param index A position in the data of the current record
+     * @return Whether there is a carriage return at that position
+     */
+    protected abstract boolean isCarriageReturnAt(int index);
+
+    /**
+     * Hands every field of the current record to a visitor.
+     *
+     * @param visitor The recipient of the fields
+     * @param chars   The characters of all fields, one after the other
+     * @param ends    The end of each field in {@code chars}
+     */
+    protected void visitFields(FieldVisitor visitor, char[] chars, int[] ends) {
+        int start = 0;
+        for (int i = 0; i < fieldCount; i++) {
+            int end = ends[i];
+            if (nullFields[i]) {
+                visitor.visitNullField(i);
+            } else {
+                visitor.visitField(i, chars, start, end - start, quotedFields[i]);
+            }
+            start = end;
+        }
+        visitor.endRecord(fieldCount);
+    }
+
+    /**
+     * Makes sure the arrays describing the fields can hold a given number of
+     * fields.
+     *
+     * @param capacity The number of fields
+     */
+    protected void ensureFieldCapacity(int capacity) {
+        if (capacity > fieldEnds.length) {
+            int newCapacity = Math.max(capacity, fieldEnds.length * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, newCapacity);
+            nullFields = Arrays.copyOf(nullFields, newCapacity);
+            quotedFields = Arrays.copyOf(quotedFields, newCapacity);
+        }
+    }
+
+    /**
+     * @param index The position of a field in the current record
+     * @return Where the content of the field starts in the data
+     */
+    protected int fieldStart(int index) {
+        return index == 0 ? 0 : fieldEnds[index - 1];
+    }
+
+    protected boolean isEscapable(int c) {
+        return c == quotechar || c == escape || c == separator;
+    }
+
+    protected boolean isInQuotes(boolean inQuotes) {
+        return (inQuotes && !ignoreQuotations) || inField;
+    }
+
+    /**
+     * Finishes the field currently being collected.
+     *
+     * @param fromQuotedField Whether the field contained quotes or any data,
+     *                        in the sense {@link CSVParser} uses to decide
+     *                        whether an empty field is {@code null}
+     */
+    protected void endField(boolean fromQuotedField) {
+        ensureFieldCapacity(fieldCount + 1);
+        fieldEnds[fieldCount] = dataLength;
+        nullFields[fieldCount] = dataLength == fieldStart && shouldConvertEmptyToNull(fromQuotedField);
+        quotedFields[fieldCount] = fieldQuoted;
+        fieldCount++;
+        fieldStart = dataLength;
+        fieldQuoted = false;
+    }
+
+    private boolean shouldConvertEmptyToNull(boolean fromQuotedField) {
+        switch (nullFieldIndicator) {
+            case BOTH:
+                return true;
+            case EMPTY_SEPARATORS:
+                return !fromQuotedField;
+            case EMPTY_QUOTES:
+                return fromQuotedField;
+            default:
+                return false;
+        }
+    }
+}
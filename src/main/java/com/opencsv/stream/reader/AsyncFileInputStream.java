@@ -0,0 +1,182 @@
+package com.opencsv.stream.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a file through an {@link AsynchronousFileChannel}, keeping reads of
+ * the next buffers in flight while the current one is being consumed.
+ * <p>The reader only waits for the disk if it consumes the file faster than
+ * the buffers ahead of it can be filled, so latency spikes of slow or
+ * network-attached storage are absorbed as long as there are enough
+ * buffers. Reading starts at any position, and {@link #seek(long)} moves
+ * to another one.</p>
+ *
+ * @since 5.7.1
+ */
+public class AsyncFileInputStream extends InputStream {
+
+    /**
+     * The default size of a buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private final AsynchronousFileChannel channel;
+    private final long size;
+    private final int bufferCount;
+    private final int bufferSize;
+    private final Deque<Read> reads = new ArrayDeque<>();
+    private final Deque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+    private long nextRead;
+    private ByteBuffer current = ByteBuffer.allocate(0);
+
+    /**
+     * Opens a file for reading from the beginning.
+     *
+     * @param path        The file to be read
+     * @param bufferCount The number of buffers read ahead of the one being
+     *                    consumed
+     * @param bufferSize  The size of a buffer
+     * @throws IOException If the file cannot be opened
+     */
+    public AsyncFileInputStream(Path path, int bufferCount, int bufferSize) throws IOException {
+        this.channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.bufferCount = Math.max(bufferCount, 1);
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.nextRead = 0;
+        startReads();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!current.hasRemaining() && !nextBuffer()) {
+            return -1;
+        }
+        return current.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!current.hasRemaining() && !nextBuffer()) {
+            return -1;
+        }
+        int count = Math.min(len, current.remaining());
+        current.get(b, off, count);
+        return count;
+    }
+
+    /**
+     * Continues reading at another position of the file.
+     * Reads still in flight are abandoned.
+     *
+     * @param position The position of the next byte to be read
+     */
+    public void seek(long position) {
+        // The abandoned reads may still write into their buffers, so those
+        // are not reused.
+        reads.clear();
+        current = ByteBuffer.allocate(0);
+        nextRead = position;
+        startReads();
+    }
+
+    @Override
+    public int available() {
+        return current.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Starts reading into every buffer that is not in use.
+     */
+    private void startReads() {
+        while (reads.size() < bufferCount && nextRead < size) {
+            ByteBuffer buffer = freeBuffers.isEmpty() ? ByteBuffer.allocate(bufferSize) : freeBuffers.pop();
+            buffer.clear();
+            buffer.limit((int) Math.min(bufferSize, size - nextRead));
+            reads.add(new Read(nextRead, buffer, channel.read(buffer, nextRead)));
+            nextRead += buffer.limit();
+        }
+    }
+
+    /**
+     * Waits for the next buffer to be filled and makes it the current one.
+     *
+     * @return {@code false} if the file has been read completely
+     */
+    private boolean nextBuffer() throws IOException {
+        if (current.capacity() > 0) {
+            freeBuffers.push(current);
+        }
+        current = ByteBuffer.allocate(0);
+        Read read = reads.poll();
+        if (read == null) {
+            return false;
+        }
+        ByteBuffer buffer = read.buffer;
+        int n = await(read.result);
+        while (n >= 0 && buffer.hasRemaining()) {
+            // A short read, so the rest is read right away.
+            n = await(channel.read(buffer, read.position + buffer.position()));
+        }
+        buffer.flip();
+        current = buffer;
+        startReads();
+        return current.hasRemaining() || nextBuffer();
+    }
+
+    private static int await(Future<Integer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException(e.getLocalizedMessage());
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * A read in flight.
+     */
+    private static class Read {
+        final long position;
+        final ByteBuffer buffer;
+        final Future<Integer> result;
+
+        Read(long position, ByteBuffer buffer, Future<Integer> result) {
+            this.position = position;
+            this.buffer = buffer;
+            this.result = result;
+        }
+    }
+}
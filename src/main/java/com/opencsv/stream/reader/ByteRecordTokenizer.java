@@ -0,0 +1,643 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CsvRecord;
+import com.opencsv.FieldVisitor;
+import com.opencsv.ICSVParser;
+import com.opencsv.RecordBatch;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Frames and tokenizes records directly from the bytes of an
+ * {@link InputStream}, without decoding them to characters first.
+ * <p>In UTF-8, US-ASCII and ISO-8859-1, every character below 128 is encoded
+ * as the single byte of the same value, and no byte of a multibyte UTF-8
+ * sequence is below 128. As long as the separator, the quote character and
+ * the escape character are ASCII, the structure of the input can therefore
+ * be found by looking at bytes alone. This class runs the same state machine
+ * as {@link CSVParser} over the bytes and collects the content of all fields
+ * in one byte array. Bytes are decoded only for the fields that are actually
+ * turned into strings or characters, and fields consisting entirely of ASCII
+ * are decoded by simply widening every byte.</p>
+ * <p>The results are the same as those of a {@link RecordTokenizer} reading
+ * from an {@link java.io.InputStreamReader} with the same character set,
+ * including the replacement of malformed input.
+ * See {@link #supports(ICSVParser, Charset)} for the configurations that are
+ * supported.</p>
+ *
+ * @since 5.7.1
+ */
+public class ByteRecordTokenizer extends AbstractRecordTokenizer {
+
+    private static final int ASCII_LIMIT = 0x80;
+    // No character takes more than four bytes, so this many bytes hold more than BEGINNING_OF_LINE characters.
+    private static final int LINE_HEAD_SIZE = 4 * (BEGINNING_OF_LINE + 1);
+
+    private final InputStream in;
+    private final Charset charset;
+    private final boolean utf8;
+    private final byte[] buffer;
+    // The number of bytes read before the content of the buffer
+    private long bufferOffset = 0;
+    private int position = 0;
+    private int limit = 0;
+    // Set when a line ended in a carriage return: a directly following line feed belongs to the same line end.
+    private boolean skipLineFeed = false;
+
+    // The undecoded content of all fields of the current record, one after the other.
+    private byte[] data = new byte[ICSVParser.INITIAL_READ_SIZE];
+
+    // The decoded content of the current record, only filled on demand.
+    private char[] chars = new char[ICSVParser.INITIAL_READ_SIZE];
+    private int[] charEnds = new int[0];
+    private CharsetDecoder decoder = null;
+
+    private byte[] lineCapture = null;
+    private int lineCaptureLength = 0;
+
+    // The beginning of the current line, for counting characters instead of bytes.
+    private final byte[] lineHead = new byte[LINE_HEAD_SIZE];
+    private int lineBytes = 0;
+    private boolean lineHeadAscii = true;
+
+    /**
+     * Creates a tokenizer with a buffer of {@link #DEFAULT_BUFFER_SIZE}.
+     *
+     * @param in                  The source of the bytes to be tokenized
+     * @param charset             The character set the input is encoded in
+     * @param parser              The parser whose configuration is to be used
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     * @throws IllegalArgumentException If the combination of character set
+     *   and parser is not supported
+     */
+    public ByteRecordTokenizer(InputStream in, Charset charset, CSVParser parser, boolean keepCarriageReturns) {
+        this(in, charset, parser, keepCarriageReturns, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer.
+     *
+     * @param in                  The source of the bytes to be tokenized
+     * @param charset             The character set the input is encoded in
+     * @param parser              The parser whose configuration is to be used
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     * @param bufferSize          The number of bytes read from {@code in} at
+     *                            once
+     * @throws IllegalArgumentException If the combination of character set
+     *   and parser is not supported
+     */
+    public ByteRecordTokenizer(InputStream in, Charset charset, CSVParser parser, boolean keepCarriageReturns, int bufferSize) {
+        super(parser, keepCarriageReturns);
+        if (!supports(parser, charset)) {
+            throw new IllegalArgumentException(String.format(
+                    "Character set %s cannot be tokenized as bytes with the given parser.", charset));
+        }
+        this.in = in;
+        this.charset = charset;
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        this.buffer = new byte[Math.max(bufferSize, 2)];
+    }
+
+    /**
+     * Determines whether input in a given character set can be tokenized as
+     * bytes for a parser.
+     * <p>This is the case for {@link CSVParser} itself (see
+     * {@link #supports(ICSVParser)}) with a separator, quote character and
+     * escape character below 128, if the input is encoded in UTF-8,
+     * US-ASCII or ISO-8859-1.</p>
+     *
+     * @param parser  The parser configured for reading
+     * @param charset The character set of the input
+     * @return {@code true} if the tokenizer produces the same results as the
+     *   parser reading decoded input
+     */
+    public static boolean supports(ICSVParser parser, Charset charset) {
+        return supports(parser)
+                && isAsciiCompatible(parser, charset)
+                && ((CSVParser) parser).getEscape() < ASCII_LIMIT;
+    }
+
+    /**
+     * Determines whether the characters that structure the input can be
+     * recognized as single bytes, without decoding.
+     *
+     * @param parser  The parser configured for reading
+     * @param charset The character set of the input
+     * @return {@code true} if the character set is UTF-8, US-ASCII or
+     *   ISO-8859-1 and the separator and quote character are below 128
+     */
+    static boolean isAsciiCompatible(ICSVParser parser, Charset charset) {
+        return (StandardCharsets.UTF_8.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset))
+                && parser.getSeparator() < ASCII_LIMIT
+                && parser.getQuotechar() < ASCII_LIMIT;
+    }
+
+    @Override
+    public void setLineCapture(boolean captureLines) {
+        lineCapture = captureLines ? new byte[ICSVParser.INITIAL_READ_SIZE] : null;
+        lineCaptureLength = 0;
+        lastLine = null;
+    }
+
+    @Override
+    public boolean hasMoreInput() throws IOException {
+        while (true) {
+            if (position >= limit && !fill()) {
+                return false;
+            }
+            if (!skipLineFeed) {
+                return true;
+            }
+            skipLineFeed = false;
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes consumed from the input so far.
+     * <p>If the last line read ended in a carriage return and carriage
+     * returns are not kept, a line feed directly following it is only
+     * consumed by the next call to {@link #hasMoreInput()}.</p>
+     *
+     * @return The position in the input of the next byte to be tokenized
+     */
+    @Override
+    public long getPosition() {
+        return bufferOffset + position;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>This is possible if the input is a {@link MappedFileInputStream},
+     * an {@link AsyncFileInputStream} or a {@link FileInputStream}.</p>
+     */
+    @Override
+    public boolean seek(long position) throws IOException {
+        if (in instanceof MappedFileInputStream) {
+            ((MappedFileInputStream) in).seek(position);
+        } else if (in instanceof AsyncFileInputStream) {
+            ((AsyncFileInputStream) in).seek(position);
+        } else if (in instanceof FileInputStream) {
+            ((FileInputStream) in).getChannel().position(position);
+        } else {
+            return false;
+        }
+        bufferOffset = position;
+        this.position = 0;
+        limit = 0;
+        skipLineFeed = false;
+        startRecord();
+        return true;
+    }
+
+    @Override
+    public boolean skipLine() throws IOException {
+        if (!hasMoreInput()) {
+            return false;
+        }
+        while (true) {
+            while (position < limit && !isLineEnd(buffer[position])) {
+                position++;
+            }
+            if (position < limit || !fill()) {
+                break;
+            }
+        }
+        consumeLineEnd();
+        return true;
+    }
+
+    @Override
+    public boolean tokenizeLine() throws IOException {
+        if (!hasMoreInput()) {
+            return false;
+        }
+        lineCaptureLength = 0;
+
+        boolean inQuotes = false;
+        boolean fromQuotedField = false;
+        if (pending) {
+            pending = false;
+            inQuotes = !ignoreQuotations;
+        }
+
+        // The byte before the current
+        lineBytes = 0;
+        lineHeadAscii = true;
+        int previous = ICSVParser.NULL_CHARACTER;
+
+        int next = peekOnLine();
+        while (next != -1) {
+            int c = next;
+            consume(c);
+            int last = c;
+            next = peekOnLine();
+
+            if (c == escape) {
+                sealIncompleteCharacter();
+                if (!strictQuotes) {
+                    inField = true; // For the unusual case of escaping the first character
+                }
+                if (next != -1 && isInQuotes(inQuotes) && isEscapable(next)) {
+                    last = next;
+                    consume(last);
+                    append(last);
+                    next = peekOnLine();
+                }
+            } else if (c == quotechar) {
+                if (next == quotechar && isInQuotes(inQuotes)) {
+                    consume(quotechar);
+                    append(quotechar);
+                    next = peekOnLine();
+                } else {
+                    sealIncompleteCharacter();
+                    inQuotes = !inQuotes;
+                    if (dataLength == fieldStart) {
+                        fromQuotedField = true;
+                    }
+                    if (!ignoreQuotations) {
+                        fieldQuoted = true;
+                    }
+
+                    // the tricky case of an embedded quote in the middle: a,bc"d"ef,g
+                    if (!strictQuotes
+                            && charactersOnLine() > BEGINNING_OF_LINE
+                            && previous != separator
+                            && next != -1 && next != separator) {
+                        if (ignoreLeadingWhiteSpace && dataLength > fieldStart && isFieldWhitespace()) {
+                            dataLength = fieldStart;
+                        } else {
+                            append(c);
+                        }
+                    }
+                }
+                inField = !inField;
+            } else if (c == separator && !(inQuotes && !ignoreQuotations)) {
+                endField(fromQuotedField);
+                fromQuotedField = false;
+                inField = false;
+            } else {
+                boolean keep = !strictQuotes || (inQuotes && !ignoreQuotations);
+                if (keep) {
+                    append(c);
+                    inField = true;
+                    fromQuotedField = true;
+                } else {
+                    sealIncompleteCharacter();
+                }
+                // Everything up to the next special byte is handled the same way.
+                if (next != -1 && !isSpecial(next)) {
+                    int runStart = position;
+                    while (position < limit && !isSpecial(buffer[position] & 0xFF)) {
+                        position++;
+                    }
+                    int runLength = position - runStart;
+                    if (keep) {
+                        append(buffer, runStart, runLength);
+                    }
+                    if (lineCapture != null) {
+                        captureLine(buffer, runStart, runLength);
+                    }
+                    addToLineHead(runStart, runLength);
+                    last = buffer[position - 1] & 0xFF;
+                    next = peekOnLine();
+                }
+            }
+            previous = last;
+        }
+        consumeLineEnd();
+
+        if (inQuotes && !ignoreQuotations) {
+            // continuing a quoted section, re-append newline
+            append('\n');
+            pending = true;
+        } else {
+            inField = false;
+            endField(fromQuotedField);
+        }
+
+        if (lineCapture != null) {
+            lastLine = new String(lineCapture, 0, lineCaptureLength, charset);
+        }
+        return true;
+    }
+
+    /**
+     * Runs the state machine of {@link #tokenizeLine()} as far as it decides
+     * where quoted sections begin and end, without collecting or decoding
+     * anything.
+     */
+    @Override
+    public boolean frameLine() throws IOException {
+        if (!hasMoreInput()) {
+            return false;
+        }
+        lastLine = null;
+        boolean inQuotes = pending && !ignoreQuotations;
+        pending = false;
+
+        int next = peekOnLine();
+        while (next != -1) {
+            int c = next;
+            position++;
+            next = peekOnLine();
+
+            if (c == escape) {
+                if (!strictQuotes) {
+                    inField = true;
+                }
+                if (next != -1 && isInQuotes(inQuotes) && isEscapable(next)) {
+                    position++;
+                    next = peekOnLine();
+                }
+            } else if (c == quotechar) {
+                if (next == quotechar && isInQuotes(inQuotes)) {
+                    position++;
+                    next = peekOnLine();
+                } else {
+                    inQuotes = !inQuotes;
+                }
+                inField = !inField;
+            } else if (c == separator && !(inQuotes && !ignoreQuotations)) {
+                inField = false;
+            } else {
+                if (!strictQuotes || (inQuotes && !ignoreQuotations)) {
+                    inField = true;
+                }
+                while (position < limit && !isSpecial(buffer[position] & 0xFF)) {
+                    position++;
+                }
+                next = peekOnLine();
+            }
+        }
+        consumeLineEnd();
+
+        if (inQuotes && !ignoreQuotations) {
+            pending = true;
+        } else {
+            inField = false;
+        }
+        return true;
+    }
+
+    @Override
+    public void visitFields(FieldVisitor visitor) {
+        decodeRecord();
+        visitFields(visitor, chars, charEnds);
+    }
+
+    @Override
+    public void copyTo(CsvRecord record) {
+        decodeRecord();
+        record.setFields(chars, charEnds, nullFields, quotedFields, fieldCount);
+    }
+
+    @Override
+    public void copyTo(RecordBatch batch) {
+        decodeRecord();
+        batch.addRecord(chars, charEnds, nullFields, quotedFields, fieldCount);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Decodes part of the data, taking the shortcut for pure ASCII.
+     */
+    @Override
+    protected String createString(int start, int length) {
+        if (isAscii(start, start + length)) {
+            return new String(data, start, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(data, start, length, charset);
+    }
+
+    @Override
+    protected String createField(int index, int start, int length) {
+        if (isAscii(start, start + length)) {
+            return deduplicator.deduplicateAscii(index, data, start, length);
+        }
+        return deduplicator.deduplicate(index, new String(data, start, length, charset));
+    }
+
+    @Override
+    protected boolean isCarriageReturnAt(int index) {
+        return data[index] == '\r';
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        bufferOffset += limit;
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private boolean isLineEnd(int b) {
+        return b == '\n' || (b == '\r' && !keepCarriageReturns);
+    }
+
+    private boolean isSpecial(int b) {
+        return b == separator || b == quotechar || b == escape || isLineEnd(b);
+    }
+
+    /**
+     * @return The next byte of the current line as an unsigned value without
+     *   consuming it, or -1 at the end of the line
+     */
+    private int peekOnLine() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        int b = buffer[position] & 0xFF;
+        return isLineEnd(b) ? -1 : b;
+    }
+
+    private void consume(int b) {
+        if (lineBytes < LINE_HEAD_SIZE) {
+            lineHead[lineBytes] = (byte) b;
+            lineHeadAscii &= b < ASCII_LIMIT;
+        }
+        lineBytes++;
+        position++;
+        if (lineCapture != null) {
+            if (lineCaptureLength == lineCapture.length) {
+                lineCapture = Arrays.copyOf(lineCapture, lineCaptureLength * 2);
+            }
+            lineCapture[lineCaptureLength++] = (byte) b;
+        }
+    }
+
+    private void captureLine(byte[] source, int offset, int length) {
+        if (lineCaptureLength + length > lineCapture.length) {
+            lineCapture = Arrays.copyOf(lineCapture, Math.max(lineCapture.length * 2, lineCaptureLength + length));
+        }
+        System.arraycopy(source, offset, lineCapture, lineCaptureLength, length);
+        lineCaptureLength += length;
+    }
+
+    private void consumeLineEnd() {
+        if (position < limit) {
+            if (buffer[position++] == '\r') {
+                skipLineFeed = true;
+            }
+        }
+    }
+
+    private void addToLineHead(int offset, int length) {
+        int count = Math.min(length, LINE_HEAD_SIZE - lineBytes);
+        for (int i = offset; i < offset + count; i++) {
+            lineHead[lineBytes + i - offset] = buffer[i];
+            lineHeadAscii &= buffer[i] >= 0;
+        }
+        lineBytes += length;
+    }
+
+    /**
+     * @return The number of characters (UTF-16 code units) consumed from the
+     *   current line, or some number above {@link #BEGINNING_OF_LINE} if that
+     *   many have been consumed
+     */
+    private int charactersOnLine() {
+        if (lineHeadAscii || !utf8 || lineBytes >= LINE_HEAD_SIZE) {
+            return lineBytes;
+        }
+        return new String(lineHead, 0, lineBytes, charset).length();
+    }
+
+    private boolean isAscii(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFieldWhitespace() {
+        if (!isAscii(fieldStart, dataLength)) {
+            String field = createString(fieldStart, dataLength - fieldStart);
+            for (int i = 0; i < field.length(); i++) {
+                if (!Character.isWhitespace(field.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = fieldStart; i < dataLength; i++) {
+            if (!Character.isWhitespace(data[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces an incomplete UTF-8 sequence at the end of the current field
+     * by the encoding of what it decodes to.
+     * This must be done before a byte that separated it from the following
+     * bytes in the input is dropped, so that malformed input is not turned
+     * into a valid character by joining its parts.
+     */
+    private void sealIncompleteCharacter() {
+        if (!utf8 || dataLength == fieldStart || data[dataLength - 1] >= 0) {
+            return;
+        }
+        int start = dataLength - 1;
+        while (start > fieldStart && start > dataLength - 4 && (data[start] & 0xC0) == 0x80) {
+            start--;
+        }
+        int lead = data[start] & 0xFF;
+        int expected = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        if (dataLength - start < expected) {
+            byte[] replacement = new String(data, start, dataLength - start, charset).getBytes(charset);
+            dataLength = start;
+            append(replacement, 0, replacement.length);
+        }
+    }
+
+    private void append(int b) {
+        if (dataLength == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[dataLength++] = (byte) b;
+    }
+
+    private void append(byte[] source, int offset, int length) {
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+        }
+        System.arraycopy(source, offset, data, dataLength, length);
+        dataLength += length;
+    }
+
+    /**
+     * Decodes all fields of the current record into {@link #chars}.
+     * Decoding never produces more characters than there are bytes.
+     */
+    private void decodeRecord() {
+        if (chars.length < dataLength) {
+            chars = new char[Math.max(dataLength, chars.length * 2)];
+        }
+        if (charEnds.length < fieldEnds.length) {
+            charEnds = new int[fieldEnds.length];
+        }
+        int length = 0;
+        int start = 0;
+        for (int i = 0; i < fieldCount; i++) {
+            int end = fieldEnds[i];
+            length = decode(start, end, length);
+            charEnds[i] = length;
+            start = end;
+        }
+    }
+
+    /**
+     * Decodes part of the data into {@link #chars}.
+     *
+     * @param from   The first byte to be decoded
+     * @param to     The position after the last byte to be decoded
+     * @param target Where the characters go in {@link #chars}
+     * @return The position after the last character written
+     */
+    private int decode(int from, int to, int target) {
+        int i = from;
+        while (i < to && data[i] >= 0) {
+            chars[target++] = (char) data[i++];
+        }
+        if (i < to) {
+            if (decoder == null) {
+                decoder = charset.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            }
+            CharBuffer out = CharBuffer.wrap(chars, target, chars.length - target);
+            decoder.reset();
+            decoder.decode(ByteBuffer.wrap(data, i, to - i), out, true);
+            decoder.flush(out);
+            target = out.position();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,198 @@
+package com.opencsv.stream.reader;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lets equal field values in the same column share one {@link String}.
+ * <p>Columns with few distinct values, such as country codes, status flags
+ * or currencies, otherwise produce one string per record, and reading a
+ * large file into memory is dominated by these copies. Every column has a
+ * table of a fixed number of slots, in which a value is found by its hash
+ * code. If the slot holds an equal string, that string is returned. Otherwise
+ * a new string is created and replaces whatever was in the slot, so memory use
+ * is bounded no matter how many distinct values a column has.</p>
+ * <p>Values are looked up by their characters, or by their bytes if they are
+ * ASCII, so that no string is created for a value that is already known.
+ * Values longer than a limit are never pooled, as they are rarely repeated.</p>
+ * <p>A deduplicator can be used by several threads at the same time without
+ * locking. Slots are read and written without synchronization, which is safe
+ * because strings are immutable: another thread either sees a complete string
+ * or an older value of the slot, and the worst that can happen is that a value
+ * is not shared.</p>
+ *
+ * @since 5.7.1
+ */
+public class FieldDeduplicator {
+
+    /**
+     * The default number of columns, counting from the first, whose values
+     * are pooled.
+     */
+    public static final int DEFAULT_MAX_COLUMNS = 256;
+
+    /**
+     * The default number of slots per column.
+     */
+    public static final int DEFAULT_TABLE_SIZE = 1024;
+
+    /**
+     * The default length of the longest value that is pooled.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 32;
+
+    private final AtomicReferenceArray<String[]> tables;
+    private final int tableSize;
+    private final int maxLength;
+
+    /**
+     * Creates a deduplicator with the default limits.
+     */
+    public FieldDeduplicator() {
+        this(DEFAULT_MAX_COLUMNS, DEFAULT_TABLE_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a deduplicator.
+     *
+     * @param maxColumns The number of columns, counting from the first, whose
+     *                   values are pooled
+     * @param tableSize  The number of slots per column. This is rounded up to
+     *                   a power of two.
+     * @param maxLength  The length of the longest value that is pooled
+     */
+    public FieldDeduplicator(int maxColumns, int tableSize, int maxLength) {
+        this.tables = new AtomicReferenceArray<>(Math.max(maxColumns, 0));
+        this.tableSize = Integer.highestOneBit(Math.max(tableSize, 1) * 2 - 1);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns a string with the given characters.
+     *
+     * @param column The position of the field in its record
+     * @param chars  The characters of the field
+     * @param offset The position of the first character
+     * @param length The number of characters
+     * @return A string equal to the characters, shared with earlier values of
+     *   the column if possible
+     */
+    public String deduplicate(int column, char[] chars, int offset, int length) {
+        String[] table = table(column, length);
+        if (table == null) {
+            return new String(chars, offset, length);
+        }
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + chars[i];
+        }
+        int slot = slot(h);
+        String candidate = table[slot];
+        if (candidate != null && candidate.length() == length) {
+            int i = 0;
+            while (i < length && candidate.charAt(i) == chars[offset + i]) {
+                i++;
+            }
+            if (i == length) {
+                return candidate;
+            }
+        }
+        String value = new String(chars, offset, length);
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * Returns a string with the given characters, each of which is encoded
+     * as one byte below 128.
+     *
+     * @param column The position of the field in its record
+     * @param bytes  The ASCII characters of the field
+     * @param offset The position of the first byte
+     * @param length The number of bytes
+     * @return A string equal to the characters, shared with earlier values of
+     *   the column if possible
+     */
+    public String deduplicateAscii(int column, byte[] bytes, int offset, int length) {
+        String[] table = table(column, length);
+        if (table == null) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        int h = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            h = 31 * h + bytes[i];
+        }
+        int slot = slot(h);
+        String candidate = table[slot];
+        if (candidate != null && candidate.length() == length) {
+            int i = 0;
+            while (i < length && candidate.charAt(i) == bytes[offset + i]) {
+                i++;
+            }
+            if (i == length) {
+                return candidate;
+            }
+        }
+        String value = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * Returns a string that is equal to the one given.
+     *
+     * @param column The position of the field in its record
+     * @param value  The value of the field. May be {@code null}.
+     * @return An equal string shared with earlier values of the column, or
+     *   {@code value} itself
+     */
+    public String deduplicate(int column, String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] table = table(column, value.length());
+        if (table == null) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String candidate = table[slot];
+        if (value.equals(candidate)) {
+            return candidate;
+        }
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * Replaces every field of a record by a shared string where possible.
+     *
+     * @param fields The fields of a record. The array is modified.
+     */
+    public void deduplicate(String[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = deduplicate(i, fields[i]);
+        }
+    }
+
+    /**
+     * @param column The position of a field in its record
+     * @param length The length of its value
+     * @return The table for the column, or {@code null} if the value is not
+     *   to be pooled
+     */
+    private String[] table(int column, int length) {
+        if (column >= tables.length() || length > maxLength) {
+            return null;
+        }
+        String[] table = tables.get(column);
+        if (table == null) {
+            tables.compareAndSet(column, null, new String[tableSize]);
+            table = tables.get(column);
+        }
+        return table;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (tableSize - 1);
+    }
+}
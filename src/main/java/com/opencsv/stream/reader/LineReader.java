@@ -17,8 +17,21 @@ import java.io.IOException;
  */
 
 public class LineReader {
+
+    /**
+     * The number of characters taken from the reader at a time when carriage
+     * returns are kept. This is the default buffer size of a
+     * {@link BufferedReader}.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
     private final BufferedReader reader;
     private final boolean keepCarriageReturns;
+    // Input taken from the reader but not yet returned, when carriage
+    // returns are kept
+    private char[] chunk = null;
+    private int position = 0;
+    private int limit = 0;
 
     /**
      * LineReader constructor.
@@ -33,20 +46,71 @@ public class LineReader {
 
     /**
      * Reads the next line from the Reader.
+     * <p>If carriage returns are kept, only a line feed ends a line, and a
+     * carriage return before it remains at the end of the line. An empty
+     * line is returned as an empty string in either case.</p>
      *
-     * @return Line read from reader.
+     * @return Line read from reader, or {@code null} at the end of the input
      * @throws IOException On error from BufferedReader
      */
     public String readLine() throws IOException {
         return keepCarriageReturns ? readUntilNewline() : reader.readLine();
     }
 
+    /**
+     * Whether this line reader holds input it has taken from the reader but
+     * not yet returned. Anyone peeking into the reader to see if there is
+     * more input has to ask this first.
+     *
+     * @return {@code true} if the next line is at least partly buffered here
+     * @since 5.7.1
+     */
+    public boolean hasBufferedInput() {
+        return position < limit;
+    }
+
+    /**
+     * Reads up to the next line feed.
+     * <p>The input is taken from the reader a chunk at a time into a buffer
+     * of this line reader, and lines are framed in that buffer just as
+     * {@link BufferedReader#readLine()} frames them in its own: one scan for
+     * the line feed, and one copy into the string that is returned.</p>
+     *
+     * @return The line without its line feed, or {@code null} at the end of
+     *   the input
+     * @throws IOException On error from BufferedReader
+     */
     private String readUntilNewline() throws IOException {
-        StringBuilder sb = new StringBuilder(ICSVParser.INITIAL_READ_SIZE);
-        for (int c = reader.read(); c > -1 && c != '\n'; c = reader.read()) {
-            sb.append((char) c);
+        if (chunk == null) {
+            chunk = new char[CHUNK_SIZE];
+        }
+        StringBuilder sb = null;
+        while (true) {
+            if (position == limit) {
+                int n = reader.read(chunk, 0, chunk.length);
+                if (n < 0) {
+                    return sb == null ? null : sb.toString();
+                }
+                position = 0;
+                limit = n;
+            }
+            int start = position;
+            int end = start;
+            while (end < limit && chunk[end] != '\n') {
+                end++;
+            }
+            if (end < limit) {
+                position = end + 1;
+                if (sb == null) {
+                    return new String(chunk, start, end - start);
+                }
+                return sb.append(chunk, start, end - start).toString();
+            }
+            if (sb == null) {
+                sb = new StringBuilder(Math.max((end - start) * 2, ICSVParser.INITIAL_READ_SIZE));
+            }
+            sb.append(chunk, start, end - start);
+            position = limit;
         }
-
-        return sb.length() > 0 ? sb.toString() : null;
     }
 }
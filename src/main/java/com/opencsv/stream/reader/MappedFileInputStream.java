@@ -0,0 +1,117 @@
+package com.opencsv.stream.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through memory mappings instead of read calls.
+ * <p>The file is mapped one window at a time, so files of any size can be
+ * read, and reading starts at any position. Bytes are copied straight from
+ * the mapping into the array handed to {@link #read(byte[], int, int)}.</p>
+ *
+ * @since 5.7.1
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /**
+     * The default number of bytes mapped at once.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long size;
+    private final int windowSize;
+    private long nextWindow;
+    private ByteBuffer window = ByteBuffer.allocate(0);
+
+    /**
+     * Opens a file for reading from the beginning.
+     * The file is closed when the stream is closed.
+     *
+     * @param path The file to be read
+     * @throws IOException If the file cannot be opened
+     */
+    public MappedFileInputStream(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.READ), 0, DEFAULT_WINDOW_SIZE, true);
+    }
+
+    /**
+     * Reads part of a file that is already open.
+     * The channel is not closed when the stream is closed, so any number of
+     * streams can read from the same channel at the same time.
+     *
+     * @param channel    The file to be read
+     * @param position   Where to start reading
+     * @param windowSize The number of bytes to map at once
+     * @throws IOException If the size of the file cannot be determined
+     */
+    public MappedFileInputStream(FileChannel channel, long position, int windowSize) throws IOException {
+        this(channel, position, windowSize, false);
+    }
+
+    private MappedFileInputStream(FileChannel channel, long position, int windowSize, boolean ownsChannel) throws IOException {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.size = channel.size();
+        this.windowSize = Math.max(windowSize, 1);
+        this.nextWindow = position;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!window.hasRemaining() && !mapNextWindow()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!window.hasRemaining() && !mapNextWindow()) {
+            return -1;
+        }
+        int count = Math.min(len, window.remaining());
+        window.get(b, off, count);
+        return count;
+    }
+
+    /**
+     * Continues reading at another position of the file.
+     *
+     * @param position The position of the next byte to be read
+     */
+    public void seek(long position) {
+        nextWindow = position;
+        window = ByteBuffer.allocate(0);
+    }
+
+    @Override
+    public int available() {
+        return window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+
+    private boolean mapNextWindow() throws IOException {
+        if (nextWindow >= size) {
+            return false;
+        }
+        long length = Math.min(windowSize, size - nextWindow);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, nextWindow, length);
+        nextWindow += length;
+        return true;
+    }
+}
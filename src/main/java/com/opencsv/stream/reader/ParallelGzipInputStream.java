@@ -0,0 +1,662 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.ICSVParser;
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses a gzip file on several threads at once and delivers the
+ * decompressed bytes in their original order.
+ * <p>A gzip file may consist of several members, each compressed
+ * independently of the others. Tools such as bgzip write a great number of
+ * small members on purpose, and concatenated gzip files are such a file as
+ * well. Members are decompressed at the same time by a pool of threads,
+ * ahead of the reader:</p>
+ * <ul>
+ *     <li>A member written by bgzip states its own length in its header, so
+ *     the next one is found without decompressing anything.</li>
+ *     <li>For any other member, the file is searched for the next gzip
+ *     header, up to a given segment size. The member is decompressed on the
+ *     assumption that it ends right there.</li>
+ * </ul>
+ * <p>The bytes of a gzip header may also occur inside of compressed data,
+ * and a member may be larger than a segment. The members are therefore
+ * checked in order as they are handed out: wherever a member did not end
+ * exactly where its successor was assumed to begin, or was too large to be
+ * decompressed ahead, decompression continues on the reading thread from the
+ * true end of the previous member, just as with a
+ * {@link java.util.zip.GZIPInputStream}. The results are thus always those
+ * of decompressing the file sequentially. A file with one large member,
+ * such as one written by gzip or pigz, is decompressed entirely on the
+ * reading thread.</p>
+ * <p>The checksum and length at the end of every member are verified. As
+ * with {@link java.util.zip.GZIPInputStream}, bytes after the last member
+ * that do not begin another member are ignored. At most twice as many
+ * segments as there are threads are held in memory.</p>
+ *
+ * @since 5.7.1
+ */
+public class ParallelGzipInputStream extends InputStream {
+
+    /**
+     * The default number of compressed bytes searched for the next member.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+    /**
+     * The number of decompressed bytes above which a segment is left to the
+     * reading thread, so that badly compressible data cannot fill the
+     * memory.
+     */
+    private static final int MAX_SEGMENT_OUTPUT = 1 << 24;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int ID1 = 0x1f;
+    private static final int ID2 = 0x8b;
+    private static final int DEFLATE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int RESERVED_FLAGS = 0xe0;
+    private static final int TRAILER_SIZE = 8;
+    // A name or comment this long after a presumed header makes it unlikely.
+    private static final int MAX_PLAUSIBLE_NAME = 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final FileChannel channel;
+    private final long size;
+    private final int parallelism;
+    private final int segmentSize;
+    private final Locale errorLocale;
+
+    private ExecutorService executor = null;
+    private final Deque<Future<Segment>> segmentsInProgress = new ArrayDeque<>();
+    private long nextSegmentStart = 0;
+    private boolean nextSegmentIsMember = true;
+
+    /** Where the next member to be handed out begins. */
+    private long expectedStart = 0;
+
+    /** Members up to here are decompressed on the reading thread. */
+    private long sequentialEnd = 0;
+
+    private Member sequential = null;
+    private byte[] output = new byte[0];
+    private int outputPosition = 0;
+
+    /**
+     * Opens a gzip file with the default segment size.
+     *
+     * @param path        The file to be read
+     * @param parallelism The number of threads to decompress with
+     * @throws IOException If the file cannot be opened or does not begin
+     *   with a gzip header
+     */
+    public ParallelGzipInputStream(Path path, int parallelism) throws IOException {
+        this(path, parallelism, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens a gzip file.
+     *
+     * @param path        The file to be read
+     * @param parallelism The number of threads to decompress with
+     * @param segmentSize The number of compressed bytes searched for the
+     *                    beginning of the next member. Larger members are
+     *                    decompressed on the reading thread.
+     * @throws IOException If the file cannot be opened or does not begin
+     *   with a gzip header
+     */
+    public ParallelGzipInputStream(Path path, int parallelism, int segmentSize) throws IOException {
+        this(path, parallelism, segmentSize, null);
+    }
+
+    /**
+     * Opens a gzip file.
+     *
+     * @param path        The file to be read
+     * @param parallelism The number of threads to decompress with
+     * @param segmentSize The number of compressed bytes searched for the
+     *                    beginning of the next member. Larger members are
+     *                    decompressed on the reading thread.
+     * @param errorLocale Locale for error messages. If null, the default
+     *                    locale is used.
+     * @throws IOException If the file cannot be opened or does not begin
+     *   with a gzip header
+     */
+    public ParallelGzipInputStream(Path path, int parallelism, int segmentSize, Locale errorLocale) throws IOException {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.parallelism = Math.max(parallelism, 1);
+        this.segmentSize = Math.max(segmentSize, 1);
+        if (Header.read(channel, 0, false) == null) {
+            channel.close();
+            throw new ZipException(message(this.errorLocale, "gzip.format.invalid"));
+        }
+    }
+
+    private static String message(Locale errorLocale, String key) {
+        return ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(key);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (outputPosition == output.length) {
+            if (sequential != null) {
+                int n = sequential.inflate(b, off, len);
+                if (n >= 0) {
+                    return n;
+                }
+                expectedStart = sequential.getEnd();
+                sequential = null;
+            } else if (!nextSegment()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, output.length - outputPosition);
+        System.arraycopy(output, outputPosition, b, off, n);
+        outputPosition += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return output.length - outputPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (sequential != null) {
+            sequential.close();
+            sequential = null;
+        }
+        channel.close();
+    }
+
+    /**
+     * Moves on to the next member, either decompressed ahead or to be
+     * decompressed on this thread.
+     *
+     * @return {@code false} if there are no more members
+     */
+    private boolean nextSegment() throws IOException {
+        if (expectedStart < sequentialEnd) {
+            sequential = Member.open(channel, expectedStart, size, errorLocale);
+            if (sequential == null) {
+                // Not a gzip header, so the rest is ignored.
+                expectedStart = size;
+                sequentialEnd = size;
+            }
+            return true;
+        }
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "opencsv-inflater-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            submitSegments();
+        }
+        while (!segmentsInProgress.isEmpty()) {
+            Segment next = await(segmentsInProgress.poll());
+            submitSegments();
+            if (next.end <= expectedStart) {
+                // Decompressed on this thread as part of an earlier member
+                continue;
+            }
+            if (next.start == expectedStart && next.output != null) {
+                output = next.output;
+                outputPosition = 0;
+                expectedStart = next.end;
+                return true;
+            }
+            sequentialEnd = next.end;
+            return true;
+        }
+        executor.shutdown();
+        return false;
+    }
+
+    /**
+     * Divides the file into segments and submits them for decompression,
+     * as long as no more than twice as many as there are threads are in
+     * progress.
+     */
+    private void submitSegments() throws IOException {
+        while (segmentsInProgress.size() < 2 * parallelism && nextSegmentStart < size) {
+            final long start = nextSegmentStart;
+            final Header header = nextSegmentIsMember ? Header.read(channel, start, false) : null;
+            long end;
+            if (header != null && header.blockSize > 0 && start + header.blockSize <= size) {
+                end = start + header.blockSize;
+                nextSegmentIsMember = true;
+            } else {
+                long limit = Math.min(size, start + segmentSize);
+                end = findMember(header == null ? start : Math.min(header.dataStart, limit), limit);
+                nextSegmentIsMember = end >= 0;
+                if (end < 0) {
+                    end = limit;
+                }
+            }
+            final long segmentEnd = end;
+            if (header != null && (nextSegmentIsMember || segmentEnd == size)) {
+                segmentsInProgress.add(CompletableFuture.supplyAsync(() -> inflate(start, segmentEnd), executor));
+            } else {
+                segmentsInProgress.add(CompletableFuture.completedFuture(new Segment(start, segmentEnd, null)));
+            }
+            nextSegmentStart = segmentEnd;
+        }
+    }
+
+    /**
+     * Searches for the next plausible gzip header.
+     *
+     * @param from  Where to begin the search
+     * @param limit Where to end the search
+     * @return The position of the header, or -1 if there is none
+     */
+    private long findMember(long from, long limit) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(BUFFER_SIZE + 2);
+        long position = from;
+        while (position < limit) {
+            window.clear();
+            int length = readFully(channel, window, position);
+            byte[] bytes = window.array();
+            int end = (int) Math.min(Math.min(BUFFER_SIZE, length - 2), limit - position);
+            for (int i = 0; i < end; i++) {
+                if (bytes[i] == (byte) ID1 && bytes[i + 1] == (byte) ID2 && bytes[i + 2] == DEFLATE
+                        && Header.read(channel, position + i, true) != null) {
+                    return position + i;
+                }
+            }
+            if (length < BUFFER_SIZE + 2) {
+                break;
+            }
+            position += BUFFER_SIZE;
+        }
+        return -1;
+    }
+
+    /**
+     * Decompresses the members in a segment, if it consists of nothing
+     * else.
+     *
+     * @return The segment, without decompressed bytes if it could not be
+     *   decompressed by itself
+     */
+    private Segment inflate(long start, long end) {
+        byte[] inflated = new byte[BUFFER_SIZE];
+        int length = 0;
+        try {
+            long position = start;
+            while (position < end) {
+                Member member = Member.open(channel, position, end, errorLocale);
+                if (member == null) {
+                    return new Segment(start, end, null);
+                }
+                try {
+                    int n;
+                    while ((n = member.inflate(inflated, length, inflated.length - length)) >= 0) {
+                        length += n;
+                        if (length == inflated.length) {
+                            if (length >= MAX_SEGMENT_OUTPUT) {
+                                return new Segment(start, end, null);
+                            }
+                            inflated = Arrays.copyOf(inflated, length * 2);
+                        }
+                    }
+                } finally {
+                    member.close();
+                }
+                position = member.getEnd();
+            }
+        } catch (IOException e) {
+            // The segment did not end with a member. Whatever is wrong is
+            // found again when it is decompressed on the reading thread.
+            return new Segment(start, end, null);
+        }
+        return new Segment(start, end, Arrays.copyOf(inflated, length));
+    }
+
+    private static Segment await(Future<Segment> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException(e.getLocalizedMessage());
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Reads from a position until the buffer is full or the file ends.
+     *
+     * @return The number of bytes read
+     */
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * A part of the file and, if it could be decompressed by itself, its
+     * decompressed bytes.
+     */
+    private static class Segment {
+        final long start;
+        final long end;
+        final byte[] output;
+
+        Segment(long start, long end, byte[] output) {
+            this.start = start;
+            this.end = end;
+            this.output = output;
+        }
+    }
+
+    /**
+     * The header of a gzip member.
+     */
+    private static class Header {
+
+        /** Where the compressed data begin. */
+        final long dataStart;
+
+        /** The size of the whole member as written by bgzip, or -1. */
+        final long blockSize;
+
+        private Header(long dataStart, long blockSize) {
+            this.dataStart = dataStart;
+            this.blockSize = blockSize;
+        }
+
+        /**
+         * Reads a header.
+         *
+         * @param channel The file
+         * @param start   Where the header presumably begins
+         * @param strict  Whether to also reject headers that are valid, but
+         *                that no known compressor writes, because the bytes
+         *                were found by searching
+         * @return The header, or {@code null} if there is none
+         */
+        static Header read(FileChannel channel, long start, boolean strict) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(512);
+            readFully(channel, buffer, start);
+            buffer.flip();
+            Bytes bytes = new Bytes(channel, buffer, start);
+            if (bytes.next() != ID1 || bytes.next() != ID2 || bytes.next() != DEFLATE) {
+                return null;
+            }
+            int flags = bytes.next();
+            if (flags < 0 || (flags & RESERVED_FLAGS) != 0) {
+                return null;
+            }
+            bytes.skip(4);
+            int extraFlags = bytes.next();
+            int os = bytes.next();
+            if (os < 0 || strict && (extraFlags != 0 && extraFlags != 2 && extraFlags != 4 || os > 13 && os != 255)) {
+                return null;
+            }
+            long blockSize = -1;
+            if ((flags & FEXTRA) != 0) {
+                int extraLength = bytes.nextShort();
+                int read = 0;
+                while (read + 4 <= extraLength) {
+                    int id1 = bytes.next();
+                    int id2 = bytes.next();
+                    int length = bytes.nextShort();
+                    read += 4;
+                    if (id1 == 'B' && id2 == 'C' && length == 2) {
+                        blockSize = bytes.nextShort() + 1L;
+                    } else {
+                        bytes.skip(length);
+                    }
+                    read += length;
+                }
+                if (read != extraLength) {
+                    if (strict || read > extraLength) {
+                        return null;
+                    }
+                    bytes.skip(extraLength - read);
+                }
+            }
+            if ((flags & FNAME) != 0 && !bytes.skipString(strict)
+                    || (flags & FCOMMENT) != 0 && !bytes.skipString(strict)) {
+                return null;
+            }
+            if ((flags & FHCRC) != 0) {
+                bytes.skip(2);
+            }
+            if (bytes.isAtEnd()) {
+                return null;
+            }
+            return new Header(bytes.getPosition(), blockSize);
+        }
+    }
+
+    /**
+     * Reads the bytes of a header one at a time.
+     */
+    private static class Bytes {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long bufferStart;
+        private boolean atEnd = false;
+
+        Bytes(FileChannel channel, ByteBuffer buffer, long bufferStart) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.bufferStart = bufferStart;
+        }
+
+        int next() throws IOException {
+            if (!buffer.hasRemaining()) {
+                bufferStart += buffer.position();
+                buffer.clear();
+                int n = readFully(channel, buffer, bufferStart);
+                buffer.flip();
+                if (n == 0) {
+                    atEnd = true;
+                    return -1;
+                }
+            }
+            return buffer.get() & 0xff;
+        }
+
+        int nextShort() throws IOException {
+            return next() | next() << 8;
+        }
+
+        void skip(long count) throws IOException {
+            for (long i = 0; i < count; i++) {
+                next();
+            }
+        }
+
+        boolean skipString(boolean strict) throws IOException {
+            int length = 0;
+            int b;
+            while ((b = next()) > 0) {
+                if (strict && ++length > MAX_PLAUSIBLE_NAME) {
+                    return false;
+                }
+            }
+            return b == 0;
+        }
+
+        boolean isAtEnd() {
+            return atEnd;
+        }
+
+        long getPosition() {
+            return bufferStart + buffer.position();
+        }
+    }
+
+    /**
+     * Decompresses one member.
+     */
+    private static class Member {
+        private final FileChannel channel;
+        private final long limit;
+        private final Inflater inflater = new Inflater(true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] input = new byte[BUFFER_SIZE];
+        private final Locale errorLocale;
+        private long inputPosition;
+        private long end = -1;
+
+        private Member(FileChannel channel, long dataStart, long limit, Locale errorLocale) {
+            this.channel = channel;
+            this.errorLocale = errorLocale;
+            this.inputPosition = dataStart;
+            this.limit = limit;
+        }
+
+        /**
+         * @param channel     The file
+         * @param start       Where the member begins
+         * @param limit       The end of the compressed bytes that may be read
+         * @param errorLocale The locale for error messages
+         * @return The member, or {@code null} if there is no gzip header at
+         *   the given position
+         */
+        static Member open(FileChannel channel, long start, long limit, Locale errorLocale) throws IOException {
+            Header header = Header.read(channel, start, false);
+            return header == null || header.dataStart > limit ? null : new Member(channel, header.dataStart, limit, errorLocale);
+        }
+
+        /**
+         * Decompresses the next bytes.
+         *
+         * @return The number of bytes decompressed, or -1 if the member has
+         *   ended and its trailer has been verified
+         */
+        int inflate(byte[] b, int off, int len) throws IOException {
+            if (end >= 0) {
+                return -1;
+            }
+            try {
+                while (true) {
+                    int n = inflater.inflate(b, off, len);
+                    if (n > 0) {
+                        crc.update(b, off, n);
+                        return n;
+                    }
+                    if (inflater.finished()) {
+                        readTrailer();
+                        return -1;
+                    }
+                    if (inflater.needsDictionary()) {
+                        throw new ZipException(message(errorLocale, "gzip.format.invalid"));
+                    }
+                    if (inflater.needsInput()) {
+                        ByteBuffer buffer = ByteBuffer.wrap(input, 0, (int) Math.min(input.length, limit - inputPosition));
+                        int read = readFully(channel, buffer, inputPosition);
+                        if (read == 0) {
+                            throw new EOFException(message(errorLocale, "gzip.truncated"));
+                        }
+                        inflater.setInput(input, 0, read);
+                        inputPosition += read;
+                    }
+                }
+            } catch (DataFormatException e) {
+                ZipException zipException = new ZipException(e.getLocalizedMessage());
+                zipException.initCause(e);
+                throw zipException;
+            }
+        }
+
+        private void readTrailer() throws IOException {
+            long trailerStart = inputPosition - inflater.getRemaining();
+            long bytesWritten = inflater.getBytesWritten();
+            inflater.end();
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            if (trailerStart + TRAILER_SIZE > limit || readFully(channel, trailer, trailerStart) < TRAILER_SIZE) {
+                throw new EOFException(message(errorLocale, "gzip.truncated"));
+            }
+            trailer.order(ByteOrder.LITTLE_ENDIAN);
+            if ((trailer.getInt(0) & 0xffffffffL) != crc.getValue()
+                    || (trailer.getInt(4) & 0xffffffffL) != (bytesWritten & 0xffffffffL)) {
+                throw new ZipException(message(errorLocale, "gzip.trailer.corrupt"));
+            }
+            end = trailerStart + TRAILER_SIZE;
+        }
+
+        /**
+         * Releases the inflater, if that has not already happened when the
+         * trailer was read.
+         */
+        void close() {
+            inflater.end();
+        }
+
+        /**
+         * @return Where the member ends, once it has been decompressed
+         */
+        long getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,826 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CsvRecord;
+import com.opencsv.FieldVisitor;
+import com.opencsv.ICSVParser;
+import com.opencsv.RFC4180Parser;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.RecordBatch;
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tokenizes a memory-mapped file on several threads at once and hands the
+ * records out in their original order.
+ * <p>The file is divided into chunks of roughly equal size. A chunk consists
+ * of all records that begin inside of it; the last of them is read to its
+ * end, even if that lies beyond the chunk. Every chunk is processed in two
+ * passes, and the passes of different chunks run at the same time:</p>
+ * <ol>
+ *     <li>The chunk is scanned for quote characters and line ends. For both
+ *     possible states at the beginning of the chunk, inside or outside of a
+ *     quoted field, this yields the first line end that is outside of
+ *     quotes, and it yields whether the chunk leaves the quote state
+ *     changed.</li>
+ *     <li>As soon as the scans of all chunks before it are done, the state at
+ *     the beginning of the chunk is known, and with it the beginning of its
+ *     first record. From there the chunk is tokenized.</li>
+ * </ol>
+ * <p>The scan only counts quotes, which is exactly right for well-formed
+ * input, but not for every unusual combination of escape characters and
+ * stray quotes the parsers accept. The chunks are therefore also checked in
+ * order as they are handed out: the record that ends the previous chunk says
+ * where the next record really begins. If that is not where the chunk began,
+ * it is tokenized again from the true beginning of its first record. The
+ * results are thus always exactly those of reading the file
+ * sequentially.</p>
+ * <p>A {@link CSVParser} is emulated by a {@link ByteRecordTokenizer} for
+ * every chunk. An {@link RFC4180Parser} is given the decoded lines of a
+ * chunk one after the other, just as {@link com.opencsv.CSVReader} would;
+ * every chunk has a parser of its own.</p>
+ * <p>Records are presented line by line like with every other tokenizer, so
+ * line counts and validation stay the business of
+ * {@link com.opencsv.CSVReader}. Lines can only be skipped before the first
+ * line is tokenized, which is all that is needed for skipping the lines at
+ * the beginning of a file. Multiline limits are therefore not supported.</p>
+ * <p>The strings of the fields are created on the tokenizing threads, which
+ * share one {@link FieldDeduplicator} if one is set. After
+ * {@link #frameOnly()}, chunks submitted from then on are only divided into
+ * records and lines, which is all that is needed to count them.
+ * At most twice as many chunks as there are threads are held in memory.</p>
+ *
+ * @since 5.7.1
+ */
+public class ParallelRecordTokenizer extends AbstractRecordTokenizer {
+
+    /**
+     * The default size of the chunks the file is divided into.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final ICSVParser parser;
+    private final int parallelism;
+    private final int chunkSize;
+    private final long size;
+    private boolean captureLines = false;
+    // The columns strings are created for on the tokenizing threads
+    private volatile int[] workerColumns = null;
+    // Whether the tokenizing threads only find the records and lines
+    private volatile boolean framingOnly = false;
+
+    // Reads the lines that are skipped before tokenizing begins
+    private final ByteLineReader prelude;
+
+    private ExecutorService executor = null;
+    private final Deque<Future<Chunk>> chunksInProgress = new ArrayDeque<>();
+    private long firstChunkStart;
+    private long nextChunkStart;
+    // Whether the next chunk to be submitted begins inside of quotes
+    private CompletableFuture<Boolean> quotesOpen;
+    // Where the next chunk must begin, as determined by the end of the last one
+    private long expectedStart;
+
+    // The chunk being handed out, and the position in it
+    private Chunk chunk = null;
+    private int recordIndex = 0;
+    private int lineIndex = 0;
+    private int lineInRecord = 0;
+    private int quotedIndex = 0;
+    private String[] record = null;
+    private int recordFieldCount = 0;
+    private int recordQuotedIndex = 0;
+    private char[] chars = new char[0];
+
+    /**
+     * Creates a tokenizer with chunks of {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param path                The file to be read
+     * @param charset             The character set the file is encoded in
+     * @param parser              The parser whose results are to be
+     *                            reproduced
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     * @param parallelism         The number of threads to tokenize on
+     * @throws IOException If the file cannot be opened
+     * @throws IllegalArgumentException If the combination of character set
+     *   and parser is not supported
+     * @see #supports(ICSVParser, Charset, boolean)
+     */
+    public ParallelRecordTokenizer(Path path, Charset charset, ICSVParser parser, boolean keepCarriageReturns,
+                                   int parallelism) throws IOException {
+        this(path, charset, parser, keepCarriageReturns, parallelism, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer.
+     *
+     * @param path                The file to be read
+     * @param charset             The character set the file is encoded in
+     * @param parser              The parser whose results are to be
+     *                            reproduced
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     * @param parallelism         The number of threads to tokenize on
+     * @param chunkSize           The number of bytes each thread tokenizes at
+     *                            a time
+     * @throws IOException If the file cannot be opened
+     * @throws IllegalArgumentException If the combination of character set
+     *   and parser is not supported
+     * @see #supports(ICSVParser, Charset, boolean)
+     */
+    public ParallelRecordTokenizer(Path path, Charset charset, ICSVParser parser, boolean keepCarriageReturns,
+                                   int parallelism, int chunkSize) throws IOException {
+        super(parser, keepCarriageReturns);
+        if (!supports(parser, charset, keepCarriageReturns)) {
+            throw new IllegalArgumentException(String.format(
+                    "Character set %s cannot be tokenized in parallel with the given parser.", charset));
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.charset = charset;
+        this.parser = parser;
+        this.parallelism = Math.max(parallelism, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.size = channel.size();
+        this.prelude = new ByteLineReader(
+                new MappedFileInputStream(channel, 0, MappedFileInputStream.DEFAULT_WINDOW_SIZE),
+                charset, keepCarriageReturns);
+    }
+
+    /**
+     * Determines whether a file can be tokenized in parallel for a parser.
+     * <p>This is the case for everything a {@link ByteRecordTokenizer}
+     * supports, and for an {@link RFC4180Parser} itself with a separator and
+     * quote character below 128, if the input is encoded in UTF-8, US-ASCII
+     * or ISO-8859-1 and carriage returns are not kept.</p>
+     *
+     * @param parser              The parser configured for reading
+     * @param charset             The character set of the input
+     * @param keepCarriageReturns Whether carriage returns are kept in the data
+     * @return {@code true} if the tokenizer produces the same results as the
+     *   parser reading the file sequentially
+     */
+    public static boolean supports(ICSVParser parser, Charset charset, boolean keepCarriageReturns) {
+        if (ByteRecordTokenizer.supports(parser, charset)) {
+            return true;
+        }
+        return parser != null && parser.getClass() == RFC4180Parser.class
+                && ByteRecordTokenizer.isAsciiCompatible(parser, charset)
+                && !keepCarriageReturns;
+    }
+
+    @Override
+    public void setLineCapture(boolean captureLines) {
+        this.captureLines = captureLines;
+        lastLine = null;
+    }
+
+    @Override
+    public boolean hasMoreInput() throws IOException {
+        if (executor == null) {
+            return prelude.hasMoreInput();
+        }
+        return (chunk != null && lineIndex < chunk.lineCount) || nextChunk();
+    }
+
+    /**
+     * Skips the next physical line.
+     *
+     * @throws UnsupportedOperationException If tokenizing has already begun
+     */
+    @Override
+    public boolean skipLine() throws IOException {
+        if (executor != null) {
+            throw new UnsupportedOperationException(message("tokenizer.skip.started"));
+        }
+        return prelude.readLine(false) != null;
+    }
+
+    @Override
+    public boolean tokenizeLine() throws IOException {
+        if (executor == null) {
+            start();
+        }
+        if (!hasMoreInput()) {
+            return false;
+        }
+        if (chunk.lines != null) {
+            lastLine = chunk.lines.get(lineIndex);
+        }
+        lineIndex++;
+        lineInRecord++;
+        if (recordIndex < chunk.records.size() && lineInRecord == chunk.lineCounts[recordIndex]) {
+            record = chunk.records.get(recordIndex);
+            recordFieldCount = chunk.fieldCounts[recordIndex];
+            recordQuotedIndex = quotedIndex;
+            quotedIndex += recordFieldCount;
+            recordIndex++;
+            lineInRecord = 0;
+            pending = false;
+        } else {
+            pending = true;
+        }
+        return true;
+    }
+
+    /**
+     * @return The text of an unterminated field at the end of the file, or
+     *   an empty string if there is none
+     */
+    @Override
+    public String getPendingText() {
+        return pending && chunk.pendingText != null ? chunk.pendingText : "";
+    }
+
+    /**
+     * Does nothing, since the carriage return at the end of a record was
+     * already removed on the tokenizing thread.
+     */
+    @Override
+    public void removeTrailingCarriageReturn() {
+    }
+
+    /**
+     * Stops creating the fields of chunks that have not been submitted yet.
+     */
+    @Override
+    public void frameOnly() {
+        framingOnly = true;
+    }
+
+    /**
+     * Restricts {@link #toArray()} to some of the fields of every record.
+     * Chunks tokenized after this call only create strings for these columns.
+     *
+     * @throws UnsupportedOperationException If tokenizing has already begun
+     *   with other columns selected
+     */
+    @Override
+    public void setColumns(int[] columns) {
+        if (executor != null && this.columns != null && !Arrays.equals(this.columns, columns)) {
+            throw new UnsupportedOperationException(message("tokenizer.columns.changed"));
+        }
+        super.setColumns(columns);
+        workerColumns = columns;
+    }
+
+    @Override
+    public int getFieldCount() {
+        return recordFieldCount;
+    }
+
+    @Override
+    public boolean isQuoted(int index) {
+        return chunk.quoted[recordQuotedIndex + index];
+    }
+
+    @Override
+    public void visitFields(FieldVisitor visitor) {
+        requireAllColumns();
+        fillCharacters();
+        visitFields(visitor, chars, fieldEnds);
+    }
+
+    @Override
+    public void copyTo(CsvRecord csvRecord) {
+        requireAllColumns();
+        fillCharacters();
+        csvRecord.setFields(chars, fieldEnds, nullFields, quotedFields, fieldCount);
+    }
+
+    @Override
+    public void copyTo(RecordBatch batch) {
+        requireAllColumns();
+        fillCharacters();
+        batch.addRecord(chars, fieldEnds, nullFields, quotedFields, fieldCount);
+    }
+
+    /**
+     * Returns one field. The string was created on a tokenizing thread.
+     *
+     * @throws UnsupportedOperationException If only some columns were
+     *   tokenized into strings
+     */
+    @Override
+    public String getField(int index) {
+        requireAllColumns();
+        return record[index];
+    }
+
+    /**
+     * Returns the fields of the current record. If the columns were selected
+     * before the record was tokenized, the array was created on a tokenizing
+     * thread and is not copied.
+     */
+    @Override
+    public String[] toArray() {
+        return columns == null || chunk.columns != null ? record : toArray(columns);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        channel.close();
+    }
+
+    @Override
+    protected String createString(int start, int length) {
+        return new String(chars, start, length);
+    }
+
+    @Override
+    protected boolean isCarriageReturnAt(int index) {
+        return chars[index] == '\r';
+    }
+
+    private void requireAllColumns() {
+        if (chunk.columns != null) {
+            throw new UnsupportedOperationException(message("tokenizer.columns.unselected"));
+        }
+    }
+
+    /**
+     * Ends the skipping of lines and starts tokenizing on the other threads.
+     */
+    private void start() throws IOException {
+        prelude.hasMoreInput();
+        firstChunkStart = prelude.getPosition();
+        nextChunkStart = firstChunkStart;
+        expectedStart = firstChunkStart;
+        quotesOpen = CompletableFuture.completedFuture(false);
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "opencsv-tokenizer-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        submitChunks();
+    }
+
+    /**
+     * Submits both passes for as many chunks as may be held in memory.
+     * The second pass over a chunk waits for its own scan and for the quote
+     * state left by the scans of all chunks before it.
+     */
+    private void submitChunks() {
+        while (chunksInProgress.size() < 2 * parallelism && nextChunkStart < size) {
+            final long start = nextChunkStart;
+            final long end = Math.min(size, start + chunkSize);
+            final boolean first = start == firstChunkStart;
+            CompletableFuture<Boundaries> scanned = CompletableFuture.supplyAsync(() -> scan(start, end), executor);
+            chunksInProgress.add(scanned.thenCombineAsync(quotesOpen, (boundaries, open) -> {
+                long firstRecord = first ? start : boundaries.firstRecord(open);
+                return firstRecord < 0 ? new Chunk(end, end, false, null) : tokenize(firstRecord, end);
+            }, executor));
+            quotesOpen = quotesOpen.thenCombine(scanned, (open, boundaries) -> open != boundaries.oddQuotes);
+            nextChunkStart = end;
+        }
+    }
+
+    /**
+     * Moves on to the next chunk that contains any records, tokenizing it
+     * again if it did not begin at the beginning of a record.
+     *
+     * @return {@code false} if there are no more records
+     */
+    private boolean nextChunk() throws IOException {
+        while (!chunksInProgress.isEmpty()) {
+            Chunk next = await(chunksInProgress.poll());
+            submitChunks();
+            if (expectedStart >= next.end) {
+                // The last record of the previous chunk covers this one.
+                continue;
+            }
+            if (next.start != expectedStart) {
+                next = tokenize(expectedStart, next.end);
+            }
+            expectedStart = next.exit;
+            if (next.lineCount > 0) {
+                chunk = next;
+                recordIndex = 0;
+                lineIndex = 0;
+                lineInRecord = 0;
+                quotedIndex = 0;
+                return true;
+            }
+        }
+        executor.shutdown();
+        return false;
+    }
+
+    private String message(String key) {
+        return ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(key);
+    }
+
+    private static Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException(e.getLocalizedMessage());
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * The first pass over a chunk: finds where records may begin by counting
+     * quotes.
+     * An escape character keeps the character after it from counting, and
+     * quotes are not counted at all if the parser ignores them.
+     *
+     * @param start The first position of the chunk
+     * @param end   The position after the chunk
+     * @return The first possible beginnings of records and the parity of the
+     *   quotes in the chunk
+     */
+    private Boundaries scan(long start, long end) {
+        try {
+            // The byte before the chunk tells whether a record can begin right
+            // at its start, the byte after it whether a carriage return at its
+            // end is followed by a line feed.
+            long from = Math.max(start - 1, 0);
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(size, end + 1) - from);
+            Boundaries result = new Boundaries();
+            boolean countQuotes = !ignoreQuotations;
+            boolean hasEscape = escape != ICSVParser.NULL_CHARACTER && escape != quotechar;
+            boolean odd = false;
+            boolean escaped = false;
+            int length = (int) (end - from);
+            for (int i = 0; i < length; i++) {
+                int c = bytes.get(i);
+                if (c == '\n' || (c == '\r' && !keepCarriageReturns)) {
+                    escaped = false;
+                    if (c == '\r' && i + 1 < bytes.limit() && bytes.get(i + 1) == '\n') {
+                        continue;
+                    }
+                    if (from + i + 1 >= start) {
+                        result.found(odd, from + i + 1);
+                    }
+                } else if (from + i < start) {
+                    // Only the line end of the previous chunk is of interest.
+                    continue;
+                } else if (escaped) {
+                    escaped = false;
+                } else if (hasEscape && c == escape) {
+                    escaped = true;
+                } else if (countQuotes && c == quotechar) {
+                    odd = !odd;
+                }
+            }
+            result.oddQuotes = odd;
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The second pass over a chunk: tokenizes all records beginning between
+     * two positions.
+     *
+     * @param start Where the first record begins
+     * @param end   The position before which the last record must begin
+     * @return The records found
+     */
+    private Chunk tokenize(long start, long end) {
+        try {
+            InputStream in = new MappedFileInputStream(channel, start, chunkSize);
+            return parser instanceof CSVParser
+                    ? tokenizeRecords(in, start, end)
+                    : parseRecords(in, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Chunk tokenizeRecords(InputStream in, long start, long end) throws IOException {
+        ByteRecordTokenizer tokenizer = new ByteRecordTokenizer(in, charset, (CSVParser) parser, keepCarriageReturns);
+        boolean framing = framingOnly;
+        boolean capture = captureLines && !framing;
+        tokenizer.setLineCapture(capture);
+        tokenizer.setFieldDeduplicator(deduplicator);
+        int[] selection = workerColumns;
+        tokenizer.setColumns(selection);
+        Chunk result = new Chunk(start, end, capture, selection);
+        while (tokenizer.hasMoreInput() && start + tokenizer.getPosition() < end) {
+            tokenizer.startRecord();
+            int lines = 0;
+            do {
+                if (framing) {
+                    tokenizer.frameLine();
+                } else {
+                    tokenizer.tokenizeLine();
+                }
+                lines++;
+                if (capture) {
+                    result.lines.add(tokenizer.getLastLine());
+                }
+            } while (tokenizer.isPending() && tokenizer.hasMoreInput());
+            if (tokenizer.isPending()) {
+                result.pendingText = tokenizer.getPendingText();
+                result.lineCount += lines;
+                break;
+            }
+            if (framing) {
+                result.add(null, 0, lines, null);
+                continue;
+            }
+            if (keepCarriageReturns) {
+                tokenizer.removeTrailingCarriageReturn();
+            }
+            result.add(tokenizer.toArray(), tokenizer.getFieldCount(), lines, tokenizer);
+        }
+        tokenizer.hasMoreInput();
+        result.exit = start + tokenizer.getPosition();
+        return result;
+    }
+
+    /**
+     * Hands the lines of a chunk to a parser of its own, the way
+     * {@link com.opencsv.CSVReader} does.
+     */
+    private Chunk parseRecords(InputStream in, long start, long end) throws IOException {
+        ICSVParser lineParser = new RFC4180ParserBuilder()
+                .withSeparator(separator)
+                .withQuoteChar(quotechar)
+                .withFieldAsNull(nullFieldIndicator)
+                .build();
+        ByteLineReader reader = new ByteLineReader(in, charset, keepCarriageReturns);
+        boolean framing = framingOnly;
+        boolean capture = captureLines && !framing;
+        int[] selection = workerColumns;
+        Chunk result = new Chunk(start, end, capture, selection);
+        records:
+        while (reader.hasMoreInput() && start + reader.getPosition() < end) {
+            List<String> fields = new ArrayList<>();
+            int lines = 0;
+            do {
+                String line = reader.readLine(true);
+                if (line == null) {
+                    result.pendingText = lineParser.getPendingText();
+                    result.lineCount += lines;
+                    break records;
+                }
+                lines++;
+                if (capture) {
+                    result.lines.add(line);
+                }
+                String[] lineFields = lineParser.parseLineMulti(line);
+                if (!framing) {
+                    Collections.addAll(fields, lineFields);
+                }
+            } while (lineParser.isPending());
+            if (framing) {
+                result.add(null, 0, lines, null);
+                continue;
+            }
+            String[] values;
+            if (selection == null) {
+                values = fields.toArray(ArrayUtils.EMPTY_STRING_ARRAY);
+            } else {
+                values = new String[selection.length];
+                for (int i = 0; i < selection.length; i++) {
+                    int index = selection[i];
+                    values[i] = index >= 0 && index < fields.size() ? fields.get(index) : null;
+                }
+            }
+            if (deduplicator != null) {
+                deduplicator.deduplicate(values);
+            }
+            result.add(values, fields.size(), lines, null);
+        }
+        reader.hasMoreInput();
+        result.exit = start + reader.getPosition();
+        return result;
+    }
+
+    /**
+     * Makes the characters of the current record available in
+     * {@link #chars} and the field arrays of the base class.
+     */
+    private void fillCharacters() {
+        int length = 0;
+        for (String field : record) {
+            length += field == null ? 0 : field.length();
+        }
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        ensureFieldCapacity(record.length);
+        int end = 0;
+        for (int i = 0; i < record.length; i++) {
+            String field = record[i];
+            if (field != null) {
+                field.getChars(0, field.length(), chars, end);
+                end += field.length();
+            }
+            fieldEnds[i] = end;
+            nullFields[i] = field == null;
+            quotedFields[i] = isQuoted(i);
+        }
+        fieldCount = record.length;
+        dataLength = end;
+    }
+
+    /**
+     * The result of the first pass over a chunk.
+     */
+    private static class Boundaries {
+        // The first position after a line end, by whether the number of
+        // quotes in the chunk before it is odd
+        private final long[] firstRecord = {-1, -1};
+        boolean oddQuotes = false;
+
+        void found(boolean odd, long position) {
+            int index = odd ? 1 : 0;
+            if (firstRecord[index] < 0) {
+                firstRecord[index] = position;
+            }
+        }
+
+        /**
+         * @param quotesOpen Whether the chunk begins inside of quotes
+         * @return Where the first record of the chunk begins, or -1 if none
+         *   does
+         */
+        long firstRecord(boolean quotesOpen) {
+            return firstRecord[quotesOpen ? 1 : 0];
+        }
+    }
+
+    /**
+     * The records of one chunk of the file.
+     */
+    private static class Chunk {
+        final long start;
+        final long end;
+        long exit;
+        // The columns the records are restricted to, or null for all
+        final int[] columns;
+        final List<String[]> records = new ArrayList<>();
+        int[] lineCounts = new int[64];
+        int[] fieldCounts = new int[64];
+        boolean[] quoted = new boolean[256];
+        int quotedLength = 0;
+        final List<String> lines;
+        int lineCount = 0;
+        // The text of an unterminated record at the end of the file
+        String pendingText = null;
+
+        Chunk(long start, long end, boolean captureLines, int[] columns) {
+            this.start = start;
+            this.columns = columns;
+            this.end = end;
+            this.exit = start;
+            this.lines = captureLines ? new ArrayList<>() : null;
+        }
+
+        void add(String[] fields, int fieldCount, int lines, AbstractRecordTokenizer quotes) {
+            int index = records.size();
+            if (index == lineCounts.length) {
+                lineCounts = Arrays.copyOf(lineCounts, index * 2);
+                fieldCounts = Arrays.copyOf(fieldCounts, index * 2);
+            }
+            lineCounts[index] = lines;
+            fieldCounts[index] = fieldCount;
+            lineCount += lines;
+            records.add(fields);
+            if (quotedLength + fieldCount > quoted.length) {
+                quoted = Arrays.copyOf(quoted, Math.max(quoted.length * 2, quotedLength + fieldCount));
+            }
+            for (int i = 0; i < fieldCount; i++) {
+                quoted[quotedLength++] = quotes != null && quotes.isQuoted(i);
+            }
+        }
+    }
+
+    /**
+     * Splits bytes into lines the way {@link java.io.BufferedReader} splits
+     * characters, or at line feeds only if carriage returns are kept.
+     */
+    private static class ByteLineReader {
+        private final InputStream in;
+        private final Charset charset;
+        private final boolean keepCarriageReturns;
+        private final byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        private int position = 0;
+        private int limit = 0;
+        private long bufferOffset = 0;
+        private boolean skipLineFeed = false;
+        private byte[] line = new byte[ICSVParser.INITIAL_READ_SIZE];
+
+        ByteLineReader(InputStream in, Charset charset, boolean keepCarriageReturns) {
+            this.in = in;
+            this.charset = charset;
+            this.keepCarriageReturns = keepCarriageReturns;
+        }
+
+        boolean hasMoreInput() throws IOException {
+            while (true) {
+                if (position >= limit && !fill()) {
+                    return false;
+                }
+                if (!skipLineFeed) {
+                    return true;
+                }
+                skipLineFeed = false;
+                if (buffer[position] == '\n') {
+                    position++;
+                }
+            }
+        }
+
+        long getPosition() {
+            return bufferOffset + position;
+        }
+
+        /**
+         * @param decode Whether the line is needed as text
+         * @return The next line without its line end, an empty string if it
+         *   was not to be decoded, or {@code null} at the end of the input
+         */
+        String readLine(boolean decode) throws IOException {
+            if (!hasMoreInput()) {
+                return null;
+            }
+            int length = 0;
+            while (true) {
+                int lineStart = position;
+                while (position < limit && !isLineEnd(buffer[position])) {
+                    position++;
+                }
+                if (decode) {
+                    int count = position - lineStart;
+                    if (length + count > line.length) {
+                        line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+                    }
+                    System.arraycopy(buffer, lineStart, line, length, count);
+                    length += count;
+                }
+                if (position < limit || !fill()) {
+                    break;
+                }
+            }
+            if (position < limit && buffer[position++] == '\r') {
+                skipLineFeed = true;
+            }
+            return decode ? new String(line, 0, length, charset) : "";
+        }
+
+        private boolean isLineEnd(byte b) {
+            return b == '\n' || (b == '\r' && !keepCarriageReturns);
+        }
+
+        private boolean fill() throws IOException {
+            bufferOffset += limit;
+            position = 0;
+            limit = 0;
+            int count = in.read(buffer, 0, buffer.length);
+            if (count <= 0) {
+                return false;
+            }
+            limit = count;
+            return true;
+        }
+    }
+}
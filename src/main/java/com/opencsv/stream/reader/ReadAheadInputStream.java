@@ -0,0 +1,174 @@
+package com.opencsv.stream.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads another stream on a thread of its own, filling the next buffers
+ * while the current one is being consumed.
+ * <p>This is the counterpart of {@link AsyncFileInputStream} for any source
+ * of bytes, such as a socket or a decompressing stream. The reader only
+ * waits for the source if it consumes the bytes faster than they arrive.
+ * Errors reading the source are thrown by the read that would have returned
+ * the bytes after them.</p>
+ *
+ * @since 5.7.1
+ */
+public class ReadAheadInputStream extends InputStream {
+
+    /**
+     * The default size of a buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final Chunk END = new Chunk(new byte[0], 0, null);
+
+    private final InputStream in;
+    private final BlockingQueue<Chunk> filled;
+    private final BlockingQueue<byte[]> free;
+    private final Thread thread;
+    private volatile boolean closed = false;
+    private Chunk current = new Chunk(new byte[0], 0, null);
+    private int position = 0;
+
+    /**
+     * Starts reading a stream ahead.
+     *
+     * @param in          The stream to read. It is closed when this stream
+     *                    is closed.
+     * @param bufferCount The number of buffers read ahead of the one being
+     *                    consumed
+     * @param bufferSize  The size of a buffer
+     */
+    public ReadAheadInputStream(InputStream in, int bufferCount, int bufferSize) {
+        this.in = in;
+        int count = Math.max(bufferCount, 1);
+        this.filled = new ArrayBlockingQueue<>(count + 1);
+        this.free = new ArrayBlockingQueue<>(count + 1);
+        for (int i = 0; i <= count; i++) {
+            free.add(new byte[Math.max(bufferSize, 1)]);
+        }
+        thread = new Thread(this::fill, "opencsv-read-ahead-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void fill() {
+        try {
+            while (!closed) {
+                byte[] buffer = free.take();
+                int length = 0;
+                int n = 0;
+                while (length < buffer.length && (n = in.read(buffer, length, buffer.length - length)) >= 0) {
+                    length += n;
+                    if (in.available() <= 0 && length > 0) {
+                        // Hand over what has arrived instead of waiting for more.
+                        break;
+                    }
+                }
+                if (length > 0) {
+                    filled.put(new Chunk(buffer, length, null));
+                }
+                if (n < 0) {
+                    filled.put(END);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        } catch (IOException | RuntimeException e) {
+            try {
+                filled.put(new Chunk(new byte[0], 0, e));
+            } catch (InterruptedException interrupted) {
+                // Closed
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == current.length && !nextChunk()) {
+            return -1;
+        }
+        return current.buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position == current.length && !nextChunk()) {
+            return -1;
+        }
+        int count = Math.min(len, current.length - position);
+        System.arraycopy(current.buffer, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        thread.interrupt();
+        in.close();
+    }
+
+    /**
+     * Waits for the next buffer to be filled and makes it the current one.
+     *
+     * @return {@code false} if the stream has ended
+     */
+    private boolean nextChunk() throws IOException {
+        if (current == END) {
+            return false;
+        }
+        if (current.error == null) {
+            if (current.length > 0) {
+                free.add(current.buffer);
+            }
+            try {
+                current = filled.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                InterruptedIOException interrupted = new InterruptedIOException(e.getLocalizedMessage());
+                interrupted.initCause(e);
+                throw interrupted;
+            }
+            position = 0;
+        }
+        // The error is thrown again on every further read.
+        if (current.error instanceof IOException) {
+            throw (IOException) current.error;
+        }
+        if (current.error != null) {
+            throw (RuntimeException) current.error;
+        }
+        return current != END;
+    }
+
+    /**
+     * Bytes read ahead, or the error that ended reading.
+     */
+    private static class Chunk {
+        final byte[] buffer;
+        final int length;
+        final Exception error;
+
+        Chunk(byte[] buffer, int length, Exception error) {
+            this.buffer = buffer;
+            this.length = length;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CsvRecord;
+import com.opencsv.FieldVisitor;
+import com.opencsv.ICSVParser;
+import com.opencsv.RecordBatch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Frames and tokenizes records directly from a refillable character buffer.
+ * <p>The traditional reading path asks a {@link LineReader} for one
+ * {@link String} per physical line and then has the {@link CSVParser} scan
+ * that string a second time to split it into fields. This class runs the
+ * same state machine as {@link CSVParser} over the characters as they come
+ * out of the {@link Reader}, so no intermediate line is ever created and
+ * every character is looked at only once. The content of all fields of the
+ * current record is collected in one shared character array.</p>
+ * <p>Only the exact configuration options of {@link CSVParser} are supported.
+ * See {@link #supports(ICSVParser)}.</p>
+ *
+ * @since 5.7.1
+ */
+public class RecordTokenizer extends AbstractRecordTokenizer {
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int position = 0;
+    private int limit = 0;
+    // Set when a line ended in a carriage return: a directly following line feed belongs to the same line end.
+    private boolean skipLineFeed = false;
+
+    // The content of all fields of the current record, one after the other.
+    private char[] data = new char[ICSVParser.INITIAL_READ_SIZE];
+
+    private StringBuilder lineCapture = null;
+
+    /**
+     * Creates a tokenizer with a buffer of {@link #DEFAULT_BUFFER_SIZE}.
+     *
+     * @param reader              The source of the characters to be tokenized
+     * @param parser              The parser whose configuration is to be used
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     */
+    public RecordTokenizer(Reader reader, CSVParser parser, boolean keepCarriageReturns) {
+        this(reader, parser, keepCarriageReturns, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer.
+     *
+     * @param reader              The source of the characters to be tokenized
+     * @param parser              The parser whose configuration is to be used
+     * @param keepCarriageReturns True if carriage returns should remain in
+     *                            the data, false to treat them as line ends
+     * @param bufferSize          The number of characters read from
+     *                            {@code reader} at once
+     */
+    public RecordTokenizer(Reader reader, CSVParser parser, boolean keepCarriageReturns, int bufferSize) {
+        super(parser, keepCarriageReturns);
+        this.reader = reader;
+        this.buffer = new char[Math.max(bufferSize, 2)];
+    }
+
+    @Override
+    public void setLineCapture(boolean captureLines) {
+        lineCapture = captureLines ? new StringBuilder(ICSVParser.INITIAL_READ_SIZE) : null;
+        lastLine = null;
+    }
+
+    @Override
+    public boolean hasMoreInput() throws IOException {
+        while (true) {
+            if (position >= limit && !fill()) {
+                return false;
+            }
+            if (!skipLineFeed) {
+                return true;
+            }
+            skipLineFeed = false;
+            if (buffer[position] == '\n') {
+                position++;
+            }
+        }
+    }
+
+    @Override
+    public boolean skipLine() throws IOException {
+        if (!hasMoreInput()) {
+            return false;
+        }
+        while (true) {
+            while (position < limit && !isLineEnd(buffer[position])) {
+                position++;
+            }
+            if (position < limit || !fill()) {
+                break;
+            }
+        }
+        consumeLineEnd();
+        return true;
+    }
+
+    @Override
+    public boolean tokenizeLine() throws IOException {
+        if (!hasMoreInput()) {
+            return false;
+        }
+        if (lineCapture != null) {
+            lineCapture.setLength(0);
+        }
+
+        boolean inQuotes = false;
+        boolean fromQuotedField = false;
+        if (pending) {
+            pending = false;
+            inQuotes = !ignoreQuotations;
+        }
+
+        // Number of characters of this line consumed so far, and the one before the current
+        int lineIndex = 0;
+        char previous = ICSVParser.NULL_CHARACTER;
+
+        int next = peekOnLine();
+        while (next != -1) {
+            char c = (char) next;
+            consume(c);
+            lineIndex++;
+            char last = c;
+            next = peekOnLine();
+
+            if (c == escape) {
+                if (!strictQuotes) {
+                    inField = true; // For the unusual case of escaping the first character
+                }
+                if (next != -1 && isInQuotes(inQuotes) && isEscapable((char) next)) {
+                    last = (char) next;
+                    consume(last);
+                    lineIndex++;
+                    append(last);
+                    next = peekOnLine();
+                }
+            } else if (c == quotechar) {
+                if (next == quotechar && isInQuotes(inQuotes)) {
+                    consume(quotechar);
+                    lineIndex++;
+                    append(quotechar);
+                    next = peekOnLine();
+                } else {
+                    inQuotes = !inQuotes;
+                    if (dataLength == fieldStart) {
+                        fromQuotedField = true;
+                    }
+                    if (!ignoreQuotations) {
+                        fieldQuoted = true;
+                    }
+
+                    // the tricky case of an embedded quote in the middle: a,bc"d"ef,g
+                    if (!strictQuotes
+                            && lineIndex > BEGINNING_OF_LINE
+                            && previous != separator
+                            && next != -1 && next != separator) {
+                        if (ignoreLeadingWhiteSpace && dataLength > fieldStart && isFieldWhitespace()) {
+                            dataLength = fieldStart;
+                        } else {
+                            append(c);
+                        }
+                    }
+                }
+                inField = !inField;
+            } else if (c == separator && !(inQuotes && !ignoreQuotations)) {
+                endField(fromQuotedField);
+                fromQuotedField = false;
+                inField = false;
+            } else {
+                boolean keep = !strictQuotes || (inQuotes && !ignoreQuotations);
+                if (keep) {
+                    append(c);
+                    inField = true;
+                    fromQuotedField = true;
+                }
+                // Everything up to the next special character is handled the same way.
+                if (next != -1 && !isSpecial((char) next)) {
+                    int runStart = position;
+                    while (position < limit && !isSpecial(buffer[position])) {
+                        position++;
+                    }
+                    int runLength = position - runStart;
+                    if (keep) {
+                        append(buffer, runStart, runLength);
+                    }
+                    if (lineCapture != null) {
+                        lineCapture.append(buffer, runStart, runLength);
+                    }
+                    lineIndex += runLength;
+                    last = buffer[position - 1];
+                    next = peekOnLine();
+                }
+            }
+            previous = last;
+        }
+        consumeLineEnd();
+
+        if (inQuotes && !ignoreQuotations) {
+            // continuing a quoted section, re-append newline
+            append('\n');
+            pending = true;
+        } else {
+            inField = false;
+            endField(fromQuotedField);
+        }
+
+        if (lineCapture != null) {
+            lastLine = lineCapture.toString();
+        }
+        return true;
+    }
+
+    /**
+     * Runs the state machine of {@link #tokenizeLine()} as far as it decides
+     * where quoted sections begin and end, without collecting any fields.
+     */
+    @Override
+    public boolean frameLine() throws IOException {
+        if (!hasMoreInput()) {
+            return false;
+        }
+        lastLine = null;
+        boolean inQuotes = pending && !ignoreQuotations;
+        pending = false;
+
+        int next = peekOnLine();
+        while (next != -1) {
+            char c = (char) next;
+            position++;
+            next = peekOnLine();
+
+            if (c == escape) {
+                if (!strictQuotes) {
+                    inField = true;
+                }
+                if (next != -1 && isInQuotes(inQuotes) && isEscapable((char) next)) {
+                    position++;
+                    next = peekOnLine();
+                }
+            } else if (c == quotechar) {
+                if (next == quotechar && isInQuotes(inQuotes)) {
+                    position++;
+                    next = peekOnLine();
+                } else {
+                    inQuotes = !inQuotes;
+                }
+                inField = !inField;
+            } else if (c == separator && !(inQuotes && !ignoreQuotations)) {
+                inField = false;
+            } else {
+                if (!strictQuotes || (inQuotes && !ignoreQuotations)) {
+                    inField = true;
+                }
+                while (position < limit && !isSpecial(buffer[position])) {
+                    position++;
+                }
+                next = peekOnLine();
+            }
+        }
+        consumeLineEnd();
+
+        if (inQuotes && !ignoreQuotations) {
+            pending = true;
+        } else {
+            inField = false;
+        }
+        return true;
+    }
+
+    @Override
+    public void visitFields(FieldVisitor visitor) {
+        visitFields(visitor, data, fieldEnds);
+    }
+
+    @Override
+    public void copyTo(CsvRecord record) {
+        record.setFields(data, fieldEnds, nullFields, quotedFields, fieldCount);
+    }
+
+    @Override
+    public void copyTo(RecordBatch batch) {
+        batch.addRecord(data, fieldEnds, nullFields, quotedFields, fieldCount);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Override
+    protected String createString(int start, int length) {
+        return new String(data, start, length);
+    }
+
+    @Override
+    protected String createField(int index, int start, int length) {
+        return deduplicator.deduplicate(index, data, start, length);
+    }
+
+    @Override
+    protected boolean isCarriageReturnAt(int index) {
+        return data[index] == '\r';
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private boolean isLineEnd(char c) {
+        return c == '\n' || (c == '\r' && !keepCarriageReturns);
+    }
+
+    private boolean isSpecial(char c) {
+        return c == separator || c == quotechar || c == escape || isLineEnd(c);
+    }
+
+    /**
+     * @return The next character of the current line without consuming it,
+     *   or -1 at the end of the line
+     */
+    private int peekOnLine() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        char c = buffer[position];
+        return isLineEnd(c) ? -1 : c;
+    }
+
+    private void consume(char c) {
+        position++;
+        if (lineCapture != null) {
+            lineCapture.append(c);
+        }
+    }
+
+    private void consumeLineEnd() {
+        if (position < limit) {
+            if (buffer[position++] == '\r') {
+                skipLineFeed = true;
+            }
+        }
+    }
+
+    private boolean isFieldWhitespace() {
+        for (int i = fieldStart; i < dataLength; i++) {
+            if (!Character.isWhitespace(data[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        if (dataLength == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[dataLength++] = c;
+    }
+
+    private void append(char[] source, int offset, int length) {
+        if (dataLength + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + length));
+        }
+        System.arraycopy(source, offset, data, dataLength, length);
+        dataLength += length;
+    }
+}
@@ -411,6 +411,26 @@ class RFC4180ParserSpec extends Specification {
         "This line" | " has \"a\" quote " | "in"    | "it"     | "\"This line\",\" has \"\"a\"\" quote \",\"in\",\"it\""
     }
 
+    @Unroll
+    def 'parseToLine appending to a StringBuilder with quote #quote and separator #separator of #string1, #string2, #string3 should yield #expectedResult'() {
+        given:
+        RFC4180Parser parser = new RFC4180ParserBuilder().withQuoteChar(quote as char).withSeparator(separator as char).build()
+        String[] items = [string1, string2, string3]
+        StringBuilder builder = new StringBuilder("x")
+        parser.parseToLine(items, false, builder)
+
+        expect:
+        builder.toString() == "x" + expectedResult
+        parser.parseToLine(items, false) == expectedResult
+
+        where:
+        quote | separator | string1   | string2 | string3   | expectedResult
+        '"'   | ','       | "a\"b\"\"" | "c"     | ""        | "\"a\"\"b\"\"\"\"\",c,"
+        '"'   | ','       | "a\nb"    | "c,d"   | NULL_STRING | "\"a\nb\",\"c,d\",null"
+        '$'   | '|'       | "a\$b"    | "c|d"   | "e.f"     | "\$a\$\$b\$|\$c|d\$|e.f"
+        '.'   | ';'       | "a.b"     | "c"     | "d;"      | ".a..b.;c;.d;."
+    }
+
     def 'bug 193 - Multiline not working if the last character is a quote character'() {
         given:
         List<String[]> lines = new ArrayList<String[]>()
@@ -440,6 +460,50 @@ class RFC4180ParserSpec extends Specification {
         lines == readLines
     }
 
+    def 'a quoted field spanning many lines is collected line by line'() {
+        given:
+        RFC4180Parser parser = new RFC4180Parser()
+        StringBuilder expected = new StringBuilder("start")
+        String[] first = parser.parseLineMulti('a,"start')
+
+        when:
+        for (int i = 0; i < 10000; i++) {
+            String line = 'line ' + i + ' ""quoted""'
+            assert parser.parseLineMulti(line).length == 0
+            assert parser.isPending()
+            expected.append('\n').append('line ').append(i).append(' "quoted"')
+        }
+        String[] last = parser.parseLineMulti('end",b')
+        expected.append('\nend')
+
+        then:
+        first == ["a"] as String[]
+        last == [expected.toString(), "b"] as String[]
+        !parser.isPending()
+        parser.getPendingText() == ""
+    }
+
+    def 'doubled quotes split by a line end in a multiline field: #line1 / #line2'() {
+        given:
+        RFC4180Parser parser = new RFC4180Parser()
+
+        when:
+        String[] first = parser.parseLineMulti(line1)
+        String[] second = parser.parseLineMulti(line2)
+
+        then:
+        first.length == 0
+        parser.isPending() == pending
+        second == expected as String[]
+
+        where:
+        line1    | line2     | pending | expected
+        '"a""'   | '""b",c'  | false   | ['a"\n"b', 'c']
+        '"a'     | '"",b",c' | false   | ['a\n",b', 'c']
+        'x"y'    | 'z"'      | false   | ['x"y\nz"']
+        'x"y'    | 'z'       | true    | []
+    }
+
     def 'Should we throw an error if there are quotes inside an unquoted data field'() {
         given:
         List<String[]> lines = new ArrayList<String[]>()
@@ -0,0 +1,180 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVByteWriterTest {
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @AfterAll
+    public static void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    private static byte[] writeWithCSVWriter(List<String[]> rows, char separator, char quotechar, char escapechar, String lineEnd) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ICSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), separator, quotechar, escapechar, lineEnd)) {
+            writer.writeAll(rows, false);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<String[]> randomRows(Random random, int count) {
+        char[] alphabet = {'a', 'Z', '0', ' ', ',', ';', '"', '\'', '\\', '\n', '\r',
+                'é', '§', '€', '中', '\ud83d', '\ude00'};
+        List<String[]> rows = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            String[] row = new String[1 + random.nextInt(5)];
+            for (int i = 0; i < row.length; i++) {
+                if (random.nextInt(10) != 0) {
+                    char[] value = new char[random.nextInt(20)];
+                    for (int j = 0; j < value.length; j++) {
+                        value[j] = alphabet[random.nextInt(alphabet.length)];
+                    }
+                    row[i] = new String(value);
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    public void writesSimpleRows() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ICSVWriter writer = new CSVByteWriter(out)) {
+            writer.writeNext(new String[]{"a", "b,c", null, "d\"e"});
+            writer.writeNext(new String[]{"f"}, false);
+            writer.writeNext(null);
+        }
+        assertEquals("\"a\",\"b,c\",,\"d\"\"e\"\nf\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodesLikeOutputStreamWriter() throws IOException {
+        Random random = new Random(20211018L);
+        char[][] configurations = {
+                {',', '"', '"'},
+                {';', '\'', '\\'},
+                {'§', ICSVWriter.NO_QUOTE_CHARACTER, ICSVWriter.NO_ESCAPE_CHARACTER}};
+        for (char[] configuration : configurations) {
+            List<String[]> rows = randomRows(random, 500);
+            byte[] expected = writeWithCSVWriter(rows, configuration[0], configuration[1], configuration[2], ICSVWriter.RFC4180_LINE_END);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ICSVWriter writer = new CSVByteWriter(out, configuration[0], configuration[1], configuration[2], ICSVWriter.RFC4180_LINE_END)) {
+                writer.writeAll(rows, false);
+            }
+            assertArrayEquals(expected, out.toByteArray());
+
+            out = new ByteArrayOutputStream();
+            try (ICSVWriter writer = new CSVByteWriter(Channels.newChannel(out), configuration[0], configuration[1], configuration[2], ICSVWriter.RFC4180_LINE_END)) {
+                writer.writeAll(rows, false);
+            }
+            assertArrayEquals(expected, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void encodesAcrossBufferBoundaries() throws IOException {
+        // Values longer than the buffer, with characters of every encoded
+        // length at all sorts of positions relative to its end
+        List<String[]> rows = new ArrayList<>();
+        String[] pieces = {"x", "é", "€", "😀", "\ud83d", "\ude00"};
+        for (int shift = 0; shift < 8; shift++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < shift; i++) {
+                sb.append('-');
+            }
+            int p = 0;
+            while (sb.length() < CSVByteWriter.DEFAULT_BUFFER_SIZE + 100) {
+                sb.append(pieces[p++ % pieces.length]);
+            }
+            rows.add(new String[]{sb.toString(), "tail"});
+        }
+        byte[] expected = writeWithCSVWriter(rows, ',', '"', '"', ICSVWriter.DEFAULT_LINE_END);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ICSVWriter writer = new CSVByteWriter(out)) {
+            writer.writeAll(rows, false);
+        }
+        assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    public void collectsRowsUntilFlushed() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ICSVWriter writer = new CSVByteWriter(out);
+        writer.writeNext(new String[]{"a"});
+        assertEquals(0, out.size());
+        writer.flush();
+        assertArrayEquals("\"a\"\n".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        writer.close();
+    }
+
+    @Test
+    public void storesExceptionOfStream() throws IOException {
+        IOException failure = new IOException("disk full");
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw failure;
+            }
+        };
+        ICSVWriter writer = new CSVByteWriter(failing);
+        String[] row = new String[1];
+        Arrays.fill(row, "0123456789");
+        for (int i = 0; i < CSVByteWriter.DEFAULT_BUFFER_SIZE / 10; i++) {
+            writer.writeNext(row);
+        }
+        assertTrue(writer.checkError());
+        assertSame(failure, writer.getException());
+        writer.resetError();
+        assertNull(writer.getException());
+    }
+
+    @Test
+    public void rowWriterEncodesLikeWriteNext() throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (ICSVWriter strings = new CSVByteWriter(expected); ICSVWriter rows = new CSVByteWriter(actual)) {
+            for (int i = 0; i < 10000; i++) {
+                strings.writeNext(new String[]{Integer.toString(i), Long.toString(-i * 1000000007L), Double.toString(i / 8.0), "ü" + i}, false);
+                rows.beginRow(false).writeInt(i).writeLong(-i * 1000000007L).writeDouble(i / 8.0).writeChars("ü" + i).endRow();
+            }
+        }
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+}
@@ -0,0 +1,92 @@
+package com.opencsv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVParserFastPathTest {
+
+    private static final String ALPHABET = "aab ,,;\"\"\"'\\\r";
+    private static final int RANDOM_LINES = 20000;
+
+    private static CSVParser build(CSVParserBuilder dialect, CSVParser.FastPath fastPath) {
+        return new CSVParser(dialect.getSeparator(), dialect.getQuoteChar(), dialect.getEscapeChar(),
+                dialect.isStrictQuotes(), dialect.isIgnoreLeadingWhiteSpace(), dialect.isIgnoreQuotations(),
+                dialect.nullFieldIndicator(), Locale.US, fastPath);
+    }
+
+    private static String randomLine(Random random) {
+        int length = random.nextInt(20);
+        StringBuilder sb = new StringBuilder(length);
+        // Many lines only use letters and separators, as real input does.
+        String alphabet = random.nextBoolean() ? "ab,;" : ALPHABET;
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String describe(CSVParser parser, String line, boolean multi) {
+        try {
+            String[] fields = multi ? parser.parseLineMulti(line) : parser.parseLine(line);
+            return Arrays.toString(fields) + " pending=" + parser.isPending() + ":" + parser.getPendingText();
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    public void fastPathsParseLikeTheGeneralLoop() {
+        Random random = new Random(20221112L);
+        for (CSVParserBuilder dialect : RandomCsvInput.dialects()) {
+            CSVParser general = build(dialect, CSVParser.FastPath.NONE);
+            List<CSVParser> fast = new ArrayList<>();
+            fast.add(build(dialect, CSVParser.FastPath.UNQUOTED));
+            fast.add(build(dialect, CSVParser.FastPath.QUOTED));
+            for (int i = 0; i < RANDOM_LINES; i++) {
+                String line = randomLine(random);
+                boolean multi = random.nextInt(4) != 0;
+                String expected = describe(general, line, multi);
+                for (CSVParser parser : fast) {
+                    assertEquals(expected, describe(parser, line, multi),
+                            parser.getFastPath() + " on " + line.replace("\r", "\\r"));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void quotedFieldsAreParsedQuickly() throws IOException {
+        CSVParser parser = build(new CSVParserBuilder(), CSVParser.FastPath.QUOTED);
+        assertArrayEquals(new String[]{"a", "b,c", "say \"hi\"", "", ""},
+                parser.parseLine("a,\"b,c\",\"say \"\"hi\"\"\",\"\","));
+    }
+
+    @Test
+    public void fastPathIsChosenFromDialectAndSample() {
+        assertEquals(CSVParser.FastPath.QUOTED, new CSVParser().getFastPath());
+        assertEquals(CSVParser.FastPath.QUOTED, new CSVParserBuilder().build().getFastPath());
+        assertEquals(CSVParser.FastPath.NONE, new CSVParserBuilder().withStrictQuotes(true).build().getFastPath());
+        assertEquals(CSVParser.FastPath.UNQUOTED, new CSVParserBuilder().withIgnoreQuotations(true).build().getFastPath());
+        assertEquals(CSVParser.FastPath.UNQUOTED, new CSVParserBuilder()
+                .withSeparator('|').withQuoteChar(ICSVParser.NULL_CHARACTER).build().getFastPath());
+
+        assertEquals(CSVParser.FastPath.UNQUOTED, new CSVParserBuilder()
+                .withSeparator('|').withSample("1|EU|x\n2|US|y\n").build().getFastPath());
+        assertEquals(CSVParser.FastPath.QUOTED, new CSVParserBuilder()
+                .withSample("1,\"EU, west\"\n").build().getFastPath());
+        assertEquals(CSVParser.FastPath.NONE, new CSVParserBuilder()
+                .withSample("1,\"C:\\\\temp\"\n").build().getFastPath());
+        assertEquals(CSVParser.FastPath.NONE, new CSVParserBuilder()
+                .withIgnoreQuotations(true).withSample("1,\"EU\"\n").build().getFastPath());
+        assertEquals(CSVParser.FastPath.NONE, new CSVParserBuilder()
+                .withStrictQuotes(true).withSample("1,EU\n").build().getFastPath());
+    }
+}
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.*;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -863,6 +865,95 @@ public class CSVParserTest {
         assertEquals("\"This\",\" is\",\" a\",\" test.\"", csvParser.parseToLine(items, true));
     }
 
+    @Test
+    public void parseToLineDoublesQuotesAndEscapesWithoutQuotingUnlessNeeded() {
+        String[] items = {"a\"b\\c", "d,\"e", "f\ng", null, ""};
+        assertEquals("a\"\"b\\\\c,\"d,\"\"e\",\"f\ng\",null,", csvParser.parseToLine(items, false));
+        assertEquals("\"a\"\"b\\\\c\",\"d,\"\"e\",\"f\ng\",\"null\",\"\"", csvParser.parseToLine(items, true));
+    }
+
+    @Test
+    public void parseToLineTakesQuoteCharactersLiterally() {
+        CSVParser parser = new CSVParserBuilder().withSeparator('|').withQuoteChar('$').withEscapeChar('*').build();
+        String[] items = {"a$b|c", "d*e", "f.g"};
+        assertEquals("$a$$b|c$|d**e|f.g", parser.parseToLine(items, false));
+    }
+
+    @Test
+    public void parseToLineAppendsToStringBuilder() throws IOException {
+        StringBuilder builder = new StringBuilder("before|");
+        csvParser.parseToLine(new String[]{"a", "b,c"}, false, builder);
+        assertEquals("before|a,\"b,c\"", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        csvParser.parseToLine(new String[]{"a", "b,c"}, false, writer);
+        assertEquals("a,\"b,c\"", writer.toString());
+    }
+
+    @Test
+    public void parseToLineUsesOverriddenConversion() throws IOException {
+        ICSVParser csv = new CSVParser() {
+            @Override
+            protected String convertToCsvValue(String value, boolean applyQuotestoAll) {
+                return super.convertToCsvValue(value == null ? null : value.toUpperCase(), applyQuotestoAll);
+            }
+        };
+        ICSVParser rfc = new RFC4180Parser() {
+            @Override
+            protected String convertToCsvValue(String value, boolean applyQuotesToAll) {
+                return super.convertToCsvValue(value == null ? null : value.toUpperCase(), applyQuotesToAll);
+            }
+        };
+        for (ICSVParser parser : new ICSVParser[]{csv, rfc}) {
+            assertEquals("A,\"B,C\"", parser.parseToLine(new String[]{"a", "b,c"}, false));
+            StringBuilder builder = new StringBuilder();
+            parser.parseToLine(new String[]{"a", "b,c"}, false, builder);
+            assertEquals("A,\"B,C\"", builder.toString());
+        }
+    }
+
+    /**
+     * The way values were converted before it was done in a single pass.
+     */
+    private static String convertWithReplace(CSVParser parser, String value, boolean applyQuotesToAll) {
+        String testValue = (value == null && parser.nullFieldIndicator() != CSVReaderNullFieldIndicator.NEITHER) ? "" : value;
+        boolean containsQuoteChar = StringUtils.contains(testValue, parser.getQuotechar());
+        boolean containsEscapeChar = StringUtils.contains(testValue, parser.getEscape());
+        boolean containsSeparatorChar = StringUtils.contains(testValue, parser.getSeparator());
+        boolean surroundWithQuotes = applyQuotesToAll || parser.isSurroundWithQuotes(value, containsSeparatorChar);
+        String convertedString = !containsQuoteChar ? testValue : testValue.replace(Character.toString(parser.getQuotechar()), Character.toString(parser.getQuotechar()) + parser.getQuotechar());
+        convertedString = !containsEscapeChar ? convertedString : convertedString.replace(Character.toString(parser.getEscape()), Character.toString(parser.getEscape()) + parser.getEscape());
+        return surroundWithQuotes ? parser.getQuotechar() + convertedString + parser.getQuotechar() : String.valueOf(convertedString);
+    }
+
+    @Test
+    public void parseToLineMatchesReplacingForRandomValues() {
+        char[] alphabet = {'a', ' ', ',', '"', '\\', '\n', '\r', '\''};
+        Random random = new Random(20211018L);
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            CSVParser parser = new CSVParserBuilder().withFieldAsNull(indicator).build();
+            for (int r = 0; r < 500; r++) {
+                String[] items = new String[1 + random.nextInt(4)];
+                StringBuilder expected = new StringBuilder();
+                boolean applyQuotesToAll = random.nextBoolean();
+                for (int i = 0; i < items.length; i++) {
+                    if (random.nextInt(8) != 0) {
+                        char[] value = new char[random.nextInt(8)];
+                        for (int j = 0; j < value.length; j++) {
+                            value[j] = alphabet[random.nextInt(alphabet.length)];
+                        }
+                        items[i] = new String(value);
+                    }
+                    if (i != 0) {
+                        expected.append(',');
+                    }
+                    expected.append(convertWithReplace(parser, items[i], applyQuotesToAll));
+                }
+                assertEquals(expected.toString(), parser.parseToLine(items, applyQuotesToAll));
+            }
+        }
+    }
+
     /**
      * Test to check if we have a good detail in the error message when there
      * is a quote that wasn't closed (beginning of the field).
@@ -0,0 +1,94 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CSVParserWriterPerformanceTest {
+    private static final String SEPARATOR_LINE = "===============================================================================";
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @Test
+    public void testPerformance() throws IOException, InterruptedException {
+        List<String[]> rows = rows(1000);
+        performance(rows, null, false);
+        performance(rows, new CSVParser(), false);
+        performance(rows, new RFC4180Parser(), false);
+
+        System.out.println("The following are performance data. Please keep an eye on them as you develop.");
+        System.out.println("Writing through a parser should not be much slower than through CSVWriter.");
+        for (int count : new int[]{10000, 100000}) {
+            rows = rows(count);
+            System.gc();
+            Thread.sleep(2000);
+            performance(rows, null, true);
+            performance(rows, new CSVParser(), true);
+            performance(rows, new RFC4180Parser(), true);
+        }
+    }
+
+    /**
+     * Creates rows of mostly plain values with a quote, a separator or a
+     * newline now and then.
+     */
+    private static List<String[]> rows(int count) {
+        List<String[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new String[]{
+                    Integer.toString(i),
+                    "some text for record " + i,
+                    i % 10 == 0 ? "a \"quoted\" word" : "no quotes",
+                    i % 20 == 0 ? "a, b\nand c" : "plain",
+                    Double.toString(i * 1.5)});
+        }
+        return rows;
+    }
+
+    private void performance(List<String[]> rows, ICSVParser parser, boolean displayData) throws IOException {
+        StringWriter out = new StringWriter();
+        CSVWriterBuilder builder = new CSVWriterBuilder(out);
+        if (parser != null) {
+            builder.withParser(parser);
+        }
+        StopWatch watch = new StopWatch();
+        watch.start();
+        try (ICSVWriter writer = builder.build()) {
+            writer.writeAll(rows);
+        }
+        watch.stop();
+        assertTrue(out.getBuffer().length() > 0);
+
+        if (displayData) {
+            System.out.println(SEPARATOR_LINE);
+            System.out.println("     " + rows.size() + " rows written with " + (parser == null ? "CSVWriter" : "CSVParserWriter and " + parser.getClass().getSimpleName()));
+            System.out.println(SEPARATOR_LINE);
+            System.out.println("Time taken to write: " + watch.getTime() + " milliseconds.");
+            System.out.println("Throughput: " + (out.getBuffer().length() * 1000L / Math.max(watch.getTime(), 1)) / 1024 + " KiB of output per second.");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVReaderColumnsTest {
+
+    private static final String[] ALPHABET = RandomCsvInput.alphabet("ab ,;\"\\'\n\n\r\u00e9");
+    private static final int RANDOM_INPUTS = 200;
+    private static final int[] COLUMNS = {2, 0, 5, 0};
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static String[] select(String[] record) {
+        String[] fields = new String[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            fields[i] = COLUMNS[i] < record.length ? record[COLUMNS[i]] : null;
+        }
+        return fields;
+    }
+
+    @DisplayName("Selecting columns while reading gives the same results as selecting them afterwards")
+    @Test
+    public void selectedColumnsMatchCompleteRecords() throws IOException {
+        Random random = new Random(20221022L);
+        // Parsers keep the state of unfinished records, so every reader needs
+        // a parser of its own.
+        List<Supplier<ICSVParser>> parsers = new ArrayList<>();
+        for (CSVParserBuilder dialect : RandomCsvInput.dialects()) {
+            parsers.add(dialect::build);
+        }
+        parsers.add(RFC4180Parser::new);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = RandomCsvInput.randomInput(random, ALPHABET, 50);
+            byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            Path file = Files.createTempFile(directory, "columns", ".csv");
+            Files.write(file, bytes);
+            for (Supplier<ICSVParser> parser : parsers) {
+                for (boolean keepCR : new boolean[]{false, true}) {
+                    List<String> expected = RandomCsvInput.transcript(new CSVReaderBuilder(new StringReader(input))
+                            .withCSVParser(parser.get()).withKeepCarriageReturn(keepCR).build(),
+                            CSVReaderColumnsTest::select);
+                    List<CSVReaderBuilder> builders = Arrays.asList(
+                            new CSVReaderBuilder(new StringReader(input)),
+                            new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8),
+                            new CSVReaderBuilder(file, StandardCharsets.UTF_8).withParallelism(2));
+                    for (CSVReaderBuilder builder : builders) {
+                        CSVReader reader = builder.withCSVParser(parser.get())
+                                .withKeepCarriageReturn(keepCR)
+                                .withColumns(COLUMNS)
+                                .build();
+                        assertEquals(expected, RandomCsvInput.transcript(reader, UnaryOperator.identity()),
+                                "Input: " + input.replace("\n", "\\n").replace("\r", "\\r"));
+                        reader.close();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void largeFilesAreProjectedInParallel() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append(i).append(",skipped,\"multi\nline ").append(i).append("\",").append(i % 7).append('\n');
+        }
+        Path file = Files.createTempFile(directory, "columns", ".csv");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        for (ICSVParser parser : new ICSVParser[]{new CSVParser(), new RFC4180Parser()}) {
+            try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8)
+                    .withCSVParser(parser)
+                    .withParallelism(4)
+                    .withColumns(3, 2, 0)
+                    .build()) {
+                List<String[]> records = reader.readAll();
+                assertEquals(2000, records.size());
+                for (int i = 0; i < 2000; i++) {
+                    assertArrayEquals(new String[]{Integer.toString(i % 7), "multi\nline " + i, Integer.toString(i)},
+                            records.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void readerUsesTokenizerForSelectedColumns() throws IOException, CsvValidationException {
+        CSVReaderBuilder builder = new CSVReaderBuilder(new StringReader("a,b,c\n"));
+        assertNull(builder.getColumns());
+        CSVReader reader = builder.withColumns(1).build();
+        assertArrayEquals(new int[]{1}, builder.getColumns());
+        assertArrayEquals(new int[]{1}, reader.getColumns());
+        assertTrue(reader.usesRecordTokenizer());
+        assertArrayEquals(new String[]{"b"}, reader.readNext());
+
+        assertThrows(IllegalArgumentException.class, () -> new CSVReaderBuilder(new StringReader("")).withColumns(0, -1));
+    }
+}
@@ -0,0 +1,151 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.validators.RowFunctionValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class CSVReaderFieldVisitorTest {
+
+    private static final String DATA = "a,\"b,b\",c\n,\"\",\"x\ny\"\n";
+
+    /**
+     * Records every call as a readable string.
+     */
+    private static class RecordingVisitor implements FieldVisitor {
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void visitField(int index, char[] buffer, int offset, int length, boolean quoted) {
+            calls.add(index + (quoted ? ":q:" : ":") + new String(buffer, offset, length));
+        }
+
+        @Override
+        public void visitNullField(int index) {
+            calls.add(index + ":null");
+        }
+
+        @Override
+        public void endRecord(int fieldCount) {
+            calls.add("end " + fieldCount);
+        }
+    }
+
+    private CSVReaderBuilder builder(String data) {
+        return new CSVReaderBuilder(new StringReader(data))
+                .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS);
+    }
+
+    @Test
+    public void visitsFieldsFromTokenizer() throws IOException, CsvValidationException {
+        CSVReader reader = builder(DATA).withRecordTokenizer(true).build();
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        assertTrue(reader.readNext(visitor));
+        assertTrue(reader.readNext(visitor));
+        assertFalse(reader.readNext(visitor));
+
+        assertEquals("[0:a, 1:q:b,b, 2:c, end 3, 0:null, 1:q:, 2:q:x\ny, end 3]", visitor.calls.toString());
+        assertEquals(2, reader.getRecordsRead());
+        assertEquals(3, reader.getLinesRead());
+    }
+
+    @Test
+    public void visitsFieldsWithoutTokenizer() throws IOException, CsvValidationException {
+        CSVReader reader = builder(DATA).build();
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        assertTrue(reader.readNext(visitor));
+        assertTrue(reader.readNext(visitor));
+        assertFalse(reader.readNext(visitor));
+
+        assertEquals("[0:a, 1:b,b, 2:c, end 3, 0:null, 1:, 2:x\ny, end 3]", visitor.calls.toString());
+        assertEquals(2, reader.getRecordsRead());
+    }
+
+    @Test
+    public void mixesWithPeekAndReadNext() throws IOException, CsvValidationException {
+        CSVReader reader = builder(DATA).withRecordTokenizer(true).build();
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        assertArrayEquals(new String[]{"a", "b,b", "c"}, reader.peek());
+        assertTrue(reader.readNext(visitor));
+        assertEquals("[0:a, 1:q:b,b, 2:c, end 3]", visitor.calls.toString());
+        assertArrayEquals(new String[]{null, "", "x\ny"}, reader.readNext());
+        assertNull(reader.peek());
+        assertFalse(reader.readNext(visitor));
+    }
+
+    @Test
+    public void nullFieldsAreEmptyByDefault() throws IOException, CsvValidationException {
+        CSVReader reader = builder(",z").withRecordTokenizer(true).build();
+        StringBuilder sb = new StringBuilder();
+        assertTrue(reader.readNext((index, buffer, offset, length, quoted) ->
+                sb.append('[').append(buffer, offset, length).append(']')));
+        assertEquals("[][z]", sb.toString());
+    }
+
+    @Test
+    public void rowValidatorsAreStillApplied() {
+        CSVReader reader = builder("a,b\nc\n")
+                .withRowValidator(new RowFunctionValidator(row -> row.length == 2, "two columns"))
+                .withRecordTokenizer(true)
+                .build();
+        RecordingVisitor visitor = new RecordingVisitor();
+        assertThrows(CsvValidationException.class, () -> {
+            while (reader.readNext(visitor)) {
+                // keep reading
+            }
+        });
+        assertEquals("[0:a, 1:b, end 2]", visitor.calls.toString());
+    }
+
+    @Test
+    public void visitingFromTokenizerDoesNotAllocatePerRecord() throws IOException, CsvValidationException {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+        final int records = 20000;
+        StringBuilder sb = new StringBuilder(records * 24);
+        for (int i = 0; i < records; i++) {
+            sb.append(i).append(",\"name ").append(i).append("\",").append(i * 3).append('\n');
+        }
+        CSVReader reader = new CSVReaderBuilder(new StringReader(sb.toString())).withRecordTokenizer(true).build();
+        long[] sum = new long[1];
+        FieldVisitor visitor = (index, buffer, offset, length, quoted) -> {
+            if (index == 2) {
+                long value = 0;
+                for (int i = offset; i < offset + length; i++) {
+                    value = value * 10 + buffer[i] - '0';
+                }
+                sum[0] += value;
+            }
+        };
+
+        // Let the buffers reach their final size first
+        assertTrue(reader.readNext(visitor));
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        int count = 1;
+        while (reader.readNext(visitor)) {
+            count++;
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(records, count);
+        assertEquals(3L * records * (records - 1) / 2, sum[0]);
+        // Creating a String[] and three Strings per record would take well over a megabyte.
+        assertTrue(allocated < 256 * 1024, "Allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,240 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.validators.LineDoesNotHaveForbiddenString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVReaderFromBytesTest {
+
+    // Includes two- three- and four-byte characters and a whitespace character outside of ASCII
+    private static final String[] ALPHABET = {
+            "a", "b", " ", ",", ";", "\"", "\\", "'", "\n", "\r", "\t", "\u00e9", "\u20ac", "\ud834\udd1e", "\u2003"};
+    private static final byte[][] MALFORMED = {{(byte) 0xFF}, {(byte) 0xE2, (byte) 0x82}, {(byte) 0x80}};
+    private static final int RANDOM_INPUTS = 400;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static byte[] randomInput(Random random) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int length = random.nextInt(30);
+        for (int i = 0; i < length; i++) {
+            byte[] bytes = random.nextInt(20) == 0
+                    ? MALFORMED[random.nextInt(MALFORMED.length)]
+                    : ALPHABET[random.nextInt(ALPHABET.length)].getBytes(StandardCharsets.UTF_8);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static CSVReader build(InputStream input, CSVParserBuilder dialect, boolean keepCR) {
+        return new CSVReaderBuilder(input, StandardCharsets.UTF_8)
+                .withCSVParser(dialect.build())
+                .withKeepCarriageReturn(keepCR)
+                .build();
+    }
+
+    @DisplayName("Tokenizing bytes gives the same results as decoding them first")
+    @Test
+    public void bytesMatchDecodedCharacters() {
+        Random random = new Random(20221019L);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            byte[] input = randomInput(random);
+            String decoded = new String(input, StandardCharsets.UTF_8);
+            for (CSVParserBuilder dialect : RandomCsvInput.dialects()) {
+                for (boolean keepCR : new boolean[]{false, true}) {
+                    CSVReader expectedReader = new CSVReaderBuilder(
+                            new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8))
+                            .withCSVParser(dialect.build())
+                            .withKeepCarriageReturn(keepCR)
+                            .build();
+                    CSVReader actualReader = build(new TrickleInputStream(input, random.nextInt(4) + 1), dialect, keepCR);
+                    assertTrue(actualReader.usesRecordTokenizer());
+                    assertEquals(RandomCsvInput.transcript(expectedReader),
+                            RandomCsvInput.transcript(actualReader),
+                            "Input: " + decoded.replace("\n", "\\n").replace("\r", "\\r"));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void decodesOnlyWhatIsRead() throws IOException, CsvValidationException {
+        String input = "id,name,price\n1,\"M\u00fcller, J\u00fcrgen\",\u20ac 3\n2,\ud834\udd1e,\n";
+        CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                .build();
+
+        assertArrayEquals(new String[]{"id", "name", "price"}, reader.readNext());
+
+        CsvRecord record = reader.readRecord();
+        assertEquals("M\u00fcller, J\u00fcrgen", record.get(1));
+        assertTrue(record.isQuoted(1));
+        assertEquals("\u20ac 3", record.field(2).toString());
+
+        StringBuilder sb = new StringBuilder();
+        assertTrue(reader.readNext(new FieldVisitor() {
+            @Override
+            public void visitField(int index, char[] buffer, int offset, int length, boolean quoted) {
+                sb.append('[').append(buffer, offset, length).append(']');
+            }
+
+            @Override
+            public void visitNullField(int index) {
+                sb.append("null");
+            }
+        }));
+        assertEquals("[2][\ud834\udd1e]null", sb.toString());
+        assertNull(reader.readNext());
+        assertEquals(3, reader.getRecordsRead());
+    }
+
+    @Test
+    public void readsOtherAsciiCompatibleCharsets() throws IOException, CsvException {
+        byte[] latin1 = "a,\u00e9\u00ff\nb,c\n".getBytes(StandardCharsets.ISO_8859_1);
+        CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(latin1), StandardCharsets.ISO_8859_1).build();
+        assertTrue(reader.usesRecordTokenizer());
+        assertArrayEquals(new String[]{"a", "\u00e9\u00ff"}, reader.readNext());
+
+        byte[] ascii = {'a', ',', (byte) 0xE9, '\n'};
+        reader = new CSVReaderBuilder(new ByteArrayInputStream(ascii), StandardCharsets.US_ASCII).build();
+        assertArrayEquals(new String[]{"a", "\ufffd"}, reader.readNext());
+    }
+
+    @Test
+    public void fallsBackToDecodingWhenBytesCannotBeTokenized() throws IOException, CsvException {
+        Charset utf16 = StandardCharsets.UTF_16;
+        CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream("a,b\n".getBytes(utf16)), utf16).build();
+        assertFalse(reader.usesRecordTokenizer());
+        assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+
+        reader = new CSVReaderBuilder(new ByteArrayInputStream("a;b\n".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                .withCSVParser(new RFC4180ParserBuilder().withSeparator(';').build())
+                .build();
+        assertFalse(reader.usesRecordTokenizer());
+        assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+
+        reader = new CSVReaderBuilder(new ByteArrayInputStream("a\u00a7b\n".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                .withCSVParser(new CSVParserBuilder().withSeparator('\u00a7').build())
+                .build();
+        assertFalse(reader.usesRecordTokenizer());
+        assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+    }
+
+    @Test
+    public void readsFromChannelsAndBuffers() throws IOException, CsvException {
+        byte[] bytes = "x,y\n1,2\n".getBytes(StandardCharsets.UTF_8);
+
+        CSVReader reader = new CSVReaderBuilder(Channels.newChannel(new ByteArrayInputStream(bytes)), null).build();
+        assertEquals(2, reader.readAll().size());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+        buffer.put(bytes).flip();
+        buffer.position(4);
+        reader = new CSVReaderBuilder(buffer, StandardCharsets.UTF_8).build();
+        List<String[]> records = reader.readAll();
+        assertEquals(1, records.size());
+        assertArrayEquals(new String[]{"1", "2"}, records.get(0));
+        assertEquals(4, buffer.position());
+    }
+
+    @Test
+    public void closingTheReaderClosesTheStream() throws IOException {
+        boolean[] closed = {false};
+        InputStream in = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        new CSVReaderBuilder(in, StandardCharsets.UTF_8).build().close();
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    public void lineValidatorsSeeDecodedLines() {
+        byte[] bytes = "a,b\nc,\"d\nb\u00e4d\",e\n".getBytes(StandardCharsets.UTF_8);
+        CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)
+                .withLineValidator(new LineDoesNotHaveForbiddenString("b\u00e4d"))
+                .build();
+        assertThrows(CsvValidationException.class, reader::readAll);
+        assertEquals(1, reader.getRecordsRead());
+    }
+
+    @Test
+    public void headerAwareReaderReadsBytes() throws IOException, CsvValidationException {
+        byte[] bytes = "first,second\n1,\"\u00fc\nber\"\n".getBytes(StandardCharsets.UTF_8);
+        CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8).build();
+        assertTrue(reader.usesRecordTokenizer());
+        assertEquals("\u00fc\nber", reader.readMap().get("second"));
+        assertNull(reader.readMap());
+    }
+
+    @Test
+    public void nullSourceIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CSVReaderBuilder((InputStream) null, StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> new CSVReaderBuilder((ByteBuffer) null, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hands out input only a few bytes at a time, so multibyte characters
+     * are split across reads.
+     */
+    private static class TrickleInputStream extends InputStream {
+        private final byte[] input;
+        private final int maximum;
+        private int position = 0;
+
+        TrickleInputStream(byte[] input, int maximum) {
+            this.input = input;
+            this.maximum = maximum;
+        }
+
+        @Override
+        public int read() {
+            return position < input.length ? input[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= input.length) {
+                return -1;
+            }
+            int count = Math.min(Math.min(len, maximum), input.length - position);
+            System.arraycopy(input, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvMultilineLimitBrokenException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.stream.reader.ParallelRecordTokenizer;
+import com.opencsv.validators.LineDoesNotHaveForbiddenString;
+import com.opencsv.validators.LineValidatorAggregator;
+import com.opencsv.validators.RowValidatorAggregator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVReaderParallelTest {
+
+    private static final String[] ALPHABET = {
+            "a", "b", " ", ",", ";", "\"", "\\", "'", "\n", "\n", "\r", "\u00e9", "\u20ac", "\ud834\udd1e"};
+    private static final int RANDOM_INPUTS = 200;
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(directory, "parallel", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static CSVReader parallelReader(Path file, ICSVParser parser, boolean keepCR, int skipLines,
+                                            int chunkSize, LineValidatorAggregator lineValidators) throws IOException {
+        return new CSVReader(new ParallelRecordTokenizer(file, StandardCharsets.UTF_8, parser, keepCR, 3, chunkSize),
+                skipLines, parser, keepCR, true, 0, Locale.US, lineValidators, new RowValidatorAggregator(), null);
+    }
+
+    @DisplayName("Tokenizing chunks in parallel gives the same results as reading sequentially")
+    @Test
+    public void parallelMatchesSequential() throws IOException {
+        Random random = new Random(20221020L);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = RandomCsvInput.randomInput(random, ALPHABET, 60);
+            byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            Path file = write(input);
+            for (CSVParserBuilder dialect : RandomCsvInput.dialects()) {
+                for (boolean keepCR : new boolean[]{false, true}) {
+                    int skipLines = random.nextInt(3);
+                    int chunkSize = random.nextInt(12) + 1;
+                    CSVReader expectedReader = new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)
+                            .withCSVParser(dialect.build())
+                            .withKeepCarriageReturn(keepCR)
+                            .withSkipLines(skipLines)
+                            .build();
+                    CSVReader actualReader = parallelReader(file, (CSVParser) dialect.build(), keepCR, skipLines,
+                            chunkSize, new LineValidatorAggregator());
+                    assertEquals(RandomCsvInput.transcript(expectedReader),
+                            RandomCsvInput.transcript(actualReader),
+                            "Input: " + input.replace("\n", "\\n").replace("\r", "\\r") + " chunk size " + chunkSize);
+                    actualReader.close();
+                }
+            }
+        }
+    }
+
+    @DisplayName("Chunks parsed in parallel with the RFC 4180 parser give the same results as reading sequentially")
+    @Test
+    public void rfc4180ParallelMatchesSequential() throws IOException {
+        List<RFC4180ParserBuilder> dialects = Arrays.asList(
+                new RFC4180ParserBuilder(),
+                new RFC4180ParserBuilder().withSeparator(';'),
+                new RFC4180ParserBuilder().withQuoteChar('\''),
+                new RFC4180ParserBuilder().withFieldAsNull(CSVReaderNullFieldIndicator.BOTH),
+                new RFC4180ParserBuilder().withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS));
+        Random random = new Random(20221021L);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = RandomCsvInput.randomInput(random, ALPHABET, 60);
+            byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            Path file = write(input);
+            for (RFC4180ParserBuilder dialect : dialects) {
+                int skipLines = random.nextInt(3);
+                int chunkSize = random.nextInt(12) + 1;
+                CSVReader expectedReader = new CSVReaderBuilder(
+                        new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8))
+                        .withCSVParser(dialect.build())
+                        .withSkipLines(skipLines)
+                        .build();
+                CSVReader actualReader = parallelReader(file, dialect.build(), false, skipLines,
+                        chunkSize, new LineValidatorAggregator());
+                assertEquals(RandomCsvInput.transcript(expectedReader),
+                        RandomCsvInput.transcript(actualReader),
+                        "Input: " + input.replace("\n", "\\n").replace("\r", "\\r") + " chunk size " + chunkSize);
+                actualReader.close();
+            }
+        }
+    }
+
+    @Test
+    public void readAllMatchesSequentialReadingForMultilineRecords() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder("id,note\r\n");
+        Random random = new Random(42L);
+        for (int i = 0; i < 300; i++) {
+            sb.append(i).append(",\"");
+            for (int j = random.nextInt(4); j >= 0; j--) {
+                sb.append("free text, \"\"quoted\"\"\r\n");
+            }
+            sb.append("end\"\r\n");
+        }
+        Path file = write(sb.toString());
+        for (ICSVParser parser : new ICSVParser[]{new CSVParser(), new RFC4180Parser()}) {
+            List<String[]> expected = new CSVReaderBuilder(Files.newBufferedReader(file)).withCSVParser(parser).build().readAll();
+            try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8)
+                    .withCSVParser(parser)
+                    .withParallelism(4)
+                    .build()) {
+                assertTrue(reader.usesRecordTokenizer());
+                List<String[]> actual = reader.readAll();
+                assertEquals(301, actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertArrayEquals(expected.get(i), actual.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fieldsAreDeduplicatedOnEveryReadingPath() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append(i).append(",DE,\"\u00fcber\"\n");
+        }
+        String input = sb.toString();
+        Path file = write(input);
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        List<CSVReader> readers = Arrays.asList(
+                new CSVReaderBuilder(new StringReader(input)).withFieldDeduplication(true).build(),
+                new CSVReaderBuilder(new StringReader(input)).withRecordTokenizer(true).withFieldDeduplication(true).build(),
+                new CSVReaderBuilder(new StringReader(input)).withCSVParser(new RFC4180Parser()).withFieldDeduplication(true).build(),
+                new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8).withFieldDeduplication(true).build(),
+                new CSVReaderBuilder(file, StandardCharsets.UTF_8).withParallelism(3).withFieldDeduplication(true).build(),
+                new CSVReaderBuilder(file, StandardCharsets.UTF_8).withCSVParser(new RFC4180Parser())
+                        .withParallelism(3).withFieldDeduplication(true).build());
+        for (CSVReader reader : readers) {
+            List<String[]> records = reader.readAll();
+            assertEquals(200, records.size());
+            for (int i = 0; i < 200; i++) {
+                assertArrayEquals(new String[]{Integer.toString(i), "DE", "\u00fcber"}, records.get(i));
+                assertSame(records.get(0)[1], records.get(i)[1]);
+                assertSame(records.get(0)[2], records.get(i)[2]);
+            }
+            reader.close();
+        }
+
+        List<String[]> records = new CSVReaderBuilder(new StringReader(input)).build().readAll();
+        assertNotSame(records.get(0)[1], records.get(1)[1]);
+    }
+
+    @Test
+    public void quotedLineEndsAcrossChunks() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append(i).append(",\"line\nbreak ").append(i).append("\",\"\u00fc\"\n");
+        }
+        Path file = write(sb.toString());
+        CSVParser parser = new CSVParser();
+        try (CSVReader reader = parallelReader(file, parser, false, 0, 7, new LineValidatorAggregator())) {
+            List<String[]> records = reader.readAll();
+            assertEquals(500, records.size());
+            for (int i = 0; i < 500; i++) {
+                assertArrayEquals(new String[]{Integer.toString(i), "line\nbreak " + i, "\u00fc"}, records.get(i));
+            }
+            assertEquals(1000, reader.getLinesRead());
+        }
+    }
+
+    @Test
+    public void lineValidatorsSeeEveryLine() throws IOException {
+        Path file = write("a,b\nc,\"d\nbad\",e\nf,g\n");
+        LineValidatorAggregator lineValidators = new LineValidatorAggregator();
+        lineValidators.addValidator(new LineDoesNotHaveForbiddenString("bad"));
+        CSVReader reader = parallelReader(file, new CSVParser(), false, 0, 2, lineValidators);
+        assertThrows(CsvValidationException.class, reader::readAll);
+        assertEquals(1, reader.getRecordsRead());
+        reader.close();
+    }
+
+    @Test
+    public void builderReadsFilesInParallel() throws IOException, CsvValidationException {
+        Path file = write("first,second\n1,\"\u00fc\nber\"\n2,x\n");
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withParallelism(4).withSkipLines(1).build()) {
+            assertTrue(reader.usesRecordTokenizer());
+            assertArrayEquals(new String[]{"1", "\u00fc\nber"}, reader.readNext());
+            assertArrayEquals(new String[]{"2", "x"}, reader.readNext());
+            assertNull(reader.readNext());
+            assertEquals(4, reader.getLinesRead());
+        }
+
+        try (CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(file, null).withParallelism(2).build()) {
+            assertEquals("\u00fc\nber", reader.readMap().get("second"));
+            assertEquals("x", reader.readMap().get("second"));
+            assertNull(reader.readMap());
+        }
+    }
+
+    @Test
+    public void multilineLimitIsEnforcedSequentially() throws IOException {
+        Path file = write("a,\"b\nc\nd\"\n");
+        CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8)
+                .withParallelism(4)
+                .withMultilineLimit(2)
+                .build();
+        assertThrows(CsvMultilineLimitBrokenException.class, reader::readNext);
+        reader.close();
+    }
+
+    @Test
+    public void filesAreDecodedWhenTheyCannotBeTokenized() throws IOException, CsvException {
+        Path file = write("a;b\n");
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8)
+                .withCSVParser(new RFC4180ParserBuilder().withSeparator(';').build())
+                .withKeepCarriageReturn(true)
+                .withParallelism(4)
+                .build()) {
+            assertFalse(reader.usesRecordTokenizer());
+            assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+        }
+    }
+
+    @Test
+    public void tokenizerReportsErrorsInTheLocaleOfTheReader() throws IOException, CsvValidationException {
+        Path file = write("a,b\nc,d\n");
+        ICSVParser parser = new CSVParser();
+        ParallelRecordTokenizer tokenizer = new ParallelRecordTokenizer(file, StandardCharsets.UTF_8, parser, false, 2);
+        try (CSVReader reader = new CSVReader(tokenizer, 0, parser, false, true, 0, Locale.GERMAN,
+                new LineValidatorAggregator(), new RowValidatorAggregator(), null)) {
+            assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+            UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class, tokenizer::skipLine);
+            assertEquals("Zeilen k\u00f6nnen nicht mehr \u00fcbersprungen werden, sobald die Zerlegung begonnen hat.",
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void missingFilesAreReported() {
+        assertThrows(IllegalArgumentException.class, () -> new CSVReaderBuilder((Path) null, StandardCharsets.UTF_8));
+        assertThrows(UncheckedIOException.class,
+                () -> new CSVReaderBuilder(directory.resolve("missing.csv"), StandardCharsets.UTF_8).build());
+    }
+}
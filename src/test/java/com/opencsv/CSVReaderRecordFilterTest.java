@@ -0,0 +1,215 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.validators.RowFunctionValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVReaderRecordFilterTest {
+
+    private static final String[] ALPHABET = RandomCsvInput.alphabet("ab ,;\"\\'\n\n\r\u00e9");
+    private static final int RANDOM_INPUTS = 200;
+    private static final int[] COLUMNS = {2, 0};
+    private static final RecordFilter FILTER = r -> r.size() % 2 == 1 || r.startsWith(0, "a");
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    /**
+     * Drops the records the filter rejects and selects columns afterwards if
+     * requested.
+     */
+    private static UnaryOperator<String[]> filterAndSelect(int[] columns) {
+        CsvRecord view = new CsvRecord();
+        return record -> {
+            view.setFields(record);
+            if (!FILTER.allowRecord(view)) {
+                return null;
+            }
+            if (columns == null) {
+                return record;
+            }
+            String[] fields = new String[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                fields[c] = columns[c] < record.length ? record[columns[c]] : null;
+            }
+            return fields;
+        };
+    }
+
+    @DisplayName("Filtering while reading gives the same results as filtering afterwards")
+    @Test
+    public void filteredRecordsMatchCompleteRecords() throws IOException {
+        Random random = new Random(20221104L);
+        // Parsers keep the state of unfinished records, so every reader needs
+        // a parser of its own.
+        List<Supplier<ICSVParser>> parsers = new ArrayList<>();
+        for (CSVParserBuilder dialect : RandomCsvInput.dialects()) {
+            parsers.add(dialect::build);
+        }
+        parsers.add(RFC4180Parser::new);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = RandomCsvInput.randomInput(random, ALPHABET, 50);
+            byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            Path file = Files.createTempFile(directory, "filter", ".csv");
+            Files.write(file, bytes);
+            for (Supplier<ICSVParser> parser : parsers) {
+                for (boolean keepCR : new boolean[]{false, true}) {
+                    for (int[] columns : new int[][]{null, COLUMNS}) {
+                        List<String> expected = RandomCsvInput.transcript(new CSVReaderBuilder(new StringReader(input))
+                                .withCSVParser(parser.get()).withKeepCarriageReturn(keepCR).build(),
+                                filterAndSelect(columns));
+                        List<CSVReaderBuilder> builders = Arrays.asList(
+                                new CSVReaderBuilder(new StringReader(input)),
+                                new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8),
+                                new CSVReaderBuilder(file, StandardCharsets.UTF_8).withParallelism(2));
+                        for (CSVReaderBuilder builder : builders) {
+                            CSVReader reader = builder.withCSVParser(parser.get())
+                                    .withKeepCarriageReturn(keepCR)
+                                    .withColumns(columns)
+                                    .withRecordFilter(FILTER)
+                                    .build();
+                            assertEquals(expected, RandomCsvInput.transcript(reader, UnaryOperator.identity()),
+                                    "Input: " + input.replace("\n", "\\n").replace("\r", "\\r"));
+                            reader.close();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void filterSeesRecordsBeforeAnythingElse() throws IOException, CsvException {
+        List<String> calls = new ArrayList<>();
+        CSVReaderBuilder builder = new CSVReaderBuilder(new StringReader("id,region\n1,EU-west\n2,US-east\n3,EU-north\n"));
+        assertNull(builder.getRecordFilter());
+        RecordFilter filter = r -> {
+            calls.add("filter " + r.get(0));
+            return r.startsWith(1, "EU");
+        };
+        CSVReader reader = builder
+                .withRecordFilter(filter)
+                .withLineValidator(new com.opencsv.validators.LineValidator() {
+                    @Override
+                    public boolean isValid(String line) {
+                        return true;
+                    }
+
+                    @Override
+                    public void validate(String line) {
+                        calls.add("line " + line);
+                    }
+                })
+                .withRowValidator(new RowFunctionValidator(row -> calls.add("row " + row[0]), "never"))
+                .withRowProcessor(new com.opencsv.processor.RowProcessor() {
+                    @Override
+                    public String processColumnItem(String column) {
+                        return column;
+                    }
+
+                    @Override
+                    public void processRow(String[] row) {
+                        calls.add("process " + row[0]);
+                    }
+                })
+                .build();
+        assertSame(filter, builder.getRecordFilter());
+        assertTrue(reader.usesRecordTokenizer());
+
+        assertArrayEquals(new String[]{"id", "region"}, reader.readNextSilently());
+        List<String[]> records = reader.readAll();
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"1", "EU-west"}, records.get(0));
+        assertArrayEquals(new String[]{"3", "EU-north"}, records.get(1));
+        assertEquals(4, reader.getRecordsRead());
+        assertEquals(Arrays.asList(
+                "line 1,EU-west", "filter 1", "process 1", "row 1",
+                "line 2,US-east", "filter 2",
+                "line 3,EU-north", "filter 3", "process 3", "row 3",
+                "line null"), calls);
+    }
+
+    @Test
+    public void filterAppliesWhenReadingWithoutStrings() throws IOException, CsvValidationException {
+        String data = "EU,1\nUS,2\nEU,3\nUS,4\n";
+        RecordFilter filter = r -> r.startsWith(0, "EU");
+
+        CSVReader reader = new CSVReaderBuilder(new StringReader(data)).withRecordFilter(filter).build();
+        List<String> visited = new ArrayList<>();
+        while (reader.readNext((index, buffer, offset, length, quoted) -> {
+            if (index == 1) {
+                visited.add(new String(buffer, offset, length));
+            }
+        })) {
+            // keep reading
+        }
+        assertEquals(Arrays.asList("1", "3"), visited);
+
+        reader = new CSVReaderBuilder(new StringReader(data)).withRecordFilter(filter).build();
+        CsvRecord record = new CsvRecord();
+        assertTrue(reader.readRecord(record));
+        assertEquals("1", record.get(1));
+        assertTrue(reader.readRecord(record));
+        assertEquals("3", record.get(1));
+        assertFalse(reader.readRecord(record));
+    }
+
+    @Test
+    public void peekDoesNotFilter() throws IOException, CsvValidationException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("US,1\nEU,2\n"))
+                .withRecordFilter(r -> r.startsWith(0, "EU"))
+                .build();
+        assertArrayEquals(new String[]{"US", "1"}, reader.peek());
+        assertArrayEquals(new String[]{"EU", "2"}, reader.readNext());
+        assertNull(reader.readNext());
+    }
+
+    @Test
+    public void filterSeesAllColumnsOfHeaderAwareReader() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = (CSVReaderHeaderAware) new CSVReaderHeaderAwareBuilder(
+                new StringReader("region,id,name\nEU,1,one\nUS,2,two\nEU,3,three\n"))
+                .withColumns("name")
+                .withRecordFilter(r -> r.startsWith(0, "EU"))
+                .build();
+        assertEquals(Collections.singletonMap("name", "one"), reader.readMap());
+        Map<String, String> next = reader.readMap();
+        assertEquals(Collections.singletonMap("name", "three"), next);
+        assertNull(reader.readMap());
+    }
+}
@@ -0,0 +1,214 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.stream.reader.ParallelRecordTokenizer;
+import com.opencsv.validators.LineValidatorAggregator;
+import com.opencsv.validators.RowValidatorAggregator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVReaderSkipRecordsTest {
+
+    private static final String[] ALPHABET = {
+            "a", "b", " ", ",", ";", "\"", "\\", "'", "\n", "\n", "\r", "\u00e9", "\u20ac"};
+    private static final int RANDOM_INPUTS = 60;
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    /**
+     * Builds readers of every kind over the same input: line by line, with
+     * a record tokenizer over characters, over bytes, and in parallel.
+     */
+    private List<Supplier<CSVReader>> readers(String input, CSVParserBuilder dialect, boolean keepCR,
+                                              int skipLines, int chunkSize) throws IOException {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.createTempFile(directory, "skip", ".csv");
+        Files.write(file, bytes);
+        List<Supplier<CSVReader>> readers = new ArrayList<>();
+        for (boolean tokenizer : new boolean[]{false, true}) {
+            readers.add(() -> new CSVReaderBuilder(new StringReader(input))
+                    .withCSVParser(dialect.build())
+                    .withKeepCarriageReturn(keepCR)
+                    .withSkipLines(skipLines)
+                    .withRecordTokenizer(tokenizer)
+                    .build());
+        }
+        readers.add(() -> new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)
+                .withCSVParser(dialect.build())
+                .withKeepCarriageReturn(keepCR)
+                .withSkipLines(skipLines)
+                .build());
+        readers.add(() -> {
+            try {
+                CSVParser parser = (CSVParser) dialect.build();
+                return new CSVReader(new ParallelRecordTokenizer(file, StandardCharsets.UTF_8, parser, keepCR, 3, chunkSize),
+                        skipLines, parser, keepCR, true, 0, Locale.US, new LineValidatorAggregator(),
+                        new RowValidatorAggregator(), null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return readers;
+    }
+
+    /**
+     * @return The number of records in a transcript, not counting the entry
+     *   that ends it
+     */
+    private static int recordsIn(List<String> transcript) {
+        return transcript.size() - 1;
+    }
+
+    private static String describe(IOException e) {
+        String description = e.getClass().getSimpleName();
+        if (e instanceof CsvMalformedLineException) {
+            description += " at " + ((CsvMalformedLineException) e).getLineNumber();
+        }
+        return description;
+    }
+
+    private static String terminal(List<String> transcript) {
+        String last = transcript.get(transcript.size() - 1);
+        if (last.startsWith("null")) {
+            return last;
+        }
+        // The pending text is not known when framing, so only the exception
+        // and the line number it names are compared.
+        String description = last.substring(0, last.indexOf(':'));
+        if (description.equals(CsvMalformedLineException.class.getSimpleName())) {
+            int context = last.lastIndexOf(" context ");
+            description += last.substring(last.lastIndexOf(" at ", context), context);
+        }
+        return description;
+    }
+
+    @DisplayName("Skipping records frames them exactly as reading them would")
+    @Test
+    public void skippingMatchesReading() throws IOException {
+        Random random = new Random(20221122L);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = RandomCsvInput.randomInput(random, ALPHABET, 60);
+            for (CSVParserBuilder dialect : RandomCsvInput.dialects()) {
+                for (boolean keepCR : new boolean[]{false, true}) {
+                    int skipLines = random.nextInt(3);
+                    List<Supplier<CSVReader>> kinds = readers(input, dialect, keepCR, skipLines, random.nextInt(12) + 1);
+                    for (int kind = 0; kind < kinds.size(); kind++) {
+                        Supplier<CSVReader> readers = kinds.get(kind);
+                        String message = "Reader " + kind + ", keepCR " + keepCR + ", skipLines " + skipLines
+                                + ", input: " + input.replace("\n", "\\n").replace("\r", "\\r");
+                        List<String> expected;
+                        try (CSVReader reader = readers.get()) {
+                            expected = RandomCsvInput.transcript(reader);
+                        }
+                        int records = recordsIn(expected);
+
+                        // Count everything
+                        try (CSVReader reader = readers.get()) {
+                            long count = reader.countRecords();
+                            assertEquals(records, count, message);
+                            assertEquals(terminal(expected),
+                                    "null lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead(), message);
+                        } catch (IOException e) {
+                            assertEquals(terminal(expected), describe(e), message);
+                        }
+
+                        // Skip some, read the rest
+                        int skip = random.nextInt(records + 2);
+                        try (CSVReader reader = readers.get()) {
+                            if (random.nextBoolean() && records > 0) {
+                                reader.peek();
+                            }
+                            long skipped = reader.skipRecords(skip);
+                            assertEquals(Math.min(skip, records), skipped, message);
+                            assertEquals(expected.subList((int) skipped, expected.size()),
+                                    RandomCsvInput.transcript(reader), message);
+                        } catch (IOException e) {
+                            assertTrue(skip > records, message);
+                            assertEquals(terminal(expected), describe(e), message);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void skippedRecordsAreNotValidatedOrFiltered() throws IOException, CsvValidationException {
+        List<String> seen = new ArrayList<>();
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,1\n\"b\nb\",2\nc,3\n"))
+                .withLineValidator(new com.opencsv.validators.LineValidator() {
+                    @Override
+                    public boolean isValid(String line) {
+                        seen.add(line);
+                        return true;
+                    }
+
+                    @Override
+                    public void validate(String line) {
+                        isValid(line);
+                    }
+                })
+                .withRecordFilter(r -> !r.startsWith(0, "b"))
+                .build();
+        assertEquals(2, reader.skipRecords(2));
+        assertTrue(seen.isEmpty());
+        assertEquals(2, reader.getRecordsRead());
+        assertEquals(3, reader.getLinesRead());
+        assertArrayEquals(new String[]{"c", "3"}, reader.readNext());
+        assertEquals(0, reader.countRecords());
+        assertEquals(0, reader.skipRecords(5));
+    }
+
+    @Test
+    public void largeFileIsCountedInParallel() throws IOException, CsvValidationException {
+        StringBuilder sb = new StringBuilder("header\n");
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i).append(",\"x\ny\",\u00e9\n");
+        }
+        Path file = directory.resolve("large.csv");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8)
+                .withSkipLines(1)
+                .withParallelism(4)
+                .build()) {
+            assertArrayEquals(new String[]{"0", "x\ny", "\u00e9"}, reader.readNext());
+            assertEquals(19999, reader.countRecords());
+            assertEquals(20000, reader.getRecordsRead());
+            assertEquals(40001, reader.getLinesRead());
+            assertNull(reader.readNextSilently());
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.io.*;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -546,6 +547,26 @@ public class CSVReaderTest {
         assertEquals("c", nextLine[2]);
     }
 
+    @Test
+    public void keepCarriageReturnReadsPastEmptyLines() throws IOException, CsvException {
+        String data = "a,b\r\n\r\n\nc,\"d\r\n\r\ne\"\r\n";
+        CSVReader withCR = new CSVReaderBuilder(new StringReader(data))
+                .withKeepCarriageReturn(true)
+                .build();
+        List<String[]> records = withCR.readAll();
+        assertEquals(4, records.size());
+        assertArrayEquals(new String[]{"a", "b"}, records.get(0));
+        // The carriage return ending a line is not part of the last field.
+        assertArrayEquals(new String[]{""}, records.get(1));
+        assertArrayEquals(new String[]{""}, records.get(2));
+        assertArrayEquals(new String[]{"c", "d\r\n\r\ne"}, records.get(3));
+
+        // Except for the carriage returns, the records are the same as without them.
+        List<String[]> withoutCR = new CSVReaderBuilder(new StringReader(data)).build().readAll();
+        assertEquals(records.size(), withoutCR.size());
+        assertArrayEquals(new String[]{"c", "d\n\ne"}, withoutCR.get(3));
+    }
+
     @Test
     public void testIssue2992134OutOfPlaceQuotes() throws IOException, CsvValidationException {
         mockDataBuilder.addDataRow("a,b,c,ddd\\\"eee\nf,g,h,\"iii,jjj\"");
@@ -769,6 +790,25 @@ public class CSVReaderTest {
         Assertions.assertThrows(IOException.class, () -> r.readNext());
     }
 
+    @Test
+    public void testRecordSpanningManyLines() throws IOException, CsvValidationException {
+        StringBuilder input = new StringBuilder("\"f0");
+        for (int i = 1; i < 5000; i++) {
+            input.append("\n\",\"f").append(i);
+        }
+        input.append("\n\"\nnext");
+        for (ICSVParser parser : new ICSVParser[]{new CSVParser(), new RFC4180Parser()}) {
+            CSVReader r = new CSVReaderBuilder(new StringReader(input.toString())).withCSVParser(parser).build();
+            String[] record = r.readNext();
+            assertEquals(5000, record.length);
+            for (int i = 0; i < 5000; i++) {
+                assertEquals("f" + i + "\n", record[i]);
+            }
+            assertEquals(5001, r.getLinesRead());
+            assertArrayEquals(new String[]{"next"}, r.readNext());
+        }
+    }
+
     @Test
     public void testReadMultilineClosingQuoteMissing() throws CsvValidationException {
         final String part1 = "This,is,a,\"";
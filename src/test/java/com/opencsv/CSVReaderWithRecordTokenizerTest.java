@@ -0,0 +1,164 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvMultilineLimitBrokenException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.validators.LineDoesNotHaveForbiddenString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static com.opencsv.RandomCsvInput.dialects;
+import static com.opencsv.RandomCsvInput.randomInput;
+import static com.opencsv.RandomCsvInput.transcript;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CSVReaderWithRecordTokenizerTest {
+
+    private static final String[] ALPHABET = RandomCsvInput.alphabet("ab ,;\"\\'\n\r\t");
+    private static final int RANDOM_INPUTS = 400;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static CSVReader build(Reader input, CSVParserBuilder dialect, boolean keepCR, int multilineLimit, boolean tokenizer) {
+        return new CSVReaderBuilder(input)
+                .withCSVParser(dialect.build())
+                .withKeepCarriageReturn(keepCR)
+                .withMultilineLimit(multilineLimit)
+                .withRecordTokenizer(tokenizer)
+                .build();
+    }
+
+    @DisplayName("The record tokenizer reads exactly what the line reader and parser read")
+    @Test
+    public void tokenizerMatchesLineByLineParsing() {
+        Random random = new Random(20221018L);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = randomInput(random, ALPHABET, 40);
+            for (CSVParserBuilder dialect : dialects()) {
+                for (boolean keepCR : new boolean[]{false, true}) {
+                    List<String> expected = transcript(build(new StringReader(input), dialect, keepCR, 0, false));
+                    List<String> actual = transcript(build(new TrickleReader(input, random.nextInt(4) + 1), dialect, keepCR, 0, true));
+                    assertEquals(expected, actual, "Input: " + input.replace("\n", "\\n").replace("\r", "\\r"));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void builderEnablesTokenizerOnlyForCsvParser() {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b")).withRecordTokenizer(true).build();
+        assertTrue(reader.usesRecordTokenizer());
+
+        reader = new CSVReaderBuilder(new StringReader("a,b")).build();
+        assertFalse(reader.usesRecordTokenizer());
+
+        reader = new CSVReaderBuilder(new StringReader("a,b"))
+                .withCSVParser(new RFC4180Parser())
+                .withRecordTokenizer(true)
+                .build();
+        assertFalse(reader.usesRecordTokenizer());
+    }
+
+    @Test
+    public void multilineRecordsAndSkippedLines() throws IOException, CsvException {
+        String input = "comment\nanother comment\na,\"b\nb\",c\n\"d\r\ne\",f\r\n";
+        CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                .withSkipLines(2)
+                .withRecordTokenizer(true)
+                .build();
+
+        List<String[]> records = reader.readAll();
+        assertEquals(2, records.size());
+        assertArrayEquals(new String[]{"a", "b\nb", "c"}, records.get(0));
+        assertArrayEquals(new String[]{"d\ne", "f"}, records.get(1));
+        assertEquals(6, reader.getLinesRead());
+        assertEquals(2, reader.getRecordsRead());
+    }
+
+    @Test
+    public void multilineLimitIsEnforced() throws IOException, CsvValidationException {
+        CSVReader reader = build(new StringReader("a,\"b\nc\nd\ne\",f\n"), new CSVParserBuilder(), false, 2, true);
+        CsvMultilineLimitBrokenException e = assertThrows(CsvMultilineLimitBrokenException.class, reader::readNext);
+        assertEquals("b\nc\n", e.getContext());
+        assertEquals(1, e.getRow());
+    }
+
+    @Test
+    public void unterminatedQuoteIsReported() {
+        CSVReader reader = build(new StringReader("a,\"b\nc"), new CSVParserBuilder(), false, 0, true);
+        CsvMalformedLineException e = assertThrows(CsvMalformedLineException.class, reader::readNext);
+        assertEquals("b\nc\n", e.getContext());
+        assertEquals(1, e.getLineNumber());
+    }
+
+    @Test
+    public void lineValidatorsSeeEveryLine() {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b\nc,\"d\nbad\",e\n"))
+                .withLineValidator(new LineDoesNotHaveForbiddenString("bad"))
+                .withRecordTokenizer(true)
+                .build();
+        assertThrows(CsvValidationException.class, reader::readAll);
+        assertEquals(1, reader.getRecordsRead());
+    }
+
+    @Test
+    public void headerAwareReaderUsesTokenizer() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(new StringReader("first,second\n1,\"2\n2\"\n"))
+                .withRecordTokenizer(true)
+                .build();
+        assertTrue(reader.usesRecordTokenizer());
+        assertEquals("2\n2", reader.readMap().get("second"));
+        assertNull(reader.readMap());
+    }
+
+    /**
+     * Hands out input only a few characters at a time to exercise every
+     * possible buffer boundary.
+     */
+    private static class TrickleReader extends Reader {
+        private final String input;
+        private final int maximum;
+        private int position = 0;
+
+        TrickleReader(String input, int maximum) {
+            this.input = input;
+            this.maximum = maximum;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (position >= input.length()) {
+                return -1;
+            }
+            int count = Math.min(Math.min(len, maximum), input.length() - position);
+            input.getChars(position, position + count, cbuf, off);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -146,4 +146,25 @@ public class CSVWriterBuilderTest {
                 .build();
         assertSame(mockHelper, csvWriter.resultService);
     }
+
+    @Test
+    public void withParallelism() throws IllegalAccessException {
+        Field parallelismField = FieldUtils.getDeclaredField(builder.getClass(), "parallelism", true);
+        assertEquals(1, parallelismField.get(builder));
+        assertSame(builder, builder.withParallelism(4));
+        assertEquals(4, parallelismField.get(builder));
+        builder.withParallelism(0);
+        assertEquals(1, parallelismField.get(builder));
+    }
+
+    @Test
+    public void buildWithParallelismFormatsOnSeveralThreads() throws IllegalAccessException {
+        ICSVWriter csvWriter = builder.withParallelism(2).build();
+        assertTrue(csvWriter instanceof CSVWriter);
+        Field parallelFormatterField = FieldUtils.getDeclaredField(CSVWriter.class, "parallelFormatter", true);
+        assertNotNull(parallelFormatterField.get(csvWriter));
+
+        csvWriter = new CSVWriterBuilder(writer).build();
+        assertNull(parallelFormatterField.get(csvWriter));
+    }
 }
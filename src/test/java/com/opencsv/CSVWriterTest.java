@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 
 import java.io.*;
+import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
@@ -701,6 +702,7 @@ public class CSVWriterTest {
    public void testIOException() throws IOException {
       Writer writer = mock(Writer.class);
       doThrow(IOException.class).when(writer).write(anyString());
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
 
       // Using writeNext()
       ICSVWriter csvWriter = new CSVWriter(writer);
@@ -725,6 +727,7 @@ public class CSVWriterTest {
    public void checkErrorReturnsTrueWhenPassedInPrintWriter() throws IOException {
       Writer writer = mock(Writer.class);
       doThrow(IOException.class).when(writer).write(anyString(), anyInt(), anyInt());
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
 
       PrintWriter printWriter = new PrintWriter(writer);
 
@@ -822,4 +825,304 @@ public class CSVWriterTest {
 
       verify(csvWriter).writeNext(any(String[].class), anyBoolean(), any(StringBuilder.class));
    }
+
+   /**
+    * A writer that formats through the protected methods, as every writer
+    * did before rows were formatted in one scan.
+    */
+   @SuppressWarnings("deprecation")
+   private static class LegacyFormattingWriter extends CSVWriter {
+      LegacyFormattingWriter(Writer writer, char separator, char quotechar, char escapechar) {
+         super(writer, separator, quotechar, escapechar, DEFAULT_LINE_END);
+      }
+
+      @Override
+      protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+         for (int i = 0; i < nextLine.length; i++) {
+            if (i != 0) {
+               appendable.append(separator);
+            }
+            String nextElement = nextLine[i];
+            if (nextElement == null) {
+               continue;
+            }
+            boolean quoted = (applyQuotesToAll || stringContainsSpecialCharacters(nextElement)) && quotechar != NO_QUOTE_CHARACTER;
+            if (quoted) {
+               appendable.append(quotechar);
+            }
+            if (stringContainsSpecialCharacters(nextElement)) {
+               processLine(nextElement, appendable);
+            } else {
+               appendable.append(nextElement);
+            }
+            if (quoted) {
+               appendable.append(quotechar);
+            }
+         }
+         appendable.append(lineEnd);
+         writer.write(appendable.toString());
+      }
+   }
+
+   private static String randomValue(Random random, char[] alphabet) {
+      if (random.nextInt(10) == 0) {
+         return null;
+      }
+      char[] value = new char[random.nextInt(12)];
+      for (int i = 0; i < value.length; i++) {
+         value[i] = alphabet[random.nextInt(alphabet.length)];
+      }
+      return new String(value);
+   }
+
+   @Test
+   public void formattingInOneScanMatchesProtectedMethods() throws IOException {
+      char[][] configurations = {
+            {',', '"', '"'},
+            {',', '"', '\\'},
+            {';', '\'', '"'},
+            {',', ICSVWriter.NO_QUOTE_CHARACTER, '\\'},
+            {',', '"', ICSVWriter.NO_ESCAPE_CHARACTER},
+            {'\t', ICSVWriter.NO_QUOTE_CHARACTER, ICSVWriter.NO_ESCAPE_CHARACTER},
+            {'\u00a7', '\u00ab', '\u00bb'}};
+      char[] alphabet = {'a', 'b', ' ', ',', ';', '\t', '"', '\'', '\\', '\n', '\r', '\u00a7', '\u00ab', '\u00bb', '\u00e9'};
+      Random random = new Random(20211018L);
+      for (char[] configuration : configurations) {
+         List<String[]> rows = new ArrayList<>();
+         for (int r = 0; r < 200; r++) {
+            String[] row = new String[1 + random.nextInt(6)];
+            for (int i = 0; i < row.length; i++) {
+               row[i] = randomValue(random, alphabet);
+            }
+            rows.add(row);
+         }
+         for (boolean applyQuotesToAll : new boolean[]{true, false}) {
+            StringWriter expected = new StringWriter();
+            StringWriter actual = new StringWriter();
+            StringWriter actualAll = new StringWriter();
+            try (ICSVWriter legacy = new LegacyFormattingWriter(expected, configuration[0], configuration[1], configuration[2]);
+                 ICSVWriter oneScan = new CSVWriter(actual, configuration[0], configuration[1], configuration[2], ICSVWriter.DEFAULT_LINE_END);
+                 ICSVWriter oneScanAll = new CSVWriter(actualAll, configuration[0], configuration[1], configuration[2], ICSVWriter.DEFAULT_LINE_END)) {
+               for (String[] row : rows) {
+                  legacy.writeNext(row, applyQuotesToAll);
+                  oneScan.writeNext(row, applyQuotesToAll);
+               }
+               oneScanAll.writeAll(rows, applyQuotesToAll);
+            }
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.toString(), actualAll.toString());
+         }
+      }
+   }
+
+   @Test
+   public void writeAllWritesBlocksInOrder() throws IOException {
+      List<String[]> rows = new ArrayList<>();
+      StringBuilder expected = new StringBuilder();
+      for (int i = 0; i < 20000; i++) {
+         rows.add(new String[]{Integer.toString(i), "value " + i, i % 7 == 0 ? "with \"quote\"" : "plain"});
+         expected.append('"').append(i).append("\",\"value ").append(i).append("\",\"")
+               .append(i % 7 == 0 ? "with \"\"quote\"\"" : "plain").append("\"\n");
+      }
+      StringWriter writer = new StringWriter();
+      int[] calls = {0};
+      Writer countingWriter = new FilterWriter(writer) {
+         @Override
+         public void write(char[] cbuf, int off, int len) throws IOException {
+            calls[0]++;
+            super.write(cbuf, off, len);
+         }
+      };
+      try (ICSVWriter csvWriter = new CSVWriter(countingWriter)) {
+         csvWriter.writeAll(rows);
+      }
+      assertEquals(expected.toString(), writer.toString());
+      // Far fewer calls than rows
+      assertTrue(calls[0] < 20, "Rows were written in " + calls[0] + " calls");
+   }
+
+   /**
+    * Writes the same values with a row writer and as strings with
+    * writeNext(), and returns both outputs.
+    */
+   private static String[] writeValuesBothWays(char separator, char quotechar, boolean applyQuotesToAll) throws IOException {
+      Object[] values = {0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 1234567890123L,
+            0.0, -0.0, 1.0, -42.0, 1.5, 0.1, 9999999.0, 1e7, -1e7, 1e-4, Double.NaN, Double.NEGATIVE_INFINITY, Double.MAX_VALUE,
+            new BigDecimal("12.50"), new BigDecimal("1E+3"), new BigDecimal("-0.000001"),
+            "plain", "with, separator", "with \"quote\"", "new\nline", "1.5", ""};
+      StringWriter expected = new StringWriter();
+      StringWriter actual = new StringWriter();
+      try (ICSVWriter strings = new CSVWriter(expected, separator, quotechar, ICSVWriter.DEFAULT_ESCAPE_CHARACTER, ICSVWriter.DEFAULT_LINE_END);
+           ICSVWriter rows = new CSVWriter(actual, separator, quotechar, ICSVWriter.DEFAULT_ESCAPE_CHARACTER, ICSVWriter.DEFAULT_LINE_END)) {
+         String[] asStrings = new String[values.length + 2];
+         RowWriter row = rows.beginRow(applyQuotesToAll);
+         for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value instanceof Integer) {
+               row.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+               row.writeLong((Long) value);
+            } else if (value instanceof Double) {
+               row.writeDouble((Double) value);
+            } else if (value instanceof BigDecimal) {
+               row.writeDecimal((BigDecimal) value);
+               value = ((BigDecimal) value).toPlainString();
+            } else {
+               row.writeChars((String) value);
+            }
+            asStrings[i] = String.valueOf(value);
+         }
+         row.writeChars(null).writeDecimal(null).endRow();
+         strings.writeNext(asStrings, applyQuotesToAll);
+      }
+      return new String[]{expected.toString(), actual.toString()};
+   }
+
+   @Test
+   public void rowWriterWritesWhatWriteNextWrites() throws IOException {
+      for (boolean applyQuotesToAll : new boolean[]{true, false}) {
+         String[] output = writeValuesBothWays(ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER, applyQuotesToAll);
+         assertEquals(output[0], output[1]);
+         // Characters numbers consist of
+         output = writeValuesBothWays('.', 'E', applyQuotesToAll);
+         assertEquals(output[0], output[1]);
+         output = writeValuesBothWays(';', ICSVWriter.NO_QUOTE_CHARACTER, applyQuotesToAll);
+         assertEquals(output[0], output[1]);
+      }
+   }
+
+   @Test
+   public void rowWriterWritesNumbersUnquoted() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter writer = new CSVWriter(sw);
+      writer.beginRow(false).writeInt(7).writeDouble(2.5).writeChars("a,b").endRow();
+      writer.beginRow().writeLong(-3).endRow();
+      assertEquals("7,2.5,\"a,b\"\n\"-3\"\n", sw.toString());
+   }
+
+   @Test
+   public void unfinishedRowIsDropped() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter writer = new CSVWriter(sw);
+      writer.beginRow(false).writeInt(1).writeInt(2);
+      writer.beginRow(false).writeInt(3).endRow();
+      writer.beginRow(false).writeInt(4);
+      writer.writeNext(new String[]{"5"}, false);
+      assertEquals("3\n5\n", sw.toString());
+   }
+
+   @Test
+   public void rowWriterOfParserWriterGoesThroughWriteNext() {
+      StringWriter sw = new StringWriter();
+      ICSVWriter writer = new CSVWriterBuilder(sw).withParser(new RFC4180Parser()).build();
+      writer.beginRow(false).writeInt(1).writeDecimal(new BigDecimal("2.50")).writeChars("x\"y").endRow();
+      assertEquals("1,2.50,\"x\"\"y\"\n", sw.toString());
+   }
+
+   @Test
+   public void rowsOfSeveralThreadsArriveWhole() throws InterruptedException {
+      StringWriter sw = new StringWriter();
+      ICSVWriter writer = new CSVWriter(sw);
+      Thread[] threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+         String name = "thread" + t;
+         threads[t] = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+               writer.writeNext(new String[]{name, Integer.toString(i), "a \"quoted\" value"});
+            }
+         });
+         threads[t].start();
+      }
+      for (Thread thread : threads) {
+         thread.join();
+      }
+      String[] lines = sw.toString().split("\n");
+      assertEquals(threads.length * 2000, lines.length);
+      for (String line : lines) {
+         assertTrue(line.matches("\"thread\\d\",\"\\d+\",\"a \"\"quoted\"\" value\""), line);
+      }
+   }
+
+   @Test
+   public void parallelWriteAllWritesRowsInOrder() throws IOException {
+      Random random = new Random(20211018L);
+      char[] alphabet = {'a', 'b', ' ', ',', '"', '\n', '\u00e9'};
+      for (int count : new int[]{0, 1, ParallelRowFormatter.ROWS_PER_BLOCK, 50 * ParallelRowFormatter.ROWS_PER_BLOCK + 7}) {
+         List<String[]> rows = new ArrayList<>(count);
+         for (int r = 0; r < count; r++) {
+            String[] row = {Integer.toString(r), randomValue(random, alphabet), randomValue(random, alphabet)};
+            rows.add(row);
+         }
+         for (boolean applyQuotesToAll : new boolean[]{true, false}) {
+            StringWriter expected = new StringWriter();
+            StringWriter actual = new StringWriter();
+            try (ICSVWriter sequential = new CSVWriter(expected);
+                 ICSVWriter parallel = new CSVWriter(actual, ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER, ICSVWriter.DEFAULT_LINE_END, 3)) {
+               sequential.writeAll(rows, applyQuotesToAll);
+               parallel.writeAll(rows, applyQuotesToAll);
+               // Twice, with the threads already running
+               sequential.writeAll(rows, applyQuotesToAll);
+               parallel.writeAll(rows, applyQuotesToAll);
+            }
+            assertEquals(expected.toString(), actual.toString());
+         }
+      }
+   }
+
+   @Test
+   public void parallelWriteAllCopiesReusedRows() {
+      // An iterable that hands out the same array for every row
+      int count = 10 * ParallelRowFormatter.ROWS_PER_BLOCK;
+      Iterable<String[]> rows = () -> new Iterator<String[]>() {
+         private final String[] row = new String[2];
+         private int next = 0;
+
+         @Override
+         public boolean hasNext() {
+            return next < count;
+         }
+
+         @Override
+         public String[] next() {
+            row[0] = Integer.toString(next);
+            row[1] = "row " + next++;
+            return row;
+         }
+      };
+      StringWriter sw = new StringWriter();
+      ICSVWriter writer = new CSVWriter(sw, ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER, ICSVWriter.DEFAULT_LINE_END, 2);
+      writer.writeAll(rows, false);
+      String[] lines = sw.toString().split("\n");
+      assertEquals(count, lines.length);
+      for (int i = 0; i < count; i++) {
+         assertEquals(i + ",row " + i, lines[i]);
+      }
+   }
+
+   @Test
+   public void parallelWriteAllStoresExceptionOfWriter() throws IOException {
+      IOException failure = new IOException("disk full");
+      Writer failing = new Writer() {
+         @Override
+         public void write(char[] cbuf, int off, int len) throws IOException {
+            throw failure;
+         }
+
+         @Override
+         public void flush() {
+         }
+
+         @Override
+         public void close() {
+         }
+      };
+      List<String[]> rows = new ArrayList<>();
+      for (int i = 0; i < 20 * ParallelRowFormatter.ROWS_PER_BLOCK; i++) {
+         rows.add(new String[]{Integer.toString(i)});
+      }
+      ICSVWriter writer = new CSVWriter(failing, ICSVWriter.DEFAULT_SEPARATOR, ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.DEFAULT_ESCAPE_CHARACTER, ICSVWriter.DEFAULT_LINE_END, 2);
+      writer.writeAll(rows);
+      assertSame(failure, writer.getException());
+      writer.close();
+   }
 }
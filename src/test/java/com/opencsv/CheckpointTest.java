@@ -0,0 +1,179 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckpointTest {
+
+    private static final String DATA = "h1,h2\r\na,1\r\n\"b\nb\",2\nc,3\r\n\"d\"\"\",4\n";
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private List<Supplier<CSVReader>> readers(String data) throws IOException {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        Path file = directory.resolve("data.csv");
+        Files.write(file, bytes);
+        List<Supplier<CSVReader>> readers = new ArrayList<>();
+        readers.add(() -> new CSVReaderBuilder(new StringReader(data)).withSkipLines(1).build());
+        readers.add(() -> new CSVReaderBuilder(new StringReader(data)).withSkipLines(1).withRecordTokenizer(true).build());
+        readers.add(() -> new CSVReaderBuilder(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)
+                .withSkipLines(1).build());
+        readers.add(() -> new CSVReaderBuilder(file, StandardCharsets.UTF_8).withSkipLines(1).withParallelism(2).build());
+        return readers;
+    }
+
+    private static List<String> rest(CSVReader reader) throws IOException, CsvValidationException {
+        List<String> records = new ArrayList<>();
+        String[] record;
+        while ((record = reader.readNext()) != null) {
+            records.add(String.join("|", record) + "@" + reader.getLinesRead() + "/" + reader.getRecordsRead());
+        }
+        return records;
+    }
+
+    @Test
+    public void writtenCheckpointIsReadBack() throws IOException {
+        Checkpoint checkpoint = new Checkpoint(1234, 56, 7, new String[]{"a", null, "", "é€"});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        checkpoint.write(out);
+        Checkpoint read = Checkpoint.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(1234, read.getPosition());
+        assertEquals(56, read.getLinesRead());
+        assertEquals(7, read.getRecordsRead());
+        assertArrayEquals(new String[]{"a", null, "", "é€"}, read.getHeader());
+
+        out.reset();
+        new Checkpoint(-1, 0, 0, null).write(out);
+        assertNull(Checkpoint.read(new ByteArrayInputStream(out.toByteArray())).getHeader());
+
+        IOException e = assertThrows(IOException.class,
+                () -> Checkpoint.read(new ByteArrayInputStream("a,b,c\n1,2,3\n".getBytes(StandardCharsets.UTF_8))));
+        assertEquals("The data read are not a checkpoint.", e.getMessage());
+    }
+
+    @Test
+    public void fileStoreReportsErrorsInItsLocale() throws IOException {
+        FileCheckpointStore store = new FileCheckpointStore(directory.resolve("data.csv.checkpoint"));
+        Files.write(store.getFile(), "a,b,c\n".getBytes(StandardCharsets.UTF_8));
+        store.setErrorLocale(Locale.GERMAN);
+        IOException e = assertThrows(IOException.class, store::load);
+        assertEquals("Die gelesenen Daten sind kein Pr\u00fcfpunkt.", e.getMessage());
+    }
+
+    @Test
+    public void fileStoreReplacesItsCheckpoint() throws IOException {
+        FileCheckpointStore store = new FileCheckpointStore(FileCheckpointStore.sidecarOf(directory.resolve("data.csv")));
+        assertEquals(directory.resolve("data.csv.checkpoint"), store.getFile());
+        assertNull(store.load());
+        store.save(new Checkpoint(10, 1, 1, new String[]{"h"}));
+        store.save(new Checkpoint(20, 2, 2, null));
+        Checkpoint loaded = store.load();
+        assertEquals(20, loaded.getPosition());
+        assertEquals(2, loaded.getRecordsRead());
+        assertNull(loaded.getHeader());
+        try (java.util.stream.Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        store.delete();
+        assertNull(store.load());
+    }
+
+    @Test
+    public void readingResumesAtEveryCheckpoint() throws IOException, CsvValidationException {
+        List<Supplier<CSVReader>> kinds = readers(DATA);
+        for (int kind = 0; kind < kinds.size(); kind++) {
+            List<String> expected;
+            try (CSVReader reader = kinds.get(kind).get()) {
+                expected = rest(reader);
+            }
+            assertEquals(4, expected.size());
+            for (int read = 0; read <= expected.size(); read++) {
+                for (boolean peek : new boolean[]{false, true}) {
+                    Checkpoint checkpoint;
+                    try (CSVReader reader = kinds.get(kind).get()) {
+                        for (int i = 0; i < read; i++) {
+                            reader.readNext();
+                        }
+                        if (peek) {
+                            reader.peek();
+                        }
+                        checkpoint = reader.checkpoint();
+                    }
+                    String message = "Reader " + kind + ", records read " + read + ", peek " + peek;
+                    assertEquals(read, checkpoint.getRecordsRead(), message);
+                    assertEquals(kind == 2, checkpoint.getPosition() >= 0, message);
+                    try (CSVReader reader = kinds.get(kind).get()) {
+                        reader.resume(checkpoint);
+                        assertEquals(expected.subList(read, expected.size()), rest(reader), message);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void fileReaderJumpsBackToACheckpoint() throws IOException, CsvValidationException {
+        Path file = directory.resolve("data.csv");
+        Files.write(file, DATA.getBytes(StandardCharsets.UTF_8));
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withSkipLines(1).build()) {
+            Checkpoint start = reader.checkpoint();
+            assertEquals(0, start.getPosition());
+            reader.readNext();
+            Checkpoint second = reader.checkpoint();
+            assertEquals("h1,h2\r\na,1\r\n".length(), second.getPosition());
+            assertEquals(2, second.getLinesRead());
+            reader.readNext();
+            reader.readNext();
+            reader.resume(second);
+            assertArrayEquals(new String[]{"b\nb", "2"}, reader.readNext());
+            assertEquals(4, reader.getLinesRead());
+            assertEquals(2, reader.getRecordsRead());
+            reader.resume(start);
+            assertArrayEquals(new String[]{"a", "1"}, reader.readNext());
+            assertEquals(1, reader.getRecordsRead());
+        }
+    }
+
+    @Test
+    public void readerWithoutPositionsCannotGoBack() throws IOException, CsvValidationException {
+        try (CSVReader reader = new CSVReader(new StringReader(DATA))) {
+            reader.readNext();
+            Checkpoint checkpoint = reader.checkpoint();
+            reader.readNext();
+            UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class,
+                    () -> reader.resume(checkpoint));
+            assertTrue(e.getMessage().contains("1"));
+        }
+    }
+}
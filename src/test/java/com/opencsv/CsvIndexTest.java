@@ -0,0 +1,230 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvIndexTest {
+
+    private static final int RECORDS = 1000;
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+    private Path file;
+    private final List<String[]> records = new ArrayList<>();
+    private final List<Long> linesBefore = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws IOException, CsvException {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+
+        StringBuilder sb = new StringBuilder("skipped line\r\n");
+        for (int i = 0; i < RECORDS; i++) {
+            sb.append(i).append(",été ").append(i);
+            if (i % 7 == 0) {
+                sb.append(",\"two\r\nlines\"");
+            }
+            sb.append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        file = directory.resolve("data.csv");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (CSVReader reader = builder(null).build()) {
+            String[] record;
+            long lines = reader.getLinesRead();
+            while ((record = reader.readNext()) != null) {
+                records.add(record);
+                linesBefore.add(lines);
+                lines = reader.getLinesRead();
+            }
+        }
+        linesBefore.set(0, 1L);
+        assertEquals(RECORDS, records.size());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private CSVReaderBuilder builder(CsvIndex index) {
+        return new CSVReaderBuilder(file, StandardCharsets.UTF_8).withSkipLines(1).withIndex(index);
+    }
+
+    private CsvIndex buildIndex(int interval) throws IOException {
+        CsvIndex index = new CsvIndex(interval);
+        try (CSVReader reader = builder(index).build()) {
+            reader.seekToRecord(Long.MAX_VALUE);
+            assertEquals(RECORDS, reader.getRecordsRead());
+            assertNull(reader.readNextSilently());
+        }
+        return index;
+    }
+
+    private void assertAt(CSVReader reader, int record) throws IOException, CsvValidationException {
+        assertEquals(record, reader.getRecordsRead());
+        if (record < RECORDS) {
+            assertEquals(linesBefore.get(record), reader.getLinesRead(), "lines before record " + record);
+            assertArrayEquals(records.get(record), reader.readNext());
+        } else {
+            assertNull(reader.readNext());
+        }
+    }
+
+    @Test
+    public void indexNotesEveryIntervalRecords() throws IOException {
+        CsvIndex index = buildIndex(64);
+        assertEquals(64, index.getInterval());
+        assertEquals((RECORDS + 63) / 64, index.size());
+        assertTrue(index.isComplete());
+        assertEquals(RECORDS, index.getRecordCount());
+        assertEquals(Files.size(file), index.getLength());
+        assertEquals("skipped line\r\n".length(), index.getPosition(0));
+        assertEquals(1, index.getLinesRead(0));
+    }
+
+    @Test
+    public void seekingJumpsInBothDirections() throws IOException, CsvValidationException {
+        CsvIndex index = buildIndex(50);
+        Random random = new Random(20221120L);
+        try (CSVReader reader = builder(index).build()) {
+            assertTrue(reader.usesRecordTokenizer());
+            assertSame(index, reader.getIndex());
+            for (int i = 0; i < 200; i++) {
+                int record = random.nextInt(RECORDS + 1);
+                reader.seekToRecord(record);
+                assertAt(reader, record);
+            }
+            reader.seekToRecord(0);
+            assertAt(reader, 0);
+            reader.seekToRecord(RECORDS + 10);
+            assertAt(reader, RECORDS);
+        }
+    }
+
+    @Test
+    public void peekedRecordIsDiscardedOrSkipped() throws IOException, CsvValidationException {
+        CsvIndex index = buildIndex(10);
+        try (CSVReader reader = builder(index).build()) {
+            assertArrayEquals(records.get(0), reader.peek());
+            reader.seekToRecord(1);
+            assertAt(reader, 1);
+            assertArrayEquals(records.get(2), reader.peek());
+            reader.seekToRecord(25);
+            assertAt(reader, 25);
+        }
+    }
+
+    @Test
+    public void indexIsFilledWhileReading() throws IOException, CsvValidationException {
+        CsvIndex index = new CsvIndex(100);
+        try (CSVReader reader = builder(index).build()) {
+            reader.seekToRecord(250);
+            assertAt(reader, 250);
+            assertEquals(3, index.size());
+            assertFalse(index.isComplete());
+
+            // Back to a noted record, then beyond the last one
+            reader.seekToRecord(120);
+            assertAt(reader, 120);
+            reader.seekToRecord(700);
+            assertAt(reader, 700);
+            assertEquals(8, index.size());
+        }
+        assertEquals(buildIndex(100).size() - 2, index.size());
+    }
+
+    @Test
+    public void indexIsSavedNextToTheFile() throws IOException, CsvValidationException {
+        CsvIndex index = buildIndex(32);
+        Path sidecar = CsvIndex.sidecarOf(file);
+        assertEquals(directory.resolve("data.csv.idx"), sidecar);
+        index.save(sidecar);
+
+        CsvIndex loaded = CsvIndex.load(sidecar);
+        assertEquals(index.getInterval(), loaded.getInterval());
+        assertEquals(index.size(), loaded.size());
+        assertEquals(index.getRecordCount(), loaded.getRecordCount());
+        assertEquals(index.getLength(), loaded.getLength());
+        try (CSVReader reader = builder(loaded).build()) {
+            reader.seekToRecord(999);
+            assertAt(reader, 999);
+            reader.seekToRecord(5);
+            assertAt(reader, 5);
+        }
+
+        assertThrows(IOException.class, () -> CsvIndex.read(new ByteArrayInputStream("not an index".getBytes(StandardCharsets.US_ASCII))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CsvIndex(5).write(out);
+        CsvIndex empty = CsvIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(0, empty.size());
+        assertFalse(empty.isComplete());
+
+        // Nothing after the index is taken from the stream.
+        out.write('x');
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        CsvIndex.read(in);
+        assertEquals('x', in.read());
+    }
+
+    @Test
+    public void fileInputStreamCanBeRepositioned() throws IOException, CsvValidationException {
+        CsvIndex index = buildIndex(40);
+        try (CSVReader reader = new CSVReaderBuilder(new FileInputStream(file.toFile()), StandardCharsets.UTF_8)
+                .withSkipLines(1).withIndex(index).build()) {
+            reader.seekToRecord(555);
+            assertAt(reader, 555);
+            reader.seekToRecord(3);
+            assertAt(reader, 3);
+        }
+    }
+
+    @Test
+    public void readersThatCannotJumpOnlyMoveForward() throws IOException, CsvValidationException {
+        String data = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        CsvIndex index = buildIndex(10);
+        try (CSVReader reader = new CSVReaderBuilder(new StringReader(data)).withSkipLines(1).withIndex(index).build()) {
+            reader.seekToRecord(300);
+            assertAt(reader, 300);
+            assertThrows(UnsupportedOperationException.class, () -> reader.seekToRecord(10));
+            reader.seekToRecord(301);
+            assertAt(reader, 301);
+        }
+    }
+
+    @Test
+    public void intervalMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvIndex(0));
+        assertEquals(CsvIndex.DEFAULT_INTERVAL, new CsvIndex().getInterval());
+    }
+
+    @Test
+    public void errorMessagesUseTheGivenLocale() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new CsvIndex(0, Locale.GERMAN));
+        assertEquals("Das Intervall eines Index muss mindestens 1 sein, angegeben wurde aber 0.", e.getMessage());
+        IOException io = assertThrows(IOException.class, () -> CsvIndex.read(
+                new ByteArrayInputStream("not an index".getBytes(StandardCharsets.US_ASCII)), Locale.GERMAN));
+        assertEquals("Die gelesenen Daten sind kein CSV-Index.", io.getMessage());
+    }
+}
@@ -16,8 +16,11 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -194,6 +197,101 @@ public class CsvReaderHeaderAwareTest {
         assertThat(reader.readMap().keySet().iterator().next(), is("myHeader"));
     }
 
+    @Test
+    public void readsOnlySelectedColumns() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(createReader())
+                .withColumns("third", "first")
+                .build();
+        assertTrue(reader.usesRecordTokenizer());
+        Map<String, String> map = reader.readMap();
+        assertEquals(2, map.size());
+        assertEquals("a", map.get("first"));
+        assertEquals("c", map.get("third"));
+        assertArrayEquals(new String[]{"c", "a"}, reader.readNext());
+        assertArrayEquals(new String[]{"", ""}, reader.readNext());
+        assertArrayEquals(new String[]{"d.", "a"}, reader.readNext("third", "first"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.readNext("second"));
+        assertArrayEquals(new String[]{null, "\"\""}, reader.readNext());
+
+        // Records must still be as long as the header
+        Assertions.assertThrows(IOException.class, reader::readMap);
+    }
+
+    @Test
+    public void selectingUnknownColumnsFails() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CSVReaderHeaderAwareBuilder(createReader()).withColumns("first", "fourth").build());
+    }
+
+    @Test
+    public void readingByHeaderOnlyCreatesStringsForRequestedFields() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(createReader())
+                .withRecordTokenizer(true)
+                .build();
+        assertTrue(reader.usesRecordTokenizer());
+        assertArrayEquals(new String[]{"c", "a"}, reader.readNext("third", "first"));
+        assertArrayEquals(new String[]{"b,b,b"}, reader.readNext("second"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.readNext("first", "fourth"));
+        assertEquals(4, reader.getRecordsRead());
+        reader.skip(4);
+        Assertions.assertThrows(IOException.class, () -> reader.readNext("second"));
+    }
+
+    @Test
+    public void readsRecordsThroughColumnHandles() throws IOException, CsvValidationException {
+        for (boolean tokenizer : new boolean[]{false, true}) {
+            CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(createReader())
+                    .withRecordTokenizer(tokenizer)
+                    .build();
+            ColumnHandle second = reader.column("second");
+            ColumnHandle third = reader.column("third");
+            assertEquals("second", second.getName());
+            assertEquals(1, second.getIndex());
+            Assertions.assertThrows(IllegalArgumentException.class, () -> reader.column("fourth"));
+
+            HeaderAwareRecord record = reader.createRecord();
+            assertTrue(reader.readRecord(record));
+            assertEquals("b", record.get(second));
+            assertEquals("c", record.field(third).toString());
+            assertEquals("a", record.get("first"));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> record.get("fourth"));
+
+            assertTrue(reader.readRecord(record));
+            assertEquals("b,b,b", record.get(second));
+            Map<String, String> map = record.toMap();
+            assertEquals(3, map.size());
+            assertEquals("c", map.get("third"));
+
+            assertTrue(reader.readRecord(record));
+            assertEquals("", record.get(third));
+            assertTrue(reader.readRecord(record));
+            assertEquals("d.", record.get(third));
+            assertTrue(reader.readRecord(record));
+            assertEquals("Developer", record.get(third));
+
+            // Records must still be as long as the header
+            Assertions.assertThrows(IOException.class, () -> reader.readRecord(record));
+            Assertions.assertThrows(IOException.class, () -> reader.readRecord(record));
+            Assertions.assertThrows(IOException.class, () -> reader.readRecord(record));
+            assertFalse(reader.readRecord(record));
+        }
+    }
+
+    @Test
+    public void columnHandlesFollowSelectedColumns() throws IOException, CsvValidationException {
+        CSVReaderHeaderAware reader = new CSVReaderHeaderAwareBuilder(createReader())
+                .withColumns("third", "first")
+                .build();
+        ColumnHandle first = reader.column("first");
+        assertEquals(1, first.getIndex());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.column("second"));
+        HeaderAwareRecord record = reader.createRecord();
+        assertTrue(reader.readRecord(record));
+        assertEquals("a", record.get(first));
+        assertEquals("c", record.get(reader.column("third")));
+        assertFalse(record.isNull(first));
+    }
+
     private StringReader createReader() {
         StringBuilder sb = new StringBuilder(ICSVParser.INITIAL_READ_SIZE);
         sb.append("first,second,third\n");
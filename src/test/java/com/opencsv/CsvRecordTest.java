@@ -0,0 +1,291 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvRecordTest {
+
+    private static final String DATA = "a,\"b,b\",\nlong line with \"\"quotes\"\",,\"x\ny\"\n";
+
+    private CSVReader reader(boolean tokenizer) {
+        return new CSVReaderBuilder(new StringReader(DATA))
+                .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                .withRecordTokenizer(tokenizer)
+                .build();
+    }
+
+    @Test
+    public void setFieldsFromStrings() {
+        CsvRecord record = new CsvRecord();
+        record.setFields(new String[]{"one", null, "", "three"});
+
+        assertEquals(4, record.size());
+        assertEquals("one", record.get(0));
+        assertNull(record.get(1));
+        assertNull(record.field(1));
+        assertTrue(record.isNull(1));
+        assertEquals("", record.get(2));
+        assertFalse(record.isNull(2));
+        assertEquals("three", record.field(3).toString());
+        assertFalse(record.isQuoted(3));
+        assertArrayEquals(new String[]{"one", null, "", "three"}, record.toArray());
+    }
+
+    @Test
+    public void fieldIsAViewIntoTheBuffer() {
+        CsvRecord record = new CsvRecord();
+        record.setFields(new String[]{"abc", "defgh"});
+
+        CharSequence field = record.field(1);
+        assertEquals(5, field.length());
+        assertEquals('f', field.charAt(2));
+        assertEquals("ef", field.subSequence(1, 3).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> field.charAt(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> field.subSequence(2, 6));
+
+        assertEquals(3, record.getFieldOffset(1));
+        assertEquals(5, record.getFieldLength(1));
+        assertEquals("defgh", new String(record.getBuffer(), record.getFieldOffset(1), record.getFieldLength(1)));
+    }
+
+    @Test
+    public void indexesAreChecked() {
+        CsvRecord record = new CsvRecord();
+        record.setFields(new String[]{"a"});
+        assertThrows(IndexOutOfBoundsException.class, () -> record.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> record.field(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> record.getFieldLength(1));
+    }
+
+    @Test
+    public void startsWithLooksAtTheBuffer() {
+        CsvRecord record = new CsvRecord();
+        record.setFields(new String[]{"EU-west", null, "E"});
+
+        assertTrue(record.startsWith(0, "EU"));
+        assertTrue(record.startsWith(0, ""));
+        assertFalse(record.startsWith(0, "US"));
+        assertFalse(record.startsWith(1, ""));
+        assertFalse(record.startsWith(2, "EU"));
+        assertThrows(IndexOutOfBoundsException.class, () -> record.startsWith(3, "EU"));
+    }
+
+    @Test
+    public void growsToHoldWideRecords() {
+        String[] fields = new String[300];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = "field number " + i;
+        }
+        CsvRecord record = new CsvRecord();
+        record.setFields(new String[]{"small"});
+        record.setFields(fields);
+        assertEquals(300, record.size());
+        assertEquals("field number 299", record.get(299));
+    }
+
+    private static Object parsedByJdk(Callable<Object> parser) {
+        try {
+            return parser.call();
+        } catch (Exception e) {
+            return e.getClass();
+        }
+    }
+
+    @Test
+    public void typedAccessorsParseLikeTheJdk() {
+        String[] samples = {"0", "-0", "+7", "-", "+", "", "42", "-2147483648", "2147483647", "2147483648",
+                "999999999", "1234567890", "-9223372036854775808", "9223372036854775807", "9223372036854775808",
+                "123456789012345678", "1.5", "-0.0", ".5", "5.", ".", "1e3", "NaN", "-Infinity", " 12", "12 ",
+                "0.1", "3.14159265358979", "3.141592653589793", "123456789012345.6", "1.2.3", "1,5", "0x10",
+                "1.5d", "\u0661\u0662", "true", "TRUE", "tRuE", "false", "truex", "yes"};
+        CsvRecord record = new CsvRecord();
+        record.setFields(samples);
+        for (int i = 0; i < samples.length; i++) {
+            final int index = i;
+            String sample = samples[i];
+            assertEquals(parsedByJdk(() -> Integer.parseInt(sample)), parsedByJdk(() -> record.getInt(index)), sample);
+            assertEquals(parsedByJdk(() -> Long.parseLong(sample)), parsedByJdk(() -> record.getLong(index)), sample);
+            assertEquals(parsedByJdk(() -> Double.parseDouble(sample)), parsedByJdk(() -> record.getDouble(index)), sample);
+            assertEquals(Boolean.parseBoolean(sample), record.getBoolean(i), sample);
+        }
+
+        Random random = new Random(19L);
+        String[] numbers = new String[2000];
+        for (int i = 0; i < numbers.length; i++) {
+            long digits = random.nextLong() % (long) Math.pow(10, 1 + random.nextInt(15));
+            StringBuilder sb = new StringBuilder(Long.toString(digits));
+            int point = random.nextInt(sb.length() + 1);
+            if (point > (digits < 0 ? 1 : 0)) {
+                sb.insert(point, '.');
+            }
+            numbers[i] = sb.toString();
+        }
+        record.setFields(numbers);
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(Double.parseDouble(numbers[i]), record.getDouble(i), numbers[i]);
+        }
+    }
+
+    @Test
+    public void typedAccessorsForDates() {
+        String[] samples = {"2022-12-03", "0000-01-01", "2020-02-29", "2021-02-29", "2021-13-01", "2022-1-03",
+                "+12345-01-01", "2022/12/03", "2022-12-0x"};
+        CsvRecord record = new CsvRecord();
+        record.setFields(samples);
+        for (int i = 0; i < samples.length; i++) {
+            final int index = i;
+            String sample = samples[i];
+            assertEquals(parsedByJdk(() -> LocalDate.parse(sample)), parsedByJdk(() -> record.getLocalDate(index)), sample);
+        }
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+        assertEquals(LocalDate.of(2022, 12, 3), record.getLocalDate(7, format));
+    }
+
+    @Test
+    public void typedAccessorsForNullFields() {
+        Locale systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            CsvRecord record = new CsvRecord();
+            record.setFields(new String[]{"1", null});
+            NumberFormatException e = assertThrows(NumberFormatException.class, () -> record.getInt(1));
+            assertEquals("Field 1 is null and therefore not a number.", e.getMessage());
+            assertThrows(NumberFormatException.class, () -> record.getLong(1));
+            assertThrows(NumberFormatException.class, () -> record.getDouble(1));
+            assertFalse(record.getBoolean(1));
+            assertNull(record.getLocalDate(1));
+            assertNull(record.getLocalDate(1, DateTimeFormatter.ISO_DATE));
+            assertThrows(IndexOutOfBoundsException.class, () -> record.getInt(2));
+        } finally {
+            Locale.setDefault(systemLocale);
+        }
+    }
+
+    @Test
+    public void typedAccessorsUseTheLocaleOfTheReader() throws IOException, CsvValidationException {
+        Locale systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            for (boolean tokenizer : new boolean[]{false, true}) {
+                CSVReader reader = new CSVReaderBuilder(new StringReader("1,\n2,\n"))
+                        .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                        .withRecordTokenizer(tokenizer)
+                        .withErrorLocale(Locale.GERMAN)
+                        .build();
+                CsvRecord record = reader.readRecord();
+                NumberFormatException e = assertThrows(NumberFormatException.class, () -> record.getInt(1));
+                assertEquals("Feld 1 ist null und daher keine Zahl.", e.getMessage());
+                RecordBatch batch = reader.readBatch(10);
+                e = assertThrows(NumberFormatException.class, () -> batch.getLong(0, 1));
+                assertEquals("Feld 1 ist null und daher keine Zahl.", e.getMessage());
+            }
+        } finally {
+            Locale.setDefault(systemLocale);
+        }
+    }
+
+    @Test
+    public void typedAccessorsOnBatchesAndHeaderAwareRecords() throws IOException, CsvValidationException {
+        String data = "id,value,day,flag\n7,2.5,2022-12-03,true\n-8,,2023-01-31,False\n";
+        CSVReader reader = new CSVReaderBuilder(new StringReader(data))
+                .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                .withRecordTokenizer(true)
+                .withSkipLines(1)
+                .build();
+        RecordBatch batch = reader.readBatch(10);
+        assertEquals(7, batch.getInt(0, 0));
+        assertEquals(-8L, batch.getLong(1, 0));
+        assertEquals(2.5, batch.getDouble(0, 1));
+        assertThrows(NumberFormatException.class, () -> batch.getDouble(1, 1));
+        assertEquals(LocalDate.of(2023, 1, 31), batch.getLocalDate(1, 2));
+        assertEquals(LocalDate.of(2023, 1, 31), batch.getLocalDate(1, 2, DateTimeFormatter.ISO_LOCAL_DATE));
+        assertTrue(batch.getBoolean(0, 3));
+        assertFalse(batch.getBoolean(1, 3));
+
+        CSVReaderHeaderAware headerAware = new CSVReaderHeaderAwareBuilder(new StringReader(data)).build();
+        ColumnHandle id = headerAware.column("id");
+        ColumnHandle value = headerAware.column("value");
+        ColumnHandle day = headerAware.column("day");
+        ColumnHandle flag = headerAware.column("flag");
+        HeaderAwareRecord record = headerAware.createRecord();
+        assertTrue(headerAware.readRecord(record));
+        assertEquals(7, record.getInt(id));
+        assertEquals(7L, record.getLong(id));
+        assertEquals(2.5, record.getDouble(value));
+        assertEquals(LocalDate.of(2022, 12, 3), record.getLocalDate(day));
+        assertEquals(LocalDate.of(2022, 12, 3), record.getLocalDate(day, DateTimeFormatter.ISO_LOCAL_DATE));
+        assertTrue(record.getBoolean(flag));
+    }
+
+    @Test
+    public void readRecordWithTokenizer() throws IOException, CsvValidationException {
+        CSVReader reader = reader(true);
+
+        CsvRecord record = reader.readRecord();
+        assertArrayEquals(new String[]{"a", "b,b", null}, record.toArray());
+        assertTrue(record.isQuoted(1));
+        assertFalse(record.isQuoted(0));
+
+        record = reader.readRecord();
+        assertEquals("long line with \"quotes\"", record.field(0).toString());
+        assertTrue(record.isNull(1));
+        assertEquals("x\ny", record.get(2));
+
+        assertNull(reader.readRecord());
+        assertEquals(2, reader.getRecordsRead());
+    }
+
+    @Test
+    public void readRecordWithoutTokenizer() throws IOException, CsvValidationException {
+        CSVReader reader = reader(false);
+
+        assertArrayEquals(new String[]{"a", "b,b", null}, reader.readRecord().toArray());
+        assertArrayEquals(new String[]{"long line with \"quotes\"", null, "x\ny"}, reader.readRecord().toArray());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecordReusesRecord() throws IOException, CsvValidationException {
+        CSVReader reader = reader(true);
+        CsvRecord record = new CsvRecord();
+
+        assertTrue(reader.readRecord(record));
+        assertEquals("b,b", record.get(1));
+        assertTrue(reader.readRecord(record));
+        assertEquals("x\ny", record.get(2));
+        assertFalse(reader.readRecord(record));
+        assertEquals("x\ny", record.get(2));
+    }
+
+    @Test
+    public void readRecordAppliesRowProcessor() throws IOException, CsvValidationException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b\n"))
+                .withRecordTokenizer(true)
+                .withRowProcessor(new com.opencsv.processor.RowProcessor() {
+                    @Override
+                    public String processColumnItem(String column) {
+                        return column.toUpperCase();
+                    }
+
+                    @Override
+                    public void processRow(String[] row) {
+                        for (int i = 0; i < row.length; i++) {
+                            row[i] = processColumnItem(row[i]);
+                        }
+                    }
+                })
+                .build();
+        assertArrayEquals(new String[]{"A", "B"}, reader.readRecord().toArray());
+    }
+}
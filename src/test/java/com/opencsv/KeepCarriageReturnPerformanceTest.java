@@ -0,0 +1,89 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KeepCarriageReturnPerformanceTest {
+    private static final String SEPARATOR_LINE = "===============================================================================";
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @Test
+    public void testPerformance() throws IOException, CsvException, InterruptedException {
+        String input = windowsExport(1000);
+        performance(input, 1000, false, false);
+        performance(input, 1000, true, false);
+
+        System.out.println("The following are performance data. Please keep an eye on them as you develop.");
+        System.out.println("Keeping carriage returns should not be much slower than removing them.");
+        for (int records : new int[]{10000, 100000}) {
+            input = windowsExport(records);
+            System.gc();
+            Thread.sleep(2000);
+            performance(input, records, false, true);
+            performance(input, records, true, true);
+        }
+    }
+
+    /**
+     * Creates input with CRLF line endings, a quoted field spanning lines
+     * and an empty line now and then.
+     */
+    private static String windowsExport(int records) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < records; i++) {
+            if (i % 100 == 99) {
+                sb.append("\r\n");
+            } else if (i % 10 == 9) {
+                sb.append(i).append(",\"multi\r\nline\",").append(i * 3).append("\r\n");
+            } else {
+                sb.append(i).append(",some text for record ").append(i).append(",").append(i * 3).append("\r\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    private void performance(String input, int records, boolean keepCR, boolean displayData) throws IOException, CsvException {
+        StopWatch watch = new StopWatch();
+        watch.start();
+        List<String[]> result = new CSVReaderBuilder(new StringReader(input))
+                .withKeepCarriageReturn(keepCR)
+                .build()
+                .readAll();
+        watch.stop();
+        assertEquals(records, result.size());
+
+        if (displayData) {
+            System.out.println(SEPARATOR_LINE);
+            System.out.println("     " + records + " records with CRLF line endings, keeping carriage returns: " + keepCR);
+            System.out.println(SEPARATOR_LINE);
+            System.out.println("Time taken to read: " + watch.getTime() + " milliseconds.");
+            System.out.println("Throughput: " + (input.length() * 1000L / Math.max(watch.getTime(), 1)) / 1024 + " KiB of input per second.");
+        }
+    }
+}
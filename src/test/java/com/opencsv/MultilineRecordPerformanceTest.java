@@ -0,0 +1,80 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvException;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultilineRecordPerformanceTest {
+    private static final String SEPARATOR_LINE = "===============================================================================";
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setSystemLocaleToValueNotGerman() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    @Test
+    public void testPerformance() throws IOException, CsvException, InterruptedException {
+        performance(new CSVParser(), 100, false);
+        performance(new RFC4180Parser(), 100, false);
+
+        System.out.println("The following are performance data. Please keep an eye on them as you develop.");
+        System.out.println("The time per line should not grow with the number of lines in a record.");
+        for (int lines : new int[]{1000, 10000, 50000}) {
+            System.gc();
+            Thread.sleep(2000);
+            performance(new CSVParser(), lines, true);
+            performance(new RFC4180Parser(), lines, true);
+        }
+    }
+
+    private void performance(ICSVParser parser, int lines, boolean displayData) throws IOException, CsvException {
+        // One field spanning all lines, followed by one record per line
+        // that has a field continuing on the next line.
+        StringBuilder sb = new StringBuilder("id,\"");
+        for (int i = 0; i < lines; i++) {
+            sb.append("text of line ").append(i).append(", with \"\"quotes\"\"\n");
+        }
+        sb.append("\"\n\"");
+        for (int i = 0; i < lines; i++) {
+            sb.append("field ").append(i).append("\n\",\"");
+        }
+        sb.append("\"\n");
+        String input = sb.toString();
+
+        StopWatch watch = new StopWatch();
+        watch.start();
+        List<String[]> records = new CSVReaderBuilder(new StringReader(input)).withCSVParser(parser).build().readAll();
+        watch.stop();
+        assertEquals(2, records.size());
+        assertEquals(lines + 1, records.get(1).length);
+
+        if (displayData) {
+            System.out.println(SEPARATOR_LINE);
+            System.out.println("     Multiline records with " + parser.getClass().getSimpleName() + " spanning " + lines + " lines.");
+            System.out.println(SEPARATOR_LINE);
+            System.out.println("Time taken to read: " + watch.getTime() + " milliseconds.");
+            System.out.println("Time per line: " + (watch.getNanoTime() / (2L * lines)) + " nanoseconds.");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvMultilineLimitBrokenException;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+/**
+ * Random input and transcripts of reading it, for the tests that compare
+ * the ways of reading the same input with each other.
+ */
+final class RandomCsvInput {
+
+    private RandomCsvInput() {
+    }
+
+    /**
+     * @return Builders for parsers of all the dialects worth comparing
+     */
+    static List<CSVParserBuilder> dialects() {
+        List<CSVParserBuilder> dialects = new ArrayList<>();
+        dialects.add(new CSVParserBuilder());
+        dialects.add(new CSVParserBuilder().withStrictQuotes(true));
+        dialects.add(new CSVParserBuilder().withIgnoreLeadingWhiteSpace(false));
+        dialects.add(new CSVParserBuilder().withIgnoreQuotations(true));
+        dialects.add(new CSVParserBuilder().withEscapeChar(ICSVParser.NULL_CHARACTER));
+        dialects.add(new CSVParserBuilder().withSeparator(';').withQuoteChar('\''));
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            dialects.add(new CSVParserBuilder().withFieldAsNull(indicator));
+        }
+        return dialects;
+    }
+
+    /**
+     * @param characters Characters that each make up a piece of the input
+     * @return The alphabet of the characters for {@link #randomInput(Random, String[], int)}
+     */
+    static String[] alphabet(String characters) {
+        String[] alphabet = new String[characters.length()];
+        for (int i = 0; i < alphabet.length; i++) {
+            alphabet[i] = String.valueOf(characters.charAt(i));
+        }
+        return alphabet;
+    }
+
+    /**
+     * @param random    The source of randomness
+     * @param alphabet  The pieces the input is made of, such as single
+     *                  characters or surrogate pairs. Listing a piece twice
+     *                  makes it more frequent.
+     * @param maxLength The number of pieces the input stays below
+     * @return Input of up to {@code maxLength - 1} pieces
+     */
+    static String randomInput(Random random, String[] alphabet, int maxLength) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(maxLength);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads everything and describes each record, each exception and the
+     * line and record counts along the way.
+     */
+    static List<String> transcript(CSVReader reader) {
+        List<String> transcript = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            try {
+                String[] record = reader.readNext();
+                transcript.add(Arrays.toString(record) + " lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead());
+                if (record == null) {
+                    break;
+                }
+            } catch (CsvMalformedLineException e) {
+                transcript.add(e.getClass().getSimpleName() + ": " + e.getMessage() + " at " + e.getLineNumber() + " context " + e.getContext());
+                break;
+            } catch (CsvMultilineLimitBrokenException e) {
+                transcript.add(e.getClass().getSimpleName() + ": " + e.getMessage() + " context " + e.getContext());
+                break;
+            } catch (IOException | CsvValidationException e) {
+                transcript.add(e.getClass().getSimpleName() + ": " + e.getMessage());
+                break;
+            }
+        }
+        return transcript;
+    }
+
+    /**
+     * Reads everything and describes each record as the given view of it,
+     * each exception and the line count along the way.
+     *
+     * @param reader The reader
+     * @param view   Turns a record into what is to be compared, or into
+     *               {@code null} to leave it out
+     */
+    static List<String> transcript(CSVReader reader, UnaryOperator<String[]> view) {
+        List<String> transcript = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            try {
+                String[] record = reader.readNext();
+                if (record != null) {
+                    record = view.apply(record);
+                    if (record == null) {
+                        continue;
+                    }
+                }
+                transcript.add(Arrays.toString(record) + " lines=" + reader.getLinesRead());
+                if (record == null) {
+                    break;
+                }
+            } catch (IOException | CsvValidationException e) {
+                transcript.add(e.getClass().getSimpleName() + ": " + e.getMessage());
+                break;
+            }
+        }
+        return transcript;
+    }
+}
@@ -0,0 +1,147 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
+import com.opencsv.validators.RowFunctionValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecordBatchTest {
+
+    private static final String DATA = "a,\"b,b\",\nlong line with \"\"quotes\"\",,\"x\ny\"\n\nlast\n";
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static CSVReaderBuilder builder(int kind) {
+        CSVReaderBuilder builder = kind == 2
+                ? new CSVReaderBuilder(new ByteArrayInputStream(DATA.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+                : new CSVReaderBuilder(new StringReader(DATA)).withRecordTokenizer(kind == 1);
+        return builder.withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS);
+    }
+
+    private static List<String[]> readAll(int kind) throws IOException, CsvException {
+        try (CSVReader reader = builder(kind).build()) {
+            return reader.readAll();
+        }
+    }
+
+    @Test
+    public void addRecordsFromStrings() {
+        RecordBatch batch = new RecordBatch();
+        assertTrue(batch.isEmpty());
+        batch.addRecord(new String[]{"one", null, ""});
+        batch.addRecord(new String[0]);
+        batch.addRecord(new String[]{"two"});
+
+        assertEquals(3, batch.size());
+        assertEquals(3, batch.getFieldCount(0));
+        assertEquals(0, batch.getFieldCount(1));
+        assertEquals("one", batch.get(0, 0));
+        assertNull(batch.get(0, 1));
+        assertNull(batch.field(0, 1));
+        assertTrue(batch.isNull(0, 1));
+        assertEquals("", batch.get(0, 2));
+        assertEquals("two", batch.field(2, 0).toString());
+        assertFalse(batch.isQuoted(2, 0));
+        assertEquals("two", new String(batch.getBuffer(), batch.getFieldOffset(2, 0), batch.getFieldLength(2, 0)));
+        assertArrayEquals(new String[]{"one", null, ""}, batch.toArray(0));
+        assertEquals("[[one, null, ], [], [two]]", batch.toString());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.field(0, 3));
+
+        batch.clear();
+        assertEquals(0, batch.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(0, 0));
+    }
+
+    @Test
+    public void growsToHoldManyRecords() {
+        RecordBatch batch = new RecordBatch();
+        for (int i = 0; i < 1000; i++) {
+            batch.addRecord(new String[]{"record " + i, "a", "b", "c"});
+        }
+        assertEquals(1000, batch.size());
+        assertEquals("record 999", batch.get(999, 0));
+        assertEquals("c", batch.get(999, 3));
+    }
+
+    @Test
+    public void batchesHoldTheRecordsOfReadNext() throws IOException, CsvException {
+        for (int kind = 0; kind < 3; kind++) {
+            List<String[]> expected = readAll(kind);
+            for (int maxRecords = 1; maxRecords <= expected.size() + 1; maxRecords++) {
+                try (CSVReader reader = builder(kind).build()) {
+                    RecordBatch batch = new RecordBatch();
+                    int record = 0;
+                    int n;
+                    while ((n = reader.readBatch(batch, maxRecords)) > 0) {
+                        assertEquals(batch.size(), n);
+                        assertTrue(n <= maxRecords);
+                        for (int i = 0; i < n; i++) {
+                            assertArrayEquals(expected.get(record++), batch.toArray(i));
+                        }
+                        assertEquals(record, reader.getRecordsRead());
+                    }
+                    assertEquals(expected.size(), record);
+                    assertNull(reader.readBatch(maxRecords));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void tokenizedBatchesKnowQuotedFields() throws IOException, CsvValidationException {
+        try (CSVReader reader = builder(1).build()) {
+            RecordBatch batch = reader.readBatch(10);
+            assertEquals(4, batch.size());
+            assertTrue(batch.isQuoted(0, 1));
+            assertFalse(batch.isQuoted(0, 0));
+            assertTrue(batch.isNull(0, 2));
+            assertEquals("x\ny", batch.get(1, 2));
+        }
+    }
+
+    @Test
+    public void failingValidatorLeavesRecordsReadBefore() throws IOException {
+        try (CSVReader reader = new CSVReaderBuilder(new StringReader("a,b\nc,d\ne\nf,g\n"))
+                .withRecordTokenizer(true)
+                .withRowValidator(new RowFunctionValidator(row -> row.length == 2, "two columns"))
+                .build()) {
+            RecordBatch batch = new RecordBatch();
+            assertThrows(CsvValidationException.class, () -> reader.readBatch(batch, 10));
+            assertEquals(2, batch.size());
+            assertEquals("d", batch.get(1, 1));
+        }
+    }
+
+    @Test
+    public void maxRecordsMustBePositive() {
+        CSVReader reader = builder(0).build();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reader.readBatch(0));
+        assertEquals("The maximum number of records in a batch must be at least 1, not 0.", e.getMessage());
+    }
+}
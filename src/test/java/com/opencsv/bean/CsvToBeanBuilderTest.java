@@ -1,15 +1,25 @@
 package com.opencsv.bean;
 
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CsvIndex;
 import com.opencsv.bean.exceptionhandler.CsvExceptionHandler;
 import com.opencsv.bean.mocks.MockBean;
 import com.opencsv.exceptions.CsvException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class CsvToBeanBuilderTest {
 
@@ -43,6 +53,89 @@ public class CsvToBeanBuilderTest {
         assertTrue(withExceptionHandlerFirst.getExceptionHandler() instanceof JunkExceptionHandler);
     }
 
+    @Test
+    public void equalValuesAreSharedBetweenBeans() {
+        HeaderColumnNameMappingStrategy<MockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(MockBean.class);
+        List<MockBean> beans = new CsvToBeanBuilder<MockBean>(new StringReader("name,id\nkyle,1\nkyle,2\n"))
+                .withMappingStrategy(strategy)
+                .withFieldDeduplication(true)
+                .build()
+                .parse();
+        assertEquals(2, beans.size());
+        assertEquals("kyle", beans.get(0).getName());
+        assertSame(beans.get(0).getName(), beans.get(1).getName());
+    }
+
+    @Test
+    public void rejectedRecordsNeverBecomeBeans() {
+        HeaderColumnNameMappingStrategy<MockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(MockBean.class);
+        List<MockBean> beans = new CsvToBeanBuilder<MockBean>(new StringReader("name,id\nkyle,1\nbob,2\nkyra,3\n"))
+                .withMappingStrategy(strategy)
+                .withRecordFilter(r -> r.startsWith(0, "ky"))
+                .build()
+                .parse();
+        assertEquals(2, beans.size());
+        assertEquals("1", beans.get(0).getId());
+        assertEquals("3", beans.get(1).getId());
+    }
+
+    @Test
+    public void rangeSelectsAPageOfBeans() {
+        HeaderColumnNameMappingStrategy<MockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(MockBean.class);
+        String data = "name,id\na,1\nb,2\nc,3\nd,4\ne,5\n";
+        List<MockBean> beans = new CsvToBeanBuilder<MockBean>(new StringReader(data))
+                .withMappingStrategy(strategy)
+                .withRange(1, 2)
+                .build()
+                .parse();
+        assertEquals(2, beans.size());
+        assertEquals("2", beans.get(0).getId());
+        assertEquals("3", beans.get(1).getId());
+
+        beans = new CsvToBeanBuilder<MockBean>(new StringReader(data))
+                .withMappingStrategy(strategy)
+                .withRange(3, Long.MAX_VALUE)
+                .build()
+                .stream().collect(Collectors.toList());
+        assertEquals(2, beans.size());
+        assertEquals("4", beans.get(0).getId());
+
+        assertThrows(IllegalArgumentException.class, () -> new CsvToBeanBuilder<MockBean>(new StringReader(data))
+                .withMappingStrategy(strategy)
+                .withRange(-1, 2)
+                .build());
+    }
+
+    @Test
+    public void rangeJumpsWithAnIndex(@TempDir Path directory) throws IOException {
+        StringBuilder sb = new StringBuilder("name,id\n");
+        for (int i = 0; i < 100; i++) {
+            sb.append("n").append(i).append(',').append(i).append('\n');
+        }
+        Path file = directory.resolve("beans.csv");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        CsvIndex index = new CsvIndex(8);
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withIndex(index).build()) {
+            reader.seekToRecord(Long.MAX_VALUE);
+        }
+
+        HeaderColumnNameMappingStrategy<MockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(MockBean.class);
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withIndex(index).build()) {
+            List<MockBean> beans = new CsvToBeanBuilder<MockBean>(reader)
+                    .withMappingStrategy(strategy)
+                    .withRange(40, 10)
+                    .build()
+                    .parse();
+            assertEquals(10, beans.size());
+            assertEquals("n40", beans.get(0).getName());
+            assertEquals("49", beans.get(9).getId());
+        }
+    }
+
     private static class JunkExceptionHandler implements CsvExceptionHandler {
 
         @Override
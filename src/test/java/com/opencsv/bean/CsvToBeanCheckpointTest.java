@@ -0,0 +1,205 @@
+package com.opencsv.bean;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.Checkpoint;
+import com.opencsv.CheckpointStore;
+import com.opencsv.FileCheckpointStore;
+import com.opencsv.bean.mocks.MockBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvToBeanCheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private FileCheckpointStore store;
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        file = directory.resolve("beans.csv");
+        Files.write(file, records(0, 10).getBytes(StandardCharsets.UTF_8));
+        store = new FileCheckpointStore(FileCheckpointStore.sidecarOf(file));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static String records(int from, int to) {
+        StringBuilder sb = new StringBuilder(from == 0 ? "name,id\n" : "");
+        for (int i = from; i < to; i++) {
+            sb.append('n').append(i).append(',').append(i).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private CsvToBean<MockBean> csvToBean(CSVReader reader, boolean ordered) {
+        HeaderColumnNameMappingStrategy<MockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(MockBean.class);
+        return new CsvToBeanBuilder<MockBean>(reader)
+                .withMappingStrategy(strategy)
+                .withOrderedResults(ordered)
+                .withCheckpoints(store, 2)
+                .build();
+    }
+
+    private CSVReader fileReader() {
+        return new CSVReaderBuilder(file, StandardCharsets.UTF_8).build();
+    }
+
+    private static List<String> ids(Iterator<MockBean> beans) {
+        List<String> ids = new ArrayList<>();
+        beans.forEachRemaining(b -> ids.add(b.getId()));
+        return ids;
+    }
+
+    @Test
+    public void iteratorResumesAfterTheLastBeanHandedOver() throws IOException {
+        try (CSVReader reader = fileReader()) {
+            Iterator<MockBean> beans = csvToBean(reader, true).iterator();
+            for (int i = 0; i < 5; i++) {
+                assertEquals(Integer.toString(i), beans.next().getId());
+            }
+            // The import stops here without finishing.
+        }
+        Checkpoint checkpoint = store.load();
+        assertEquals(5, checkpoint.getRecordsRead());
+        assertArrayEquals(new String[]{"name", "id"}, checkpoint.getHeader());
+
+        try (CSVReader reader = fileReader()) {
+            List<String> ids = ids(csvToBean(reader, true).iterator());
+            assertEquals(Arrays.asList("4", "5", "6", "7", "8", "9"), ids);
+        }
+        checkpoint = store.load();
+        assertEquals(11, checkpoint.getRecordsRead());
+        assertEquals(Files.size(file), checkpoint.getPosition());
+    }
+
+    @Test
+    public void repeatedImportReadsOnlyAppendedRecords() throws IOException {
+        try (CSVReader reader = fileReader()) {
+            assertEquals(10, csvToBean(reader, true).stream().count());
+        }
+        try (CSVReader reader = fileReader()) {
+            assertEquals(0, csvToBean(reader, true).stream().count());
+        }
+        Files.write(file, records(10, 13).getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        try (CSVReader reader = fileReader()) {
+            assertEquals(Arrays.asList("10", "11", "12"),
+                    csvToBean(reader, true).stream().map(MockBean::getId).collect(Collectors.toList()));
+        }
+        assertEquals(14, store.load().getRecordsRead());
+    }
+
+    @Test
+    public void orderedStreamSavesCheckpointsBehindTheBeansHandedOver() throws IOException {
+        try (CSVReader reader = fileReader()) {
+            Iterator<MockBean> beans = csvToBean(reader, true).stream().iterator();
+            for (int i = 0; i < 5; i++) {
+                assertEquals(Integer.toString(i), beans.next().getId());
+            }
+            // Checkpoints are taken every two records. The one saved before
+            // the fifth bean was handed over precedes it.
+            assertEquals(5, store.load().getRecordsRead());
+        }
+        try (CSVReader reader = fileReader()) {
+            assertEquals(Arrays.asList("4", "5", "6", "7", "8", "9"),
+                    csvToBean(reader, true).stream().map(MockBean::getId).collect(Collectors.toList()));
+        }
+        assertEquals(11, store.load().getRecordsRead());
+    }
+
+    @Test
+    public void unorderedStreamOnlySavesTheEnd() throws IOException {
+        try (CSVReader reader = fileReader()) {
+            Iterator<MockBean> beans = csvToBean(reader, false).stream().iterator();
+            for (int i = 0; i < 9; i++) {
+                beans.next();
+            }
+            assertNull(store.load());
+            beans.next();
+            assertFalse(beans.hasNext());
+        }
+        assertEquals(11, store.load().getRecordsRead());
+    }
+
+    @Test
+    public void iteratorWithEndlessIntervalOnlySavesTheEnd() throws IOException {
+        int[] saves = {0};
+        CheckpointStore counting = new CheckpointStore() {
+            @Override
+            public void save(Checkpoint checkpoint) throws IOException {
+                saves[0]++;
+                store.save(checkpoint);
+            }
+
+            @Override
+            public Checkpoint load() throws IOException {
+                return store.load();
+            }
+        };
+        HeaderColumnNameMappingStrategy<MockBean> strategy = new HeaderColumnNameMappingStrategy<>();
+        strategy.setType(MockBean.class);
+        try (CSVReader reader = fileReader()) {
+            List<String> ids = ids(new CsvToBeanBuilder<MockBean>(reader)
+                    .withMappingStrategy(strategy)
+                    .withCheckpoints(counting, Long.MAX_VALUE)
+                    .build().iterator());
+            assertEquals(10, ids.size());
+        }
+        assertEquals(1, saves[0]);
+        assertEquals(11, store.load().getRecordsRead());
+    }
+
+    @Test
+    public void parseResumesWithoutSaving() throws IOException {
+        store.save(new Checkpoint(-1, 8, 8, new String[]{"name", "id"}));
+        try (CSVReader reader = fileReader()) {
+            assertEquals(Arrays.asList("7", "8", "9"),
+                    csvToBean(reader, true).parse().stream().map(MockBean::getId).collect(Collectors.toList()));
+        }
+        assertEquals(8, store.load().getRecordsRead());
+    }
+
+    @Test
+    public void characterReaderSkipsToTheCheckpoint() throws IOException {
+        String data = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        try (CSVReader reader = new CSVReader(new StringReader(data))) {
+            Iterator<MockBean> beans = csvToBean(reader, true).iterator();
+            for (int i = 0; i < 7; i++) {
+                beans.next();
+            }
+        }
+        Checkpoint checkpoint = store.load();
+        assertEquals(-1, checkpoint.getPosition());
+        assertEquals(7, checkpoint.getRecordsRead());
+
+        try (CSVReader reader = new CSVReader(new StringReader(data))) {
+            assertEquals(Arrays.asList("6", "7", "8", "9"), ids(csvToBean(reader, true).iterator()));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.opencsv.stream.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FieldDeduplicatorTest {
+
+    @Test
+    public void equalValuesInAColumnAreShared() {
+        FieldDeduplicator deduplicator = new FieldDeduplicator();
+        char[] chars = "xxDEyyDE".toCharArray();
+        byte[] bytes = "DE".getBytes(StandardCharsets.US_ASCII);
+        String first = deduplicator.deduplicate(0, chars, 2, 2);
+        assertEquals("DE", first);
+        assertSame(first, deduplicator.deduplicate(0, chars, 6, 2));
+        assertSame(first, deduplicator.deduplicateAscii(0, bytes, 0, 2));
+        assertSame(first, deduplicator.deduplicate(0, new String(chars, 2, 2)));
+
+        // Columns have tables of their own
+        String other = deduplicator.deduplicate(1, new String(chars, 2, 2));
+        assertNotSame(first, other);
+        assertSame(other, deduplicator.deduplicateAscii(1, bytes, 0, 2));
+    }
+
+    @Test
+    public void recordsAreDeduplicatedInPlace() {
+        FieldDeduplicator deduplicator = new FieldDeduplicator();
+        String[] first = {new String("EUR"), null, ""};
+        String[] second = {new String("EUR"), null, new String("")};
+        deduplicator.deduplicate(first);
+        deduplicator.deduplicate(second);
+        assertSame(first[0], second[0]);
+        assertNull(second[1]);
+        assertSame(first[2], second[2]);
+    }
+
+    @Test
+    public void limitsAreRespected() {
+        FieldDeduplicator deduplicator = new FieldDeduplicator(1, 3, 4);
+        String longValue = new String("12345");
+        deduplicator.deduplicate(0, longValue);
+        assertNotSame(longValue, deduplicator.deduplicate(0, "12345".toCharArray(), 0, 5));
+        String column = new String("ab");
+        deduplicator.deduplicate(1, column);
+        assertNotSame(column, deduplicator.deduplicate(1, new String("ab")));
+
+        // Colliding values replace each other, but are always correct.
+        // "Aa" and "BB" have the same hash code.
+        String aa = deduplicator.deduplicate(0, "Aa".toCharArray(), 0, 2);
+        assertEquals("BB", deduplicator.deduplicate(0, "BB".toCharArray(), 0, 2));
+        assertEquals("Aa", deduplicator.deduplicate(0, "Aa".toCharArray(), 0, 2));
+        assertNotSame(aa, deduplicator.deduplicate(0, "BB".toCharArray(), 0, 2));
+    }
+
+    @Test
+    public void threadsShareOneDeduplicator() throws Exception {
+        FieldDeduplicator deduplicator = new FieldDeduplicator(4, 16, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100000; i++) {
+                        String value = "v" + (i % 40);
+                        int column = i % 5;
+                        assertEquals(value, deduplicator.deduplicate(column, value.toCharArray(), 0, value.length()));
+                        assertEquals(value, deduplicator.deduplicateAscii(column,
+                                value.getBytes(StandardCharsets.US_ASCII), 0, value.length()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import java.io.IOException;
 import java.io.StringReader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class LineReaderTest {
     private static final String ORIGINAL = "This is the original string\r\n";
@@ -55,4 +58,44 @@ public class LineReaderTest {
         LineReader reader = createLineReaderforString(EMPTY_STRING, false);
         assertEquals(NULL_STRING, reader.readLine());
     }
+
+    @Test
+    public void lineReaderKeepingCRReturnsEmptyLines() throws IOException {
+        LineReader reader = createLineReaderforString("a\r\n\n\r\nb\rc\n\n", true);
+        assertEquals("a\r", reader.readLine());
+        assertEquals(EMPTY_STRING, reader.readLine());
+        assertEquals("\r", reader.readLine());
+        assertEquals("b\rc", reader.readLine());
+        assertEquals(EMPTY_STRING, reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void lineReaderKeepingCRHandlesLongLines() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 30000; i++) {
+            sb.append((char) ('a' + i % 26));
+            if (i % 7 == 0) {
+                sb.append('\r');
+            }
+        }
+        String line = sb.toString();
+        LineReader reader = createLineReaderforString(line + "\r\n" + line + "\n" + line, true);
+        assertEquals(line + "\r", reader.readLine());
+        assertEquals(line, reader.readLine());
+        assertEquals(line, reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    public void lineReaderKeepingCRTellsWhetherItHoldsInput() throws IOException {
+        BufferedReader br = new BufferedReader(new StringReader("first\r\nsecond\n"));
+        LineReader reader = new LineReader(br, true);
+        assertFalse(reader.hasBufferedInput());
+        assertEquals("first\r", reader.readLine());
+        assertTrue(reader.hasBufferedInput());
+        assertEquals("second", reader.readLine());
+        assertFalse(reader.hasBufferedInput());
+        assertNull(reader.readLine());
+    }
 }
@@ -0,0 +1,243 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelGzipInputStreamTest {
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static byte[] text(Random random, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (random.nextInt(4) == 0 ? random.nextInt(256) : 'a' + random.nextInt(6));
+        }
+        return bytes;
+    }
+
+    private static byte[] gzip(byte[] data, int from, int to) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data, from, to - from);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compresses a block the way bgzip does, with its size in the header.
+     */
+    private static byte[] bgzf(byte[] data, int from, int to, int level) {
+        Deflater deflater = new Deflater(level, true);
+        deflater.setInput(data, from, to - from);
+        deflater.finish();
+        byte[] compressed = new byte[(to - from) * 2 + 64];
+        int length = deflater.deflate(compressed);
+        deflater.end();
+        CRC32 crc = new CRC32();
+        crc.update(data, from, to - from);
+        ByteBuffer block = ByteBuffer.allocate(18 + length + 8).order(ByteOrder.LITTLE_ENDIAN);
+        block.put(new byte[]{0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff, 6, 0, 'B', 'C', 2, 0});
+        block.putShort((short) (block.capacity() - 1));
+        block.put(compressed, 0, length);
+        block.putInt((int) crc.getValue());
+        block.putInt(to - from);
+        return block.array();
+    }
+
+    private Path write(byte[]... parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part);
+        }
+        Path file = Files.createTempFile(directory, "data", ".gz");
+        Files.write(file, out.toByteArray());
+        return file;
+    }
+
+    private static byte[] readAll(InputStream in, Random random) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1 + random.nextInt(5000)];
+        int n;
+        while ((n = in.read(buffer, 0, 1 + random.nextInt(buffer.length))) >= 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static void assertDecompresses(byte[] expected, Path file, Random random) throws IOException {
+        for (int segmentSize : new int[]{7, 100, 4096, ParallelGzipInputStream.DEFAULT_SEGMENT_SIZE}) {
+            try (InputStream in = new ParallelGzipInputStream(file, 1 + random.nextInt(4), segmentSize)) {
+                assertArrayEquals(expected, readAll(in, random), "Segment size " + segmentSize);
+                assertEquals(-1, in.read());
+            }
+        }
+    }
+
+    @Test
+    public void concatenatedMembersAreDecompressedInOrder() throws IOException {
+        Random random = new Random(20221201L);
+        for (int i = 0; i < 20; i++) {
+            byte[] data = text(random, random.nextInt(200000));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            int from = 0;
+            while (from < data.length) {
+                int to = Math.min(data.length, from + random.nextInt(20000));
+                compressed.write(random.nextBoolean() ? gzip(data, from, to) : bgzf(data, from, to, random.nextInt(10)));
+                if (random.nextInt(5) == 0) {
+                    // Empty members are allowed, too.
+                    compressed.write(gzip(data, to, to));
+                }
+                from = to;
+            }
+            if (compressed.size() == 0) {
+                compressed.write(gzip(data, 0, 0));
+            }
+            Path file = write(compressed.toByteArray());
+            try (InputStream reference = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+                assertArrayEquals(data, readAll(reference, random));
+            }
+            assertDecompresses(data, file, random);
+        }
+    }
+
+    @Test
+    public void headerInsideOfCompressedDataIsNotAMember() throws IOException {
+        // Stored blocks copy their content, so this member contains another
+        // complete gzip member that is nothing but data.
+        Random random = new Random(7L);
+        byte[] inner = gzip(text(random, 300), 0, 300);
+        byte[] data = new byte[5000];
+        System.arraycopy(text(random, data.length), 0, data, 0, data.length);
+        System.arraycopy(inner, 0, data, 1000, inner.length);
+        System.arraycopy(inner, 0, data, 4000, inner.length);
+        Path file = write(bgzf(data, 0, 2500, Deflater.NO_COMPRESSION), gzip(data, 2500, 3000),
+                bgzf(data, 3000, 5000, Deflater.NO_COMPRESSION));
+        assertDecompresses(data, file, random);
+
+        // Without the size in the header, the false member is found by searching.
+        ByteArrayOutputStream stored = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(stored) {
+            {
+                def.setLevel(Deflater.NO_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        byte[] expected = Arrays.copyOf(data, data.length + 10);
+        System.arraycopy(data, 0, expected, data.length, 10);
+        assertDecompresses(expected, write(stored.toByteArray(), gzip(data, 0, 10)), random);
+    }
+
+    @Test
+    public void trailingGarbageIsIgnored() throws IOException {
+        Random random = new Random(3L);
+        byte[] data = text(random, 10000);
+        assertDecompresses(data, write(gzip(data, 0, 10000), new byte[]{0, 0, 0, 0, 1, 2, 3}), random);
+    }
+
+    @Test
+    public void damagedInputIsReported() throws IOException {
+        Random random = new Random(5L);
+        byte[] data = text(random, 10000);
+        Path plain = write("a,b,c\n".getBytes(StandardCharsets.UTF_8));
+        ZipException notGzip = assertThrows(ZipException.class, () -> new ParallelGzipInputStream(plain, 2));
+        assertEquals("The input is not in gzip format.", notGzip.getMessage());
+
+        byte[] member = gzip(data, 0, 5000);
+        byte[] corrupt = member.clone();
+        corrupt[corrupt.length - 6]++;
+        Path corrupted = write(gzip(data, 5000, 10000), corrupt);
+        try (InputStream in = new ParallelGzipInputStream(corrupted, 2, 100)) {
+            ZipException e = assertThrows(ZipException.class, () -> readAll(in, random));
+            assertEquals("The checksum or length at the end of a gzip member does not match its content.", e.getMessage());
+        }
+
+        Path truncated = write(gzip(data, 5000, 10000), Arrays.copyOf(member, member.length - 20));
+        try (InputStream in = new ParallelGzipInputStream(truncated, 2, 100)) {
+            assertThrows(EOFException.class, () -> readAll(in, random));
+        }
+    }
+
+    @Test
+    public void errorsAreReportedInTheGivenLocale() throws IOException {
+        Random random = new Random(6L);
+        byte[] data = text(random, 10000);
+        Path plain = write("a,b,c\n".getBytes(StandardCharsets.UTF_8));
+        ZipException notGzip = assertThrows(ZipException.class,
+                () -> new ParallelGzipInputStream(plain, 2, 100, Locale.GERMAN));
+        assertEquals("Die Eingabe ist nicht im gzip-Format.", notGzip.getMessage());
+
+        byte[] member = gzip(data, 0, 5000);
+        Path truncated = write(gzip(data, 5000, 10000), Arrays.copyOf(member, member.length - 20));
+        try (InputStream in = new ParallelGzipInputStream(truncated, 2, 100, Locale.GERMAN)) {
+            EOFException e = assertThrows(EOFException.class, () -> readAll(in, random));
+            assertEquals("Die gzip-Eingabe endet mitten in einem Member.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void builderReadsCompressedCsv() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            sb.append(i).append(",\"x\ny\",é\n");
+        }
+        byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        for (int from = 0; from < data.length; from += 1000) {
+            compressed.write(bgzf(data, from, Math.min(data.length, from + 1000), Deflater.DEFAULT_COMPRESSION));
+        }
+        Path file = write(compressed.toByteArray());
+        java.util.List<String[]> expected;
+        try (CSVReader reader = new CSVReader(new StringReader(sb.toString()))) {
+            expected = reader.readAll();
+        }
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withGzip(true).withParallelism(3).build()) {
+            assertArrayEquals(expected.toArray(), reader.readAll().toArray());
+        }
+        try (CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(compressed.toByteArray()), StandardCharsets.UTF_8)
+                .withGzip(true).build()) {
+            assertArrayEquals(expected.toArray(), reader.readAll().toArray());
+        }
+    }
+}
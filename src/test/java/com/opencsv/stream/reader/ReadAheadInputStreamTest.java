@@ -0,0 +1,210 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CsvIndex;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadAheadInputStreamTest {
+
+    @TempDir
+    Path directory;
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setUp() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static byte[] readAll(InputStream in, Random random) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1 + random.nextInt(5000)];
+        int n;
+        while (true) {
+            if (random.nextInt(10) == 0) {
+                n = in.read();
+                if (n < 0) {
+                    break;
+                }
+                out.write(n);
+            } else {
+                n = in.read(buffer, 0, 1 + random.nextInt(buffer.length));
+                if (n < 0) {
+                    break;
+                }
+                out.write(buffer, 0, n);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Delivers a few bytes at a time, like a socket.
+     */
+    private static class TricklingInputStream extends ByteArrayInputStream {
+        private final Random random;
+
+        TricklingInputStream(byte[] data, Random random) {
+            super(data);
+            this.random = random;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1 + random.nextInt(100)));
+        }
+
+        @Override
+        public synchronized int available() {
+            return 0;
+        }
+    }
+
+    @Test
+    public void streamsDeliverTheSameBytes() throws IOException {
+        Random random = new Random(16L);
+        for (int i = 0; i < 20; i++) {
+            byte[] data = new byte[random.nextInt(100000)];
+            random.nextBytes(data);
+            Path file = Files.createTempFile(directory, "data", ".bin");
+            Files.write(file, data);
+            int bufferCount = random.nextInt(4);
+            int bufferSize = 1 + random.nextInt(10000);
+            try (InputStream in = new AsyncFileInputStream(file, bufferCount, bufferSize)) {
+                assertArrayEquals(data, readAll(in, random));
+                assertEquals(-1, in.read());
+            }
+            try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(data), bufferCount, bufferSize)) {
+                assertArrayEquals(data, readAll(in, random));
+                assertEquals(-1, in.read());
+            }
+            try (InputStream in = new ReadAheadInputStream(new TricklingInputStream(data, random), bufferCount, bufferSize)) {
+                assertArrayEquals(data, readAll(in, random));
+                assertEquals(-1, in.read());
+            }
+        }
+    }
+
+    @Test
+    public void asyncFileInputStreamSeeks() throws IOException {
+        Random random = new Random(17L);
+        byte[] data = new byte[50000];
+        random.nextBytes(data);
+        Path file = Files.createTempFile(directory, "data", ".bin");
+        Files.write(file, data);
+        try (AsyncFileInputStream in = new AsyncFileInputStream(file, 3, 1000)) {
+            byte[] buffer = new byte[500];
+            for (int i = 0; i < 20; i++) {
+                int position = random.nextInt(data.length - buffer.length);
+                in.seek(position);
+                int length = 0;
+                while (length < buffer.length) {
+                    length += in.read(buffer, length, buffer.length - length);
+                }
+                assertArrayEquals(Arrays.copyOfRange(data, position, position + buffer.length), buffer);
+            }
+            in.seek(data.length);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void errorsAreThrownByLaterReads() throws IOException {
+        InputStream failing = new InputStream() {
+            private int count = 0;
+
+            @Override
+            public int read() throws IOException {
+                if (count == 3) {
+                    throw new IOException("broken");
+                }
+                return count++;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                b[off] = (byte) read();
+                return 1;
+            }
+        };
+        try (InputStream in = new ReadAheadInputStream(failing, 2, 10)) {
+            assertEquals(0, in.read());
+            assertEquals(1, in.read());
+            assertEquals(2, in.read());
+            assertEquals("broken", assertThrows(IOException.class, in::read).getMessage());
+            assertEquals("broken", assertThrows(IOException.class, in::read).getMessage());
+        }
+    }
+
+    @Test
+    public void builderReadsAhead() throws IOException, CsvException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append(i).append(",\"x\ny\",é\n");
+        }
+        byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+        Path file = Files.createTempFile(directory, "data", ".csv");
+        Files.write(file, data);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(data);
+        }
+        Path gzipFile = Files.createTempFile(directory, "data", ".csv.gz");
+        Files.write(gzipFile, compressed.toByteArray());
+        List<String[]> expected;
+        try (CSVReader reader = new CSVReader(new StringReader(sb.toString()))) {
+            expected = reader.readAll();
+        }
+
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withReadAhead(2).build()) {
+            assertArrayEquals(expected.toArray(), reader.readAll().toArray());
+        }
+        try (CSVReader reader = new CSVReaderBuilder(new ByteArrayInputStream(data), StandardCharsets.UTF_8)
+                .withReadAhead(2).build()) {
+            assertArrayEquals(expected.toArray(), reader.readAll().toArray());
+        }
+        try (CSVReader reader = new CSVReaderBuilder(gzipFile, StandardCharsets.UTF_8)
+                .withGzip(true).withReadAhead(2).build()) {
+            assertArrayEquals(expected.toArray(), reader.readAll().toArray());
+        }
+
+        // Files read ahead can still be seeked in.
+        CsvIndex index = new CsvIndex(1000);
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withIndex(index).withReadAhead(2).build()) {
+            reader.seekToRecord(Long.MAX_VALUE);
+        }
+        try (CSVReader reader = new CSVReaderBuilder(file, StandardCharsets.UTF_8).withIndex(index).withReadAhead(2).build()) {
+            reader.seekToRecord(15321);
+            assertArrayEquals(expected.get(15321), reader.readNext());
+            reader.seekToRecord(17);
+            assertArrayEquals(expected.get(17), reader.readNext());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.opencsv.stream.reader;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecordTokenizerTest {
+
+    private RecordTokenizer createTokenizer(String s, CSVParser parser, boolean keepCR, int bufferSize) {
+        return new RecordTokenizer(new StringReader(s), parser, keepCR, bufferSize);
+    }
+
+    private String[] readRecord(RecordTokenizer tokenizer) throws IOException {
+        tokenizer.startRecord();
+        do {
+            if (!tokenizer.tokenizeLine()) {
+                return null;
+            }
+        } while (tokenizer.isPending());
+        return tokenizer.toArray();
+    }
+
+    @Test
+    public void tokenizesSimpleLines() throws IOException {
+        RecordTokenizer tokenizer = createTokenizer("a,b,c\nd,e\n", new CSVParser(), false, RecordTokenizer.DEFAULT_BUFFER_SIZE);
+        assertArrayEquals(new String[]{"a", "b", "c"}, readRecord(tokenizer));
+        assertArrayEquals(new String[]{"d", "e"}, readRecord(tokenizer));
+        assertNull(readRecord(tokenizer));
+    }
+
+    @Test
+    public void recognizesAllLineEndings() throws IOException {
+        RecordTokenizer tokenizer = createTokenizer("a\rb\r\nc\nd", new CSVParser(), false, 2);
+        assertArrayEquals(new String[]{"a"}, readRecord(tokenizer));
+        assertArrayEquals(new String[]{"b"}, readRecord(tokenizer));
+        assertArrayEquals(new String[]{"c"}, readRecord(tokenizer));
+        assertArrayEquals(new String[]{"d"}, readRecord(tokenizer));
+        assertFalse(tokenizer.hasMoreInput());
+    }
+
+    @Test
+    public void keepsCarriageReturnsInData() throws IOException {
+        RecordTokenizer tokenizer = createTokenizer("a\rb,c\r\n", new CSVParser(), true, 3);
+        assertArrayEquals(new String[]{"a\rb", "c\r"}, readRecord(tokenizer));
+        tokenizer.removeTrailingCarriageReturn();
+        assertArrayEquals(new String[]{"a\rb", "c"}, tokenizer.toArray());
+    }
+
+    @Test
+    public void continuesQuotedFieldsAcrossLinesAndBuffers() throws IOException {
+        RecordTokenizer tokenizer = createTokenizer("a,\"b\r\nc\"\"d\",e\n", new CSVParser(), false, 2);
+        tokenizer.startRecord();
+        assertTrue(tokenizer.tokenizeLine());
+        assertTrue(tokenizer.isPending());
+        assertEquals("b\n", tokenizer.getPendingText());
+        assertTrue(tokenizer.tokenizeLine());
+        assertFalse(tokenizer.isPending());
+        assertArrayEquals(new String[]{"a", "b\nc\"d", "e"}, tokenizer.toArray());
+    }
+
+    @Test
+    public void convertsEmptyFieldsToNull() throws IOException {
+        CSVParser parser = new CSVParserBuilder().withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS).build();
+        RecordTokenizer tokenizer = createTokenizer(",\"\",a", parser, false, RecordTokenizer.DEFAULT_BUFFER_SIZE);
+        assertArrayEquals(new String[]{null, "", "a"}, readRecord(tokenizer));
+    }
+
+    @Test
+    public void skipsLinesWithoutTokenizing() throws IOException {
+        RecordTokenizer tokenizer = createTokenizer("\"unterminated\r\nx,y", new CSVParser(), false, 4);
+        assertTrue(tokenizer.skipLine());
+        assertArrayEquals(new String[]{"x", "y"}, readRecord(tokenizer));
+        assertFalse(tokenizer.skipLine());
+    }
+
+    @Test
+    public void capturesLinesOnlyOnRequest() throws IOException {
+        RecordTokenizer tokenizer = createTokenizer("a,b\n\"c\nd\"\n", new CSVParser(), false, RecordTokenizer.DEFAULT_BUFFER_SIZE);
+        readRecord(tokenizer);
+        assertNull(tokenizer.getLastLine());
+        tokenizer.setLineCapture(true);
+        tokenizer.startRecord();
+        tokenizer.tokenizeLine();
+        assertEquals("\"c", tokenizer.getLastLine());
+        tokenizer.tokenizeLine();
+        assertEquals("d\"", tokenizer.getLastLine());
+    }
+
+    @Test
+    public void onlyCsvParserIsSupported() {
+        assertTrue(RecordTokenizer.supports(new CSVParser()));
+        assertFalse(RecordTokenizer.supports(new CSVParser() {}));
+        assertFalse(RecordTokenizer.supports(new com.opencsv.RFC4180Parser()));
+        assertFalse(RecordTokenizer.supports(null));
+    }
+}